@@ -28,9 +28,6 @@ repositories {
 }
 
 dependencies {
-    //Use events
-    api(libs.kori.events)
-	
     // Use utils
     implementation(libs.kori.utils)
 
@@ -72,3 +69,17 @@ tasks.test {
         events("passed", "skipped", "failed")
     }
 }
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Runs the SudokuService load-test harness and reports p50/p99 latencies."
+    group = "verification"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass = "com.kori_47.sudoku.SudokuServiceLoadHarness"
+}
+
+tasks.register<JavaExec>("benchmark") {
+    description = "Runs the box blocks Sudoku benchmark from 9x9 up to 64x64 and reports the average timings."
+    group = "verification"
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass = "com.kori_47.sudoku.BoxBlocksBenchmark"
+}
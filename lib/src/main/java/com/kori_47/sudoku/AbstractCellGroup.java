@@ -4,13 +4,17 @@
 package com.kori_47.sudoku;
 
 import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.checkIndex;
 import static java.util.stream.Collectors.toMap;
 import static java.util.Objects.requireNonNull;
 
 import static com.kori_47.utils.ObjectUtils.requireGreaterThanOrEqualTo;
+import static com.kori_47.utils.ObjectUtils.requireInRange;
 
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * <p>This is a skeletal implementation of the {@link CellGroup} interface.
@@ -34,6 +38,10 @@ abstract class AbstractCellGroup<V> implements CellGroup<V> {
 	// views
 	private final Map<String, Cell<V>> cellsView;
 
+	// the cells in row-major order and their row-major indices, for integer addressing
+	private final Cell<V>[] cellArray;
+	private final int[] cellIndices;
+
 	/**
 	 * This constructor initializes the {@code id}, {@code size} and {@code cells} properties of a
 	 * {@link CellGroup} with the provided values.
@@ -54,11 +62,19 @@ abstract class AbstractCellGroup<V> implements CellGroup<V> {
 	 * <p> This constructor also creates a final instance field {@code cellsView} that returns an unmodifiable
 	 * view of the {@code cells} {@code Map}. This field is then used as the return value of the {@link #cells()}
 	 * method which prevents modification of the cells in this {@code CellGroup}.  
+	 * 
+	 * <p> Finally, this constructor records the {@code Cell}s in row-major order together with their row-major
+	 * indices so that {@link #cellAt(int)}, {@link #indexOf(Cell)}, {@link #cellIndices()} and
+	 * {@link #getCell(int, int)} don't need to search the {@code cells} {@code Map}.
 	 */
 	protected AbstractCellGroup(int size, Map<String, Cell<V>> cells) {
 		this.size = requireGreaterThanOrEqualTo(1, size, "size must be greater than or equal to 1.");
 		this.cells = validateCells(cells, this.size);
 		this.cellsView = unmodifiableMap(this.cells);
+		this.cellArray = CellGroups.cellsInGridOrder(this).toArray(GridArrays.newArray(Cell.class, this.cells.size()));
+		this.cellIndices = new int[this.cellArray.length];
+		for (int index = 0; index < this.cellArray.length; index++)
+			this.cellIndices[index] = GridTopology.indexOf(this.cellArray[index], this.size);
 	}
 
 	/**
@@ -77,6 +93,49 @@ abstract class AbstractCellGroup<V> implements CellGroup<V> {
 		return cellsView;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation looks the {@code Cell} up among the row-major indices recorded at construction time.
+	 */
+	@Override
+	public Optional<Cell<V>> getCell(int x, int y) {
+		requireInRange(0, size, x, "x must be non negative and less than " + size);
+		requireInRange(0, size, y, "y must be non negative and less than " + size);
+		final int index = Arrays.binarySearch(cellIndices, y * size + x);
+		return (index < 0)? Optional.empty() : Optional.of(cellArray[index]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Cell<V> cellAt(int index) {
+		return cellArray[checkIndex(index, cellArray.length)];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation looks the {@code Cell} up by id and then searches for it's row-major index among the
+	 * indices recorded at construction time.
+	 */
+	@Override
+	public int indexOf(Cell<V> cell) {
+		final Cell<V> ownCell = cells.get(requireNonNull(cell, "cell cannot be null.").id());
+		return (ownCell == null)? -1 : Arrays.binarySearch(cellIndices, GridTopology.indexOf(ownCell, size));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int[] cellIndices() {
+		return cellIndices.clone();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -0,0 +1,89 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * An {@code ArithmeticCage} is a group of {@link Cell}s of a {@link KenKen} whose values must give the
+ * {@link #target() target} of the {@code ArithmeticCage} when combined with it's {@link Operation}. Like a
+ * {@link Cage}, an {@code ArithmeticCage} refers to it's {@code Cell}s by their
+ * {@link LatinSquare#indexOf(Cell) row-major indices}. The values of the {@code Cell}s of an
+ * {@code ArithmeticCage} may repeat as long as they are in different {@link Row}s and {@link Column}s.
+ * {@code ArithmeticCage}s are immutable and are shared by a {@code KenKen} and it's {@link KenKen#copy() copies}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 02:58:40
+ * 
+ * @see KenKen
+ */
+public interface ArithmeticCage {
+
+	/**
+	 * Returns the identifier of this {@code ArithmeticCage}.
+	 * 
+	 * @return the identifier of this {@code ArithmeticCage}.
+	 */
+	String id();
+
+	/**
+	 * Returns the {@link Operation} that combines the values of the {@link Cell}s in this {@code ArithmeticCage}.
+	 * 
+	 * @return the {@code Operation} of this {@code ArithmeticCage}.
+	 */
+	Operation operation();
+
+	/**
+	 * Returns the result of combining the values of the {@link Cell}s in this {@code ArithmeticCage} with it's
+	 * {@link Operation} when they are all filled.
+	 * 
+	 * @return the target of this {@code ArithmeticCage}.
+	 */
+	int target();
+
+	/**
+	 * Returns the number of {@link Cell}s in this {@code ArithmeticCage}.
+	 * 
+	 * @return the number of {@code Cell}s in this {@code ArithmeticCage}.
+	 */
+	int size();
+
+	/**
+	 * Returns the row-major indices of the {@link Cell}s in this {@code ArithmeticCage} in ascending order. The
+	 * returned array is a copy and can be freely modified.
+	 * 
+	 * @return the row-major indices of the {@code Cell}s in this {@code ArithmeticCage}.
+	 */
+	int[] cellIndices();
+
+	/**
+	 * The operations of {@link ArithmeticCage}s. {@link #SUBTRACT} and {@link #DIVIDE} only apply to
+	 * {@code ArithmeticCage}s of two {@link Cell}s and combine the greater value with the lesser one.
+	 * 
+	 * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+	 * 
+	 * @since Mon, 19 Oct 2026 02:58:40
+	 */
+	static enum Operation {
+
+		/**
+		 * the values add up to the target.
+		 */
+		ADD,
+
+		/**
+		 * the difference of the two values is the target.
+		 */
+		SUBTRACT,
+
+		/**
+		 * the product of the values is the target.
+		 */
+		MULTIPLY,
+
+		/**
+		 * the quotient of the two values is the target.
+		 */
+		DIVIDE
+	}
+}
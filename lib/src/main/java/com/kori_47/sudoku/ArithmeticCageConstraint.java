@@ -0,0 +1,131 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+
+/**
+ * This is the {@link SolverConstraint} of the {@link ArithmeticCage}s of a {@link KenKen}. For every
+ * {@code ArithmeticCage} it keeps a bit set of the {@link CageTuples tuples} still possible and the candidates of each
+ * of it's {@link Cell}s, i.e the ordinals that still appear at the {@code Cell}'s position in one of those tuples.
+ * A placement narrows the tuples of it's {@code ArithmeticCage} with one precomputed bit set and recomputes the
+ * candidates of the {@code ArithmeticCage}, so the tuples are never enumerated while searching. The state replaced
+ * by a placement is pushed on a trail and restored when the placement is undone.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 03:21:45
+ */
+final class ArithmeticCageConstraint implements SolverConstraint {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final CageTuples[] tuples;
+	private final int[] cageOfCell;
+	private final int[] positionOfCell;
+	private final int[][] cageCells;
+	// the index of the first word of the bit set of each cage in alive
+	private final int[] offsets;
+
+	// ================================================
+	// SEARCH STATE
+	// ================================================
+	private final long[] alive;
+	private final long[] candidates;
+	private long[] trail;
+	private int trailSize;
+
+	/**
+	 * Creates a new {@code ArithmeticCageConstraint}.
+	 * 
+	 * @param tuples the {@code CageTuples} of each {@code ArithmeticCage} by position.
+	 * @param cageOfCell the position of the {@code ArithmeticCage} of each {@code Cell} in row-major order, {@code -1}
+	 * for {@code Cell}s in no {@code ArithmeticCage}. The array is not copied.
+	 * @param positionOfCell the position of each {@code Cell} in it's {@code ArithmeticCage}. The array is not copied.
+	 * @param cageCells the row-major indices of the {@code Cell}s of each {@code ArithmeticCage}. The arrays are not
+	 * copied.
+	 */
+	ArithmeticCageConstraint(CageTuples[] tuples, int[] cageOfCell, int[] positionOfCell, int[][] cageCells) {
+		this.tuples = tuples;
+		this.cageOfCell = cageOfCell;
+		this.positionOfCell = positionOfCell;
+		this.cageCells = cageCells;
+		this.offsets = new int[tuples.length];
+		int words = 0, trailEntry = 0;
+		for (int cage = 0; cage < tuples.length; cage++) {
+			offsets[cage] = words;
+			words += tuples[cage].words();
+			trailEntry = Math.max(trailEntry, tuples[cage].words() + cageCells[cage].length);
+		}
+		this.alive = new long[words];
+		this.candidates = new long[cageOfCell.length];
+		this.trail = new long[Math.max(1, trailEntry * 16)];
+	}
+
+	@Override
+	public void reset(int[] values) {
+		restart(values);
+	}
+
+	@Override
+	public boolean isConsistent(int[] values) {
+		restart(values);
+		for (int cage = 0; cage < tuples.length; cage++)
+			if (!tuples[cage].any(alive, offsets[cage]))
+				return false;
+		return true;
+	}
+
+	@Override
+	public long candidates(int cell) {
+		return (cageOfCell[cell] < 0)? -1L : candidates[cell];
+	}
+
+	@Override
+	public void place(int cell, int ordinal) {
+		final int cage = cageOfCell[cell];
+		if (cage < 0) return;
+		final CageTuples cageTuples = tuples[cage];
+		final int[] cells = cageCells[cage];
+		final int words = cageTuples.words();
+		// save the tuples and candidates replaced by this placement
+		if (trailSize + words + cells.length > trail.length)
+			trail = Arrays.copyOf(trail, Math.max(2 * trail.length, trailSize + words + cells.length));
+		System.arraycopy(alive, offsets[cage], trail, trailSize, words);
+		trailSize += words;
+		for (int cageCell : cells)
+			trail[trailSize++] = candidates[cageCell];
+		cageTuples.retain(alive, offsets[cage], positionOfCell[cell], ordinal);
+		updateCandidates(cage);
+	}
+
+	@Override
+	public void unplace(int cell, int ordinal) {
+		final int cage = cageOfCell[cell];
+		if (cage < 0) return;
+		final int[] cells = cageCells[cage];
+		for (int position = cells.length - 1; position >= 0; position--)
+			candidates[cells[position]] = trail[--trailSize];
+		trailSize -= tuples[cage].words();
+		System.arraycopy(trail, trailSize, alive, offsets[cage], tuples[cage].words());
+	}
+
+	private void restart(int[] values) {
+		trailSize = 0;
+		for (int cage = 0; cage < tuples.length; cage++) {
+			tuples[cage].fill(alive, offsets[cage]);
+			for (int cell : cageCells[cage])
+				if (values[cell] >= 0)
+					tuples[cage].retain(alive, offsets[cage], positionOfCell[cell], values[cell]);
+			updateCandidates(cage);
+		}
+	}
+
+	private void updateCandidates(int cage) {
+		final int[] cells = cageCells[cage];
+		for (int position = 0; position < cells.length; position++)
+			candidates[cells[position]] = tuples[cage].mask(alive, offsets[cage], position);
+	}
+}
@@ -0,0 +1,202 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.kori_47.sudoku.ArithmeticCage.Operation;
+
+/**
+ * This holds the {@link ArithmeticCage}s of a {@link KenKen} together with a table of the {@code ArithmeticCage} of
+ * every {@link Cell} and the {@link CageTuples} of every {@code ArithmeticCage}. The tuples are enumerated once, when
+ * the layout is created, and an {@code ArithmeticCageLayout} is immutable and is shared by a {@code KenKen} and it's
+ * copies.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 03:16:27
+ */
+final class ArithmeticCageLayout {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final SimpleArithmeticCage[] cages;
+	private final CageTuples[] tuples;
+	// the position of the cage of each cell in row-major order, -1 for cells in no cage
+	private final int[] cageOfCell;
+	// the position of each cell in it's cage
+	private final int[] positionOfCell;
+	private final Map<String, ArithmeticCage> cagesView;
+
+	/**
+	 * Creates a new {@code ArithmeticCageLayout}.
+	 * 
+	 * @param size the size of the {@code KenKen}.
+	 * @param cageIds the position of the {@code ArithmeticCage} of each {@code Cell} in row-major order, {@code -1}
+	 * for {@code Cell}s in no {@code ArithmeticCage}.
+	 * @param operations the {@code Operation} of each {@code ArithmeticCage} by position.
+	 * @param targets the target of each {@code ArithmeticCage} by position.
+	 * 
+	 * @throws NullPointerException if {@code cageIds}, {@code operations}, {@code targets} or any of the
+	 * {@code Operation}s is {@code null}.
+	 * @throws IllegalArgumentException if the layout is invalid, see
+	 * {@link LatinSquares#kenKenOf(int, int[], ArithmeticCage.Operation[], int[])}.
+	 */
+	ArithmeticCageLayout(int size, int[] cageIds, Operation[] operations, int[] targets) {
+		requireNonNull(cageIds, "cageIds cannot be null.");
+		requireNonNull(operations, "operations cannot be null.");
+		requireNonNull(targets, "targets cannot be null.");
+		if (size < 1 || size > BitmaskSolver.MAX_SIZE)
+			throw new IllegalArgumentException("Only KenKens of 1 to " + BitmaskSolver.MAX_SIZE + " symbols are supported, size: " + size + ".");
+		if (cageIds.length != size * size)
+			throw new IllegalArgumentException("cageIds must have exactly " + size * size + " elements, found " + cageIds.length + ".");
+		if (operations.length != targets.length)
+			throw new IllegalArgumentException("Expected " + targets.length + " operations, found " + operations.length + ".");
+
+		final int[] cageSizes = new int[targets.length];
+		this.positionOfCell = new int[cageIds.length];
+		for (int index = 0; index < cageIds.length; index++) {
+			if (cageIds[index] < -1 || cageIds[index] >= targets.length)
+				throw new IllegalArgumentException("The cage id (" + cageIds[index] + ") at index " + index + " must be -1 or less than " + targets.length + ".");
+			if (cageIds[index] >= 0) positionOfCell[index] = cageSizes[cageIds[index]]++;
+		}
+
+		final int[][] cageCells = new int[targets.length][];
+		for (int cage = 0; cage < targets.length; cage++) {
+			requireNonNull(operations[cage], "operations cannot contain null elements.");
+			if (cageSizes[cage] == 0)
+				throw new IllegalArgumentException("The cage " + cage + " has no cells.");
+			if ((operations[cage] == Operation.SUBTRACT || operations[cage] == Operation.DIVIDE) && cageSizes[cage] != 2)
+				throw new IllegalArgumentException("The cage " + cage + " must have exactly 2 cells to " + operations[cage] + ", found " + cageSizes[cage] + ".");
+			cageCells[cage] = new int[cageSizes[cage]];
+		}
+		for (int index = 0; index < cageIds.length; index++)
+			if (cageIds[index] >= 0)
+				cageCells[cageIds[index]][positionOfCell[index]] = index;
+
+		final Map<String, ArithmeticCage> cagesById = new LinkedHashMap<>(targets.length * 2);
+		this.size = size;
+		this.cages = new SimpleArithmeticCage[targets.length];
+		this.tuples = new CageTuples[targets.length];
+		for (int cage = 0; cage < targets.length; cage++) {
+			tuples[cage] = new CageTuples(size, operations[cage], targets[cage], cageCells[cage]);
+			if (tuples[cage].tupleCount() == 0)
+				throw new IllegalArgumentException("The cells of cage " + cage + " can't reach " + targets[cage] + " with " + operations[cage] + ".");
+			cages[cage] = new SimpleArithmeticCage(Integer.toString(cage), operations[cage], targets[cage], cageCells[cage]);
+			cagesById.put(cages[cage].id(), cages[cage]);
+		}
+		this.cageOfCell = cageIds.clone();
+		this.cagesView = unmodifiableMap(cagesById);
+	}
+
+	/**
+	 * @see KenKen#cages()
+	 */
+	Map<String, ArithmeticCage> cages() {
+		return cagesView;
+	}
+
+	/**
+	 * @see KenKen#cageOf(int, int)
+	 */
+	Optional<ArithmeticCage> cageOf(int x, int y) {
+		final int cage = cageOfCell[checkIndex(y, size) * size + checkIndex(x, size)];
+		return (cage < 0)? Optional.empty() : Optional.of(cages[cage]);
+	}
+
+	/**
+	 * Returns a new {@link SolverConstraint} that enforces the {@link ArithmeticCage}s of this layout.
+	 * 
+	 * @return a new {@code SolverConstraint} for this layout.
+	 */
+	SolverConstraint newConstraint() {
+		final int[][] cageCells = new int[cages.length][];
+		for (int cage = 0; cage < cages.length; cage++)
+			cageCells[cage] = cages[cage].cellIndices;
+		return new ArithmeticCageConstraint(tuples, cageOfCell, positionOfCell, cageCells);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * size + Arrays.hashCode(cages);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof ArithmeticCageLayout)) return false;
+		final ArithmeticCageLayout other = (ArithmeticCageLayout) obj;
+		return size == other.size && Arrays.equals(cages, other.cages);
+	}
+
+	/**
+	 * An immutable {@link ArithmeticCage}.
+	 */
+	private static final class SimpleArithmeticCage implements ArithmeticCage {
+
+		private final String id;
+		private final Operation operation;
+		private final int target;
+		private final int[] cellIndices;
+
+		SimpleArithmeticCage(String id, Operation operation, int target, int[] cellIndices) {
+			this.id = id;
+			this.operation = operation;
+			this.target = target;
+			this.cellIndices = cellIndices;
+		}
+
+		@Override
+		public String id() {
+			return id;
+		}
+
+		@Override
+		public Operation operation() {
+			return operation;
+		}
+
+		@Override
+		public int target() {
+			return target;
+		}
+
+		@Override
+		public int size() {
+			return cellIndices.length;
+		}
+
+		@Override
+		public int[] cellIndices() {
+			return cellIndices.clone();
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * (31 * id.hashCode() + operation.hashCode()) + target) + Arrays.hashCode(cellIndices);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof SimpleArithmeticCage)) return false;
+			final SimpleArithmeticCage other = (SimpleArithmeticCage) obj;
+			return id.equals(other.id) && operation == other.operation && target == other.target && Arrays.equals(cellIndices, other.cellIndices);
+		}
+
+		@Override
+		public String toString() {
+			return "ArithmeticCage[id=" + id + ", operation=" + operation + ", target=" + target + ", cells=" + Arrays.toString(cellIndices) + "]";
+		}
+	}
+}
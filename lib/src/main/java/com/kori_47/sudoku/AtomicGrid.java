@@ -0,0 +1,454 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import static com.kori_47.utils.ObjectUtils.requireNonNegative;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is the shared state behind the {@link AtomicLatinSquare} implementations. The {@link Symbol}s of all the
+ * {@link Cell}s are kept in a single {@link AtomicIntegerArray} in row-major order, each element holding the
+ * ordinal of a {@code Symbol} plus one or {@code 0} for an empty {@code Cell}. An {@code AtomicGrid} is also the
+ * {@link CellFactory} of the {@code LatinSquare} that owns it, the {@code Cell}s it creates are views over their
+ * element of the array.
+ * 
+ * <p>
+ * Every unit, i.e every {@link Row}, {@link Column} and {@link Block}, is guarded by it's own lock. A write to a
+ * {@code Cell} holds the locks of all the units that the {@code Cell} belongs to, which makes checking the
+ * {@code Cell}'s peers and then writing to the {@code Cell} atomic. Locks are always acquired in ascending unit
+ * order so writers never deadlock.
+ * 
+ * <p>
+ * Reads don't take locks. Consistent snapshots use two counters, the number of writes that have begun and the
+ * number that have ended. A snapshot reads the ended count, copies the array and then reads the begun count. If the
+ * two are equal, no write was in progress or started while the array was copied and the copy is consistent,
+ * otherwise the snapshot is retried. A snapshot that keeps failing because of a steady stream of writes falls back
+ * to taking the locks of every unit for a single copy, so it always completes.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s of the owning {@code LatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 16:30:17
+ */
+final class AtomicGrid<V> implements CellFactory<V> {
+
+	/**
+	 * the number of failed snapshot attempts after which a snapshot starts yielding between attempts.
+	 */
+	private static final int SPINS_BEFORE_YIELD = 64;
+
+	/**
+	 * the number of failed snapshot attempts after which a snapshot takes the locks of every unit instead.
+	 */
+	private static final int MAX_OPTIMISTIC_READS = 256;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final AtomicIntegerArray slots;
+	private final AtomicLong begun;
+	private final AtomicLong ended;
+	// set once the owning LatinSquare has been created
+	private Map<String, Cell<V>> cells;
+	private SymbolIndex<V> symbolIndex;
+	private GridTopology topology;
+	private ReentrantLock[] locks;
+
+	/**
+	 * Creates a new, empty, {@code AtomicGrid} for a {@link LatinSquare} of the given size.
+	 * 
+	 * @param size the size of the owning {@code LatinSquare}.
+	 */
+	AtomicGrid(int size) {
+		this.size = size;
+		this.slots = new AtomicIntegerArray(size * size);
+		this.begun = new AtomicLong();
+		this.ended = new AtomicLong();
+	}
+
+	/**
+	 * Binds this {@code AtomicGrid} to the {@link LatinSquare} that owns it and loads the {@link Symbol}s of the
+	 * given source {@code LatinSquare}. This must be called exactly once from the constructor of the owning
+	 * {@code LatinSquare} after all it's units have been created.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} that owns this {@code AtomicGrid}.
+	 * @param source the {@code LatinSquare} that the owning {@code LatinSquare} was created from.
+	 * 
+	 * @throws SudokuException if a {@code Cell} of the source {@code LatinSquare} holds a {@code Symbol} that isn't
+	 * one of the {@code Symbol}s of the owning {@code LatinSquare}.
+	 */
+	void bind(LatinSquare<V> latinSquare, LatinSquare<V> source) {
+		this.cells = latinSquare.cells();
+		this.symbolIndex = new SymbolIndex<>(latinSquare.symbols());
+		this.topology = GridTopology.of(latinSquare);
+		this.locks = new ReentrantLock[topology.unitCount()];
+		for (int unit = 0; unit < locks.length; unit++)
+			locks[unit] = new ReentrantLock();
+		load(slotsOf(source));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @throws IllegalArgumentException if {@code symbol} isn't {@code null}, {@code Cell}s are always created empty.
+	 */
+	@Override
+	public Cell<V> createCell(String id, int x, int y, Symbol<V> symbol) {
+		if (symbol != null)
+			throw new IllegalArgumentException("The Cells of a ConcurrentLatinSquare must be created empty.");
+		return new AtomicCell(id, x, y);
+	}
+
+	/**
+	 * Returns the row-major index of the {@link Cell} of the owning {@link LatinSquare} with the same id as the given
+	 * {@code Cell}.
+	 * 
+	 * @param cell the {@code Cell} whose index we want.
+	 * 
+	 * @return the row-major index of the given {@code Cell}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} isn't part of the owning {@code LatinSquare}.
+	 */
+	int indexOf(Cell<V> cell) {
+		// validate the Cell the same way LatinSquare.changeSymbol does and use our own Cell with the same id
+		final Cell<V> ownCell = cells.get(requireNonNull(cell, "cell cannot be null").id());
+		if (ownCell == null)
+			throw new SudokuException("The given Cell (" + cell + ") isn't part of this LatinSquare.");
+		return ((AtomicCell) ownCell).index;
+	}
+
+	/**
+	 * Returns the {@link Symbol} of the {@link Cell} with the given index, {@code null} if the {@code Cell} is empty.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * 
+	 * @return the {@code Symbol} of the {@code Cell} with the given index.
+	 */
+	Symbol<V> read(int index) {
+		return symbolOf(slots.get(index));
+	}
+
+	/**
+	 * Sets the {@link Symbol} of the {@link Cell} with the given index.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * @param symbol the {@code Symbol} to set. Maybe {@code null}.
+	 * 
+	 * @throws SudokuException if the given {@code Symbol} isn't one of the {@code Symbol}s of the owning
+	 * {@link LatinSquare}.
+	 */
+	void write(int index, Symbol<V> symbol) {
+		final int slot = slotOf(symbol);
+		final int[] units = topology.unitsOf(index);
+		lock(units);
+		try {
+			set(index, slot);
+		} finally {
+			unlock(units);
+		}
+	}
+
+	/**
+	 * Sets the {@link Symbol} of the {@link Cell} with the given index if none of the {@code Cell}'s peers holds it.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * @param symbol the {@code Symbol} to set. Maybe {@code null}.
+	 * 
+	 * @return {@code true} if the {@code Symbol} was set.
+	 * 
+	 * @throws SudokuException if the given {@code Symbol} isn't one of the {@code Symbol}s of the owning
+	 * {@link LatinSquare}.
+	 */
+	boolean writeIfConsistent(int index, Symbol<V> symbol) {
+		final int slot = slotOf(symbol);
+		final int[] units = topology.unitsOf(index);
+		lock(units);
+		try {
+			// peers can only change while one of the locks we hold is held, so this check stays valid until we write
+			if (slot != 0)
+				for (int peer : topology.peersOf(index))
+					if (slots.get(peer) == slot) return false;
+			set(index, slot);
+			return true;
+		} finally {
+			unlock(units);
+		}
+	}
+
+	/**
+	 * Sets the {@link Symbol} of the {@link Cell} with the given index if the {@code Cell} holds the expected
+	 * {@code Symbol}.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * @param expected the expected {@code Symbol}. Maybe {@code null}.
+	 * @param symbol the {@code Symbol} to set. Maybe {@code null}.
+	 * 
+	 * @return {@code true} if the {@code Symbol} was set.
+	 * 
+	 * @throws SudokuException if any of the given {@code Symbol}s isn't one of the {@code Symbol}s of the owning
+	 * {@link LatinSquare}.
+	 */
+	boolean compareAndWrite(int index, Symbol<V> expected, Symbol<V> symbol) {
+		final int expectedSlot = slotOf(expected), slot = slotOf(symbol);
+		final int[] units = topology.unitsOf(index);
+		lock(units);
+		try {
+			if (slots.get(index) != expectedSlot) return false;
+			set(index, slot);
+			return true;
+		} finally {
+			unlock(units);
+		}
+	}
+
+	/**
+	 * Runs the given action while holding the locks of every unit. The changes made by the action appear to
+	 * snapshots as a single change.
+	 * 
+	 * @param action the action to run.
+	 */
+	void writeAll(Runnable action) {
+		lockAll();
+		begun.incrementAndGet();
+		try {
+			action.run();
+		} finally {
+			ended.incrementAndGet();
+			unlockAll();
+		}
+	}
+
+	/**
+	 * Replaces the {@link Symbol}s of all the {@link Cell}s with the given slots as a single change.
+	 * 
+	 * @param values the new slots of the {@code Cell}s in row-major order, as returned by {@link #read()}.
+	 */
+	void load(int[] values) {
+		writeAll(() -> {
+			for (int index = 0; index < values.length; index++)
+				slots.set(index, values[index]);
+		});
+	}
+
+	/**
+	 * Replaces the {@link Symbol}s of all the {@link Cell}s with the {@code Symbol}s with the given ids as a single
+	 * change.
+	 * 
+	 * @param symbolIds the {@code Symbol} ids in row-major order, {@code 0} for an empty {@code Cell}.
+	 * 
+	 * @see LatinSquare#loadFrom(int[])
+	 */
+	void loadFrom(int[] symbolIds) {
+		load(GridArrays.slotsOf(symbolIds, symbolIndex, size));
+	}
+
+	/**
+	 * Writes the ids of the {@link Symbol}s of all the {@link Cell}s, as of a single consistent snapshot, into the
+	 * given array.
+	 * 
+	 * @param symbolIds the array to write the ids into in row-major order.
+	 * 
+	 * @see LatinSquare#exportTo(int[])
+	 */
+	void exportTo(int[] symbolIds) {
+		GridArrays.checkLength(requireNonNull(symbolIds, "symbolIds cannot be null.").length, size);
+		final int[] values = read();
+		for (int index = 0; index < values.length; index++)
+			symbolIds[index] = GridArrays.idOf(symbolOf(values[index]));
+	}
+
+	/**
+	 * Returns a consistent copy of the slots of all the {@link Cell}s in row-major order, without blocking writers.
+	 * 
+	 * @return a consistent copy of the slots of all the {@code Cell}s.
+	 */
+	int[] read() {
+		final int[] values = new int[slots.length()];
+		for (int attempt = 1; attempt <= MAX_OPTIMISTIC_READS; attempt++) {
+			final long version = ended.get();
+			copy(values);
+			if (begun.get() == version) return values;
+			if (attempt < SPINS_BEFORE_YIELD) Thread.onSpinWait();
+			else Thread.yield();
+		}
+		// a steady stream of writes keeps invalidating the copies, block the writers for a single copy instead
+		lockAll();
+		try {
+			copy(values);
+			return values;
+		} finally {
+			unlockAll();
+		}
+	}
+
+	/**
+	 * Returns the slots of the {@link Cell}s of the given {@link LatinSquare} in row-major order. The given
+	 * {@code LatinSquare} must have the same size and {@link Symbol}s as the owning {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose {@code Cell} slots we want.
+	 * 
+	 * @return the slots of the {@code Cell}s of the given {@code LatinSquare}.
+	 * 
+	 * @throws SudokuException if a {@code Cell} of the given {@code LatinSquare} holds a {@code Symbol} that isn't
+	 * one of the {@code Symbol}s of the owning {@code LatinSquare}.
+	 */
+	int[] slotsOf(LatinSquare<V> latinSquare) {
+		// read other concurrent grids consistently
+		if (latinSquare instanceof AtomicLatinSquare)
+			return ((AtomicLatinSquare<V>) latinSquare).grid().read();
+
+		final int[] values = new int[size * size];
+		for (Cell<V> cell : latinSquare.cells().values())
+			values[GridTopology.indexOf(cell, size)] = slotOf(cell.symbol().orElse(null));
+		return values;
+	}
+
+	/**
+	 * Sets the {@link Symbol}s held by the given slots on the {@link Cell}s of the given {@link LatinSquare} and
+	 * returns the {@code LatinSquare}.
+	 * 
+	 * @param <L> the type of the {@code LatinSquare}.
+	 * 
+	 * @param latinSquare a {@code LatinSquare} with the same size and {@code Symbol}s as the owning
+	 * {@code LatinSquare}.
+	 * @param values the slots of the {@code Cell}s in row-major order, as returned by {@link #read()}.
+	 * 
+	 * @return the given {@code LatinSquare}.
+	 */
+	<L extends LatinSquare<V>> L fill(L latinSquare, int[] values) {
+		for (Cell<V> cell : latinSquare.cells().values())
+			cell.changeSymbol(symbolOf(values[GridTopology.indexOf(cell, size)]));
+		return latinSquare;
+	}
+
+	/**
+	 * Returns the number of writes that have completed so far.
+	 * 
+	 * @return the number of completed writes.
+	 */
+	long version() {
+		return ended.get();
+	}
+
+	private void copy(int[] values) {
+		for (int index = 0; index < values.length; index++)
+			values[index] = slots.get(index);
+	}
+
+	private void set(int index, int slot) {
+		begun.incrementAndGet();
+		slots.set(index, slot);
+		ended.incrementAndGet();
+	}
+
+	private int slotOf(Symbol<V> symbol) {
+		if (symbol == null) return 0;
+		final int ordinal = symbolIndex.ordinalOf(symbol);
+		if (ordinal < 0)
+			throw new SudokuException("The given Symbol (" + symbol + ") isn't one of the Symbols of this LatinSquare.");
+		return ordinal + 1;
+	}
+
+	private Symbol<V> symbolOf(int slot) {
+		return (slot == 0)? null : symbolIndex.symbol(slot - 1);
+	}
+
+	private void lock(int[] units) {
+		for (int unit : units)
+			locks[unit].lock();
+	}
+
+	private void unlock(int[] units) {
+		for (int index = units.length - 1; index >= 0; index--)
+			locks[units[index]].unlock();
+	}
+
+	private void lockAll() {
+		for (ReentrantLock lock : locks)
+			lock.lock();
+	}
+
+	private void unlockAll() {
+		for (int unit = locks.length - 1; unit >= 0; unit--)
+			locks[unit].unlock();
+	}
+
+	/**
+	 * A {@link Cell} whose {@link Symbol} is an element of the {@link AtomicIntegerArray} of the enclosing
+	 * {@code AtomicGrid}.
+	 */
+	private final class AtomicCell implements Cell<V> {
+
+		// ================================================
+		// PRIMARY FIELDS
+		// ================================================
+		private final String id;
+		private final int x;
+		private final int y;
+		private final int index;
+
+		AtomicCell(String id, int x, int y) {
+			this.id = requireNonNull(id, "id cannot be null.");
+			this.x = requireNonNegative(x, "x must be a positive integer.");
+			this.y = requireNonNegative(y, "y must be a positive integer.");
+			this.index = y * size + x;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 * @throws SudokuException if the given {@code Symbol} isn't one of the {@code Symbol}s of the
+		 * {@link ConcurrentLatinSquare} that this {@code Cell} belongs to.
+		 */
+		@Override
+		public void changeSymbol(Symbol<V> value) {
+			write(index, value);
+		}
+
+		@Override
+		public int x() {
+			return x;
+		}
+
+		@Override
+		public int y() {
+			return y;
+		}
+
+		@Override
+		public String id() {
+			return id;
+		}
+
+		@Override
+		public Optional<Symbol<V>> symbol() {
+			return Optional.ofNullable(read(index));
+		}
+
+		@Override
+		public int hashCode() {
+			return Cells.hashCode(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return Cells.equals(this, obj);
+		}
+
+		@Override
+		public String toString() {
+			return Cells.toString(this);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A {@link ConcurrentLatinSquare} whose {@link Cell}s are backed by an {@link AtomicGrid}. This holds the
+ * operations that {@link ConcurrentSimpleLatinSquare} and {@link ConcurrentSimpleSudoku} share and that aren't
+ * already implemented by the {@link SimpleLatinSquare} they extend.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s supported by this {@code AtomicLatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:31:40
+ */
+interface AtomicLatinSquare<V> extends ConcurrentLatinSquare<V> {
+
+	/**
+	 * Returns the {@link AtomicGrid} backing this {@code AtomicLatinSquare}.
+	 * 
+	 * @return the {@code AtomicGrid} backing this {@code AtomicLatinSquare}.
+	 */
+	AtomicGrid<V> grid();
+
+	@Override
+	default boolean changeSymbolIfConsistent(Cell<V> cell, Symbol<V> symbol) {
+		return grid().writeIfConsistent(grid().indexOf(cell), symbol);
+	}
+
+	@Override
+	default boolean compareAndChangeSymbol(Cell<V> cell, Symbol<V> expected, Symbol<V> symbol) {
+		return grid().compareAndWrite(grid().indexOf(cell), expected, symbol);
+	}
+
+	@Override
+	default long version() {
+		return grid().version();
+	}
+}
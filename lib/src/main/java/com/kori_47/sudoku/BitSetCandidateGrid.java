@@ -0,0 +1,632 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>This is a bitset backed implementation of the {@link CandidateGrid} interface. The candidates of each
+ * {@link Cell} are stored as a run of {@code long} words in a single flat array, one word for {@link LatinSquare}s
+ * of up to {@code 64} {@link Symbol}s and {@code (size + 63) / 64} words for larger ones. Bit <i>i</i> of a
+ * {@code Cell}'s mask is set if the <i>i<sup>th</sup></i> {@code Symbol} of the {@code LatinSquare} is a
+ * candidate of that {@code Cell}.
+ * 
+ * <p>
+ * The value last seen on every {@code Cell} is kept alongside the masks. The public methods compare it with the
+ * {@code Symbol}s currently placed on the {@code Cell}s they touch and their peers, and reconcile the whole grid
+ * with {@link #synchronize()} when a change made directly on the {@code LatinSquare} is found.
+ * 
+ * <p>
+ * Besides the public {@code CandidateGrid} methods, this class exposes package-private accessors to it's
+ * primitive state for use by other algorithms in this package such as the hint engine.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s supported by this {@code CandidateGrid}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 09:47:52
+ */
+final class BitSetCandidateGrid<V> implements CandidateGrid<V> {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final LatinSquare<V> latinSquare;
+	private final GridTopology topology;
+	private final SymbolIndex<V> symbols;
+	private final Cell<V>[] cells;
+	private final Map<CellGroup<?>, int[]> groupIndices;
+	private final int size;
+	private final int words;
+	private final long lastWordMask;
+
+	// ================================================
+	// MUTABLE STATE
+	// ================================================
+	private final long[] masks;
+	private final int[] values;
+
+	/**
+	 * Creates a new {@code CandidateGrid} attached to the given {@link LatinSquare} whose candidates are computed
+	 * from the {@link Symbol}s currently placed on the {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to attach the new {@code CandidateGrid} to.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws SudokuException if any {@code Cell} of the {@code LatinSquare} holds a {@code Symbol} that isn't
+	 * part of the {@code LatinSquare}.
+	 */
+	BitSetCandidateGrid(LatinSquare<V> latinSquare) {
+		this(latinSquare, GridTopology.of(requireNonNull(latinSquare, "latinSquare cannot be null.")));
+	}
+
+	/**
+	 * Creates a new {@code CandidateGrid} attached to the given {@link LatinSquare} with the given topology. The
+	 * candidates are computed from the {@link Symbol}s currently placed on the {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to attach the new {@code CandidateGrid} to.
+	 * @param topology the topology of the given {@code LatinSquare}.
+	 */
+	BitSetCandidateGrid(LatinSquare<V> latinSquare, GridTopology topology) {
+		this.latinSquare = requireNonNull(latinSquare, "latinSquare cannot be null.");
+		this.topology = requireNonNull(topology, "topology cannot be null.");
+		this.symbols = new SymbolIndex<>(latinSquare.symbols());
+		this.size = latinSquare.size();
+		this.words = (symbols.size() + 63) >>> 6;
+		this.lastWordMask = (symbols.size() % 64 == 0)? -1L : (1L << (symbols.size() % 64)) - 1;
+		this.cells = GridArrays.newArray(Cell.class, topology.cellCount());
+		this.masks = new long[topology.cellCount() * words];
+		this.values = new int[topology.cellCount()];
+		this.groupIndices = new IdentityHashMap<>();
+
+		// index the cells of the LatinSquare
+		for (Cell<V> cell : latinSquare.cells().values()) {
+			if (cell.x() >= size || cell.y() >= size)
+				throw new SudokuException("The Cell (" + cell + ") is outside the bounds of the LatinSquare.");
+			cells[GridTopology.indexOf(cell, size)] = cell;
+		}
+
+		// the LatinSquare's own groups map directly to the units of the topology
+		for (Row<V> row : latinSquare.rows().values())
+			groupIndices.put(row, topology.unit(row.y()));
+		for (Column<V> column : latinSquare.columns().values())
+			groupIndices.put(column, topology.unit(size + column.x()));
+		if (latinSquare instanceof Sudoku) {
+			int unit = 2 * size;
+			for (Block<V> block : ((Sudoku<V>) latinSquare).blocks().values())
+				groupIndices.put(block, topology.unit(unit++));
+			for (UniqueCellGroup<V> region : ((Sudoku<V>) latinSquare).regions().values())
+				groupIndices.put(region, topology.unit(unit++));
+		}
+
+		refresh();
+	}
+
+	/**
+	 * Creates a copy of the given {@code BitSetCandidateGrid}.
+	 * 
+	 * @param other the {@code BitSetCandidateGrid} to copy.
+	 */
+	private BitSetCandidateGrid(BitSetCandidateGrid<V> other) {
+		this.latinSquare = other.latinSquare;
+		this.topology = other.topology;
+		this.symbols = other.symbols;
+		this.cells = other.cells;
+		this.groupIndices = other.groupIndices;
+		this.size = other.size;
+		this.words = other.words;
+		this.lastWordMask = other.lastWordMask;
+		this.masks = other.masks.clone();
+		this.values = other.values.clone();
+	}
+
+	@Override
+	public LatinSquare<V> latinSquare() {
+		return latinSquare;
+	}
+
+	@Override
+	public Set<Symbol<V>> candidates(Cell<V> cell) {
+		int offset = current(indexOf(cell)) * words;
+		long[] mask = new long[words];
+		System.arraycopy(masks, offset, mask, 0, words);
+		return new MaskSymbolSet<>(mask, symbols);
+	}
+
+	@Override
+	public boolean hasCandidate(Cell<V> cell, Symbol<V> symbol) {
+		return hasCandidate(current(indexOf(cell)), ordinalOf(symbol));
+	}
+
+	@Override
+	public int candidateCount(Cell<V> cell) {
+		return candidateCount(current(indexOf(cell)));
+	}
+
+	@Override
+	public boolean addCandidate(Cell<V> cell, Symbol<V> symbol) {
+		return addCandidate(current(indexOf(cell)), ordinalOf(symbol));
+	}
+
+	@Override
+	public boolean removeCandidate(Cell<V> cell, Symbol<V> symbol) {
+		return removeCandidate(current(indexOf(cell)), ordinalOf(symbol));
+	}
+
+	@Override
+	public void clearCandidates(Cell<V> cell) {
+		int offset = current(indexOf(cell)) * words;
+		for (int word = 0; word < words; word++)
+			masks[offset + word] = 0L;
+	}
+
+	@Override
+	public int addCandidate(CellGroup<V> cellGroup, Symbol<V> symbol) {
+		int ordinal = ordinalOf(symbol), changed = 0;
+		for (int index : current(indicesOf(cellGroup)))
+			if (addCandidate(index, ordinal)) changed++;
+		return changed;
+	}
+
+	@Override
+	public int removeCandidate(CellGroup<V> cellGroup, Symbol<V> symbol) {
+		int ordinal = ordinalOf(symbol), changed = 0;
+		for (int index : current(indicesOf(cellGroup)))
+			if (removeCandidate(index, ordinal)) changed++;
+		return changed;
+	}
+
+	@Override
+	public int removeCandidates(CellGroup<V> cellGroup, Set<Symbol<V>> symbols) {
+		long[] mask = maskOf(symbols);
+		int changed = 0;
+		for (int index : current(indicesOf(cellGroup))) {
+			int offset = index * words;
+			long difference = 0L;
+			for (int word = 0; word < words; word++) {
+				difference |= masks[offset + word] & mask[word];
+				masks[offset + word] &= ~mask[word];
+			}
+			if (difference != 0L) changed++;
+		}
+		return changed;
+	}
+
+	@Override
+	public int retainCandidates(CellGroup<V> cellGroup, Set<Symbol<V>> symbols) {
+		long[] mask = maskOf(symbols);
+		int changed = 0;
+		for (int index : current(indicesOf(cellGroup))) {
+			int offset = index * words;
+			long difference = 0L;
+			for (int word = 0; word < words; word++) {
+				difference |= masks[offset + word] & ~mask[word];
+				masks[offset + word] &= mask[word];
+			}
+			if (difference != 0L) changed++;
+		}
+		return changed;
+	}
+
+	@Override
+	public Set<Symbol<V>> candidates(CellGroup<V> cellGroup) {
+		long[] union = new long[words];
+		for (int index : current(indicesOf(cellGroup))) {
+			int offset = index * words;
+			for (int word = 0; word < words; word++)
+				union[word] |= masks[offset + word];
+		}
+		return new MaskSymbolSet<>(union, symbols);
+	}
+
+	@Override
+	public Set<Cell<V>> cellsWithCandidate(CellGroup<V> cellGroup, Symbol<V> symbol) {
+		int ordinal = ordinalOf(symbol);
+		Set<Cell<V>> result = new LinkedHashSet<>();
+		for (int index : current(indicesOf(cellGroup)))
+			if (hasCandidate(index, ordinal))
+				result.add(cells[index]);
+		return Collections.unmodifiableSet(result);
+	}
+
+	@Override
+	public void changeSymbol(Cell<V> cell, Symbol<V> symbol) {
+		// let the LatinSquare validate the Cell and Symbol before touching any state
+		latinSquare.changeSymbol(cell, symbol);
+		int index = indexOf(cell);
+		// changes made directly on the LatinSquare to the peers of the Cell are reconciled along with this one
+		if (hasChangedPeer(index))
+			synchronize();
+		else
+			update(index, symbols.ordinalOf(symbol));
+	}
+
+	@Override
+	public void refresh() {
+		for (int index = 0; index < cells.length; index++) {
+			Symbol<V> symbol = cells[index].symbol().orElse(null);
+			int ordinal = symbols.ordinalOf(symbol);
+			if (symbol != null && ordinal < 0)
+				throw new SudokuException("The Symbol (" + symbol + ") of " + cells[index] + " isn't one of the Symbols of the LatinSquare.");
+			values[index] = ordinal;
+		}
+		for (int index = 0; index < cells.length; index++) {
+			if (values[index] >= 0)
+				clearMask(index);
+			else
+				computeMask(index);
+		}
+	}
+
+	@Override
+	public CandidateGrid<V> copy() {
+		return new BitSetCandidateGrid<>(this);
+	}
+
+	@Override
+	public String toString() {
+		return "CandidateGrid{size=" + size + ", latinSquare=" + latinSquare.toXYV() + "}";
+	}
+
+	// ================================================
+	// PRIMITIVE ACCESSORS
+	// ================================================
+
+	/**
+	 * Returns the topology of the {@link LatinSquare} that this {@code CandidateGrid} is attached to.
+	 * 
+	 * @return the topology of the attached {@code LatinSquare}.
+	 */
+	GridTopology topology() {
+		return topology;
+	}
+
+	/**
+	 * Returns the index of the {@link Symbol}s of the attached {@link LatinSquare}.
+	 * 
+	 * @return the index of the {@code Symbol}s of the attached {@code LatinSquare}.
+	 */
+	SymbolIndex<V> symbolIndex() {
+		return symbols;
+	}
+
+	/**
+	 * Returns the number of {@code long} words used by the mask of each {@link Cell}.
+	 * 
+	 * @return the number of {@code long} words used by the mask of each {@code Cell}.
+	 */
+	int words() {
+		return words;
+	}
+
+	/**
+	 * Returns the {@link Cell} with the given index.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * 
+	 * @return the {@code Cell} with the given index.
+	 */
+	Cell<V> cellAt(int index) {
+		return cells[index];
+	}
+
+	/**
+	 * Returns the ordinal of the {@link Symbol} placed on the {@link Cell} with the given index or {@code -1} if the
+	 * {@code Cell} is empty, as last seen by this {@code CandidateGrid}.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * 
+	 * @return the ordinal of the {@code Symbol} placed on the {@code Cell} or {@code -1} if the {@code Cell} is empty.
+	 */
+	int valueAt(int index) {
+		return values[index];
+	}
+
+	/**
+	 * Returns the given word of the mask of the {@link Cell} with the given index.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * @param word the index of the word.
+	 * 
+	 * @return the given word of the mask of the {@code Cell}.
+	 */
+	long maskWord(int index, int word) {
+		return masks[index * words + word];
+	}
+
+	/**
+	 * Returns {@code true} if the {@link Symbol} with the given ordinal is a candidate of the {@link Cell} with the
+	 * given index.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * @param ordinal the ordinal of the {@code Symbol}.
+	 * 
+	 * @return {@code true} if the {@code Symbol} is a candidate of the {@code Cell}.
+	 */
+	boolean hasCandidate(int index, int ordinal) {
+		return (masks[index * words + (ordinal >>> 6)] & (1L << ordinal)) != 0L;
+	}
+
+	/**
+	 * Returns the number of candidates of the {@link Cell} with the given index.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * 
+	 * @return the number of candidates of the {@code Cell}.
+	 */
+	int candidateCount(int index) {
+		int count = 0, offset = index * words;
+		for (int word = 0; word < words; word++)
+			count += Long.bitCount(masks[offset + word]);
+		return count;
+	}
+
+	/**
+	 * Adds the {@link Symbol} with the given ordinal to the candidates of the {@link Cell} with the given index
+	 * if the {@code Cell} is empty.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * @param ordinal the ordinal of the {@code Symbol}.
+	 * 
+	 * @return {@code true} if the candidates of the {@code Cell} changed.
+	 */
+	boolean addCandidate(int index, int ordinal) {
+		if (values[index] >= 0 || hasCandidate(index, ordinal)) return false;
+		setBit(index, ordinal);
+		return true;
+	}
+
+	/**
+	 * Removes the {@link Symbol} with the given ordinal from the candidates of the {@link Cell} with the given index.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * @param ordinal the ordinal of the {@code Symbol}.
+	 * 
+	 * @return {@code true} if the candidates of the {@code Cell} changed.
+	 */
+	boolean removeCandidate(int index, int ordinal) {
+		int position = index * words + (ordinal >>> 6);
+		long bit = 1L << ordinal;
+		if ((masks[position] & bit) == 0L) return false;
+		masks[position] &= ~bit;
+		return true;
+	}
+
+	/**
+	 * Reconciles this {@code CandidateGrid} with the {@link Symbol}s currently placed on the {@link LatinSquare},
+	 * updating only the {@link Cell}s whose value changed since they were last seen. Unlike {@link #refresh()},
+	 * candidates removed through this {@code CandidateGrid} are preserved for the {@code Cell}s that are unaffected.
+	 * 
+	 * @return the number of {@code Cell}s whose value changed.
+	 * 
+	 * @throws SudokuException if any {@code Cell} holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 */
+	int synchronize() {
+		int changed = 0;
+		for (int index = 0; index < cells.length; index++) {
+			Symbol<V> symbol = cells[index].symbol().orElse(null);
+			int ordinal = symbols.ordinalOf(symbol);
+			if (symbol != null && ordinal < 0)
+				throw new SudokuException("The Symbol (" + symbol + ") of " + cells[index] + " isn't one of the Symbols of the LatinSquare.");
+			if (ordinal != values[index]) {
+				update(index, ordinal);
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns the row-major index of the given {@link Cell}, validating that it is part of the attached
+	 * {@link LatinSquare}.
+	 * 
+	 * @param cell the {@code Cell} whose index we want.
+	 * 
+	 * @return the row-major index of the given {@code Cell}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} isn't part of the attached {@code LatinSquare}.
+	 */
+	int indexOf(Cell<?> cell) {
+		requireNonNull(cell, "cell cannot be null.");
+		int x = cell.x(), y = cell.y();
+		if (x < size && y < size) {
+			Cell<V> candidate = cells[y * size + x];
+			if (candidate == cell || candidate.equals(cell))
+				return y * size + x;
+		}
+		throw new SudokuException("The given Cell (" + cell + ") isn't part of this CandidateGrid's LatinSquare.");
+	}
+
+	/**
+	 * Returns the ordinal of the given {@link Symbol}, validating that it is part of the attached {@link LatinSquare}.
+	 * 
+	 * @param symbol the {@code Symbol} whose ordinal we want.
+	 * 
+	 * @return the ordinal of the given {@code Symbol}.
+	 * 
+	 * @throws NullPointerException if {@code symbol} is {@code null}.
+	 * @throws SudokuException if the given {@code Symbol} isn't part of the attached {@code LatinSquare}.
+	 */
+	int ordinalOf(Symbol<?> symbol) {
+		int ordinal = symbols.ordinalOf(requireNonNull(symbol, "symbol cannot be null."));
+		if (ordinal < 0)
+			throw new SudokuException("The given Symbol (" + symbol + ") isn't one of the Symbols of this CandidateGrid's LatinSquare.");
+		return ordinal;
+	}
+
+	/**
+	 * Returns the row-major indices of the {@link Cell}s of the given {@link CellGroup}.
+	 * 
+	 * @param cellGroup the {@code CellGroup} whose {@code Cell} indices we want.
+	 * 
+	 * @return the row-major indices of the {@code Cell}s of the given {@code CellGroup}.
+	 */
+	int[] indicesOf(CellGroup<?> cellGroup) {
+		int[] indices = groupIndices.get(requireNonNull(cellGroup, "cellGroup cannot be null."));
+		if (indices != null) return indices;
+
+		indices = new int[cellGroup.cells().size()];
+		int position = 0;
+		for (Cell<?> cell : cellGroup.cells().values())
+			indices[position++] = indexOf(cell);
+		return indices;
+	}
+
+	/**
+	 * Returns the given index, first reconciling this {@code CandidateGrid} with the {@link LatinSquare} if the
+	 * {@link Cell} at that index or any of it's peers, on whose values it's candidates depend, was changed directly
+	 * on the {@code LatinSquare}.
+	 */
+	private int current(int index) {
+		if (hasChanged(index) || hasChangedPeer(index)) synchronize();
+		return index;
+	}
+
+	/**
+	 * Returns the given indices, first reconciling this {@code CandidateGrid} with the {@link LatinSquare} if any of
+	 * the {@link Cell}s at them was changed directly on the {@code LatinSquare}, see {@link #current(int)}.
+	 */
+	private int[] current(int[] indices) {
+		for (int index : indices) {
+			if (hasChanged(index) || hasChangedPeer(index)) {
+				synchronize();
+				break;
+			}
+		}
+		return indices;
+	}
+
+	private boolean hasChanged(int index) {
+		return symbols.ordinalOf(cells[index].symbol().orElse(null)) != values[index];
+	}
+
+	private boolean hasChangedPeer(int index) {
+		for (int peer : topology.peersOf(index))
+			if (hasChanged(peer)) return true;
+		return false;
+	}
+
+	private void update(int index, int newOrdinal) {
+		int oldOrdinal = values[index];
+		if (oldOrdinal == newOrdinal) return;
+
+		values[index] = newOrdinal;
+		if (newOrdinal >= 0) {
+			// the Cell is now filled, so it has no candidates and the Symbol is blocked on all it's peers
+			clearMask(index);
+			for (int peer : topology.peersOf(index))
+				removeCandidate(peer, newOrdinal);
+		} else {
+			computeMask(index);
+		}
+
+		// the removed Symbol might no longer be blocked on some of the peers
+		if (oldOrdinal >= 0)
+			for (int peer : topology.peersOf(index))
+				if (values[peer] < 0 && !isBlocked(peer, oldOrdinal))
+					setBit(peer, oldOrdinal);
+	}
+
+	private void setBit(int index, int ordinal) {
+		masks[index * words + (ordinal >>> 6)] |= 1L << ordinal;
+	}
+
+	private void clearMask(int index) {
+		int offset = index * words;
+		for (int word = 0; word < words; word++)
+			masks[offset + word] = 0L;
+	}
+
+	private void computeMask(int index) {
+		int offset = index * words;
+		for (int word = 0; word < words; word++)
+			masks[offset + word] = (word == words - 1)? lastWordMask : -1L;
+		for (int peer : topology.peersOf(index))
+			if (values[peer] >= 0)
+				masks[offset + (values[peer] >>> 6)] &= ~(1L << values[peer]);
+	}
+
+	private boolean isBlocked(int index, int ordinal) {
+		for (int peer : topology.peersOf(index))
+			if (values[peer] == ordinal) return true;
+		return false;
+	}
+
+	private long[] maskOf(Set<Symbol<V>> symbols) {
+		requireNonNull(symbols, "symbols cannot be null.");
+		long[] mask = new long[words];
+		for (Symbol<V> symbol : symbols) {
+			int ordinal = ordinalOf(symbol);
+			mask[ordinal >>> 6] |= 1L << ordinal;
+		}
+		return mask;
+	}
+
+	/**
+	 * An immutable {@link Set} of {@link Symbol}s backed by a snapshot of a candidate mask.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol}s in this {@code Set}.
+	 */
+	private static final class MaskSymbolSet<V> extends AbstractSet<Symbol<V>> {
+
+		private final long[] mask;
+		private final SymbolIndex<V> symbols;
+		private final int size;
+
+		MaskSymbolSet(long[] mask, SymbolIndex<V> symbols) {
+			this.mask = mask;
+			this.symbols = symbols;
+			int count = 0;
+			for (long word : mask)
+				count += Long.bitCount(word);
+			this.size = count;
+		}
+
+		@Override
+		public boolean contains(Object obj) {
+			if (!(obj instanceof Symbol)) return false;
+			int ordinal = symbols.ordinalOf((Symbol<?>) obj);
+			return ordinal >= 0 && (mask[ordinal >>> 6] & (1L << ordinal)) != 0L && symbols.symbol(ordinal).equals(obj);
+		}
+
+		@Override
+		public Iterator<Symbol<V>> iterator() {
+			return new Iterator<Symbol<V>>() {
+
+				private int word = 0;
+				private long remaining = (mask.length > 0)? mask[0] : 0L;
+
+				@Override
+				public boolean hasNext() {
+					while (remaining == 0L && word < mask.length - 1)
+						remaining = mask[++word];
+					return remaining != 0L;
+				}
+
+				@Override
+				public Symbol<V> next() {
+					if (!hasNext()) throw new NoSuchElementException();
+					int ordinal = (word << 6) + Long.numberOfTrailingZeros(remaining);
+					remaining &= remaining - 1;
+					return symbols.symbol(ordinal);
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
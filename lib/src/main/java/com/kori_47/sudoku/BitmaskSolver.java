@@ -0,0 +1,448 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This is a backtracking solver that works on the primitive representation of a {@link LatinSquare}. Each
+ * {@link Cell} is represented by the ordinal of it's {@link Symbol} <i>(or {@code -1} if empty)</i> and each unit
+ * of the {@link GridTopology} by a {@code long} mask of the {@code Symbol}s already placed in it, so that the
+ * candidates of a {@code Cell} are the complement of the union of the masks of it's units. The search always
+ * branches on the empty {@code Cell} with the fewest candidates, unless a unit has a {@code Symbol} that fits in
+ * only one of it's {@code Cell}s in which case that {@code Symbol} is placed first.
+ * 
+ * <p>
+ * {@code LatinSquare}s with rules beyond the uniqueness of their {@code Symbol}s implement
+ * {@link SolverConstraint.Source}, the candidates of every {@code Cell} are then further restricted by the returned
+ * {@link SolverConstraint}s, which are kept up to date on every placement. The board of a {@link MultiGridSudoku}
+ * is searched as a single grid made up of the units of all it's grids.
+ * 
+ * <p>
+ * A {@link FailedStateCache} can be attached to the solver, the search then keeps a Zobrist hash of the current
+ * values, the exclusive or of a fixed random key for every placed ordinal, and skips the values whose hash is
+ * cached, caching the hash of every branching node whose subtree turned out to have no solution. Since the hash
+ * covers all the values, clues included, a dead end found while checking one puzzle is recognised in any other
+ * puzzle with the same units that reaches the same values. Puzzles with extra rules only share dead ends with
+ * themselves, the cache forgets it's hashes whenever the units or the source of the rules change.
+ * 
+ * <p>
+ * A {@code BitmaskSolver} supports {@code LatinSquare}s of up to {@code 64} {@code Symbol}s. The search checks
+ * periodically whether the current thread has been interrupted or the deadline of the solver has passed and if so,
+ * aborts by throwing a {@link CancellationException}. A {@code BitmaskSolver} is <i>not thread safe</i>.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s of the solved {@code LatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 12:31:50
+ * 
+ * @see Solvers
+ */
+final class BitmaskSolver<V> {
+
+	/**
+	 * the largest number of symbols supported by this solver.
+	 */
+	static final int MAX_SIZE = 64;
+
+	/**
+	 * the number of search nodes between two checks of the interrupt status and the deadline.
+	 */
+	private static final int CHECK_INTERVAL = 1 << 10;
+
+	/**
+	 * returned by {@link #hiddenSingle()} when no unit has a hidden single.
+	 */
+	private static final int NONE = -1;
+
+	/**
+	 * returned by {@link #hiddenSingle()} when a unit can't be completed.
+	 */
+	private static final int DEAD_END = -2;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final LatinSquare<V> latinSquare;
+	private final GridTopology topology;
+	private final SymbolIndex<V> symbols;
+	private final Cell<V>[] cells;
+	private final long fullMask;
+	private final long deadline;
+	private final SolverConstraint[] constraints;
+
+	// ================================================
+	// SEARCH STATE
+	// ================================================
+	private final int[] values;
+	private final long[] used;
+	private final int[] empties;
+	private int emptyCount;
+	private int[] solution;
+	private Random random;
+	private long nodes;
+	private ClockFailedStateCache cache;
+	private long hash;
+
+	/**
+	 * Creates a new {@code BitmaskSolver} for the given {@link LatinSquare} whose search aborts once
+	 * {@link System#nanoTime()} passes the given deadline.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to solve.
+	 * @param deadline the value of {@code System.nanoTime()} after which the search is aborted. Use
+	 * {@link Long#MAX_VALUE} for no deadline.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@link Symbol}s.
+	 */
+	BitmaskSolver(LatinSquare<V> latinSquare, long deadline) {
+		this(requireSupported(latinSquare), GridTopology.of(latinSquare), cellsOf(latinSquare), latinSquare.symbols(), deadline);
+	}
+
+	/**
+	 * Creates a new {@code BitmaskSolver} for the whole board of the given {@link MultiGridSudoku}, i.e with the
+	 * units of all it's grids, whose search aborts once {@link System#nanoTime()} passes the given deadline.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code MultiGridSudoku}.
+	 * 
+	 * @param multiGridSudoku the {@code MultiGridSudoku} to solve.
+	 * @param deadline the value of {@code System.nanoTime()} after which the search is aborted. Use
+	 * {@link Long#MAX_VALUE} for no deadline.
+	 * 
+	 * @return a new {@code BitmaskSolver} for the given {@code MultiGridSudoku}.
+	 * 
+	 * @throws NullPointerException if {@code multiGridSudoku} is {@code null}.
+	 * @throws SudokuException if the grids of the given {@code MultiGridSudoku} have more than {@code 64}
+	 * {@link Symbol}s.
+	 */
+	static <V> BitmaskSolver<V> of(MultiGridSudoku<V> multiGridSudoku, long deadline) {
+		final MultiGridLayout layout = MultiGridLayout.of(requireNonNull(multiGridSudoku, "multiGridSudoku cannot be null."));
+		requireSupported(layout.topology().size());
+		return new BitmaskSolver<V>(null, layout.topology(), layout.cellsOf(multiGridSudoku.grids()), multiGridSudoku.symbols(), deadline);
+	}
+
+	private BitmaskSolver(LatinSquare<V> latinSquare, GridTopology topology, Cell<V>[] cells, Map<Integer, Symbol<V>> symbols, long deadline) {
+		// null when solving the board of a MultiGridSudoku, whose cells are then changed directly
+		this.latinSquare = latinSquare;
+		this.topology = topology;
+		this.symbols = new SymbolIndex<>(symbols);
+		this.fullMask = (this.symbols.size() == 64)? -1L : (1L << this.symbols.size()) - 1;
+		this.deadline = deadline;
+		this.constraints = (latinSquare instanceof SolverConstraint.Source)
+				? ((SolverConstraint.Source) latinSquare).solverConstraints(this.symbols).toArray(new SolverConstraint[0])
+				: new SolverConstraint[0];
+		this.cells = cells;
+		this.values = new int[topology.cellCount()];
+		this.used = new long[topology.unitCount()];
+		this.empties = new int[topology.cellCount()];
+		load();
+	}
+
+	/**
+	 * Re-reads the {@link Symbol}s placed on the {@link LatinSquare}.
+	 * 
+	 * @throws SudokuException if any {@code Cell} holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 */
+	void load() {
+		for (int index = 0; index < cells.length; index++) {
+			Symbol<V> symbol = cells[index].symbol().orElse(null);
+			int ordinal = symbols.ordinalOf(symbol);
+			if (symbol != null && ordinal < 0)
+				throw new SudokuException("The Symbol (" + symbol + ") of " + cells[index] + " isn't one of the Symbols of the LatinSquare.");
+			values[index] = ordinal;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if no unit of the {@link LatinSquare} holds the same {@link Symbol} twice.
+	 * 
+	 * @return {@code true} if the placed {@code Symbol}s don't conflict, {@code false} otherwise.
+	 */
+	boolean isConsistent() {
+		for (int unit = 0; unit < topology.unitCount(); unit++) {
+			long mask = 0L;
+			for (int index : topology.unit(unit)) {
+				if (values[index] < 0) continue;
+				long bit = 1L << values[index];
+				if ((mask & bit) != 0L) return false;
+				mask |= bit;
+			}
+		}
+		for (SolverConstraint constraint : constraints)
+			if (!constraint.isConsistent(values)) return false;
+		return true;
+	}
+
+	/**
+	 * Searches for up to {@code limit} solutions of the current values. The current values are left untouched and
+	 * the first solution found, if any, is copied to {@code solution}.
+	 * 
+	 * @param limit the number of solutions after which to stop searching.
+	 * @param solution the array to copy the first solution to. Maybe {@code null}.
+	 * @param random the source of randomness used to order the candidates of each {@code Cell}. Maybe {@code null}
+	 * in which case candidates are tried in ordinal order.
+	 * 
+	 * @return the number of solutions found, at most {@code limit}.
+	 * 
+	 * @throws CancellationException if the current thread is interrupted or the deadline passes during the search.
+	 */
+	int search(int limit, int[] solution, Random random) {
+		checkLimits();
+		if (!isConsistent()) return 0;
+
+		Arrays.fill(used, 0L);
+		emptyCount = 0;
+		for (int index = 0; index < values.length; index++) {
+			if (values[index] < 0) {
+				empties[emptyCount++] = index;
+				continue;
+			}
+			for (int unit : topology.unitsOf(index))
+				used[unit] |= 1L << values[index];
+		}
+		for (SolverConstraint constraint : constraints)
+			constraint.reset(values);
+		if (cache != null) {
+			cache.useFor(topology, (constraints.length > 0)? latinSquare : null);
+			hash = 0L;
+			for (int index = 0; index < values.length; index++)
+				if (values[index] >= 0) hash ^= keyOf(index, values[index]);
+		}
+		this.solution = solution;
+		this.random = random;
+		try {
+			return search(0, limit);
+		} finally {
+			this.solution = null;
+			this.random = null;
+		}
+	}
+
+	/**
+	 * Attaches the given {@link FailedStateCache} to this solver, or detaches the current one if {@code null}. The
+	 * cache is used by all the following searches.
+	 * 
+	 * @param cache the cache to look up and record failed values in. Maybe {@code null}.
+	 */
+	void useCache(ClockFailedStateCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Returns the current values of the solver, i.e the ordinal of the {@link Symbol} of each {@link Cell} in
+	 * row-major order or {@code -1} for empty {@code Cell}s. The returned array is the live state of this solver.
+	 * 
+	 * @return the current values of this solver.
+	 */
+	int[] values() {
+		return values;
+	}
+
+	/**
+	 * Returns the number of search nodes visited by all the searches of this solver.
+	 * 
+	 * @return the number of search nodes of this solver.
+	 */
+	long nodes() {
+		return nodes;
+	}
+
+	/**
+	 * Places the given values on the {@link LatinSquare}, clearing the {@link Cell}s whose value is {@code -1}.
+	 * 
+	 * @param values the ordinals to place in row-major order.
+	 */
+	void store(int[] values) {
+		for (int index = 0; index < cells.length; index++) {
+			final Symbol<V> symbol = (values[index] < 0)? null : symbols.symbol(values[index]);
+			if (latinSquare != null) latinSquare.changeSymbol(cells[index], symbol);
+			else cells[index].changeSymbol(symbol);
+		}
+	}
+
+	private int search(int depth, int limit) {
+		if (depth == emptyCount) {
+			if (solution != null)
+				System.arraycopy(values, 0, solution, 0, values.length);
+			solution = null;
+			return 1;
+		}
+		if ((++nodes & (CHECK_INTERVAL - 1)) == 0)
+			checkLimits();
+
+		// branch on the empty cell with the fewest candidates
+		int bestPosition = -1, bestCount = Integer.MAX_VALUE;
+		long bestMask = 0L;
+		for (int position = depth; position < emptyCount; position++) {
+			long mask = candidates(empties[position]);
+			int count = Long.bitCount(mask);
+			if (count < bestCount) {
+				bestPosition = position;
+				bestCount = count;
+				bestMask = mask;
+				if (count <= 1) break;
+			}
+		}
+		if (bestCount == 0) return 0;
+
+		// a symbol that fits in a single cell of a unit must go there, this keeps large grids from thrashing
+		if (bestCount > 1) {
+			int hiddenSingle = hiddenSingle();
+			if (hiddenSingle == DEAD_END) return 0;
+			if (hiddenSingle != NONE) {
+				int hiddenCell = hiddenSingle / MAX_SIZE;
+				bestPosition = depth;
+				while (empties[bestPosition] != hiddenCell) bestPosition++;
+				bestCount = 1;
+				bestMask = 1L << (hiddenSingle % MAX_SIZE);
+			}
+		}
+
+		// only the values that need a guess are worth caching, forced moves are cheaper to redo than to look up
+		final boolean cached = cache != null && bestCount > 1;
+		if (cached && cache.contains(hash)) return 0;
+
+		int cell = empties[bestPosition];
+		empties[bestPosition] = empties[depth];
+		empties[depth] = cell;
+
+		int found = 0;
+		int[] order = (random != null && bestCount > 1)? shuffledOrdinals(bestMask, bestCount) : null;
+		for (int branch = 0; branch < bestCount && found < limit; branch++) {
+			int ordinal;
+			if (order != null) {
+				ordinal = order[branch];
+			} else {
+				ordinal = Long.numberOfTrailingZeros(bestMask);
+				bestMask &= bestMask - 1;
+			}
+			place(cell, ordinal);
+			found += search(depth + 1, limit - found);
+			unplace(cell, ordinal);
+		}
+
+		empties[depth] = empties[bestPosition];
+		empties[bestPosition] = cell;
+		// every branch was searched, so these values can't be completed
+		if (found == 0 && cached) cache.add(hash);
+		return found;
+	}
+
+	/**
+	 * Looks for a unit that must hold all the symbols and in which a missing symbol fits in a single empty cell.
+	 * 
+	 * @return {@code cell * MAX_SIZE + ordinal} for the first such cell and symbol, {@link #DEAD_END} if a missing
+	 * symbol of a unit fits in none of it's empty cells or {@link #NONE} otherwise.
+	 */
+	private int hiddenSingle() {
+		for (int unit = 0; unit < used.length; unit++) {
+			int[] unitCells = topology.unit(unit);
+			long missing = ~used[unit] & fullMask;
+			// only units with a cell for every symbol must hold all of them
+			if (missing == 0L || unitCells.length != symbols.size()) continue;
+			long once = 0L, twice = 0L;
+			for (int index : unitCells) {
+				if (values[index] >= 0) continue;
+				long mask = candidates(index);
+				twice |= once & mask;
+				once |= mask;
+			}
+			if ((once & missing) != missing) return DEAD_END;
+			long singles = once & ~twice & missing;
+			if (singles != 0L) {
+				long bit = Long.lowestOneBit(singles);
+				for (int index : unitCells)
+					if (values[index] < 0 && (candidates(index) & bit) != 0L)
+						return index * MAX_SIZE + Long.numberOfTrailingZeros(bit);
+			}
+		}
+		return NONE;
+	}
+
+	private long candidates(int index) {
+		long mask = 0L;
+		for (int unit : topology.unitsOf(index))
+			mask |= used[unit];
+		mask = ~mask & fullMask;
+		for (SolverConstraint constraint : constraints)
+			mask &= constraint.candidates(index);
+		return mask;
+	}
+
+	private void place(int index, int ordinal) {
+		values[index] = ordinal;
+		hash ^= keyOf(index, ordinal);
+		for (int unit : topology.unitsOf(index))
+			used[unit] |= 1L << ordinal;
+		for (SolverConstraint constraint : constraints)
+			constraint.place(index, ordinal);
+	}
+
+	private void unplace(int index, int ordinal) {
+		values[index] = -1;
+		hash ^= keyOf(index, ordinal);
+		for (int unit : topology.unitsOf(index))
+			used[unit] &= ~(1L << ordinal);
+		for (SolverConstraint constraint : constraints)
+			constraint.unplace(index, ordinal);
+	}
+
+	/**
+	 * Returns the Zobrist key of the given ordinal on the given cell. The keys are derived from the cell and the
+	 * ordinal alone, so that every solver, and therefore every search sharing a {@link FailedStateCache}, agrees on
+	 * them.
+	 */
+	private static long keyOf(int index, int ordinal) {
+		// the finalizer of SplitMix64, which turns consecutive inputs into independent looking outputs
+		long key = (index * (long) MAX_SIZE + ordinal + 1) * 0x9E3779B97F4A7C15L;
+		key = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L;
+		key = (key ^ (key >>> 27)) * 0x94D049BB133111EBL;
+		return key ^ (key >>> 31);
+	}
+
+	private int[] shuffledOrdinals(long mask, int count) {
+		int[] order = new int[count];
+		for (int position = 0; position < count; position++) {
+			order[position] = Long.numberOfTrailingZeros(mask);
+			mask &= mask - 1;
+		}
+		for (int position = count - 1; position > 0; position--) {
+			int other = random.nextInt(position + 1), swap = order[position];
+			order[position] = order[other];
+			order[other] = swap;
+		}
+		return order;
+	}
+
+	private static <V> LatinSquare<V> requireSupported(LatinSquare<V> latinSquare) {
+		requireSupported(requireNonNull(latinSquare, "latinSquare cannot be null.").size());
+		return latinSquare;
+	}
+
+	private static void requireSupported(int size) {
+		if (size > MAX_SIZE)
+			throw new SudokuException("Only LatinSquares of up to " + MAX_SIZE + " symbols can be solved, size: " + size + ".");
+	}
+
+	private static <V> Cell<V>[] cellsOf(LatinSquare<V> latinSquare) {
+		final int size = latinSquare.size();
+		final Cell<V>[] cells = GridArrays.newArray(Cell.class, size * size);
+		for (Cell<V> cell : latinSquare.cells().values())
+			cells[GridTopology.indexOf(cell, size)] = cell;
+		return cells;
+	}
+
+	private void checkLimits() {
+		if (Thread.currentThread().isInterrupted())
+			throw new CancellationException("The search was interrupted.");
+		if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0)
+			throw new CancellationException("The search deadline has passed.");
+	}
+}
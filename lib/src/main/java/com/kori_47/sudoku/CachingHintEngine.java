@@ -0,0 +1,273 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.kori_47.sudoku.Hint.Technique;
+
+/**
+ * This is a {@link HintEngine} that caches the candidates of the last {@link Sudoku} it was queried with in a
+ * {@link BitSetCandidateGrid}. On each call, only the {@link Cell}s whose value changed since the previous call are
+ * reconciled and the techniques are then tried in order of difficulty directly on the primitive candidate masks,
+ * so a repeated query on the same {@code Sudoku} costs a single pass over the grid in the common case.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s of the {@code Sudoku}s supported by this
+ * {@code HintEngine}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 11:37:29
+ */
+final class CachingHintEngine<V> implements HintEngine<V> {
+
+	private Sudoku<V> sudoku;
+	private BitSetCandidateGrid<V> grid;
+
+	// ================================================
+	// PER UNIT SCRATCH SPACE, INDEXED BY SYMBOL ORDINAL
+	// ================================================
+	private int[] counts;
+	private int[] firsts;
+	private int[] seconds;
+
+	@Override
+	public Optional<Hint<V>> nextHint(Sudoku<V> sudoku) {
+		requireNonNull(sudoku, "sudoku cannot be null.");
+		if (this.sudoku != sudoku || grid == null) {
+			grid = new BitSetCandidateGrid<>(sudoku);
+			this.sudoku = sudoku;
+			int symbolCount = grid.symbolIndex().size();
+			counts = new int[symbolCount];
+			firsts = new int[symbolCount];
+			seconds = new int[symbolCount];
+		} else {
+			grid.synchronize();
+		}
+
+		Hint<V> hint = findHint();
+		// remember eliminations so that the next call moves on to the next step
+		if (hint != null && !hint.technique().isPlacement())
+			for (Map.Entry<Cell<V>, Set<Symbol<V>>> elimination : hint.eliminations().entrySet())
+				for (Symbol<V> symbol : elimination.getValue())
+					grid.removeCandidate(elimination.getKey(), symbol);
+		return Optional.ofNullable(hint);
+	}
+
+	@Override
+	public void reset() {
+		sudoku = null;
+		grid = null;
+	}
+
+	private Hint<V> findHint() {
+		final int cellCount = grid.topology().cellCount();
+		int single = -1;
+		for (int index = 0; index < cellCount; index++) {
+			if (grid.valueAt(index) >= 0) continue;
+			int count = grid.candidateCount(index);
+			// an empty cell without candidates means the position is contradictory, nothing logical to suggest
+			if (count == 0) return null;
+			if (count == 1 && single < 0) single = index;
+		}
+		if (single >= 0)
+			return placement(Technique.NAKED_SINGLE, single, nextCandidate(single, 0));
+
+		Hint<V> hint = hiddenSingle();
+		if (hint == null) hint = lockedCandidates(Technique.POINTING);
+		if (hint == null) hint = lockedCandidates(Technique.CLAIMING);
+		if (hint == null) hint = nakedPair();
+		if (hint == null) hint = hiddenPair();
+		return hint;
+	}
+
+	private Hint<V> hiddenSingle() {
+		final GridTopology topology = grid.topology();
+		for (int unit = 0; unit < topology.unitCount(); unit++) {
+			countCandidates(topology.unit(unit));
+			for (int ordinal = 0; ordinal < counts.length; ordinal++)
+				if (counts[ordinal] == 1)
+					return placement(Technique.HIDDEN_SINGLE, firsts[ordinal], ordinal);
+		}
+		return null;
+	}
+
+	/*
+	 * POINTING looks at the blocks and eliminates from the intersecting rows and columns, CLAIMING does the opposite.
+	 * The first 2 * size units of the topology are the rows and columns, the rest are the blocks and extra regions.
+	 */
+	private Hint<V> lockedCandidates(Technique technique) {
+		final GridTopology topology = grid.topology();
+		final int lines = 2 * topology.size();
+		final boolean pointing = technique == Technique.POINTING;
+		for (int unit = pointing? lines : 0; unit < (pointing? topology.unitCount() : lines); unit++) {
+			int[] cells = topology.unit(unit);
+			countCandidates(cells);
+			for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+				if (counts[ordinal] < 2) continue;
+				for (int other : topology.unitsOf(firsts[ordinal])) {
+					if (other == unit || (other < lines) != pointing) continue;
+					if (!allCandidatesIn(cells, ordinal, other)) continue;
+
+					Map<Cell<V>, Set<Symbol<V>>> eliminations = new LinkedHashMap<>();
+					for (int index : topology.unit(other))
+						if (grid.hasCandidate(index, ordinal) && !contains(topology.unitsOf(index), unit))
+							eliminations.put(grid.cellAt(index), Collections.singleton(symbol(ordinal)));
+					if (eliminations.isEmpty()) continue;
+
+					Set<Cell<V>> sources = new LinkedHashSet<>();
+					for (int index : cells)
+						if (grid.hasCandidate(index, ordinal))
+							sources.add(grid.cellAt(index));
+					return Hints.hintOf(technique, sources, Collections.singleton(symbol(ordinal)), eliminations);
+				}
+			}
+		}
+		return null;
+	}
+
+	private Hint<V> nakedPair() {
+		final GridTopology topology = grid.topology();
+		for (int unit = 0; unit < topology.unitCount(); unit++) {
+			int[] cells = topology.unit(unit);
+			for (int i = 0; i < cells.length; i++) {
+				int first = cells[i];
+				if (grid.valueAt(first) >= 0 || grid.candidateCount(first) != 2) continue;
+				for (int j = i + 1; j < cells.length; j++) {
+					int second = cells[j];
+					if (grid.valueAt(second) >= 0 || !sameCandidates(first, second)) continue;
+
+					int a = nextCandidate(first, 0), b = nextCandidate(first, a + 1);
+					Map<Cell<V>, Set<Symbol<V>>> eliminations = new LinkedHashMap<>();
+					for (int index : cells) {
+						if (index == first || index == second) continue;
+						Set<Symbol<V>> eliminated = new LinkedHashSet<>();
+						if (grid.hasCandidate(index, a)) eliminated.add(symbol(a));
+						if (grid.hasCandidate(index, b)) eliminated.add(symbol(b));
+						if (!eliminated.isEmpty()) eliminations.put(grid.cellAt(index), eliminated);
+					}
+					if (!eliminations.isEmpty())
+						return Hints.hintOf(Technique.NAKED_PAIR, pairOf(first, second), pairOfSymbols(a, b), eliminations);
+				}
+			}
+		}
+		return null;
+	}
+
+	private Hint<V> hiddenPair() {
+		final GridTopology topology = grid.topology();
+		for (int unit = 0; unit < topology.unitCount(); unit++) {
+			countCandidates(topology.unit(unit));
+			for (int a = 0; a < counts.length; a++) {
+				if (counts[a] != 2) continue;
+				for (int b = a + 1; b < counts.length; b++) {
+					if (counts[b] != 2 || firsts[a] != firsts[b] || seconds[a] != seconds[b]) continue;
+
+					Map<Cell<V>, Set<Symbol<V>>> eliminations = new LinkedHashMap<>();
+					for (int index : new int[] { firsts[a], seconds[a] }) {
+						Set<Symbol<V>> eliminated = new LinkedHashSet<>();
+						for (int ordinal = nextCandidate(index, 0); ordinal >= 0; ordinal = nextCandidate(index, ordinal + 1))
+							if (ordinal != a && ordinal != b) eliminated.add(symbol(ordinal));
+						if (!eliminated.isEmpty()) eliminations.put(grid.cellAt(index), eliminated);
+					}
+					if (!eliminations.isEmpty())
+						return Hints.hintOf(Technique.HIDDEN_PAIR, pairOf(firsts[a], seconds[a]), pairOfSymbols(a, b), eliminations);
+				}
+			}
+		}
+		return null;
+	}
+
+	// ================================================
+	// HELPERS
+	// ================================================
+
+	/*
+	 * For the given unit, records how many empty cells have each symbol as a candidate and the first two such cells.
+	 */
+	private void countCandidates(int[] cells) {
+		Arrays.fill(counts, 0);
+		final int words = grid.words();
+		for (int index : cells) {
+			if (grid.valueAt(index) >= 0) continue;
+			for (int word = 0; word < words; word++) {
+				long bits = grid.maskWord(index, word);
+				while (bits != 0L) {
+					int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+					bits &= bits - 1;
+					if (counts[ordinal] == 0) firsts[ordinal] = index;
+					else if (counts[ordinal] == 1) seconds[ordinal] = index;
+					counts[ordinal]++;
+				}
+			}
+		}
+	}
+
+	private boolean allCandidatesIn(int[] cells, int ordinal, int unit) {
+		for (int index : cells)
+			if (grid.hasCandidate(index, ordinal) && !contains(grid.topology().unitsOf(index), unit))
+				return false;
+		return true;
+	}
+
+	private boolean sameCandidates(int first, int second) {
+		for (int word = 0; word < grid.words(); word++)
+			if (grid.maskWord(first, word) != grid.maskWord(second, word))
+				return false;
+		return true;
+	}
+
+	/*
+	 * Returns the smallest candidate ordinal of the given cell that is greater than or equal to from, or -1.
+	 */
+	private int nextCandidate(int index, int from) {
+		for (int word = from >>> 6; word < grid.words(); word++) {
+			long bits = grid.maskWord(index, word);
+			if (word == from >>> 6) bits &= -1L << from;
+			if (bits != 0L) return (word << 6) + Long.numberOfTrailingZeros(bits);
+		}
+		return -1;
+	}
+
+	private Hint<V> placement(Technique technique, int index, int ordinal) {
+		Map<Cell<V>, Set<Symbol<V>>> eliminations = new LinkedHashMap<>();
+		Set<Symbol<V>> eliminated = new LinkedHashSet<>();
+		for (int other = nextCandidate(index, 0); other >= 0; other = nextCandidate(index, other + 1))
+			if (other != ordinal) eliminated.add(symbol(other));
+		if (!eliminated.isEmpty()) eliminations.put(grid.cellAt(index), eliminated);
+		return Hints.hintOf(technique, Collections.singleton(grid.cellAt(index)), Collections.singleton(symbol(ordinal)), eliminations);
+	}
+
+	private Set<Cell<V>> pairOf(int first, int second) {
+		Set<Cell<V>> cells = new LinkedHashSet<>();
+		cells.add(grid.cellAt(first));
+		cells.add(grid.cellAt(second));
+		return cells;
+	}
+
+	private Set<Symbol<V>> pairOfSymbols(int a, int b) {
+		Set<Symbol<V>> symbols = new LinkedHashSet<>();
+		symbols.add(symbol(a));
+		symbols.add(symbol(b));
+		return symbols;
+	}
+
+	private Symbol<V> symbol(int ordinal) {
+		return grid.symbolIndex().symbol(ordinal);
+	}
+
+	private static boolean contains(int[] values, int value) {
+		for (int element : values)
+			if (element == value) return true;
+		return false;
+	}
+}
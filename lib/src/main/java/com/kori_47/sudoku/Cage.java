@@ -0,0 +1,49 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A {@code Cage} is a group of {@link Cell}s of a {@link KillerSudoku} whose values must be distinct and add up to
+ * the {@link #sum() sum} of the {@code Cage}. Unlike a {@link CellGroup}, a {@code Cage} usually holds fewer
+ * {@code Cell}s than the size of it's {@code KillerSudoku}, so it refers to it's {@code Cell}s by their
+ * {@link LatinSquare#indexOf(Cell) row-major indices}. {@code Cage}s are immutable and are shared by a
+ * {@code KillerSudoku} and it's {@link KillerSudoku#copy() copies}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 23:38:12
+ * 
+ * @see KillerSudoku
+ */
+public interface Cage {
+
+	/**
+	 * Returns the identifier of this {@code Cage}.
+	 * 
+	 * @return the identifier of this {@code Cage}.
+	 */
+	String id();
+
+	/**
+	 * Returns the sum of the values of the {@link Cell}s in this {@code Cage} when they are all filled.
+	 * 
+	 * @return the sum of this {@code Cage}.
+	 */
+	int sum();
+
+	/**
+	 * Returns the number of {@link Cell}s in this {@code Cage}.
+	 * 
+	 * @return the number of {@code Cell}s in this {@code Cage}.
+	 */
+	int size();
+
+	/**
+	 * Returns the row-major indices of the {@link Cell}s in this {@code Cage} in ascending order. The returned array
+	 * is a copy and can be freely modified.
+	 * 
+	 * @return the row-major indices of the {@code Cell}s in this {@code Cage}.
+	 */
+	int[] cellIndices();
+}
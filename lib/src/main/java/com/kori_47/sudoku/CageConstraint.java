@@ -0,0 +1,108 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+
+/**
+ * This is the {@link SolverConstraint} of the {@link Cage}s of a {@link KillerSudoku}. For every {@code Cage} it
+ * keeps the sum still missing, the number of empty {@link Cell}s and a mask of the digits already placed, so that
+ * the candidates of a {@code Cell} are a single lookup in the {@link CageSums} table and every placement is a
+ * constant time update.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 23:58:19
+ */
+final class CageConstraint implements SolverConstraint {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final CageSums sums;
+	private final int[] cageOfCell;
+	private final int[] cageSums;
+	private final int[] cageSizes;
+
+	// ================================================
+	// SEARCH STATE
+	// ================================================
+	private final int[] missingSums;
+	private final int[] emptyCells;
+	private final long[] placedDigits;
+
+	/**
+	 * Creates a new {@code CageConstraint}.
+	 * 
+	 * @param sums the {@code CageSums} table of the size of the {@code KillerSudoku}.
+	 * @param cageOfCell the position of the {@code Cage} of each {@code Cell} in row-major order, {@code -1} for
+	 * {@code Cell}s in no {@code Cage}. The array is not copied.
+	 * @param cageSums the sum of each {@code Cage} by position.
+	 */
+	CageConstraint(CageSums sums, int[] cageOfCell, int[] cageSums) {
+		this.sums = sums;
+		this.cageOfCell = cageOfCell;
+		this.cageSums = cageSums;
+		this.cageSizes = new int[cageSums.length];
+		for (int cage : cageOfCell)
+			if (cage >= 0) cageSizes[cage]++;
+		this.missingSums = new int[cageSums.length];
+		this.emptyCells = new int[cageSums.length];
+		this.placedDigits = new long[cageSums.length];
+	}
+
+	@Override
+	public void reset(int[] values) {
+		System.arraycopy(cageSums, 0, missingSums, 0, cageSums.length);
+		System.arraycopy(cageSizes, 0, emptyCells, 0, cageSizes.length);
+		Arrays.fill(placedDigits, 0L);
+		for (int cell = 0; cell < values.length; cell++)
+			if (values[cell] >= 0 && cageOfCell[cell] >= 0)
+				place(cell, values[cell]);
+	}
+
+	@Override
+	public boolean isConsistent(int[] values) {
+		System.arraycopy(cageSums, 0, missingSums, 0, cageSums.length);
+		System.arraycopy(cageSizes, 0, emptyCells, 0, cageSizes.length);
+		Arrays.fill(placedDigits, 0L);
+		for (int cell = 0; cell < values.length; cell++) {
+			final int cage = cageOfCell[cell];
+			if (values[cell] < 0 || cage < 0) continue;
+			// a digit can't appear twice in a cage
+			if ((placedDigits[cage] & (1L << values[cell])) != 0L) return false;
+			place(cell, values[cell]);
+		}
+		for (int cage = 0; cage < cageSums.length; cage++)
+			if (!sums.isFeasible(emptyCells[cage], missingSums[cage]))
+				return false;
+		return true;
+	}
+
+	@Override
+	public long candidates(int cell) {
+		final int cage = cageOfCell[cell];
+		if (cage < 0) return -1L;
+		return sums.mask(emptyCells[cage], missingSums[cage]) & ~placedDigits[cage];
+	}
+
+	@Override
+	public void place(int cell, int ordinal) {
+		final int cage = cageOfCell[cell];
+		if (cage < 0) return;
+		// the ordinal of the number symbol d is d - 1
+		missingSums[cage] -= ordinal + 1;
+		emptyCells[cage]--;
+		placedDigits[cage] |= 1L << ordinal;
+	}
+
+	@Override
+	public void unplace(int cell, int ordinal) {
+		final int cage = cageOfCell[cell];
+		if (cage < 0) return;
+		missingSums[cage] += ordinal + 1;
+		emptyCells[cage]++;
+		placedDigits[cage] &= ~(1L << ordinal);
+	}
+}
@@ -0,0 +1,180 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This holds the {@link Cage}s of a {@link KillerSudoku} together with a table of the {@code Cage} of every
+ * {@link Cell}, so that finding the {@code Cage} of a {@code Cell} is a single array access. A {@code CageLayout}
+ * is immutable and is shared by a {@code KillerSudoku} and it's copies.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 23:52:40
+ */
+final class CageLayout {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final SimpleCage[] cages;
+	// the position of the cage of each cell in row-major order, -1 for cells in no cage
+	private final int[] cageOfCell;
+	private final Map<String, Cage> cagesView;
+
+	/**
+	 * Creates a new {@code CageLayout}.
+	 * 
+	 * @param size the size of the {@code KillerSudoku}.
+	 * @param cageIds the position of the {@code Cage} of each {@code Cell} in row-major order, {@code -1} for
+	 * {@code Cell}s in no {@code Cage}.
+	 * @param cageSums the sum of each {@code Cage} by position.
+	 * 
+	 * @throws NullPointerException if {@code cageIds} or {@code cageSums} is {@code null}.
+	 * @throws IllegalArgumentException if the layout is invalid, see
+	 * {@link LatinSquares#killerSudokuOf(Sudoku.SudokuVariant, int[], int[])}.
+	 */
+	CageLayout(int size, int[] cageIds, int[] cageSums) {
+		requireNonNull(cageIds, "cageIds cannot be null.");
+		requireNonNull(cageSums, "cageSums cannot be null.");
+		if (size > BitmaskSolver.MAX_SIZE)
+			throw new IllegalArgumentException("Only KillerSudokus of up to " + BitmaskSolver.MAX_SIZE + " symbols are supported, size: " + size + ".");
+		if (cageIds.length != size * size)
+			throw new IllegalArgumentException("cageIds must have exactly " + size * size + " elements, found " + cageIds.length + ".");
+
+		final int[] cageSizes = new int[cageSums.length];
+		for (int index = 0; index < cageIds.length; index++) {
+			if (cageIds[index] < -1 || cageIds[index] >= cageSums.length)
+				throw new IllegalArgumentException("The cage id (" + cageIds[index] + ") at index " + index + " must be -1 or less than " + cageSums.length + ".");
+			if (cageIds[index] >= 0) cageSizes[cageIds[index]]++;
+		}
+
+		final CageSums sums = CageSums.of(size);
+		final int[][] cageCells = new int[cageSums.length][];
+		for (int cage = 0; cage < cageSums.length; cage++) {
+			if (cageSizes[cage] == 0)
+				throw new IllegalArgumentException("The cage " + cage + " has no cells.");
+			if (!sums.isFeasible(cageSizes[cage], cageSums[cage]))
+				throw new IllegalArgumentException("The cage " + cage + " can't hold " + cageSizes[cage] + " distinct digits that add up to " + cageSums[cage] + ".");
+			cageCells[cage] = new int[cageSizes[cage]];
+			cageSizes[cage] = 0;
+		}
+		for (int index = 0; index < cageIds.length; index++)
+			if (cageIds[index] >= 0)
+				cageCells[cageIds[index]][cageSizes[cageIds[index]]++] = index;
+
+		final Map<String, Cage> cagesById = new LinkedHashMap<>(cageSums.length * 2);
+		this.size = size;
+		this.cages = new SimpleCage[cageSums.length];
+		for (int cage = 0; cage < cageSums.length; cage++) {
+			cages[cage] = new SimpleCage(Integer.toString(cage), cageSums[cage], cageCells[cage]);
+			cagesById.put(cages[cage].id(), cages[cage]);
+		}
+		this.cageOfCell = cageIds.clone();
+		this.cagesView = unmodifiableMap(cagesById);
+	}
+
+	/**
+	 * @see KillerSudoku#cages()
+	 */
+	Map<String, Cage> cages() {
+		return cagesView;
+	}
+
+	/**
+	 * @see KillerSudoku#cageOf(int, int)
+	 */
+	Optional<Cage> cageOf(int x, int y) {
+		final int cage = cageOfCell[checkIndex(y, size) * size + checkIndex(x, size)];
+		return (cage < 0)? Optional.empty() : Optional.of(cages[cage]);
+	}
+
+	/**
+	 * Returns a new {@link SolverConstraint} that enforces the {@link Cage}s of this layout.
+	 * 
+	 * @return a new {@code SolverConstraint} for this layout.
+	 */
+	SolverConstraint newConstraint() {
+		final int[] cageSums = new int[cages.length];
+		for (int cage = 0; cage < cages.length; cage++)
+			cageSums[cage] = cages[cage].sum;
+		return new CageConstraint(CageSums.of(size), cageOfCell, cageSums);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * size + Arrays.hashCode(cages);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof CageLayout)) return false;
+		final CageLayout other = (CageLayout) obj;
+		return size == other.size && Arrays.equals(cages, other.cages);
+	}
+
+	/**
+	 * An immutable {@link Cage}.
+	 */
+	private static final class SimpleCage implements Cage {
+
+		private final String id;
+		private final int sum;
+		private final int[] cellIndices;
+
+		SimpleCage(String id, int sum, int[] cellIndices) {
+			this.id = id;
+			this.sum = sum;
+			this.cellIndices = cellIndices;
+		}
+
+		@Override
+		public String id() {
+			return id;
+		}
+
+		@Override
+		public int sum() {
+			return sum;
+		}
+
+		@Override
+		public int size() {
+			return cellIndices.length;
+		}
+
+		@Override
+		public int[] cellIndices() {
+			return cellIndices.clone();
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * id.hashCode() + sum) + Arrays.hashCode(cellIndices);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof SimpleCage)) return false;
+			final SimpleCage other = (SimpleCage) obj;
+			return id.equals(other.id) && sum == other.sum && Arrays.equals(cellIndices, other.cellIndices);
+		}
+
+		@Override
+		public String toString() {
+			return "Cage[id=" + id + ", sum=" + sum + ", cells=" + Arrays.toString(cellIndices) + "]";
+		}
+	}
+}
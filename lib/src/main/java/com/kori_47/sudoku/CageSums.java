@@ -0,0 +1,102 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This is a precomputed table that maps the size and the sum of a {@link Cage} to a mask of the digits that can
+ * appear in it, i.e the union of all the sets of that many distinct digits that add up to that sum. Bit
+ * {@code d - 1} of a mask stands for the digit {@code d}, which is also the ordinal of the number {@link Symbol}
+ * {@code d}. The tables of each number of digits are computed once and shared.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 23:46:03
+ */
+final class CageSums {
+
+	/**
+	 * the tables for each number of digits, computed when first needed.
+	 */
+	private static final AtomicReferenceArray<CageSums> TABLES = new AtomicReferenceArray<>(BitmaskSolver.MAX_SIZE + 1);
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int digits;
+	private final int maxSum;
+	// the masks indexed by size * (maxSum + 1) + sum
+	private final long[] masks;
+
+	private CageSums(int digits) {
+		this.digits = digits;
+		this.maxSum = digits * (digits + 1) / 2;
+		this.masks = new long[(digits + 1) * (maxSum + 1)];
+
+		// ways[size][sum] counts the sets of distinct digits with the given size and sum, these never overflow since
+		// there are at most 64 choose 32 of them
+		final long[][] ways = new long[digits + 1][maxSum + 1];
+		ways[0][0] = 1;
+		for (int digit = 1; digit <= digits; digit++)
+			for (int size = digit; size >= 1; size--)
+				for (int sum = maxSum; sum >= digit; sum--)
+					ways[size][sum] += ways[size - 1][sum - digit];
+
+		// the digit is allowed if a set one smaller that excludes it adds up to the rest of the sum
+		final long[][] without = new long[digits + 1][maxSum + 1];
+		for (int digit = 1; digit <= digits; digit++) {
+			for (int size = 0; size <= digits; size++)
+				for (int sum = 0; sum <= maxSum; sum++)
+					without[size][sum] = ways[size][sum] - ((size > 0 && sum >= digit)? without[size - 1][sum - digit] : 0);
+			for (int size = 1; size <= digits; size++)
+				for (int sum = digit; sum <= maxSum; sum++)
+					if (without[size - 1][sum - digit] != 0)
+						masks[size * (maxSum + 1) + sum] |= 1L << (digit - 1);
+		}
+	}
+
+	/**
+	 * Returns the table for the digits {@code 1} to {@code digits}.
+	 * 
+	 * @param digits the number of digits, from {@code 1} to {@code 64}.
+	 * 
+	 * @return the table for the given number of digits.
+	 */
+	static CageSums of(int digits) {
+		CageSums table = TABLES.get(digits);
+		if (table == null) {
+			// racing threads compute equal tables, keep the first one published
+			TABLES.compareAndSet(digits, null, new CageSums(digits));
+			table = TABLES.get(digits);
+		}
+		return table;
+	}
+
+	/**
+	 * Returns a mask of the digits that appear in at least one set of {@code size} distinct digits that add up to
+	 * {@code sum}.
+	 * 
+	 * @param size the number of digits in the set.
+	 * @param sum the sum of the digits in the set.
+	 * 
+	 * @return a mask of the allowed digits, {@code 0} if no such set exists.
+	 */
+	long mask(int size, int sum) {
+		if (size < 0 || size > digits || sum < 0 || sum > maxSum) return 0L;
+		return masks[size * (maxSum + 1) + sum];
+	}
+
+	/**
+	 * Returns {@code true} if there's a set of {@code size} distinct digits that add up to {@code sum}.
+	 * 
+	 * @param size the number of digits in the set.
+	 * @param sum the sum of the digits in the set.
+	 * 
+	 * @return {@code true} if such a set exists.
+	 */
+	boolean isFeasible(int size, int sum) {
+		return (size == 0)? sum == 0 : mask(size, sum) != 0L;
+	}
+}
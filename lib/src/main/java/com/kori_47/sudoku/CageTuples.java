@@ -0,0 +1,223 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+
+import com.kori_47.sudoku.ArithmeticCage.Operation;
+
+/**
+ * This is a precomputed table of the value tuples that satisfy an {@link ArithmeticCage}, i.e every assignment of
+ * values to the {@link Cell}s of the {@code ArithmeticCage} that reaches it's target and doesn't repeat a value in a
+ * {@link Row} or {@link Column}. The tuples are numbered and, for every position in the {@code ArithmeticCage} and
+ * every ordinal, the table holds a bit set of the tuples with that ordinal at that position, so that the tuples that
+ * are still possible after some placements are the intersection of a few bit sets. The ordinal of the number
+ * {@link Symbol} {@code d} is {@code d - 1}.
+ * 
+ * <p>
+ * A {@code CageTuples} is computed once, when it's {@code ArithmeticCage} is defined, and is immutable.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 03:08:51
+ */
+final class CageTuples {
+
+	/**
+	 * the largest number of tuples that a cage may have.
+	 */
+	static final int MAX_TUPLES = 1 << 16;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int digits;
+	private final int positions;
+	private final int tupleCount;
+	private final int words;
+	// the tuples with each ordinal at each position, indexed by position * digits + ordinal
+	private final long[][] supports;
+
+	/**
+	 * Computes the tuples of an {@link ArithmeticCage}.
+	 * 
+	 * @param size the size of the {@link KenKen}.
+	 * @param operation the {@code Operation} of the {@code ArithmeticCage}.
+	 * @param target the target of the {@code ArithmeticCage}.
+	 * @param cellIndices the row-major indices of the {@link Cell}s of the {@code ArithmeticCage}.
+	 * 
+	 * @throws IllegalArgumentException if the {@code ArithmeticCage} has more than {@link #MAX_TUPLES} tuples.
+	 */
+	CageTuples(int size, Operation operation, int target, int[] cellIndices) {
+		this.digits = size;
+		this.positions = cellIndices.length;
+
+		// the earlier positions in the same row or column as each position, their values must differ
+		final long[] conflicts = new long[positions];
+		for (int position = 0; position < positions; position++)
+			for (int other = 0; other < position; other++)
+				if (cellIndices[other] / size == cellIndices[position] / size || cellIndices[other] % size == cellIndices[position] % size)
+					conflicts[position] |= 1L << other;
+
+		final Enumeration enumeration = new Enumeration(operation, target, conflicts);
+		enumeration.enumerate(0, (operation == Operation.MULTIPLY)? 1 : 0);
+		this.tupleCount = enumeration.count;
+		this.words = Math.max(1, (tupleCount + 63) >>> 6);
+		this.supports = new long[positions * digits][words];
+		for (int tuple = 0; tuple < tupleCount; tuple++)
+			for (int position = 0; position < positions; position++)
+				supports[position * digits + enumeration.tuples[tuple * positions + position]][tuple >>> 6] |= 1L << tuple;
+	}
+
+	/**
+	 * Returns the number of tuples of this table.
+	 * 
+	 * @return the number of tuples of this table.
+	 */
+	int tupleCount() {
+		return tupleCount;
+	}
+
+	/**
+	 * Returns the number of {@code long} words of the bit sets of this table.
+	 * 
+	 * @return the number of words of the bit sets of this table.
+	 */
+	int words() {
+		return words;
+	}
+
+	/**
+	 * Fills the given bit set with all the tuples of this table.
+	 * 
+	 * @param tuples a bit set of {@link #words()} words.
+	 * @param offset the index of the first word of the bit set.
+	 */
+	void fill(long[] tuples, int offset) {
+		Arrays.fill(tuples, offset, offset + words, 0L);
+		for (int tuple = 0; tuple < tupleCount; tuple += 64)
+			tuples[offset + (tuple >>> 6)] = (tupleCount - tuple >= 64)? -1L : (1L << (tupleCount - tuple)) - 1;
+	}
+
+	/**
+	 * Removes from the given bit set the tuples that don't have the given ordinal at the given position.
+	 * 
+	 * @param tuples a bit set of {@link #words()} words.
+	 * @param offset the index of the first word of the bit set.
+	 * @param position the position in the {@code ArithmeticCage}.
+	 * @param ordinal the placed ordinal.
+	 */
+	void retain(long[] tuples, int offset, int position, int ordinal) {
+		final long[] support = supports[position * digits + ordinal];
+		for (int word = 0; word < words; word++)
+			tuples[offset + word] &= support[word];
+	}
+
+	/**
+	 * Returns a mask of the ordinals that appear at the given position in at least one of the given tuples.
+	 * 
+	 * @param tuples a bit set of {@link #words()} words.
+	 * @param offset the index of the first word of the bit set.
+	 * @param position the position in the {@code ArithmeticCage}.
+	 * 
+	 * @return a mask of the ordinals still possible at the given position.
+	 */
+	long mask(long[] tuples, int offset, int position) {
+		long mask = 0L;
+		for (int ordinal = 0; ordinal < digits; ordinal++) {
+			final long[] support = supports[position * digits + ordinal];
+			for (int word = 0; word < words; word++) {
+				if ((tuples[offset + word] & support[word]) != 0L) {
+					mask |= 1L << ordinal;
+					break;
+				}
+			}
+		}
+		return mask;
+	}
+
+	/**
+	 * Returns {@code true} if the given bit set holds at least one tuple.
+	 * 
+	 * @param tuples a bit set of {@link #words()} words.
+	 * @param offset the index of the first word of the bit set.
+	 * 
+	 * @return {@code true} if the given bit set isn't empty.
+	 */
+	boolean any(long[] tuples, int offset) {
+		for (int word = 0; word < words; word++)
+			if (tuples[offset + word] != 0L) return true;
+		return false;
+	}
+
+	/**
+	 * The depth first enumeration of the tuples, pruned by the partial result.
+	 */
+	private final class Enumeration {
+
+		private final Operation operation;
+		private final int target;
+		private final long[] conflicts;
+		private final int[] current;
+		private int[] tuples;
+		private int count;
+
+		Enumeration(Operation operation, int target, long[] conflicts) {
+			this.operation = operation;
+			this.target = target;
+			this.conflicts = conflicts;
+			this.current = new int[positions];
+			this.tuples = new int[positions * 16];
+		}
+
+		void enumerate(int position, long partial) {
+			if (position == positions) {
+				if (!reachesTarget(partial)) return;
+				if (count == MAX_TUPLES)
+					throw new IllegalArgumentException("An ArithmeticCage can have at most " + MAX_TUPLES + " value tuples.");
+				if ((count + 1) * positions > tuples.length)
+					tuples = Arrays.copyOf(tuples, 2 * tuples.length);
+				System.arraycopy(current, 0, tuples, count++ * positions, positions);
+				return;
+			}
+			final int remaining = positions - position - 1;
+			next:
+			for (int ordinal = 0; ordinal < digits; ordinal++) {
+				for (long others = conflicts[position]; others != 0L; others &= others - 1)
+					if (current[Long.numberOfTrailingZeros(others)] == ordinal) continue next;
+				final long value = ordinal + 1;
+				final long combined;
+				switch (operation) {
+					case ADD:
+						combined = partial + value;
+						// the remaining cells add at least 1 and at most digits each
+						if (combined + remaining > target) return;
+						if (combined + (long) remaining * digits < target) continue;
+						break;
+					case MULTIPLY:
+						combined = partial * value;
+						if (target % combined != 0) continue;
+						break;
+					default:
+						combined = partial;
+				}
+				current[position] = ordinal;
+				enumerate(position + 1, combined);
+			}
+		}
+
+		private boolean reachesTarget(long partial) {
+			switch (operation) {
+				case SUBTRACT:
+					return Math.abs(current[0] - current[1]) == target;
+				case DIVIDE: {
+					final int greater = Math.max(current[0], current[1]) + 1, lesser = Math.min(current[0], current[1]) + 1;
+					return greater == target * lesser;
+				}
+				default:
+					return partial == target;
+			}
+		}
+	}
+}
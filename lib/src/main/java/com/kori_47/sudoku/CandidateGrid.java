@@ -0,0 +1,239 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Set;
+
+/**
+ * A {@code CandidateGrid} holds the <i>candidates</i> <i>(pencil marks)</i> of the empty {@link Cell}s of a
+ * {@link LatinSquare}. That is, for each empty {@code Cell}, the {@link Symbol}s that may still be placed on that
+ * {@code Cell}. A {@code CandidateGrid} is attached to exactly one {@code LatinSquare}, the one returned by the
+ * {@link #latinSquare()} method, and all the {@code Cell}s, {@code Symbol}s and {@link CellGroup}s passed to it's
+ * methods must be part of that {@code LatinSquare}, otherwise, a {@link SudokuException} is thrown.
+ * 
+ * <p>
+ * The candidates of the {@code Cell}s are stored as bit masks, one bit per {@code Symbol} of the {@code LatinSquare},
+ * so that the per {@code Cell} and per {@code CellGroup} operations of this interface are simple bitwise operations.
+ * A {@code Cell} that holds a {@code Symbol} has no candidates.
+ * 
+ * <p>
+ * The candidates are kept up to date incrementally when {@code Symbol}s are placed through this {@code CandidateGrid}'s
+ * {@link #changeSymbol(Cell, Symbol)} method. Changes made directly on the {@code LatinSquare} or on it's {@code Cell}s
+ * are detected the next time a {@code Cell} whose candidates they affect is read or updated through this
+ * {@code CandidateGrid}, and are then applied the same way, so the candidates removed from the unaffected
+ * {@code Cell}s are kept. Calling {@link #refresh()} instead recomputes all the candidates from scratch.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s supported by this {@code CandidateGrid}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 09:31:17
+ * 
+ * @see LatinSquare
+ * @see CandidateGrids
+ */
+public interface CandidateGrid<V> {
+
+	/**
+	 * Returns the {@link LatinSquare} that this {@code CandidateGrid} is attached to.
+	 * 
+	 * @return the {@code LatinSquare} that this {@code CandidateGrid} is attached to.
+	 */
+	LatinSquare<V> latinSquare();
+
+	/**
+	 * Returns an immutable snapshot of the candidates of the given {@link Cell}. The returned {@code Set} is empty if
+	 * the given {@code Cell} holds a {@link Symbol} or has no candidates left.
+	 * 
+	 * @param cell the {@code Cell} whose candidates we want.
+	 * 
+	 * @return an immutable {@code Set} of the candidates of the given {@code Cell}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} isn't part of this {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	Set<Symbol<V>> candidates(Cell<V> cell);
+
+	/**
+	 * Returns {@code true} if the given {@link Symbol} is a candidate of the given {@link Cell}.
+	 * 
+	 * @param cell the {@code Cell} to check.
+	 * @param symbol the {@code Symbol} to check for.
+	 * 
+	 * @return {@code true} if the given {@code Symbol} is a candidate of the given {@code Cell}, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if {@code cell} or {@code symbol} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} or {@code Symbol} isn't part of this {@code CandidateGrid}'s
+	 * {@code LatinSquare}.
+	 */
+	boolean hasCandidate(Cell<V> cell, Symbol<V> symbol);
+
+	/**
+	 * Returns the number of candidates of the given {@link Cell}.
+	 * 
+	 * @param cell the {@code Cell} whose number of candidates we want.
+	 * 
+	 * @return the number of candidates of the given {@code Cell}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} isn't part of this {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	int candidateCount(Cell<V> cell);
+
+	/**
+	 * Adds the given {@link Symbol} to the candidates of the given {@link Cell}. Nothing is added if the {@code Cell}
+	 * already holds a {@code Symbol}.
+	 * 
+	 * @param cell the {@code Cell} whose candidates to add to.
+	 * @param symbol the {@code Symbol} to add.
+	 * 
+	 * @return {@code true} if the candidates of the {@code Cell} changed as a result of this call.
+	 * 
+	 * @throws NullPointerException if {@code cell} or {@code symbol} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} or {@code Symbol} isn't part of this {@code CandidateGrid}'s
+	 * {@code LatinSquare}.
+	 */
+	boolean addCandidate(Cell<V> cell, Symbol<V> symbol);
+
+	/**
+	 * Removes the given {@link Symbol} from the candidates of the given {@link Cell}.
+	 * 
+	 * @param cell the {@code Cell} whose candidates to remove from.
+	 * @param symbol the {@code Symbol} to remove.
+	 * 
+	 * @return {@code true} if the candidates of the {@code Cell} changed as a result of this call.
+	 * 
+	 * @throws NullPointerException if {@code cell} or {@code symbol} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} or {@code Symbol} isn't part of this {@code CandidateGrid}'s
+	 * {@code LatinSquare}.
+	 */
+	boolean removeCandidate(Cell<V> cell, Symbol<V> symbol);
+
+	/**
+	 * Removes all the candidates of the given {@link Cell}.
+	 * 
+	 * @param cell the {@code Cell} whose candidates to remove.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} isn't part of this {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	void clearCandidates(Cell<V> cell);
+
+	/**
+	 * Adds the given {@link Symbol} to the candidates of every empty {@link Cell} in the given {@link CellGroup}.
+	 * 
+	 * @param cellGroup the {@code CellGroup} whose {@code Cell}s to add the candidate to.
+	 * @param symbol the {@code Symbol} to add.
+	 * 
+	 * @return the number of {@code Cell}s whose candidates changed as a result of this call.
+	 * 
+	 * @throws NullPointerException if {@code cellGroup} or {@code symbol} is {@code null}.
+	 * @throws SudokuException if any of the {@code Cell}s of the given {@code CellGroup} or the given {@code Symbol}
+	 * isn't part of this {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	int addCandidate(CellGroup<V> cellGroup, Symbol<V> symbol);
+
+	/**
+	 * Removes the given {@link Symbol} from the candidates of every {@link Cell} in the given {@link CellGroup}.
+	 * 
+	 * @param cellGroup the {@code CellGroup} whose {@code Cell}s to remove the candidate from.
+	 * @param symbol the {@code Symbol} to remove.
+	 * 
+	 * @return the number of {@code Cell}s whose candidates changed as a result of this call.
+	 * 
+	 * @throws NullPointerException if {@code cellGroup} or {@code symbol} is {@code null}.
+	 * @throws SudokuException if any of the {@code Cell}s of the given {@code CellGroup} or the given {@code Symbol}
+	 * isn't part of this {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	int removeCandidate(CellGroup<V> cellGroup, Symbol<V> symbol);
+
+	/**
+	 * Removes the given {@link Symbol}s from the candidates of every {@link Cell} in the given {@link CellGroup}.
+	 * 
+	 * @param cellGroup the {@code CellGroup} whose {@code Cell}s to remove the candidates from.
+	 * @param symbols the {@code Symbol}s to remove.
+	 * 
+	 * @return the number of {@code Cell}s whose candidates changed as a result of this call.
+	 * 
+	 * @throws NullPointerException if {@code cellGroup} or {@code symbols} is {@code null}.
+	 * @throws SudokuException if any of the {@code Cell}s of the given {@code CellGroup} or any of the given
+	 * {@code Symbol}s isn't part of this {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	int removeCandidates(CellGroup<V> cellGroup, Set<Symbol<V>> symbols);
+
+	/**
+	 * Retains only the given {@link Symbol}s in the candidates of every {@link Cell} in the given {@link CellGroup}.
+	 * 
+	 * @param cellGroup the {@code CellGroup} whose {@code Cell}s to restrict.
+	 * @param symbols the {@code Symbol}s to retain.
+	 * 
+	 * @return the number of {@code Cell}s whose candidates changed as a result of this call.
+	 * 
+	 * @throws NullPointerException if {@code cellGroup} or {@code symbols} is {@code null}.
+	 * @throws SudokuException if any of the {@code Cell}s of the given {@code CellGroup} or any of the given
+	 * {@code Symbol}s isn't part of this {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	int retainCandidates(CellGroup<V> cellGroup, Set<Symbol<V>> symbols);
+
+	/**
+	 * Returns an immutable snapshot of the union of the candidates of all the {@link Cell}s in the given
+	 * {@link CellGroup}, i.e the {@link Symbol}s that are a candidate of at least one {@code Cell} in the group.
+	 * 
+	 * @param cellGroup the {@code CellGroup} whose candidates we want.
+	 * 
+	 * @return an immutable {@code Set} of the candidates of the {@code Cell}s in the given {@code CellGroup}.
+	 * 
+	 * @throws NullPointerException if {@code cellGroup} is {@code null}.
+	 * @throws SudokuException if any of the {@code Cell}s of the given {@code CellGroup} isn't part of this
+	 * {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	Set<Symbol<V>> candidates(CellGroup<V> cellGroup);
+
+	/**
+	 * Returns the {@link Cell}s of the given {@link CellGroup} that have the given {@link Symbol} as a candidate.
+	 * 
+	 * @param cellGroup the {@code CellGroup} to search.
+	 * @param symbol the candidate to search for.
+	 * 
+	 * @return an immutable {@code Set} of the {@code Cell}s of the given {@code CellGroup} that have the given
+	 * {@code Symbol} as a candidate.
+	 * 
+	 * @throws NullPointerException if {@code cellGroup} or {@code symbol} is {@code null}.
+	 * @throws SudokuException if any of the {@code Cell}s of the given {@code CellGroup} or the given {@code Symbol}
+	 * isn't part of this {@code CandidateGrid}'s {@code LatinSquare}.
+	 */
+	Set<Cell<V>> cellsWithCandidate(CellGroup<V> cellGroup, Symbol<V> symbol);
+
+	/**
+	 * Places the given {@link Symbol} on the given {@link Cell} using {@link LatinSquare#changeSymbol(Cell, Symbol)} and
+	 * updates the candidates of the affected {@code Cell}s incrementally. When a {@code Symbol} is placed, the {@code Cell}
+	 * loses all it's candidates and the {@code Symbol} is removed from the candidates of every peer of the {@code Cell},
+	 * i.e every {@code Cell} that shares a {@link Row}, {@link Column} or {@link Block} with it. When a {@code Cell} is
+	 * cleared by passing a {@code null} {@code Symbol}, the candidates of the {@code Cell} are recomputed and the
+	 * {@code Symbol} that was removed is restored to the peers where it is no longer blocked.
+	 * 
+	 * @param cell the {@code Cell} whose value we want to change.
+	 * @param symbol the {@code Symbol} to set on the given {@code Cell}. Maybe {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} or {@code Symbol} isn't part of this {@code CandidateGrid}'s
+	 * {@code LatinSquare}.
+	 */
+	void changeSymbol(Cell<V> cell, Symbol<V> symbol);
+
+	/**
+	 * Discards all the candidates of this {@code CandidateGrid} and recomputes them from the {@link Symbol}s currently
+	 * placed on the {@link LatinSquare}. After this method returns, every empty {@link Cell} has as candidates all
+	 * the {@code Symbol}s that aren't already placed on any of it's peers.
+	 */
+	void refresh();
+
+	/**
+	 * Returns a new {@code CandidateGrid} attached to the same {@link LatinSquare} and with the same candidates as this
+	 * one. Changes to the candidates of the returned {@code CandidateGrid} do not affect this one.
+	 * 
+	 * @return a copy of this {@code CandidateGrid}.
+	 */
+	CandidateGrid<V> copy();
+}
@@ -0,0 +1,46 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * This class consists exclusively of static methods that create and operate on {@link CandidateGrid}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 10:22:36
+ * 
+ * @see CandidateGrid
+ * @see LatinSquare
+ */
+public final class CandidateGrids {
+
+	/**
+	 * Creates a new {@link CandidateGrid} attached to the given {@link LatinSquare}. The candidates of the returned
+	 * {@code CandidateGrid} are computed from the {@link Symbol}s currently placed on the {@code LatinSquare}, that is,
+	 * every empty {@link Cell} has as candidates all the {@code Symbol}s that aren't placed on any of it's peers. The
+	 * peers of a {@code Cell} are the other {@code Cell}s of it's {@link Row}, {@link Column} and, if the given
+	 * {@code LatinSquare} is a {@link Sudoku}, it's {@link Block}.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s supported by the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to attach the new {@code CandidateGrid} to.
+	 * 
+	 * @return a new {@code CandidateGrid} attached to the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws SudokuException if any {@code Cell} of the given {@code LatinSquare} holds a {@code Symbol} that isn't
+	 * one of the {@link LatinSquare#symbols() symbols} of the {@code LatinSquare}.
+	 * 
+	 * @implNote
+	 * The returned {@code CandidateGrid} stores the candidates of each {@code Cell} as a bit mask of one {@code long}
+	 * for {@code LatinSquare}s with up to {@code 64} {@code Symbol}s, or {@code (size + 63) / 64} {@code long}s for
+	 * larger ones. The returned {@code CandidateGrid} is <i>not thread safe</i>.
+	 */
+	public static final <V> CandidateGrid<V> candidateGridOf(LatinSquare<V> latinSquare) {
+		return new BitSetCandidateGrid<V>(latinSquare);
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private CandidateGrids() { }
+}
@@ -0,0 +1,684 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This is a conflict driven clause learning <i>(CDCL)</i> SAT solver. The variables are numbered from {@code 0} and
+ * the literal of a variable {@code v} is {@code 2 * v} when positive and {@code 2 * v + 1} when negated, so that the
+ * negation of a literal is {@code literal ^ 1}.
+ * 
+ * <p>
+ * All the clauses are stored back to back in a single {@code int[]} arena, each as a header of {@value #HEADER}
+ * elements, it's size and it's learnt flag and literal block distance, followed by it's literals. A clause is
+ * referred to by the offset of it's header in the arena. Unit propagation uses two watched literals, the first two
+ * literals of every clause, and the watch list of a literal holds the offset of every clause watching it's negation
+ * together with a blocker, a literal of the clause whose truth makes visiting the clause unnecessary.
+ * 
+ * <p>
+ * Conflicts are analysed to their first unique implication point, the learnt clauses are minimized against the
+ * reasons of their literals and the search backjumps to the second highest decision level of the learnt clause.
+ * Branching picks the unassigned variable with the highest activity <i>(VSIDS)</i>, the activities of the variables
+ * involved in a conflict are bumped and all the activities decay geometrically, and assigns it the polarity it last
+ * had <i>(phase saving)</i>, starting with {@code true}. The search restarts after a number of conflicts given by the Luby sequence, and on
+ * restarts, the learnt clauses with the highest literal block distance are dropped once there are too many of them.
+ * 
+ * <p>
+ * The search checks periodically whether the current thread has been interrupted or the deadline of the solver has
+ * passed and if so, aborts by throwing a {@link CancellationException}. A {@code CdclSolver} is <i>not thread
+ * safe</i>.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 06:12:44
+ * 
+ * @see GridCnf
+ */
+final class CdclSolver {
+
+	/**
+	 * the number of elements before the literals of a clause in the arena.
+	 */
+	static final int HEADER = 2;
+
+	/**
+	 * the number of conflicts allowed by the first unit of the Luby sequence. Descending back after a restart
+	 * reassigns most of the variables, which dominates the search of a large grid when restarts are frequent.
+	 */
+	private static final int RESTART_BASE = 1000;
+
+	/**
+	 * the factor by which the activities of the variables decay after every conflict.
+	 */
+	private static final double ACTIVITY_DECAY = 0.95;
+
+	/**
+	 * the number of learnt clauses allowed before the first reduction.
+	 */
+	private static final int FIRST_REDUCTION = 2000;
+
+	/**
+	 * the number of decisions and conflicts between two checks of the interrupt status and the deadline.
+	 */
+	private static final int CHECK_INTERVAL = 1 << 10;
+
+	/**
+	 * the values of a literal.
+	 */
+	private static final byte TRUE = 1, FALSE = -1, UNASSIGNED = 0;
+
+	/**
+	 * the outcomes of a search.
+	 */
+	private static final int SATISFIED = 0, UNSATISFIED = 1, RESTARTED = 2;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final long deadline;
+	private int variableCount;
+	private int[] arena = new int[1 << 12];
+	private int arenaSize;
+	private int[] clauses = new int[1 << 8];
+	private int clauseCount;
+	private int[] learnts = new int[1 << 8];
+	private int learntCount;
+	// true once an empty clause was added or derived
+	private boolean inconsistent;
+
+	// ================================================
+	// SEARCH STATE
+	// ================================================
+	// the watch lists hold pairs of a clause and a blocker
+	private int[][] watches = new int[0][];
+	private int[] watchSizes = new int[0];
+	private byte[] values = new byte[0];
+	private int[] levels = new int[0];
+	private int[] reasons = new int[0];
+	private boolean[] phases = new boolean[0];
+	private boolean[] decisionVariables = new boolean[0];
+	private int[] trail = new int[0];
+	private int trailSize;
+	private int propagated;
+	private int[] levelStarts = new int[16];
+	private int decisionLevel;
+	private double[] activities = new double[0];
+	private double activityIncrement = 1.0;
+	// a binary max heap of variables by activity and the position of each variable in it, -1 if absent
+	private int[] heap = new int[0];
+	private int[] heapPositions = new int[0];
+	private int heapSize;
+	private int reductionLimit = FIRST_REDUCTION;
+	private long conflicts;
+	private long decisions;
+	// the scratch space of the conflict analysis
+	private boolean[] seen = new boolean[0];
+	private int[] learnt = new int[16];
+	private int[] stack = new int[16];
+	private int[] cleared = new int[16];
+	private int clearedCount;
+	private int[] levelStamps = new int[16];
+	private int stamp;
+
+	/**
+	 * Creates a new {@code CdclSolver} without variables or clauses.
+	 * 
+	 * @param deadline the value of {@link System#nanoTime()} after which the search is aborted. Use
+	 * {@link Long#MAX_VALUE} for no deadline.
+	 */
+	CdclSolver(long deadline) {
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Returns the literal of the given variable with the given polarity.
+	 * 
+	 * @param variable the variable.
+	 * @param positive {@code true} for the variable itself, {@code false} for it's negation.
+	 * 
+	 * @return the literal of the given variable.
+	 */
+	static int literal(int variable, boolean positive) {
+		return 2 * variable + (positive? 0 : 1);
+	}
+
+	/**
+	 * Adds a new decision variable.
+	 * 
+	 * @return the new variable.
+	 */
+	int newVariable() {
+		return newVariable(true);
+	}
+
+	/**
+	 * Adds a new variable. The search only branches on decision variables, the others are only assigned by
+	 * propagation, so every assignment of the decision variables that propagates without conflict must be
+	 * extendable to the other variables. This holds for auxiliary variables defined by the decision variables,
+	 * such as the counters of a sequential at-most-one encoding, and keeps the search from wasting decisions on
+	 * them.
+	 * 
+	 * @param decision whether the search may branch on the new variable.
+	 * 
+	 * @return the new variable.
+	 */
+	int newVariable(boolean decision) {
+		final int variable = variableCount++;
+		if (variableCount > values.length / 2) {
+			final int capacity = Math.max(16, 2 * variableCount);
+			watches = Arrays.copyOf(watches, 2 * capacity);
+			watchSizes = Arrays.copyOf(watchSizes, 2 * capacity);
+			values = Arrays.copyOf(values, 2 * capacity);
+			levels = Arrays.copyOf(levels, capacity);
+			reasons = Arrays.copyOf(reasons, capacity);
+			phases = Arrays.copyOf(phases, capacity);
+			decisionVariables = Arrays.copyOf(decisionVariables, capacity);
+			trail = Arrays.copyOf(trail, capacity);
+			activities = Arrays.copyOf(activities, capacity);
+			heap = Arrays.copyOf(heap, capacity);
+			heapPositions = Arrays.copyOf(heapPositions, capacity);
+			seen = Arrays.copyOf(seen, capacity);
+		}
+		watches[2 * variable] = new int[4];
+		watches[2 * variable + 1] = new int[4];
+		reasons[variable] = -1;
+		decisionVariables[variable] = decision;
+		phases[variable] = true;
+		heapPositions[variable] = -1;
+		if (decision) heapInsert(variable);
+		return variable;
+	}
+
+	/**
+	 * Sets the activity of the given variable, e.g to make the search branch on it early. The activities of the
+	 * variables start at {@code 0} and every conflict a variable is involved in adds to it's activity, {@code 1} at
+	 * first and geometrically more with every conflict.
+	 * 
+	 * @param variable the variable.
+	 * @param activity the new activity of the variable.
+	 */
+	void setActivity(int variable, double activity) {
+		activities[variable] = activity;
+		if (heapPositions[variable] >= 0) {
+			heapUp(heapPositions[variable]);
+			heapDown(heapPositions[variable]);
+		}
+	}
+
+	/**
+	 * Returns the number of variables of this solver.
+	 * 
+	 * @return the number of variables.
+	 */
+	int variableCount() {
+		return variableCount;
+	}
+
+	/**
+	 * Adds a clause, the disjunction of the given literals. Clauses can only be added before {@link #solve()} is
+	 * called. Adding an empty clause makes the formula unsatisfiable.
+	 * 
+	 * @param literals the literals of the clause, the given array isn't retained.
+	 */
+	void addClause(int... literals) {
+		if (inconsistent) return;
+		// drop the false and duplicate literals, the clause is already satisfied if it has a true one
+		final int[] sorted = literals.clone();
+		Arrays.sort(sorted);
+		int size = 0;
+		for (int index = 0; index < sorted.length; index++) {
+			final int literal = sorted[index];
+			if (values[literal] == TRUE || (size > 0 && sorted[size - 1] == (literal ^ 1))) return;
+			if (values[literal] == FALSE || (size > 0 && sorted[size - 1] == literal)) continue;
+			sorted[size++] = literal;
+		}
+		if (size == 0) {
+			inconsistent = true;
+		} else if (size == 1) {
+			assign(sorted[0], -1);
+			inconsistent = propagate() >= 0;
+		} else {
+			final int clause = store(sorted, size, false, 0);
+			clauses = append(clauses, clauseCount++, clause);
+		}
+	}
+
+	/**
+	 * Searches for an assignment satisfying all the clauses.
+	 * 
+	 * @return {@code true} if the clauses are satisfiable, the assignment is then available through
+	 * {@link #valueOf(int)}, {@code false} otherwise.
+	 * 
+	 * @throws CancellationException if the current thread is interrupted or the deadline passes during the search.
+	 */
+	boolean solve() {
+		if (inconsistent) return false;
+		for (int run = 1; ; run++) {
+			final int outcome = search(Restarts.luby(run) * RESTART_BASE);
+			if (outcome != RESTARTED) {
+				inconsistent = outcome == UNSATISFIED;
+				return !inconsistent;
+			}
+			backtrack(0);
+			if (learntCount >= reductionLimit) reduceLearnts();
+		}
+	}
+
+	/**
+	 * Returns the value of the given variable in the satisfying assignment found by {@link #solve()}.
+	 * 
+	 * @param variable the variable.
+	 * 
+	 * @return the value of the given variable.
+	 */
+	boolean valueOf(int variable) {
+		return values[2 * variable] == TRUE;
+	}
+
+	/**
+	 * Returns the number of decisions made by the search so far.
+	 * 
+	 * @return the number of decisions of this solver.
+	 */
+	long decisions() {
+		return decisions;
+	}
+
+	private int search(long conflictLimit) {
+		long runConflicts = 0;
+		while (true) {
+			final int conflict = propagate();
+			if (conflict >= 0) {
+				if ((++conflicts & (CHECK_INTERVAL - 1)) == 0) checkLimits();
+				runConflicts++;
+				if (decisionLevel == 0) return UNSATISFIED;
+				learn(conflict);
+			} else {
+				if (runConflicts >= conflictLimit) return RESTARTED;
+				final int variable = nextBranchingVariable();
+				if (variable < 0) return SATISFIED;
+				if ((++decisions & (CHECK_INTERVAL - 1)) == 0) checkLimits();
+				if (decisionLevel == levelStarts.length) levelStarts = Arrays.copyOf(levelStarts, 2 * decisionLevel);
+				levelStarts[decisionLevel++] = trailSize;
+				assign(literal(variable, phases[variable]), -1);
+			}
+		}
+	}
+
+	/**
+	 * Propagates the assignments of the trail.
+	 * 
+	 * @return the conflicting clause or {@code -1} if there is none.
+	 */
+	private int propagate() {
+		while (propagated < trailSize) {
+			final int literal = trail[propagated++], falseLiteral = literal ^ 1;
+			final int[] watchList = watches[literal];
+			final int size = watchSizes[literal];
+			int read = 0, write = 0;
+			while (read < size) {
+				final int clause = watchList[read], blocker = watchList[read + 1];
+				read += 2;
+				watchList[write++] = clause;
+				watchList[write++] = blocker;
+				if (values[blocker] == TRUE) continue;
+				if (clause < 0) {
+					// the blocker of a binary clause is it's other literal
+					final int binary = ~clause;
+					if (values[blocker] == FALSE) {
+						while (read < size) watchList[write++] = watchList[read++];
+						watchSizes[literal] = write;
+						propagated = trailSize;
+						return binary;
+					}
+					if (arena[binary + HEADER] != blocker) {
+						arena[binary + HEADER + 1] = arena[binary + HEADER];
+						arena[binary + HEADER] = blocker;
+					}
+					assign(blocker, binary);
+					continue;
+				}
+				// keep the false literal second
+				final int base = clause + HEADER;
+				if (arena[base] == falseLiteral) {
+					arena[base] = arena[base + 1];
+					arena[base + 1] = falseLiteral;
+				}
+				final int first = arena[base];
+				watchList[write - 1] = first;
+				if (first != blocker && values[first] == TRUE) continue;
+
+				// look for a new literal to watch
+				final int end = base + arena[clause];
+				boolean moved = false;
+				for (int index = base + 2; index < end; index++) {
+					final int other = arena[index];
+					if (values[other] != FALSE) {
+						arena[base + 1] = other;
+						arena[index] = falseLiteral;
+						watch(other ^ 1, clause, first);
+						write -= 2;
+						moved = true;
+						break;
+					}
+				}
+				if (moved) continue;
+				if (values[first] == FALSE) {
+					while (read < size) watchList[write++] = watchList[read++];
+					watchSizes[literal] = write;
+					propagated = trailSize;
+					return clause;
+				}
+				assign(first, clause);
+			}
+			watchSizes[literal] = write;
+		}
+		return -1;
+	}
+
+	/**
+	 * Analyses the given conflict to it's first unique implication point, learns the resulting clause and
+	 * backjumps to the level where it becomes unit.
+	 */
+	private void learn(int conflict) {
+		int size = 1, pending = 0, literal = -1, index = trailSize - 1, clause = conflict;
+		do {
+			final int base = clause + HEADER, end = base + arena[clause];
+			// the first literal of a reason is the literal it implied
+			for (int position = (literal < 0)? base : base + 1; position < end; position++) {
+				final int other = arena[position], variable = other >> 1;
+				if (seen[variable] || levels[variable] == 0) continue;
+				seen[variable] = true;
+				bump(variable);
+				if (levels[variable] == decisionLevel) {
+					pending++;
+				} else {
+					if (size == learnt.length) learnt = Arrays.copyOf(learnt, 2 * size);
+					learnt[size++] = other;
+				}
+			}
+			while (!seen[trail[index] >> 1]) index--;
+			literal = trail[index--];
+			clause = reasons[literal >> 1];
+			seen[literal >> 1] = false;
+		} while (--pending > 0);
+		learnt[0] = literal ^ 1;
+
+		// move the literals implied by the other literals of the clause past the kept ones, then forget what was seen
+		final int analysed = size;
+		int levelsMask = 0;
+		for (int position = 1; position < analysed; position++)
+			levelsMask |= levelMaskOf(learnt[position] >> 1);
+		clearedCount = 0;
+		size = 1;
+		for (int position = 1; position < analysed; position++) {
+			if (isImplied(learnt[position], levelsMask)) continue;
+			final int kept = learnt[position];
+			learnt[position] = learnt[size];
+			learnt[size++] = kept;
+		}
+		for (int position = 1; position < analysed; position++)
+			seen[learnt[position] >> 1] = false;
+		for (int position = 0; position < clearedCount; position++)
+			seen[cleared[position]] = false;
+
+		// the literal of the highest remaining level is watched second
+		int backjumpLevel = 0;
+		for (int position = 1; position < size; position++) {
+			if (levels[learnt[position] >> 1] > backjumpLevel) {
+				backjumpLevel = levels[learnt[position] >> 1];
+				final int swapped = learnt[1];
+				learnt[1] = learnt[position];
+				learnt[position] = swapped;
+			}
+		}
+		decayActivities();
+		backtrack(backjumpLevel);
+		if (size == 1) {
+			assign(learnt[0], -1);
+		} else {
+			final int learntClause = store(learnt, size, true, distanceOf(size));
+			learnts = append(learnts, learntCount++, learntClause);
+			assign(learnt[0], learntClause);
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the given literal of the learnt clause is implied by the other literals, i.e every path
+	 * through the reasons of it's implication graph ends at a literal that was seen during the analysis or is fixed at
+	 * level {@code 0}. Variables whose level isn't in the given mask of levels can't be implied by the clause, which
+	 * cuts the walk short. The variables found to be implied are marked as seen and recorded for clearing.
+	 */
+	private boolean isImplied(int literal, int levelsMask) {
+		if (reasons[literal >> 1] < 0) return false;
+		final int top = clearedCount;
+		int stackSize = 0;
+		stack = append(stack, stackSize++, literal >> 1);
+		while (stackSize > 0) {
+			final int reason = reasons[stack[--stackSize]];
+			final int base = reason + HEADER, end = base + arena[reason];
+			for (int position = base + 1; position < end; position++) {
+				final int variable = arena[position] >> 1;
+				if (seen[variable] || levels[variable] == 0) continue;
+				if (reasons[variable] < 0 || (levelMaskOf(variable) & levelsMask) == 0) {
+					// undo the marks of this walk
+					while (clearedCount > top) seen[cleared[--clearedCount]] = false;
+					return false;
+				}
+				seen[variable] = true;
+				cleared = append(cleared, clearedCount++, variable);
+				stack = append(stack, stackSize++, variable);
+			}
+		}
+		return true;
+	}
+
+	private int levelMaskOf(int variable) {
+		return 1 << (levels[variable] & 31);
+	}
+
+	/**
+	 * Returns the literal block distance of the learnt clause, i.e the number of distinct decision levels of it's
+	 * literals.
+	 */
+	private int distanceOf(int size) {
+		if (++stamp == Integer.MAX_VALUE) {
+			Arrays.fill(levelStamps, 0);
+			stamp = 1;
+		}
+		int distance = 0;
+		for (int position = 0; position < size; position++) {
+			final int level = levels[learnt[position] >> 1];
+			if (level >= levelStamps.length) levelStamps = Arrays.copyOf(levelStamps, 2 * level + 1);
+			if (levelStamps[level] != stamp) {
+				levelStamps[level] = stamp;
+				distance++;
+			}
+		}
+		return distance;
+	}
+
+	private void assign(int literal, int reason) {
+		final int variable = literal >> 1;
+		values[literal] = TRUE;
+		values[literal ^ 1] = FALSE;
+		levels[variable] = decisionLevel;
+		reasons[variable] = reason;
+		trail[trailSize++] = literal;
+	}
+
+	private void backtrack(int level) {
+		if (decisionLevel <= level) return;
+		final int start = levelStarts[level];
+		for (int index = trailSize - 1; index >= start; index--) {
+			final int literal = trail[index], variable = literal >> 1;
+			values[literal] = values[literal ^ 1] = UNASSIGNED;
+			reasons[variable] = -1;
+			phases[variable] = (literal & 1) == 0;
+			if (decisionVariables[variable] && heapPositions[variable] < 0) heapInsert(variable);
+		}
+		trailSize = propagated = start;
+		decisionLevel = level;
+	}
+
+	private int nextBranchingVariable() {
+		while (heapSize > 0) {
+			final int variable = heapRemoveMax();
+			if (values[2 * variable] == UNASSIGNED) return variable;
+		}
+		return -1;
+	}
+
+	/**
+	 * Drops the learnt clauses with the highest literal block distance, keeping those of distance {@code 2} or less,
+	 * and compacts the arena. Only called at level {@code 0}, where no learnt clause is the reason of an assignment
+	 * that can be analysed.
+	 */
+	private void reduceLearnts() {
+		final long[] ranked = new long[learntCount];
+		for (int index = 0; index < learntCount; index++)
+			ranked[index] = ((long) (arena[learnts[index] + 1] >>> 1) << 32) | index;
+		Arrays.sort(ranked);
+		final boolean[] dropped = new boolean[learntCount];
+		for (int index = learntCount / 2; index < learntCount; index++)
+			if ((ranked[index] >>> 32) > 2) dropped[(int) ranked[index]] = true;
+
+		// copy the kept clauses to a new arena and watch them again
+		final int[] oldArena = arena;
+		arena = new int[oldArena.length];
+		arenaSize = 0;
+		Arrays.fill(watchSizes, 0);
+		for (int index = 0; index < clauseCount; index++)
+			clauses[index] = copy(oldArena, clauses[index]);
+		int kept = 0;
+		for (int index = 0; index < learntCount; index++)
+			if (!dropped[index]) learnts[kept++] = copy(oldArena, learnts[index]);
+		learntCount = kept;
+		for (int index = 0; index < trailSize; index++)
+			reasons[trail[index] >> 1] = -1;
+		reductionLimit += FIRST_REDUCTION / 2 + learntCount;
+	}
+
+	private int copy(int[] oldArena, int clause) {
+		final int size = oldArena[clause];
+		final int newClause = reserve(size);
+		System.arraycopy(oldArena, clause, arena, newClause, HEADER + size);
+		attach(newClause);
+		return newClause;
+	}
+
+	private int store(int[] literals, int size, boolean isLearnt, int distance) {
+		final int clause = reserve(size);
+		arena[clause] = size;
+		arena[clause + 1] = (distance << 1) | (isLearnt? 1 : 0);
+		System.arraycopy(literals, 0, arena, clause + HEADER, size);
+		attach(clause);
+		return clause;
+	}
+
+	/**
+	 * Watches the first two literals of the given clause. Binary clauses are watched through their complement, so
+	 * that propagation can tell them apart and handle them without reading the arena.
+	 */
+	private void attach(int clause) {
+		final int first = arena[clause + HEADER], second = arena[clause + HEADER + 1];
+		final int reference = (arena[clause] == 2)? ~clause : clause;
+		watch(first ^ 1, reference, second);
+		watch(second ^ 1, reference, first);
+	}
+
+	private int reserve(int size) {
+		if (arenaSize + HEADER + size > arena.length)
+			arena = Arrays.copyOf(arena, Math.max(2 * arena.length, arenaSize + HEADER + size));
+		final int clause = arenaSize;
+		arenaSize += HEADER + size;
+		return clause;
+	}
+
+	private void watch(int literal, int clause, int blocker) {
+		int[] watchList = watches[literal];
+		final int size = watchSizes[literal];
+		if (size + 2 > watchList.length) watchList = watches[literal] = Arrays.copyOf(watchList, 2 * watchList.length);
+		watchList[size] = clause;
+		watchList[size + 1] = blocker;
+		watchSizes[literal] = size + 2;
+	}
+
+	private static int[] append(int[] array, int size, int element) {
+		if (size == array.length) array = Arrays.copyOf(array, 2 * size);
+		array[size] = element;
+		return array;
+	}
+
+	// ================================================
+	// ACTIVITIES
+	// ================================================
+
+	private void bump(int variable) {
+		if ((activities[variable] += activityIncrement) > 1e100) {
+			for (int other = 0; other < variableCount; other++)
+				activities[other] *= 1e-100;
+			activityIncrement *= 1e-100;
+		}
+		if (heapPositions[variable] >= 0) heapUp(heapPositions[variable]);
+	}
+
+	private void decayActivities() {
+		activityIncrement /= ACTIVITY_DECAY;
+	}
+
+	private void heapInsert(int variable) {
+		heap[heapSize] = variable;
+		heapPositions[variable] = heapSize;
+		heapUp(heapSize++);
+	}
+
+	private int heapRemoveMax() {
+		final int variable = heap[0];
+		heapPositions[variable] = -1;
+		if (--heapSize > 0) {
+			heap[0] = heap[heapSize];
+			heapPositions[heap[0]] = 0;
+			heapDown(0);
+		}
+		return variable;
+	}
+
+	private void heapUp(int position) {
+		final int variable = heap[position];
+		while (position > 0) {
+			final int parent = (position - 1) >> 1;
+			if (activities[heap[parent]] >= activities[variable]) break;
+			heap[position] = heap[parent];
+			heapPositions[heap[position]] = position;
+			position = parent;
+		}
+		heap[position] = variable;
+		heapPositions[variable] = position;
+	}
+
+	private void heapDown(int position) {
+		final int variable = heap[position];
+		while (true) {
+			int child = 2 * position + 1;
+			if (child >= heapSize) break;
+			if (child + 1 < heapSize && activities[heap[child + 1]] > activities[heap[child]]) child++;
+			if (activities[heap[child]] <= activities[variable]) break;
+			heap[position] = heap[child];
+			heapPositions[heap[position]] = position;
+			position = child;
+		}
+		heap[position] = variable;
+		heapPositions[variable] = position;
+	}
+
+	private void checkLimits() {
+		if (Thread.currentThread().isInterrupted())
+			throw new CancellationException("The search was interrupted.");
+		if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0)
+			throw new CancellationException("The search deadline has passed.");
+	}
+}
@@ -3,6 +3,7 @@
  */
 package com.kori_47.sudoku;
 
+import static java.util.Objects.checkIndex;
 import static java.util.Objects.requireNonNull;
 
 import static com.kori_47.utils.ObjectUtils.requireInRange;
@@ -146,6 +147,70 @@ public interface CellGroup<V> extends Formattable, Iterable<Cell<V>> {
 				.findFirst();
 	}
 
+	/**
+	 * Returns the {@link Cell} at the given position in this {@code CellGroup}. The positions of the {@code Cell}s
+	 * of a {@code CellGroup} follow the row-major order of the {@link LatinSquare} they belong to, i.e {@code Cell}s
+	 * are ordered by their {@code y} coordinate and then by their {@code x} coordinate, so that the {@code Cell} at
+	 * position {@code index} is the one whose row-major index is {@code cellIndices()[index]}.
+	 * 
+	 * @param index the position of the {@code Cell} to return.
+	 * 
+	 * @return the {@code Cell} at the given position.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not less than the number of {@code Cell}s
+	 * in this {@code CellGroup}.
+	 * 
+	 * @see #indexOf(Cell)
+	 * @see #cellIndices()
+	 * 
+	 * @implSpec
+	 * The default implementation sorts the {@code Cell}s of this {@code CellGroup}'s {@link #cells() cells}
+	 * {@code Map} using {@link Cells#defaultComparator()} on every call.
+	 */
+	default Cell<V> cellAt(int index) {
+		checkIndex(index, cells().size());
+		return CellGroups.cellsInGridOrder(this).get(index);
+	}
+
+	/**
+	 * Returns the position of the given {@link Cell} in this {@code CellGroup}, or {@code -1} if the {@code Cell}
+	 * isn't part of this {@code CellGroup}. A {@code Cell} is part of a {@code CellGroup} if it's {@link Cell#id() id}
+	 * is a key of the {@code CellGroup}'s {@link #cells() cells} {@code Map}. This is the inverse of
+	 * {@link #cellAt(int)}.
+	 * 
+	 * @param cell the {@code Cell} whose position we want.
+	 * 
+	 * @return the position of the given {@code Cell} or {@code -1} if it isn't part of this {@code CellGroup}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * 
+	 * @implSpec
+	 * The default implementation looks the {@code Cell} up by id and then searches for it among the sorted
+	 * {@code Cell}s of this {@code CellGroup}.
+	 */
+	default int indexOf(Cell<V> cell) {
+		final Cell<V> ownCell = cells().get(requireNonNull(cell, "cell cannot be null.").id());
+		return (ownCell == null)? -1 : CellGroups.cellsInGridOrder(this).indexOf(ownCell);
+	}
+
+	/**
+	 * Returns the row-major indices of the {@link Cell}s of this {@code CellGroup} in the {@link LatinSquare} they
+	 * belong to, in ascending order. The {@code Cell} with the coordinates <i>(x, y)</i> has the row-major index
+	 * <i>y * size() + x</i>, which makes the returned indices valid arguments to {@link LatinSquare#cellAt(int)}.
+	 * The returned array is a copy and can be freely modified by the caller.
+	 * 
+	 * @return the row-major indices of the {@code Cell}s of this {@code CellGroup} in ascending order.
+	 * 
+	 * @implSpec
+	 * The default implementation computes the indices of the {@code Cell}s returned by {@link #cellAt(int)} in
+	 * order.
+	 */
+	default int[] cellIndices() {
+		return CellGroups.cellsInGridOrder(this).stream()
+				.mapToInt(cell -> GridTopology.indexOf(cell, size()))
+				.toArray();
+	}
+
 	/**
 	 * Returns an iterator over the {@link Cell}s in this {@code CellGroup}.
 	 * 
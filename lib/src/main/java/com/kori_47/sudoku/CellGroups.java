@@ -208,6 +208,67 @@ public final class CellGroups {
 		return new SimpleBoxBlock<V>(id, size, cells, startCell, endCell);
 	}
 	
+	/**
+	 * <p> Creates and returns an instance of a {@link Block} of any shape with the specified properties. Unlike a
+	 * {@link BoxBlock}, the {@code Cell}s of the returned {@code Block} don't need to form a rectangle, which makes it
+	 * suitable for the irregular regions of jigsaw {@link Sudoku}s. This method throws an {@link IllegalArgumentException}
+	 * if the following conditions aren't met.
+	 * <ul>
+	 * <li>The given size must be greater than or equal to {@code 1}.</li>
+	 * <li>The number of cells given must be equal to the size given.</li>
+	 * <li>The start and end {@code Cell}s given must be in the provided cells {@code Map}.</li>
+	 * </ul>
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s supported by this {@link Block}.
+	 * 
+	 * @param id the identifier of the {@code Block} instance to be created.
+	 * @param size the size of the {@code Block} instance to be created. This is also the number of {@link Cell}s
+	 * 		in the {@code Block}.
+	 * @param cells a {@code Map} of {@link Cell}s that will be used as this {@code Block}'s {@code Cell}s.
+	 * @param startCell the first {@code Cell} of the {@code Block} in row-major order. This {@code Cell} must be in the
+	 * 		given {@code cells Map}.
+	 * @param endCell the last {@code Cell} of the {@code Block} in row-major order. This {@code Cell} must be in the
+	 * 		given {@code cells Map}.
+	 * 
+	 * @return an instance of a {@code Block} with the specified properties.
+	 * 
+	 * @throws NullPointerException if any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException if any of the conditions stated above isn't met.
+	 * 
+	 * @see #boxBlockOf(String, int, Map, Cell, Cell)
+	 */
+	public static <V> Block<V> blockOf(String id, int size, Map<String, Cell<V>> cells, Cell<V> startCell, Cell<V> endCell) {
+		return new SimpleBlock<V>(id, size, cells, startCell, endCell);
+	}
+
+	/**
+	 * <p> Creates and returns an instance of a {@link UniqueCellGroup} with the specified properties that isn't a
+	 * {@link Row}, {@link Column} or {@link Block}, e.g a diagonal of an <i>X-Sudoku</i> or one of the extra windows of
+	 * a <i>Windoku</i>. The {@code Cell}s of the returned region can be anywhere in the grid. This method throws an
+	 * {@link IllegalArgumentException} if the following conditions aren't met.
+	 * <ul>
+	 * <li>The given size must be greater than or equal to {@code 1}.</li>
+	 * <li>The number of cells given must be equal to the size given.</li>
+	 * </ul>
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s supported by this region.
+	 * 
+	 * @param id the identifier of the region to be created.
+	 * @param size the size of the region to be created. This is also the number of {@link Cell}s in the region.
+	 * @param cells a {@code Map} of {@link Cell}s that will be used as this region's {@code Cell}s.
+	 * 
+	 * @return an instance of a {@code UniqueCellGroup} with the specified properties.
+	 * 
+	 * @throws NullPointerException if any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException if any of the conditions stated above isn't met.
+	 * 
+	 * @see Sudoku#regions()
+	 */
+	public static <V> UniqueCellGroup<V> regionOf(String id, int size, Map<String, Cell<V>> cells) {
+		requireEquals(size, requireNonNull(cells, "cells cannot be null.").size(), "The number of cells must be equal to " + size + ".");
+		return new SimpleRegion<V>(id, size, cells);
+	}
+	
 	/**
 	 * Returns a {@link RowFactory} instance that can be used for instantiating {@link Row}s. The {@code Row}
 	 * instances created by the returned {@code RowFactory} have the same properties as those returned by
@@ -247,6 +308,19 @@ public final class CellGroups {
 		return CellGroups::boxBlockOf;
 	}
 	
+	/**
+	 * Returns a {@link BlockFactory} instance that can be used for instantiating {@link Block}s of any shape. The
+	 * {@code Block} instances created by the returned {@code BlockFactory} have the same properties as those returned
+	 * by {@link CellGroups#blockOf(String, int, Map, Cell, Cell)}.
+	 * 
+	 * @param <V> the type of {@code Symbol} values supported by the {@code Block} instances returned by this factory. 
+	 * 
+	 * @return a {@code BlockFactory} instance that can be used for instantiating {@code Block}s of any shape.
+	 */
+	public static <V> BlockFactory<V> defaultBlockFactory() {
+		return CellGroups::blockOf;
+	}
+	
 	/**
 	 * Returns a default {@link Comparator} that can be used to compare two {@link UniqueCellGroup}s for equality and
 	 * ordering. The comparator returned performs comparisons based on the {@code id}'s of the {@code UniqueCellGroup}'s
@@ -580,6 +654,68 @@ public final class CellGroups {
 		}
 	}
 	
+	/**
+	 * A simple implementation of the {@link Block} interface for {@code Block}s of any shape.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s supported by this {@link Block}.
+	 * 
+	 * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+	 * 
+	 * @since Sun, 18 Oct 2026 22:10:26
+	 */
+	private static final class SimpleBlock<V> extends AbstractUniqueCellGroup<V> implements Block<V> {
+
+		private final Cell<V> startCell;
+		private final Cell<V> endCell;
+		
+		SimpleBlock(String id, int size, Map<String, Cell<V>> cells, Cell<V> startCell, Cell<V> endCell) {
+			super(id, size, cells);
+			this.startCell = validateCellInCellsMap(requireNonNull(startCell, "startCell cannot be null."), cells, startCell + " must be in " + cells);
+			this.endCell = validateCellInCellsMap(requireNonNull(endCell, "endCell cannot be null."), cells, endCell + " must be in " + cells);
+		}
+
+		@Override
+		public Cell<V> startCell() {
+			return startCell;
+		}
+
+		@Override
+		public Cell<V> endCell() {
+			return endCell;
+		}
+	}
+
+	/**
+	 * A simple implementation of the {@link UniqueCellGroup} interface for the extra regions of a {@link Sudoku}.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s supported by this region.
+	 * 
+	 * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+	 * 
+	 * @since Mon, 19 Oct 2026 00:41:09
+	 */
+	private static final class SimpleRegion<V> extends AbstractUniqueCellGroup<V> {
+
+		SimpleRegion(String id, int size, Map<String, Cell<V>> cells) {
+			super(id, size, cells);
+		}
+	}
+	
+	/**
+	 * Returns the {@link Cell}s of the given {@link CellGroup} in row-major order.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s supported by the given {@code CellGroup}.
+	 * 
+	 * @param cellGroup the {@code CellGroup} whose {@code Cell}s we want.
+	 * 
+	 * @return the {@code Cell}s of the given {@code CellGroup} sorted using {@link Cells#defaultComparator()}.
+	 * 
+	 * @see CellGroup#cellAt(int)
+	 */
+	static <V> List<Cell<V>> cellsInGridOrder(CellGroup<V> cellGroup) {
+		return cellGroup.cells().values().stream().sorted(Cells.defaultComparator()).collect(toList());
+	}
+
 	private static int requireEquals(int baseValue, int value, String message) {
 		if(value != baseValue) throw new IllegalArgumentException(message);
 		return value;
@@ -338,7 +338,22 @@ public final class Cells {
 		cell1.changeSymbol(symbol2);
 		cell2.changeSymbol(symbol1);
 	}
-	
+
+	/**
+	 * Returns the {@link Symbol} held by the given {@link Cell} or {@code null} if the {@code Cell} is empty. For
+	 * the {@code Cell}s created by {@link #defaultCellFactory()} this reads the {@code Symbol} directly instead of
+	 * wrapping it in an {@link java.util.Optional Optional} first.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol} of the given {@code Cell}.
+	 * 
+	 * @param cell the {@code Cell} whose {@code Symbol} we want.
+	 * 
+	 * @return the {@code Symbol} held by the given {@code Cell} or {@code null} if the {@code Cell} is empty.
+	 */
+	static <V> Symbol<V> symbolOf(Cell<V> cell) {
+		return (cell instanceof SimpleCell)? ((SimpleCell<V>) cell).value : cell.symbol().orElse(null);
+	}
+
 	/**
 	 * This is a simple implementation of the {@link Cell} interface.
 	 * 
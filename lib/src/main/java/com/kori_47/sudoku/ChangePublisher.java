@@ -0,0 +1,317 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This records and delivers the changes made to the {@link Cell}s of an {@link ObservableLatinSquare}. A
+ * {@code ChangePublisher} is the {@link CellFactory} of the {@code ObservableLatinSquare} that owns it, it wraps
+ * every {@code Cell} created by the {@code CellFactory} of the observed {@link LatinSquare} in a {@code Cell} that
+ * reports changes to it.
+ * 
+ * <p>
+ * While no {@link GridChangeListener} is registered, a change is forwarded straight to the wrapped {@code Cell}
+ * after a single array length check, nothing is recorded or allocated. Once a {@code GridChangeListener} is
+ * registered, the first change of each {@code Cell} in a batch is recorded together with the {@link Symbol} that
+ * the {@code Cell} held before it. When the batch is delivered, the current {@code Symbol} of each recorded
+ * {@code Cell} is read and {@code Cell}s that are back to their original {@code Symbol} are dropped.
+ * 
+ * <p>
+ * Two batch buffers are used so that listeners can safely change the observed {@code LatinSquare}, such changes are
+ * recorded in the other buffer and delivered once the listeners return.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s of the observed {@code LatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 19:04:28
+ */
+final class ChangePublisher<V> implements CellFactory<V> {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final CellFactory<V> cellFactory;
+	private final int size;
+	private ObservableLatinSquare<V> latinSquare;
+	// copy on write so that delivering never has to copy the listeners
+	private GridChangeListener<V>[] listeners;
+	private int depth;
+	private boolean delivering;
+	// created when the first listener is registered
+	private Batch pending;
+	private Batch spare;
+
+	/**
+	 * Creates a new {@code ChangePublisher}.
+	 * 
+	 * @param cellFactory the {@link CellFactory} that creates the wrapped {@link Cell}s.
+	 * @param size the size of the observed {@link LatinSquare}.
+	 */
+	ChangePublisher(CellFactory<V> cellFactory, int size) {
+		this.cellFactory = requireNonNull(cellFactory, "cellFactory cannot be null.");
+		this.size = size;
+		this.listeners = GridArrays.newArray(GridChangeListener.class, 0);
+	}
+
+	/**
+	 * Binds this {@code ChangePublisher} to the {@link ObservableLatinSquare} that owns it.
+	 * 
+	 * @param latinSquare the {@code ObservableLatinSquare} that owns this {@code ChangePublisher}.
+	 */
+	void bind(ObservableLatinSquare<V> latinSquare) {
+		this.latinSquare = latinSquare;
+	}
+
+	@Override
+	public Cell<V> createCell(String id, int x, int y, Symbol<V> symbol) {
+		return new ObservedCell<>(this, requireNonNull(cellFactory.createCell(id, x, y, symbol), "'cellFactory.createCell()' shouldn't return null."));
+	}
+
+	/**
+	 * Returns the {@link CellFactory} that creates the wrapped {@link Cell}s.
+	 * 
+	 * @return the {@code CellFactory} of the observed {@link LatinSquare}.
+	 */
+	CellFactory<V> cellFactory() {
+		return cellFactory;
+	}
+
+	/**
+	 * Records that the given {@link Cell} is about to change, if anyone is listening, and then changes it.
+	 * 
+	 * @param cell the {@code Cell} to change.
+	 * @param value the new {@link Symbol} of the {@code Cell}. Maybe {@code null}.
+	 */
+	private void change(ObservedCell<V> cell, Symbol<V> value) {
+		if (listeners.length == 0) {
+			cell.cell.changeSymbol(value);
+			return;
+		}
+		pending.record(cell, cell.cell.symbol().orElse(null));
+		cell.cell.changeSymbol(value);
+		if (depth == 0) flush();
+	}
+
+	/**
+	 * @see ObservableLatinSquare#addChangeListener(GridChangeListener)
+	 */
+	void addChangeListener(GridChangeListener<V> listener) {
+		requireNonNull(listener, "listener cannot be null.");
+		for (GridChangeListener<V> registered : listeners)
+			if (registered == listener) return;
+		if (pending == null) {
+			pending = new Batch();
+			spare = new Batch();
+		}
+		listeners = Arrays.copyOf(listeners, listeners.length + 1);
+		listeners[listeners.length - 1] = listener;
+	}
+
+	/**
+	 * @see ObservableLatinSquare#removeChangeListener(GridChangeListener)
+	 */
+	boolean removeChangeListener(GridChangeListener<V> listener) {
+		for (int index = 0; index < listeners.length; index++) {
+			if (listeners[index] != listener) continue;
+			GridChangeListener<V>[] remaining = Arrays.copyOf(listeners, listeners.length - 1);
+			System.arraycopy(listeners, index + 1, remaining, index, listeners.length - index - 1);
+			listeners = remaining;
+			// changes recorded for nobody are dropped
+			if (remaining.length == 0) pending.clear();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @see ObservableLatinSquare#beginBatch()
+	 */
+	void beginBatch() {
+		depth++;
+	}
+
+	/**
+	 * @see ObservableLatinSquare#endBatch()
+	 */
+	void endBatch() {
+		if (depth == 0)
+			throw new IllegalStateException("There's no batch to end.");
+		if (--depth == 0) flush();
+	}
+
+	/**
+	 * @see ObservableLatinSquare#flush()
+	 */
+	void flush() {
+		if (delivering || pending == null) return;
+		delivering = true;
+		try {
+			while (pending.size > 0) {
+				final Batch batch = pending;
+				pending = spare;
+				spare = batch;
+				try {
+					if (batch.prepare() > 0)
+						for (GridChangeListener<V> listener : listeners)
+							listener.onChanges(batch);
+				} finally {
+					batch.clear();
+				}
+			}
+		} finally {
+			delivering = false;
+		}
+	}
+
+	/**
+	 * The changes recorded for a single batch, coalesced per {@link Cell}.
+	 */
+	private final class Batch implements GridChanges<V> {
+
+		// the position of each cell in this batch, -1 if it hasn't changed
+		private final int[] positions;
+		private final ObservedCell<V>[] cells;
+		private final Symbol<V>[] oldSymbols;
+		private final Symbol<V>[] newSymbols;
+		private int size;
+
+		Batch() {
+			final int cellCount = ChangePublisher.this.size * ChangePublisher.this.size;
+			this.positions = new int[cellCount];
+			this.cells = GridArrays.newArray(ObservedCell.class, cellCount);
+			this.oldSymbols = GridArrays.newArray(Symbol.class, cellCount);
+			this.newSymbols = GridArrays.newArray(Symbol.class, cellCount);
+			Arrays.fill(positions, -1);
+		}
+
+		void record(ObservedCell<V> cell, Symbol<V> oldSymbol) {
+			if (positions[cell.index] >= 0) return;
+			positions[cell.index] = size;
+			cells[size] = cell;
+			oldSymbols[size++] = oldSymbol;
+		}
+
+		int prepare() {
+			int kept = 0;
+			for (int position = 0; position < size; position++) {
+				final ObservedCell<V> cell = cells[position];
+				final Symbol<V> oldSymbol = oldSymbols[position], newSymbol = cell.symbol().orElse(null);
+				positions[cell.index] = -1;
+				if (Objects.equals(oldSymbol, newSymbol)) continue;
+				cells[kept] = cell;
+				oldSymbols[kept] = oldSymbol;
+				newSymbols[kept++] = newSymbol;
+			}
+			Arrays.fill(cells, kept, size, null);
+			Arrays.fill(oldSymbols, kept, size, null);
+			return size = kept;
+		}
+
+		void clear() {
+			for (int position = 0; position < size; position++)
+				positions[cells[position].index] = -1;
+			Arrays.fill(cells, 0, size, null);
+			Arrays.fill(oldSymbols, 0, size, null);
+			Arrays.fill(newSymbols, 0, size, null);
+			size = 0;
+		}
+
+		@Override
+		public ObservableLatinSquare<V> latinSquare() {
+			return latinSquare;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Cell<V> cell(int index) {
+			return cells[Objects.checkIndex(index, size)];
+		}
+
+		@Override
+		public Symbol<V> oldSymbol(int index) {
+			return oldSymbols[Objects.checkIndex(index, size)];
+		}
+
+		@Override
+		public Symbol<V> newSymbol(int index) {
+			return newSymbols[Objects.checkIndex(index, size)];
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder("GridChanges[");
+			for (int position = 0; position < size; position++) {
+				if (position > 0) builder.append(", ");
+				builder.append(cells[position].id()).append(": ").append(oldSymbols[position]).append(" -> ").append(newSymbols[position]);
+			}
+			return builder.append(']').toString();
+		}
+	}
+
+	/**
+	 * A {@link Cell} that reports the changes made to the {@code Cell} it wraps to it's {@code ChangePublisher}.
+	 */
+	private static final class ObservedCell<V> implements Cell<V> {
+
+		private final ChangePublisher<V> publisher;
+		private final Cell<V> cell;
+		private final int index;
+
+		ObservedCell(ChangePublisher<V> publisher, Cell<V> cell) {
+			this.publisher = publisher;
+			this.cell = cell;
+			this.index = GridTopology.indexOf(cell, publisher.size);
+		}
+
+		@Override
+		public void changeSymbol(Symbol<V> value) {
+			publisher.change(this, value);
+		}
+
+		@Override
+		public int x() {
+			return cell.x();
+		}
+
+		@Override
+		public int y() {
+			return cell.y();
+		}
+
+		@Override
+		public String id() {
+			return cell.id();
+		}
+
+		@Override
+		public Optional<Symbol<V>> symbol() {
+			return cell.symbol();
+		}
+
+		@Override
+		public int hashCode() {
+			return Cells.hashCode(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return Cells.equals(this, obj);
+		}
+
+		@Override
+		public String toString() {
+			return Cells.toString(this);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+
+/**
+ * This is a {@link FailedStateCache} backed by a single {@code long[]} of hashes. The hashes are spread over sets of
+ * {@value #WAYS} slots and each set evicts like a clock: every slot has a reference bit that is set when the
+ * slot's hash is looked up, and an insertion into a full set sweeps it's slots, clearing the reference bits it
+ * passes, until it finds a slot whose bit is clear. A hash that keeps being looked up therefore stays cached while
+ * the others are replaced, which approximates evicting the least recently used hash without any per lookup
+ * bookkeeping beyond a single bit.
+ * 
+ * <p>
+ * The cached hashes are only meaningful for grids with the same units and the same extra rules, the cache remembers
+ * the {@link GridTopology} and the rules it was last used with and forgets all the hashes when either changes.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 06:58:40
+ */
+final class ClockFailedStateCache implements FailedStateCache {
+
+	/**
+	 * the largest supported capacity.
+	 */
+	static final int MAX_CAPACITY = 1 << 30;
+
+	/**
+	 * the number of slots of every set.
+	 */
+	static final int WAYS = 4;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final long[] hashes;
+	private final long[] referenced;
+	private final byte[] hands;
+	private final int setMask;
+	// what the cached hashes were computed for
+	private GridTopology topology;
+	private Object rules;
+	private int size;
+
+	// ================================================
+	// STATISTICS
+	// ================================================
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates a new empty {@code ClockFailedStateCache} holding at least the given number of hashes. The capacity
+	 * is rounded up to a power of two of at least {@value #WAYS}.
+	 * 
+	 * @param capacity the minimum number of hashes to hold, at most {@value #MAX_CAPACITY}.
+	 */
+	ClockFailedStateCache(int capacity) {
+		final int slots = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+		this.hashes = new long[slots];
+		this.referenced = new long[(slots + Long.SIZE - 1) / Long.SIZE];
+		this.hands = new byte[slots / WAYS];
+		this.setMask = slots / WAYS - 1;
+	}
+
+	@Override
+	public int capacity() {
+		return hashes.length;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public long hits() {
+		return hits;
+	}
+
+	@Override
+	public long misses() {
+		return misses;
+	}
+
+	@Override
+	public void clear() {
+		forget();
+		hits = misses = 0L;
+	}
+
+	/**
+	 * Prepares this cache for the partial assignments of a grid with the given units and rules, forgetting all the
+	 * cached hashes if they were computed for a grid with other units or rules.
+	 * 
+	 * @param topology the {@link GridTopology} of the searched grid.
+	 * @param rules the source of the rules of the searched grid beyond the uniqueness of the {@link Symbol}s of it's
+	 * units, {@code null} if there are none.
+	 */
+	void useFor(GridTopology topology, Object rules) {
+		if (this.topology != null && this.topology.hasSameUnits(topology) && this.rules == rules) return;
+		forget();
+		this.topology = topology;
+		this.rules = rules;
+	}
+
+	/**
+	 * Looks up the given hash, marking it as recently used if present.
+	 * 
+	 * @param hash the hash of a partial assignment.
+	 * 
+	 * @return {@code true} if the hash is cached, {@code false} otherwise.
+	 */
+	boolean contains(long hash) {
+		hash = nonEmpty(hash);
+		final int base = setOf(hash) * WAYS;
+		for (int slot = base; slot < base + WAYS; slot++) {
+			if (hashes[slot] == hash) {
+				referenced[slot >>> 6] |= 1L << slot;
+				hits++;
+				return true;
+			}
+		}
+		misses++;
+		return false;
+	}
+
+	/**
+	 * Caches the given hash, evicting a hash of it's set that wasn't used since the hand last swept past it if the
+	 * set is full.
+	 * 
+	 * @param hash the hash of a partial assignment.
+	 */
+	void add(long hash) {
+		hash = nonEmpty(hash);
+		final int set = setOf(hash), base = set * WAYS;
+		for (int slot = base; slot < base + WAYS; slot++) {
+			if (hashes[slot] == hash) return;
+			if (hashes[slot] == 0L) {
+				hashes[slot] = hash;
+				size++;
+				return;
+			}
+		}
+		// the sweep clears at most WAYS bits before coming back to a cleared slot
+		int hand = hands[set];
+		while ((referenced[(base + hand) >>> 6] & (1L << (base + hand))) != 0L) {
+			referenced[(base + hand) >>> 6] &= ~(1L << (base + hand));
+			hand = (hand + 1) % WAYS;
+		}
+		hashes[base + hand] = hash;
+		hands[set] = (byte) ((hand + 1) % WAYS);
+	}
+
+	private void forget() {
+		Arrays.fill(hashes, 0L);
+		Arrays.fill(referenced, 0L);
+		Arrays.fill(hands, (byte) 0);
+		topology = null;
+		rules = null;
+		size = 0;
+	}
+
+	private int setOf(long hash) {
+		// the low bits of a hash pick the set, the hashes are uniformly distributed
+		return (int) hash & setMask;
+	}
+
+	private static long nonEmpty(long hash) {
+		// 0 marks an empty slot, merging the hash 0 with 1 is no likelier to matter than any other collision
+		return (hash == 0L)? 1L : hash;
+	}
+}
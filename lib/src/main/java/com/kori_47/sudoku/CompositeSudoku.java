@@ -100,6 +100,26 @@ final class CompositeSudoku<V> implements Sudoku<V> {
 		return latinSquare.endCell();
 	}
 
+	@Override
+	public Cell<V> cellAt(int index) {
+		return latinSquare.cellAt(index);
+	}
+
+	@Override
+	public int indexOf(Cell<V> cell) {
+		return latinSquare.indexOf(cell);
+	}
+
+	@Override
+	public void loadFrom(int[] symbolIds) {
+		latinSquare.loadFrom(symbolIds);
+	}
+
+	@Override
+	public void exportTo(int[] symbolIds) {
+		latinSquare.exportTo(symbolIds);
+	}
+
 	@Override
 	public int size() {
 		return variant.size();
@@ -0,0 +1,95 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A {@link LatinSquare} that can safely be shared and modified by multiple threads, e.g a board shared by the
+ * players of a cooperative game.
+ * 
+ * <p>
+ * Every change to the {@link Symbol} of a {@link Cell}, whether made through the {@code Cell} itself or through the
+ * {@code ConcurrentLatinSquare}, is atomic and immediately visible to all other threads. Compound operations such
+ * as {@link #changeSymbolIfConsistent(Cell, Symbol)} are atomic with respect to every other change made to the
+ * {@code Cell}'s peers. Reads never block, and a consistent view of the whole {@code ConcurrentLatinSquare} can be
+ * taken at any time using {@link #snapshot()} without blocking the threads modifying it.
+ * 
+ * <p>
+ * Only {@code Symbol}s that are part of the {@code ConcurrentLatinSquare}'s {@link #symbols() symbols} can be set on
+ * it's {@code Cell}s, attempts to set any other {@code Symbol} result in a {@link SudokuException}.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s supported by this {@code ConcurrentLatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 16:21:08
+ * 
+ * @see LatinSquares#concurrentLatinSquareOf(LatinSquare)
+ * @see ConcurrentSudoku
+ */
+public interface ConcurrentLatinSquare<V> extends LatinSquare<V> {
+
+	/**
+	 * Atomically sets the given {@link Symbol} on the given {@link Cell} <i>if and only if</i> none of the
+	 * {@code Cell}'s peers, i.e the other {@code Cell}s of the {@link Row}s, {@link Column}s and, in the case of a
+	 * {@link Sudoku}, {@link Block}s that the {@code Cell} belongs to, already holds the given {@code Symbol}.
+	 * Clearing a {@code Cell}, i.e passing a {@code null Symbol}, always succeeds.
+	 * 
+	 * @param cell the {@code Cell} whose value we want to change.
+	 * @param symbol the {@code Symbol} to set on the given {@code Cell}. Maybe {@code null}.
+	 * 
+	 * @return {@code true} if the {@code Symbol} was set, {@code false} if one of the {@code Cell}'s peers already
+	 * holds the given {@code Symbol}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} or {@code Symbol} is not part of this
+	 * {@code ConcurrentLatinSquare}.
+	 */
+	boolean changeSymbolIfConsistent(Cell<V> cell, Symbol<V> symbol);
+
+	/**
+	 * Atomically sets the given {@link Symbol} on the given {@link Cell} <i>if and only if</i> the {@code Cell}
+	 * currently holds the {@code expected Symbol}. A {@code null expected Symbol} matches an empty {@code Cell}.
+	 * 
+	 * @param cell the {@code Cell} whose value we want to change.
+	 * @param expected the {@code Symbol} that the {@code Cell} is expected to hold. Maybe {@code null}.
+	 * @param symbol the {@code Symbol} to set on the given {@code Cell}. Maybe {@code null}.
+	 * 
+	 * @return {@code true} if the {@code Symbol} was set, {@code false} if the {@code Cell} didn't hold the
+	 * {@code expected Symbol}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} or any of the given {@code Symbol}s is not part of this
+	 * {@code ConcurrentLatinSquare}.
+	 */
+	boolean compareAndChangeSymbol(Cell<V> cell, Symbol<V> expected, Symbol<V> symbol);
+
+	/**
+	 * Returns an independent, <i>non thread safe</i>, copy of this {@code ConcurrentLatinSquare} holding the values
+	 * of it's {@link Cell}s at a single point in time. Taking a snapshot never blocks the threads modifying this
+	 * {@code ConcurrentLatinSquare}, instead, the snapshot is retried if a modification happens while it is being
+	 * taken.
+	 * 
+	 * @return a consistent copy of this {@code ConcurrentLatinSquare}.
+	 */
+	LatinSquare<V> snapshot();
+
+	/**
+	 * Returns the number of modifications made to this {@code ConcurrentLatinSquare} so far. The returned value
+	 * changes whenever a {@link Cell} of this {@code ConcurrentLatinSquare} is modified and can be used to cheaply
+	 * check whether a previously taken {@link #snapshot() snapshot} is still current.
+	 * 
+	 * @return the number of modifications made to this {@code ConcurrentLatinSquare} so far.
+	 */
+	long version();
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The returned copy is also a {@code ConcurrentLatinSquare} and holds the values of this
+	 * {@code ConcurrentLatinSquare}'s {@link Cell}s at a single point in time.
+	 */
+	@Override
+	ConcurrentLatinSquare<V> copy();
+}
@@ -0,0 +1,109 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+
+/**
+ * This is a {@link SimpleLatinSquare} whose {@link Cell}s are backed by an {@link AtomicGrid}, making it a
+ * {@link ConcurrentLatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 16:52:36
+ */
+final class ConcurrentSimpleLatinSquare<V> extends SimpleLatinSquare<V> implements ConcurrentLatinSquare<V>, AtomicLatinSquare<V> {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final CellFactory<V> cellFactory;
+	private final AtomicGrid<V> grid;
+
+	/**
+	 * Creates a new {@link ConcurrentLatinSquare} with the same properties and {@link Cell} values as the given
+	 * {@link LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to copy.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws SudokuException if a {@code Cell} of the given {@code LatinSquare} holds a {@link Symbol} that isn't one
+	 * of it's {@link LatinSquare#symbols() symbols}.
+	 */
+	ConcurrentSimpleLatinSquare(LatinSquare<V> latinSquare) {
+		this(latinSquare, new AtomicGrid<>(requireNonNull(latinSquare, "latinSquare cannot be null.").size()));
+	}
+
+	private ConcurrentSimpleLatinSquare(LatinSquare<V> latinSquare, AtomicGrid<V> grid) {
+		super(latinSquare.size(), new LinkedHashSet<>(latinSquare.symbols().values()), grid, latinSquare.rowFactory(),
+				latinSquare.columnFactory());
+		this.cellFactory = latinSquare.cellFactory();
+		this.grid = grid;
+		grid.bind(this, latinSquare);
+	}
+
+	@Override
+	public void changeSymbol(Cell<V> cell, Symbol<V> symbol) {
+		grid.write(grid.indexOf(cell), symbol);
+	}
+
+	@Override
+	public void loadFrom(int[] symbolIds) {
+		grid.loadFrom(symbolIds);
+	}
+
+	@Override
+	public void exportTo(int[] symbolIds) {
+		grid.exportTo(symbolIds);
+	}
+
+	@Override
+	public void clear() {
+		grid.writeAll(super::clear);
+	}
+
+	@Override
+	public void flipHorizontally() {
+		grid.writeAll(super::flipHorizontally);
+	}
+
+	@Override
+	public void flipVertically() {
+		grid.writeAll(super::flipVertically);
+	}
+
+	@Override
+	public LatinSquare<V> snapshot() {
+		return grid.fill(LatinSquares.latinSquareOf(this), grid.read());
+	}
+
+	@Override
+	public ConcurrentLatinSquare<V> copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final ConcurrentLatinSquare<V> newLatinSquare = new ConcurrentSimpleLatinSquare<>(this);
+		event.record(newLatinSquare);
+		return newLatinSquare;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The {@code Cell}s of a {@code ConcurrentLatinSquare} are always created by it's {@link AtomicGrid}, this
+	 * returns the {@code CellFactory} of the {@link LatinSquare} that this {@code ConcurrentLatinSquare} was
+	 * created from so that {@link #snapshot() snapshots} and other {@code LatinSquare}s derived from this one use it.
+	 */
+	@Override
+	public CellFactory<V> cellFactory() {
+		return cellFactory;
+	}
+
+	@Override
+	public AtomicGrid<V> grid() {
+		return grid;
+	}
+}
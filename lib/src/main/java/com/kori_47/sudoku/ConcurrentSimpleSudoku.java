@@ -0,0 +1,109 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+
+/**
+ * This is a {@link SimpleSudoku} whose {@link Cell}s are backed by an {@link AtomicGrid}, making it a
+ * {@link ConcurrentSudoku}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 16:58:03
+ */
+final class ConcurrentSimpleSudoku<V> extends SimpleSudoku<V> implements ConcurrentSudoku<V>, AtomicLatinSquare<V> {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final CellFactory<V> cellFactory;
+	private final AtomicGrid<V> grid;
+
+	/**
+	 * Creates a new {@link ConcurrentSudoku} with the same properties and {@link Cell} values as the given
+	 * {@link Sudoku}.
+	 * 
+	 * @param sudoku the {@code Sudoku} to copy.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 * @throws SudokuException if a {@code Cell} of the given {@code Sudoku} holds a {@link Symbol} that isn't one of
+	 * it's {@link Sudoku#symbols() symbols}.
+	 */
+	ConcurrentSimpleSudoku(Sudoku<V> sudoku) {
+		this(sudoku, new AtomicGrid<>(requireNonNull(sudoku, "sudoku cannot be null.").size()));
+	}
+
+	private ConcurrentSimpleSudoku(Sudoku<V> sudoku, AtomicGrid<V> grid) {
+		super(sudoku.variant(), new LinkedHashSet<>(sudoku.symbols().values()), grid, sudoku.rowFactory(),
+				sudoku.columnFactory(), sudoku.blockFactory());
+		this.cellFactory = sudoku.cellFactory();
+		this.grid = grid;
+		grid.bind(this, sudoku);
+	}
+
+	@Override
+	public void changeSymbol(Cell<V> cell, Symbol<V> symbol) {
+		grid.write(grid.indexOf(cell), symbol);
+	}
+
+	@Override
+	public void loadFrom(int[] symbolIds) {
+		grid.loadFrom(symbolIds);
+	}
+
+	@Override
+	public void exportTo(int[] symbolIds) {
+		grid.exportTo(symbolIds);
+	}
+
+	@Override
+	public void clear() {
+		grid.writeAll(super::clear);
+	}
+
+	@Override
+	public void flipHorizontally() {
+		grid.writeAll(super::flipHorizontally);
+	}
+
+	@Override
+	public void flipVertically() {
+		grid.writeAll(super::flipVertically);
+	}
+
+	@Override
+	public Sudoku<V> snapshot() {
+		return grid.fill(LatinSquares.sudokuOf(this), grid.read());
+	}
+
+	@Override
+	public ConcurrentSudoku<V> copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final ConcurrentSudoku<V> newSudoku = new ConcurrentSimpleSudoku<>(this);
+		event.record(newSudoku);
+		return newSudoku;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The {@code Cell}s of a {@code ConcurrentSudoku} are always created by it's {@link AtomicGrid}, this
+	 * returns the {@code CellFactory} of the {@link Sudoku} that this {@code ConcurrentSudoku} was
+	 * created from so that {@link #snapshot() snapshots} and other {@code Sudoku}s derived from this one use it.
+	 */
+	@Override
+	public CellFactory<V> cellFactory() {
+		return cellFactory;
+	}
+
+	@Override
+	public AtomicGrid<V> grid() {
+		return grid;
+	}
+}
@@ -0,0 +1,26 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A {@link Sudoku} that can safely be shared and modified by multiple threads. This interface combines the
+ * {@code Sudoku} and {@link ConcurrentLatinSquare} interfaces, the {@link Block}s of a {@code ConcurrentSudoku} are
+ * taken into account by {@link #changeSymbolIfConsistent(Cell, Symbol)}.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s supported by this {@code ConcurrentSudoku}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 16:24:51
+ * 
+ * @see LatinSquares#concurrentSudokuOf(Sudoku)
+ */
+public interface ConcurrentSudoku<V> extends ConcurrentLatinSquare<V>, Sudoku<V> {
+
+	@Override
+	Sudoku<V> snapshot();
+
+	@Override
+	ConcurrentSudoku<V> copy();
+}
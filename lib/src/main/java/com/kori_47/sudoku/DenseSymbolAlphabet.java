@@ -0,0 +1,100 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * This is a {@link SymbolAlphabet} backed by an array of its {@link Symbol}s indexed by their ids, so that looking
+ * a {@code Symbol} up by id or checking whether a {@code Symbol} is part of the alphabet is a single array access.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s of this {@code SymbolAlphabet}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 20:55:32
+ */
+final class DenseSymbolAlphabet<V> extends AbstractSet<Symbol<V>> implements SymbolAlphabet<V> {
+
+	/**
+	 * the largest id that a {@code DenseSymbolAlphabet} can hold.
+	 */
+	static final int MAX_ID = 4096;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	// the symbols in ascending order of their ids
+	private final Symbol<V>[] symbols;
+	// the symbols indexed by their ids, null where there's no symbol
+	private final Symbol<V>[] symbolsById;
+	private final int hashCode;
+
+	/**
+	 * Creates a new {@code DenseSymbolAlphabet}.
+	 * 
+	 * @param symbols the {@link Symbol}s of the new {@code SymbolAlphabet} in ascending order of their ids. Their ids
+	 * must be positive, distinct and not greater than {@link #MAX_ID}. The array is not copied.
+	 */
+	DenseSymbolAlphabet(Symbol<V>[] symbols) {
+		this.symbols = symbols;
+		this.symbolsById = GridArrays.newArray(Symbol.class, symbols[symbols.length - 1].idAsInt() + 1);
+		int hashCode = 0;
+		for (Symbol<V> symbol : symbols) {
+			this.symbolsById[symbol.idAsInt()] = symbol;
+			hashCode += symbol.hashCode();
+		}
+		// the alphabet is immutable so the Set hash code can be cached
+		this.hashCode = hashCode;
+	}
+
+	@Override
+	public Symbol<V> symbol(int id) {
+		if (!containsId(id))
+			throw new IllegalArgumentException("This alphabet has no Symbol with the id " + id + ".");
+		return symbolsById[id];
+	}
+
+	@Override
+	public boolean containsId(int id) {
+		return id > 0 && id < symbolsById.length && symbolsById[id] != null;
+	}
+
+	@Override
+	public int maxId() {
+		return symbolsById.length - 1;
+	}
+
+	@Override
+	public boolean contains(Object obj) {
+		if (!(obj instanceof Symbol)) return false;
+		final int id = ((Symbol<?>) obj).idAsInt();
+		return containsId(id) && symbolsById[id].equals(obj);
+	}
+
+	@Override
+	public Iterator<Symbol<V>> iterator() {
+		// the list iterator doesn't support removal
+		return Arrays.asList(symbols).iterator();
+	}
+
+	@Override
+	public Spliterator<Symbol<V>> spliterator() {
+		return Spliterators.spliterator(symbols, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+	}
+
+	@Override
+	public int size() {
+		return symbols.length;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+}
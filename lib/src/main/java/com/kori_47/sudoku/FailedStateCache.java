@@ -0,0 +1,69 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A {@code FailedStateCache} remembers the partial assignments of a {@link LatinSquare} that a search has proven to
+ * have no solution, so that later searches on the same {@code LatinSquare}, or on another {@code LatinSquare} with
+ * the same rules, can skip them. This is meant for many
+ * closely related searches run one after the other, e.g the uniqueness checks of
+ * {@link Solvers#generate(LatinSquare, java.util.Random, FailedStateCache) generate}, where removing a single clue
+ * can lead the search back into dead ends it already explored. How often that happens depends on the puzzles, the
+ * {@link #hits()} and {@link #misses()} of the cache tell whether it is worth it's lookups.
+ * 
+ * <p>
+ * A partial assignment is identified by a {@code 64} bit hash of the {@link Symbol} of every {@link Cell}, clues
+ * included. The cache holds a fixed number of hashes, set when it is created, and once full, evicts the hashes
+ * that weren't looked up recently to make room for new ones. The cached partial assignments are shared by all the
+ * {@code LatinSquare}s with the same {@link Row}s, {@link Column}s and {@link Block}s, e.g all the puzzles of a
+ * {@link Sudoku.SudokuVariant}, since a partial assignment that has no solution in one of them has no solution in
+ * any of them. A {@code LatinSquare} with rules beyond the uniqueness of it's {@code Symbol}s, e.g a
+ * {@link KillerSudoku}, only shares them with itself. Using a {@code FailedStateCache} with a {@code LatinSquare}
+ * that doesn't share the cached partial assignments first forgets all of them. A {@code FailedStateCache} is
+ * <i>not thread safe</i>.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 06:52:17
+ * 
+ * @see Solvers#failedStateCacheOf(int)
+ */
+public interface FailedStateCache {
+
+	/**
+	 * Returns the maximum number of partial assignments held by this {@code FailedStateCache}.
+	 * 
+	 * @return the capacity of this {@code FailedStateCache}.
+	 */
+	int capacity();
+
+	/**
+	 * Returns the number of partial assignments currently held by this {@code FailedStateCache}.
+	 * 
+	 * @return the number of cached partial assignments.
+	 */
+	int size();
+
+	/**
+	 * Returns the number of lookups that found the searched partial assignment in this {@code FailedStateCache},
+	 * i.e the number of searches that were skipped, since it was created or last {@link #clear() cleared}.
+	 * 
+	 * @return the number of hits of this {@code FailedStateCache}.
+	 */
+	long hits();
+
+	/**
+	 * Returns the number of lookups that didn't find the searched partial assignment in this
+	 * {@code FailedStateCache} since it was created or last {@link #clear() cleared}.
+	 * 
+	 * @return the number of misses of this {@code FailedStateCache}.
+	 */
+	long misses();
+
+	/**
+	 * Removes all the partial assignments held by this {@code FailedStateCache} and resets it's {@link #hits()}
+	 * and {@link #misses()} to {@code 0}.
+	 */
+	void clear();
+}
@@ -176,12 +176,14 @@ public final class Formattables {
 	public static String toXY(final LatinSquare<?> latinSquare, final String delimiter) {
 		requireNonNull(latinSquare, "latinSquare cannot be null.");
 		requireNonNull(delimiter, "delimiter cannot be null.");
-		return latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
+		final GridFormatEvent event = new GridFormatEvent();
+		event.begin();
+		return event.record(latinSquare, "XY", latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
 				() -> new StringJoiner(delimiter),
 				(joiner, row) -> joiner.add(row.toXY()),
                 StringJoiner::merge,
 				StringJoiner::toString
-		));
+		)));
 	}
 
 	/* ============================================================================
@@ -397,12 +399,14 @@ public final class Formattables {
 		requireNonNull(latinSquare, "latinSquare cannot be null.");
 		requireNonNull(delimiter, "delimiter cannot be null.");
 		requireNonNull(placeholder, "placeholder cannot be null.");
-		return latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
+		final GridFormatEvent event = new GridFormatEvent();
+		event.begin();
+		return event.record(latinSquare, "XYV", latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
 				() -> new StringJoiner(delimiter),
 				(joiner, row) -> joiner.add(row.toXYV()),
                 StringJoiner::merge,
 				StringJoiner::toString
-		));
+		)));
 	}
 	/* ============================================================================
 	 * toXYI()
@@ -620,12 +624,14 @@ public final class Formattables {
 		requireNonNull(latinSquare, "latinSquare cannot be null.");
 		requireNonNull(delimiter, "delimiter cannot be null.");
 		requireNonNull(placeholder, "placeholder cannot be null.");
-		return latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
+		final GridFormatEvent event = new GridFormatEvent();
+		event.begin();
+		return event.record(latinSquare, "XYI", latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
 				() -> new StringJoiner(delimiter),
 				(joiner, row) -> joiner.add(row.toXYI()),
                 StringJoiner::merge,
 				StringJoiner::toString
-		));
+		)));
 	}
 	/* ============================================================================
 	 * toV()
@@ -813,12 +819,14 @@ public final class Formattables {
 		requireNonNull(latinSquare, "latinSquare cannot be null.");
 		requireNonNull(delimiter, "delimiter cannot be null.");
 		requireNonNull(placeholder, "placeholder cannot be null.");
-		return latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
+		final GridFormatEvent event = new GridFormatEvent();
+		event.begin();
+		return event.record(latinSquare, "V", latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
 				() -> new StringJoiner(delimiter),
 				(joiner, row) -> joiner.add(row.toV()),
                 StringJoiner::merge,
 				StringJoiner::toString
-		));
+		)));
 	}
 	/* ============================================================================
 	 * toI()
@@ -1006,12 +1014,14 @@ public final class Formattables {
 		requireNonNull(latinSquare, "latinSquare cannot be null.");
 		requireNonNull(delimiter, "delimiter cannot be null.");
 		requireNonNull(placeholder, "placeholder cannot be null.");
-		return latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
+		final GridFormatEvent event = new GridFormatEvent();
+		event.begin();
+		return event.record(latinSquare, "I", latinSquare.rows().values().stream().sorted(REVERSE_ROW_COMPARATOR).collect(of(
 				() -> new StringJoiner(delimiter),
 				(joiner, row) -> joiner.add(row.toI()),
                 StringJoiner::merge,
 				StringJoiner::toString
-		));
+		)));
 	}
 	
 	// private constructor to prevent instantiation of this class.
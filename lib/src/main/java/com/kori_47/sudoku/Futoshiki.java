@@ -0,0 +1,38 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.List;
+
+/**
+ * A {@code Futoshiki} is a {@link LatinSquare} with {@link Inequality}s between some of it's neighbouring
+ * {@link Cell}s. The {@link Symbol}s of a {@code Futoshiki} are ordered by their {@link Symbol#compareTo(Symbol)
+ * natural ordering} and the {@code Symbol} of the lesser {@code Cell} of every {@code Inequality} must be less than
+ * the {@code Symbol} of it's greater {@code Cell}.
+ * 
+ * <p>
+ * The {@link Solvers} enforce the {@code Inequality}s of a {@code Futoshiki} both when solving and when validating
+ * it.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s of this {@code Futoshiki}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 02:05:52
+ * 
+ * @see LatinSquares#futoshikiOf(int, java.util.Set, int[][])
+ */
+public interface Futoshiki<V> extends LatinSquare<V> {
+
+	/**
+	 * Returns an unmodifiable {@code List} of the {@link Inequality}s of this {@code Futoshiki} in the order they
+	 * were given when it was created.
+	 * 
+	 * @return the {@code Inequality}s of this {@code Futoshiki}.
+	 */
+	List<Inequality> inequalities();
+
+	@Override
+	Futoshiki<V> copy();
+}
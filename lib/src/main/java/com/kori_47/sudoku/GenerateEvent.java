@@ -0,0 +1,53 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This event records the {@link Solvers#generate(LatinSquare, java.util.Random) generation} of a puzzle, i.e the
+ * search for a random solution and the uniqueness checks run while removing it's clues. A generation aborted by a
+ * {@link java.util.concurrent.CancellationException CancellationException} is recorded as cancelled.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:11:40
+ */
+@Name("com.kori_47.sudoku.Generate")
+@Label("Generate")
+@Description("The generation of a puzzle with a unique solution")
+final class GenerateEvent extends GridEvent {
+
+	@Label("Nodes")
+	@Description("The number of search nodes of all the searches")
+	long nodes;
+
+	@Label("Clues")
+	@Description("The number of clues of the generated puzzle")
+	int clues;
+
+	@Label("Cancelled")
+	@Description("Whether the generation was aborted by an interrupt or it's deadline")
+	boolean cancelled;
+
+	/**
+	 * Records the generation of a puzzle on the given grid.
+	 * 
+	 * @param grid the {@link LatinSquare} that the puzzle was generated on.
+	 * @param nodes the number of search nodes of all the searches.
+	 * @param clues the number of clues of the puzzle, {@code 0} if the generation was aborted.
+	 * @param cancelled whether the generation was aborted.
+	 */
+	void record(LatinSquare<?> grid, long nodes, int clues, boolean cancelled) {
+		end();
+		if (!shouldCommit()) return;
+		describe(grid);
+		this.nodes = nodes;
+		this.clues = clues;
+		this.cancelled = cancelled;
+		commit();
+	}
+}
@@ -0,0 +1,196 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Array;
+
+/**
+ * This class consists exclusively of static methods that move the {@link Symbol}s of a {@link LatinSquare} to and
+ * from primitive arrays of {@code Symbol} ids. Such arrays hold one entry per {@link Cell} in row-major order, i.e
+ * the {@code Cell} with the coordinates <i>(x, y)</i> is at the index <i>y * size + x</i>, with {@code 0} standing
+ * for an empty {@code Cell}.
+ * 
+ * <p>
+ * The ids are validated and translated into slots, i.e {@link SymbolIndex ordinals} plus one or {@code 0} for no
+ * {@code Symbol}, in a single pass before anything is written, so a failed load leaves the {@code LatinSquare}
+ * untouched.
+ * 
+ * <p>
+ * This class also creates the arrays of {@code Cell}s and {@code Symbol}s that the grids and solvers use for bulk
+ * access, Java doesn't allow creating arrays of a parameterized type directly.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 10:24:05
+ * 
+ * @see LatinSquare#loadFrom(int[])
+ * @see LatinSquare#exportTo(int[])
+ */
+final class GridArrays {
+
+	/**
+	 * the largest {@code Symbol} id that can be stored in a {@code byte} array.
+	 */
+	static final int MAX_BYTE_ID = 0xFF;
+
+	/**
+	 * Loads the given {@link Symbol} ids into the given {@link LatinSquare} using {@link Cell#changeSymbol(Symbol)}.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to load the ids into.
+	 * @param symbolIds the {@code Symbol} ids in row-major order.
+	 * 
+	 * @throws NullPointerException if {@code symbolIds} is {@code null}.
+	 * @throws IllegalArgumentException if the length of {@code symbolIds} isn't the number of {@code Cell}s in the
+	 * given {@code LatinSquare}.
+	 * @throws SudokuException if any of the ids isn't {@code 0} or the id of one of the {@code Symbol}s of the given
+	 * {@code LatinSquare}.
+	 */
+	static <V> void load(LatinSquare<V> latinSquare, int[] symbolIds) {
+		final int size = latinSquare.size();
+		final SymbolIndex<V> symbolIndex = new SymbolIndex<>(latinSquare.symbols());
+		final int[] slots = slotsOf(symbolIds, symbolIndex, size);
+		for (Cell<V> cell : latinSquare.cells().values())
+			cell.changeSymbol(symbolOf(slots[GridTopology.indexOf(cell, size)], symbolIndex));
+	}
+
+	/**
+	 * Writes the {@link Symbol} ids of the {@link Cell}s of the given {@link LatinSquare} into the given array.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose {@code Symbol} ids to export.
+	 * @param symbolIds the array to write the ids into in row-major order.
+	 * 
+	 * @throws NullPointerException if {@code symbolIds} is {@code null}.
+	 * @throws IllegalArgumentException if the length of {@code symbolIds} isn't the number of {@code Cell}s in the
+	 * given {@code LatinSquare}.
+	 */
+	static void export(LatinSquare<?> latinSquare, int[] symbolIds) {
+		final int size = latinSquare.size();
+		checkLength(requireNonNull(symbolIds, "symbolIds cannot be null.").length, size);
+		for (Cell<?> cell : latinSquare.cells().values())
+			symbolIds[GridTopology.indexOf(cell, size)] = idOf(Cells.symbolOf(cell));
+	}
+
+	/**
+	 * Validates the given {@link Symbol} ids and returns their slots.
+	 * 
+	 * @param symbolIds the {@code Symbol} ids in row-major order.
+	 * @param symbolIndex the {@code SymbolIndex} of the target {@link LatinSquare}.
+	 * @param size the size of the target {@code LatinSquare}.
+	 * 
+	 * @return the slots of the given ids in row-major order.
+	 * 
+	 * @throws NullPointerException if {@code symbolIds} is {@code null}.
+	 * @throws IllegalArgumentException if the length of {@code symbolIds} isn't {@code size * size}.
+	 * @throws SudokuException if any of the ids isn't {@code 0} or the id of an indexed {@code Symbol}.
+	 */
+	static int[] slotsOf(int[] symbolIds, SymbolIndex<?> symbolIndex, int size) {
+		checkLength(requireNonNull(symbolIds, "symbolIds cannot be null.").length, size);
+		final int[] slots = new int[symbolIds.length];
+		for (int index = 0; index < symbolIds.length; index++) {
+			final int id = symbolIds[index];
+			if (id == 0) continue;
+			final int ordinal = symbolIndex.ordinalOfId(id);
+			if (ordinal < 0)
+				throw new SudokuException("The Symbol id (" + id + ") at index " + index + " isn't the id of one of the Symbols of this LatinSquare.");
+			slots[index] = ordinal + 1;
+		}
+		return slots;
+	}
+
+	/**
+	 * Returns the {@link Symbol} with the given slot.
+	 * 
+	 * @param <V> the type of value held by the indexed {@code Symbol}s.
+	 * 
+	 * @param slot the slot of the {@code Symbol} to return.
+	 * @param symbolIndex the {@code SymbolIndex} that the slot refers to.
+	 * 
+	 * @return the {@code Symbol} with the given slot or {@code null} if the slot is {@code 0}.
+	 */
+	static <V> Symbol<V> symbolOf(int slot, SymbolIndex<V> symbolIndex) {
+		return (slot == 0)? null : symbolIndex.symbol(slot - 1);
+	}
+
+	/**
+	 * Returns the id of the given {@link Symbol} or {@code 0} if it is {@code null}.
+	 * 
+	 * @param symbol the {@code Symbol} whose id we want. Maybe {@code null}.
+	 * 
+	 * @return the id of the given {@code Symbol} or {@code 0} if it is {@code null}.
+	 */
+	static int idOf(Symbol<?> symbol) {
+		return (symbol == null)? 0 : symbol.idAsInt();
+	}
+
+	/**
+	 * Returns the given unsigned {@code byte} ids as {@code int}s.
+	 * 
+	 * @param symbolIds the ids to widen.
+	 * 
+	 * @return the given ids as {@code int}s.
+	 * 
+	 * @throws NullPointerException if {@code symbolIds} is {@code null}.
+	 */
+	static int[] widen(byte[] symbolIds) {
+		final int[] ids = new int[requireNonNull(symbolIds, "symbolIds cannot be null.").length];
+		for (int index = 0; index < ids.length; index++)
+			ids[index] = Byte.toUnsignedInt(symbolIds[index]);
+		return ids;
+	}
+
+	/**
+	 * Copies the given ids into the given {@code byte} array as unsigned {@code byte}s.
+	 * 
+	 * @param ids the ids to narrow.
+	 * @param symbolIds the array to copy the ids into, must be as long as {@code ids}.
+	 * 
+	 * @throws SudokuException if any of the ids is negative or greater than {@value #MAX_BYTE_ID}.
+	 */
+	static void narrow(int[] ids, byte[] symbolIds) {
+		// check everything first so that the target array is either fully written or untouched
+		for (int index = 0; index < ids.length; index++)
+			if (ids[index] < 0 || ids[index] > MAX_BYTE_ID)
+				throw new SudokuException("The Symbol id (" + ids[index] + ") at index " + index + " doesn't fit in an unsigned byte.");
+		for (int index = 0; index < ids.length; index++)
+			symbolIds[index] = (byte) ids[index];
+	}
+
+	/**
+	 * Checks that an array of the given length holds exactly one entry per {@link Cell} of a {@link LatinSquare} of
+	 * the given size.
+	 * 
+	 * @param length the length of the array.
+	 * @param size the size of the {@code LatinSquare}.
+	 * 
+	 * @throws IllegalArgumentException if {@code length} isn't {@code size * size}.
+	 */
+	static void checkLength(int length, int size) {
+		if (length != size * size)
+			throw new IllegalArgumentException("Expected " + (size * size) + " Symbol ids but got " + length + ".");
+	}
+
+	/**
+	 * Creates a new array of a parameterized type, e.g a {@code Cell<V>[]} from {@code Cell.class}. This is the only
+	 * unchecked array creation of this package, the returned array is of the erased component type and must not
+	 * escape to callers expecting a more specific runtime type.
+	 * 
+	 * @param <E> the type of the elements of the array.
+	 * 
+	 * @param componentType the erased class of the elements of the array.
+	 * @param length the length of the array.
+	 * 
+	 * @return a new array of {@code length} {@code null} elements.
+	 */
+	@SuppressWarnings("unchecked")
+	static <E> E[] newArray(Class<? super E> componentType, int length) {
+		return (E[]) Array.newInstance(componentType, length);
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private GridArrays() { }
+}
@@ -0,0 +1,29 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A listener that is notified of the changes made to the {@link Cell}s of an {@link ObservableLatinSquare}.
+ * 
+ * <p>This is a functional interface whose functional method is {@link #onChanges(GridChanges)}.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s of the observed {@code ObservableLatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 18:52:16
+ * 
+ * @see ObservableLatinSquare#addChangeListener(GridChangeListener)
+ */
+@FunctionalInterface
+public interface GridChangeListener<V> {
+
+	/**
+	 * Called with a batch of changes made to the observed {@link ObservableLatinSquare}. The given
+	 * {@link GridChanges} is only valid for the duration of this call and must not be kept.
+	 * 
+	 * @param changes the changes made to the observed {@code ObservableLatinSquare}.
+	 */
+	void onChanges(GridChanges<V> changes);
+}
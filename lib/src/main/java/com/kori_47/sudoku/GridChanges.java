@@ -0,0 +1,75 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A batch of changes made to the {@link Cell}s of an {@link ObservableLatinSquare}, as delivered to a
+ * {@link GridChangeListener}. Changes are coalesced per {@code Cell}, that is, a batch holds at most one change per
+ * {@code Cell} describing the {@link Symbol} that the {@code Cell} held before the first change in the batch and
+ * the {@code Symbol} that it held at the end of the batch. {@code Cell}s that ended the batch holding the same
+ * {@code Symbol} they started with are left out.
+ * 
+ * <p>
+ * A {@code GridChanges} is a view that is reused between batches, it is only valid for the duration of the
+ * {@link GridChangeListener#onChanges(GridChanges)} call it was passed to.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s of the changed {@code ObservableLatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 18:55:40
+ * 
+ * @see GridChangeListener
+ */
+public interface GridChanges<V> {
+
+	/**
+	 * Returns the {@link ObservableLatinSquare} whose {@link Cell}s changed.
+	 * 
+	 * @return the changed {@code ObservableLatinSquare}.
+	 */
+	ObservableLatinSquare<V> latinSquare();
+
+	/**
+	 * Returns the number of changed {@link Cell}s in this batch.
+	 * 
+	 * @return the number of changed {@code Cell}s.
+	 */
+	int size();
+
+	/**
+	 * Returns the changed {@link Cell} at the given position in this batch.
+	 * 
+	 * @param index the position of the change, from {@code 0} inclusive to {@link #size()} exclusive.
+	 * 
+	 * @return the changed {@code Cell} at the given position.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is out of range.
+	 */
+	Cell<V> cell(int index);
+
+	/**
+	 * Returns the {@link Symbol} that the changed {@link Cell} at the given position held before the batch, or
+	 * {@code null} if it was empty.
+	 * 
+	 * @param index the position of the change, from {@code 0} inclusive to {@link #size()} exclusive.
+	 * 
+	 * @return the {@code Symbol} held by the {@code Cell} before the batch. Maybe {@code null}.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is out of range.
+	 */
+	Symbol<V> oldSymbol(int index);
+
+	/**
+	 * Returns the {@link Symbol} that the changed {@link Cell} at the given position held at the end of the batch,
+	 * or {@code null} if it was cleared.
+	 * 
+	 * @param index the position of the change, from {@code 0} inclusive to {@link #size()} exclusive.
+	 * 
+	 * @return the {@code Symbol} held by the {@code Cell} at the end of the batch. Maybe {@code null}.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is out of range.
+	 */
+	Symbol<V> newSymbol(int index);
+}
@@ -0,0 +1,188 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.CdclSolver.literal;
+
+import java.util.Arrays;
+
+/**
+ * This encodes a grid, described by it's {@link GridTopology} and the ordinals of it's clues, to a CNF formula solved
+ * by a {@link CdclSolver}. There is a boolean variable for every empty {@link Cell} and every ordinal the
+ * {@code Cell} can take, i.e that isn't already placed by a clue in one of it's units, and the formula states that:
+ * <ul>
+ * <li>every empty {@code Cell} holds exactly one ordinal,</li>
+ * <li>every ordinal is placed at most once in every unit,</li>
+ * <li>every ordinal is placed at least once in every unit with as many {@code Cell}s as there are ordinals.</li>
+ * </ul>
+ * The clues aren't variables of the formula, leaving them out, together with the ordinals they rule out, keeps the
+ * formula of a partially filled grid small. At-most-one constraints over more than {@value #PAIRWISE_LIMIT} literals
+ * are encoded with a sequential counter, which needs a linear rather than a quadratic number of clauses. The counters
+ * are determined by the literals they count, so the search never branches on them.
+ * 
+ * <p>
+ * The search starts out with the variables of the {@code Cell}s with the fewest candidates, the same fail first
+ * order a backtracking search uses, and tries placing a candidate before ruling it out. Without it, the search
+ * starts from the first {@code Cell}s of the grid and is much more prone to getting lost on large grids.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 06:31:08
+ * 
+ * @see Solvers#solveWithSat(LatinSquare)
+ */
+final class GridCnf {
+
+	/**
+	 * the largest number of literals whose at-most-one constraint is encoded pairwise.
+	 */
+	static final int PAIRWISE_LIMIT = 6;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final GridTopology topology;
+	private final int symbolCount;
+	private final int[] values;
+	// the variable of each cell and ordinal, cell * symbolCount + ordinal, -1 if there is none
+	private final int[] variables;
+	private final CdclSolver solver;
+
+	/**
+	 * Creates a new {@code GridCnf} for the given grid.
+	 * 
+	 * @param topology the units of the grid.
+	 * @param symbolCount the number of ordinals.
+	 * @param values the ordinal of each {@code Cell} of the grid, {@code -1} for empty {@code Cell}s. The given
+	 * array isn't retained.
+	 * @param deadline the value of {@link System#nanoTime()} after which the search is aborted. Use
+	 * {@link Long#MAX_VALUE} for no deadline.
+	 */
+	GridCnf(GridTopology topology, int symbolCount, int[] values, long deadline) {
+		this.topology = topology;
+		this.symbolCount = symbolCount;
+		this.values = values.clone();
+		this.variables = new int[topology.cellCount() * symbolCount];
+		this.solver = new CdclSolver(deadline);
+		Arrays.fill(variables, -1);
+		encode();
+	}
+
+	/**
+	 * Solves the formula.
+	 * 
+	 * @return the ordinal of each {@code Cell} of a completed grid in row-major order or {@code null} if the grid
+	 * can't be completed.
+	 * 
+	 * @throws java.util.concurrent.CancellationException if the current thread is interrupted or the deadline
+	 * passes during the search.
+	 */
+	int[] solve() {
+		if (!solver.solve()) return null;
+		final int[] solution = values.clone();
+		for (int cell = 0; cell < solution.length; cell++) {
+			if (solution[cell] >= 0) continue;
+			for (int ordinal = 0; ordinal < symbolCount; ordinal++) {
+				final int variable = variables[cell * symbolCount + ordinal];
+				if (variable >= 0 && solver.valueOf(variable)) solution[cell] = ordinal;
+			}
+		}
+		return solution;
+	}
+
+	/**
+	 * Returns the number of variables of the formula, including the auxiliary variables of the at-most-one
+	 * constraints.
+	 * 
+	 * @return the number of variables of the formula.
+	 */
+	int variableCount() {
+		return solver.variableCount();
+	}
+
+	/**
+	 * Returns the number of decisions made by the search of the formula so far.
+	 * 
+	 * @return the number of decisions of the search.
+	 */
+	long decisions() {
+		return solver.decisions();
+	}
+
+	private void encode() {
+		// the ordinals placed by the clues in every unit, conflicting clues make the formula empty and unsatisfiable
+		final boolean[] placed = new boolean[topology.unitCount() * symbolCount];
+		for (int unit = 0; unit < topology.unitCount(); unit++) {
+			for (int cell : topology.unit(unit)) {
+				if (values[cell] < 0) continue;
+				if (placed[unit * symbolCount + values[cell]]) {
+					solver.addClause();
+					return;
+				}
+				placed[unit * symbolCount + values[cell]] = true;
+			}
+		}
+
+		// every empty cell holds exactly one of the ordinals that none of it's units has placed
+		final int[] literals = new int[Math.max(symbolCount, topology.cellCount())];
+		for (int cell = 0; cell < values.length; cell++) {
+			if (values[cell] >= 0) continue;
+			int count = 0;
+			for (int ordinal = 0; ordinal < symbolCount; ordinal++) {
+				if (isPlaced(placed, cell, ordinal)) continue;
+				final int variable = variables[cell * symbolCount + ordinal] = solver.newVariable();
+				literals[count++] = literal(variable, true);
+			}
+			solver.addClause(Arrays.copyOf(literals, count));
+			atMostOne(literals, count);
+			// branch on the cells with the fewest candidates first, until the conflicts take over
+			for (int index = 0; index < count; index++)
+				solver.setActivity(literals[index] >> 1, 1.0 / count);
+		}
+
+		// every ordinal appears at most once in every unit, and at least once in the units that must hold them all
+		for (int unit = 0; unit < topology.unitCount(); unit++) {
+			final int[] cells = topology.unit(unit);
+			for (int ordinal = 0; ordinal < symbolCount; ordinal++) {
+				if (placed[unit * symbolCount + ordinal]) continue;
+				int count = 0;
+				for (int cell : cells) {
+					final int variable = variables[cell * symbolCount + ordinal];
+					if (variable >= 0) literals[count++] = literal(variable, true);
+				}
+				if (cells.length == symbolCount) solver.addClause(Arrays.copyOf(literals, count));
+				atMostOne(literals, count);
+			}
+		}
+	}
+
+	private boolean isPlaced(boolean[] placed, int cell, int ordinal) {
+		for (int unit : topology.unitsOf(cell))
+			if (placed[unit * symbolCount + ordinal]) return true;
+		return false;
+	}
+
+	/**
+	 * Adds the clauses stating that at most one of the given literals is true.
+	 */
+	private void atMostOne(int[] literals, int count) {
+		if (count <= PAIRWISE_LIMIT) {
+			for (int first = 0; first < count; first++)
+				for (int second = first + 1; second < count; second++)
+					solver.addClause(literals[first] ^ 1, literals[second] ^ 1);
+			return;
+		}
+		// counter i is true once one of the first i + 1 literals is true
+		int counter = literal(solver.newVariable(false), true);
+		solver.addClause(literals[0] ^ 1, counter);
+		for (int index = 1; index < count - 1; index++) {
+			final int next = literal(solver.newVariable(false), true);
+			solver.addClause(literals[index] ^ 1, next);
+			solver.addClause(counter ^ 1, next);
+			solver.addClause(literals[index] ^ 1, counter ^ 1);
+			counter = next;
+		}
+		solver.addClause(literals[count - 1] ^ 1, counter ^ 1);
+	}
+}
@@ -0,0 +1,25 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This event records the construction of a {@link SimpleLatinSquare} or a {@link SimpleSudoku}, i.e the creation of
+ * it's {@link Cell}s, {@link Row}s and {@link Column}s and, for a {@code SimpleSudoku}, it's {@link Block}s and
+ * regions. Grids are created often, by {@link LatinSquare#copy() copies} among others, so this event is disabled
+ * unless a recording enables it.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:06:45
+ */
+@Name("com.kori_47.sudoku.GridConstruction")
+@Label("Grid Construction")
+@Description("The creation of the cells and units of a grid")
+@Enabled(false)
+final class GridConstructionEvent extends GridEvent { }
@@ -0,0 +1,24 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This event records a {@link LatinSquare#copy() copy} of a grid, including the construction of the copy and the
+ * copying of the {@link Symbol}s of it's {@link Cell}s. The event describes the copy. This event is disabled unless
+ * a recording enables it.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:07:30
+ */
+@Name("com.kori_47.sudoku.GridCopy")
+@Label("Grid Copy")
+@Description("A copy of a grid and it's symbols")
+@Enabled(false)
+final class GridCopyEvent extends GridEvent { }
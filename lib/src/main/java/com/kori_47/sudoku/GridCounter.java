@@ -0,0 +1,99 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@code GridCounter} counts the complete grids of a given shape, e.g all the reduced Latin squares or all the
+ * {@link Sudoku} grids of a given size, exactly. The grids are enumerated on primitive state, without creating any
+ * {@link LatinSquare}s, and symmetry is broken by fixing some {@link Cell}s up front, so only one grid of every
+ * class of grids that differ by that symmetry is counted. {@link #symmetryFactor()} is the size of those classes,
+ * the number of all the grids is therefore {@code count() * symmetryFactor()}.
+ * 
+ * <p>
+ * The enumeration is split into a fixed number of {@link #taskCount() tasks}, each one completing a different
+ * assignment of the first empty {@code Cell}s, that are run in parallel on a {@link ForkJoinPool}. A long run can be
+ * checkpointed to a file, the count of every task is appended to the file as soon as the task completes and a run
+ * given an existing checkpoint file only runs the tasks that the file doesn't have a count for. A
+ * {@code GridCounter} is immutable and can be used by several threads at once.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 04:12:36
+ * 
+ * @see GridCounters
+ */
+public interface GridCounter {
+
+	/**
+	 * Returns the size of the counted grids.
+	 * 
+	 * @return the size of the counted grids.
+	 */
+	int size();
+
+	/**
+	 * Returns the number of tasks that the enumeration is split into.
+	 * 
+	 * @return the number of tasks of this {@code GridCounter}.
+	 */
+	int taskCount();
+
+	/**
+	 * Returns the number of grids represented by every counted grid, i.e the number of grids that differ from a
+	 * counted grid only by the symmetry broken by this {@code GridCounter}.
+	 * 
+	 * @return the number of grids represented by every counted grid.
+	 */
+	BigInteger symmetryFactor();
+
+	/**
+	 * Counts the grids of this {@code GridCounter} on the {@link ForkJoinPool#commonPool() common pool}.
+	 * 
+	 * @return the number of counted grids.
+	 * 
+	 * @throws ArithmeticException if the count overflows a {@code long}.
+	 * @throws CancellationException if a thread running the count is interrupted.
+	 */
+	default long count() {
+		return count(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Counts the grids of this {@code GridCounter} on the given {@link ForkJoinPool}.
+	 * 
+	 * @param pool the {@code ForkJoinPool} to run the tasks on.
+	 * 
+	 * @return the number of counted grids.
+	 * 
+	 * @throws NullPointerException if {@code pool} is {@code null}.
+	 * @throws ArithmeticException if the count overflows a {@code long}.
+	 * @throws CancellationException if a thread running the count is interrupted.
+	 */
+	long count(ForkJoinPool pool);
+
+	/**
+	 * Counts the grids of this {@code GridCounter} on the given {@link ForkJoinPool}, recording the count of every
+	 * task in the given checkpoint file. If the file already exists, it must have been written by a
+	 * {@code GridCounter} of the same grids and the tasks it records are not run again, which resumes an interrupted
+	 * run. The file is created if it doesn't exist and an empty file is treated as a fresh start.
+	 * 
+	 * @param pool the {@code ForkJoinPool} to run the tasks on.
+	 * @param checkpoint the file to record the count of every task in.
+	 * 
+	 * @return the number of counted grids.
+	 * 
+	 * @throws NullPointerException if {@code pool} or {@code checkpoint} is {@code null}.
+	 * @throws IllegalArgumentException if the checkpoint file was written by a {@code GridCounter} of other grids.
+	 * @throws IOException if the checkpoint file can't be read or written.
+	 * @throws ArithmeticException if the count overflows a {@code long}.
+	 * @throws CancellationException if a thread running the count is interrupted.
+	 */
+	long count(ForkJoinPool pool, Path checkpoint) throws IOException;
+}
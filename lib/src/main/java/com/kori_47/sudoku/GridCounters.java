@@ -0,0 +1,89 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.kori_47.sudoku.Sudoku.SudokuVariant;
+
+/**
+ * This class consists exclusively of static methods that create {@link GridCounter}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 04:37:09
+ * 
+ * @see GridCounter
+ */
+public final class GridCounters {
+
+	/**
+	 * Returns a new {@link GridCounter} of the reduced Latin squares of the given size, i.e the Latin squares whose
+	 * first {@link Row} and first {@link Column} hold the {@link Symbol}s in their natural order. Every Latin square
+	 * can be reduced in exactly {@code size! * (size - 1)!} ways by permuting it's {@code Column}s and all but the
+	 * first of it's {@code Row}s, which is the {@link GridCounter#symmetryFactor() symmetry factor} of the returned
+	 * {@code GridCounter}.
+	 * 
+	 * @param size the size of the Latin squares.
+	 * 
+	 * @return a new {@code GridCounter} of the reduced Latin squares of the given size.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1} or greater than {@code 64}.
+	 */
+	public static final GridCounter reducedLatinSquareCounterOf(int size) {
+		requireSupported(size);
+		final int[] values = new int[size * size];
+		Arrays.fill(values, -1);
+		for (int position = 0; position < size; position++) {
+			values[position] = position;
+			values[position * size] = position;
+		}
+		return new SimpleGridCounter("reduced-latin-square", GridTopology.of(size, new int[0][]), values,
+				factorial(size).multiply(factorial(size - 1)));
+	}
+
+	/**
+	 * Returns a new {@link GridCounter} of the complete {@link Sudoku} grids described by the given
+	 * {@link SudokuVariant} whose first {@link Row} holds the {@link Symbol}s in their natural order. Relabelling the
+	 * {@code Symbol}s of a grid gives another grid, so every grid is counted once for each of the {@code size!}
+	 * relabellings, which is the {@link GridCounter#symmetryFactor() symmetry factor} of the returned
+	 * {@code GridCounter}.
+	 * 
+	 * @param variant the {@code SudokuVariant} that describes the grids.
+	 * 
+	 * @return a new {@code GridCounter} of the grids described by the given {@code SudokuVariant}.
+	 * 
+	 * @throws NullPointerException if {@code variant} is {@code null}.
+	 * @throws IllegalArgumentException if the size of {@code variant} is greater than {@code 64}.
+	 */
+	public static final GridCounter sudokuGridCounterOf(SudokuVariant variant) {
+		requireNonNull(variant, "variant cannot be null.");
+		final int size = variant.size();
+		requireSupported(size);
+		final GridTopology topology = GridTopology.of(LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(size)));
+		final int[] values = new int[size * size];
+		Arrays.fill(values, -1);
+		for (int position = 0; position < size; position++)
+			values[position] = position;
+		return new SimpleGridCounter("sudoku-grid", topology, values, factorial(size));
+	}
+
+	private static void requireSupported(int size) {
+		if (size < 1 || size > BitmaskSolver.MAX_SIZE)
+			throw new IllegalArgumentException("Only grids of 1 to " + BitmaskSolver.MAX_SIZE + " symbols can be counted, size: " + size + ".");
+	}
+
+	private static BigInteger factorial(int number) {
+		BigInteger factorial = BigInteger.ONE;
+		for (int factor = 2; factor <= number; factor++)
+			factorial = factorial.multiply(BigInteger.valueOf(factor));
+		return factorial;
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private GridCounters() { }
+}
@@ -0,0 +1,139 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * This counts the completions of a partially filled grid described by a {@link GridTopology}. Like the
+ * {@link BitmaskSolver}, each {@link Cell} is represented by the ordinal of it's {@link Symbol} <i>(or {@code -1} if
+ * empty)</i> and each unit by a {@code long} mask of the {@code Symbol}s already placed in it, and the search always
+ * branches on the empty {@code Cell} with the fewest candidates. Unlike the {@code BitmaskSolver}, a
+ * {@code GridEnumerator} needs no {@link LatinSquare} and counts every completion with a {@code long}.
+ * 
+ * <p>
+ * The search checks periodically whether the current thread has been interrupted and if so, aborts by throwing a
+ * {@link CancellationException}. A {@code GridEnumerator} is <i>not thread safe</i>.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 04:18:04
+ * 
+ * @see GridCounter
+ */
+final class GridEnumerator {
+
+	/**
+	 * the number of search nodes between two checks of the interrupt status.
+	 */
+	private static final int CHECK_INTERVAL = 1 << 12;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final GridTopology topology;
+	private final long fullMask;
+
+	// ================================================
+	// SEARCH STATE
+	// ================================================
+	private final int[] values;
+	private final long[] used;
+	private final int[] empties;
+	private int emptyCount;
+	private long nodes;
+
+	/**
+	 * Creates a new {@code GridEnumerator} of the grids described by the given {@link GridTopology} holding the given
+	 * values.
+	 * 
+	 * @param topology the {@code GridTopology} of the grids.
+	 * @param values the ordinal of the {@code Symbol} of each {@code Cell} in row-major order, {@code -1} for empty
+	 * {@code Cell}s. The array is copied and the values must not conflict.
+	 */
+	GridEnumerator(GridTopology topology, int[] values) {
+		this.topology = topology;
+		this.fullMask = (topology.size() == 64)? -1L : (1L << topology.size()) - 1;
+		this.values = values.clone();
+		this.used = new long[topology.unitCount()];
+		this.empties = new int[topology.cellCount()];
+		for (int cell = 0; cell < values.length; cell++) {
+			if (values[cell] < 0) {
+				empties[emptyCount++] = cell;
+				continue;
+			}
+			for (int unit : topology.unitsOf(cell))
+				used[unit] |= 1L << values[cell];
+		}
+	}
+
+	/**
+	 * Returns the number of completions of the current values. The current values are left untouched.
+	 * 
+	 * @return the number of completions of the current values.
+	 * 
+	 * @throws ArithmeticException if the count overflows a {@code long}.
+	 * @throws CancellationException if the current thread is interrupted during the search.
+	 */
+	long count() {
+		return search(0);
+	}
+
+	private long search(int depth) {
+		if (depth == emptyCount) return 1L;
+		if ((++nodes & (CHECK_INTERVAL - 1)) == 0 && Thread.currentThread().isInterrupted())
+			throw new CancellationException("The enumeration was interrupted.");
+
+		// branch on the empty cell with the fewest candidates
+		int bestPosition = -1, bestCount = Integer.MAX_VALUE;
+		long bestMask = 0L;
+		for (int position = depth; position < emptyCount; position++) {
+			long mask = candidates(empties[position]);
+			int count = Long.bitCount(mask);
+			if (count < bestCount) {
+				bestPosition = position;
+				bestCount = count;
+				bestMask = mask;
+				if (count <= 1) break;
+			}
+		}
+		if (bestCount == 0) return 0L;
+
+		int cell = empties[bestPosition];
+		empties[bestPosition] = empties[depth];
+		empties[depth] = cell;
+		int[] cellUnits = topology.unitsOf(cell);
+
+		long found = 0L;
+		while (bestMask != 0L) {
+			long bit = Long.lowestOneBit(bestMask);
+			bestMask ^= bit;
+			values[cell] = Long.numberOfTrailingZeros(bit);
+			for (int unit : cellUnits)
+				used[unit] |= bit;
+			found = Math.addExact(found, search(depth + 1));
+			for (int unit : cellUnits)
+				used[unit] &= ~bit;
+		}
+		values[cell] = -1;
+
+		empties[depth] = empties[bestPosition];
+		empties[bestPosition] = cell;
+		return found;
+	}
+
+	/**
+	 * Returns the candidates of the given {@link Cell}, i.e a mask of the ordinals that none of it's peers hold.
+	 * 
+	 * @param cell the row-major index of the {@code Cell}.
+	 * 
+	 * @return a mask of the candidates of the given {@code Cell}.
+	 */
+	private long candidates(int cell) {
+		long mask = 0L;
+		for (int unit : topology.unitsOf(cell))
+			mask |= used[unit];
+		return ~mask & fullMask;
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * This is the base of the JDK Flight Recorder events of this library. Every event describes the grid it was recorded
+ * for by it's implementation class, it's {@link Sudoku.SudokuVariant SudokuVariant} if it's a {@link Sudoku} and it's
+ * size, and measures the duration between the call to {@link #begin()} and the call to {@link #record(LatinSquare)}.
+ * 
+ * <p>
+ * Every event type is enabled on it's own, by it's name, in a recording's settings. An event whose type isn't enabled
+ * is reduced by the JIT compiler to a no-op, and the fields of an enabled event are only filled in when it's
+ * committed, so instrumented code pays for a recording only while it is running.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:04:12
+ */
+@Category("SudokuLib")
+@StackTrace(false)
+abstract class GridEvent extends Event {
+
+	@Label("Type")
+	@Description("The simple name of the class of the grid")
+	String type;
+
+	@Label("Variant")
+	@Description("The variant of the grid, if it's a Sudoku")
+	String variant;
+
+	@Label("Size")
+	@Description("The number of rows and columns of the grid")
+	int size;
+
+	/**
+	 * Ends this event and commits it for the given grid, if it's type is enabled and it lasted longer than it's
+	 * threshold.
+	 * 
+	 * @param grid the {@link LatinSquare} that this event was recorded for.
+	 */
+	final void record(LatinSquare<?> grid) {
+		end();
+		if (!shouldCommit()) return;
+		describe(grid);
+		commit();
+	}
+
+	/**
+	 * Fills in the fields that describe the given grid. Subclasses with fields of their own record themselves the
+	 * same way as {@link #record(LatinSquare)}, filling in their fields only once {@link #shouldCommit()} returns
+	 * {@code true}.
+	 * 
+	 * @param grid the {@link LatinSquare} that this event was recorded for.
+	 */
+	final void describe(LatinSquare<?> grid) {
+		type = grid.getClass().getSimpleName();
+		variant = (grid instanceof Sudoku)? String.valueOf(((Sudoku<?>) grid).variant()) : null;
+		size = grid.size();
+	}
+}
@@ -0,0 +1,51 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This event records the rendering of a whole grid by one of the {@link Formattables} methods. This event is
+ * disabled unless a recording enables it.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:08:52
+ */
+@Name("com.kori_47.sudoku.GridFormat")
+@Label("Grid Format")
+@Description("The rendering of a grid to a String")
+@Enabled(false)
+final class GridFormatEvent extends GridEvent {
+
+	@Label("Format")
+	@Description("The representation rendered, i.e XY, XYV, XYI, V or I")
+	String format;
+
+	@Label("Length")
+	@Description("The number of characters rendered")
+	int length;
+
+	/**
+	 * Records the rendering of the given grid and returns the rendered {@code String}.
+	 * 
+	 * @param grid the rendered {@link LatinSquare}.
+	 * @param format the name of the rendered representation.
+	 * @param rendered the rendered {@code String}.
+	 * 
+	 * @return {@code rendered}.
+	 */
+	String record(LatinSquare<?> grid, String format, String rendered) {
+		end();
+		if (!shouldCommit()) return rendered;
+		describe(grid);
+		this.format = format;
+		this.length = rendered.length();
+		commit();
+		return rendered;
+	}
+}
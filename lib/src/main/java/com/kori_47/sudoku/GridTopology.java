@@ -0,0 +1,306 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+import com.kori_47.sudoku.Sudoku.SudokuVariant;
+
+/**
+ * This is a precomputed, immutable description of the <i>shape</i> of a {@link LatinSquare}. That is, the
+ * {@link CellGroup}s whose {@link Cell}s must hold distinct {@link Symbol}s <i>(the units)</i> and the peers
+ * of every {@code Cell}, all expressed in a dense integer space. A {@code Cell} with the coordinates
+ * <i>(x, y)</i> in a {@code LatinSquare} of size <i>s</i> has the index <i>y * s + x</i>, i.e the
+ * {@code Cell}s are numbered in row-major order.
+ * 
+ * <p>
+ * A {@code GridTopology} holds no {@code Cell} values and can therefore be shared by every {@code LatinSquare}
+ * with the same layout. It is used internally by the candidate, hint and solver machinery so that algorithms
+ * can work on primitive arrays and only convert to {@code Cell} objects at the edges.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 09:12:40
+ * 
+ * @see LatinSquare
+ * @see CandidateGrid
+ */
+final class GridTopology {
+
+	/**
+	 * the number of symbols, i.e the size of the described grid.
+	 */
+	private final int size;
+
+	/**
+	 * the number of cells in the described grid.
+	 */
+	private final int cellCount;
+
+	/**
+	 * the cell indices of each unit.
+	 */
+	private final int[][] units;
+
+	/**
+	 * the indices of the units that each cell belongs to.
+	 */
+	private final int[][] cellUnits;
+
+	/**
+	 * the distinct peers of each cell, excluding the cell itself.
+	 */
+	private final int[][] peers;
+
+	/**
+	 * Creates a new {@code GridTopology} from the given units.
+	 * 
+	 * @param size the number of {@link Symbol}s of the described grid.
+	 * @param cellCount the number of {@link Cell}s of the described grid.
+	 * @param units the cell indices of each unit. Each index must be non negative and less than {@code cellCount}.
+	 * 
+	 * @throws NullPointerException if {@code units} or any of its elements is {@code null}.
+	 * @throws SudokuException if any of the units contains an invalid cell index.
+	 */
+	GridTopology(int size, int cellCount, int[][] units) {
+		this.size = size;
+		this.cellCount = cellCount;
+		this.units = copyOf(requireNonNull(units, "units cannot be null."), cellCount);
+		this.cellUnits = computeCellUnits(this.units, cellCount);
+		this.peers = computePeers(this.units, this.cellUnits, cellCount);
+	}
+
+	/**
+	 * Returns the {@code GridTopology} of the given {@link LatinSquare}. The units of the returned topology are the
+	 * {@link Row}s of the {@code LatinSquare} ordered by their index, followed by its {@link Column}s ordered by their
+	 * index and, if the given {@code LatinSquare} is a {@link Sudoku}, followed by its {@link Block}s in the iteration
+	 * order of the {@link Sudoku#blocks() blocks} {@code Map} and then its extra {@link Sudoku#regions() regions} in
+	 * the iteration order of the regions {@code Map}. The topology of a {@code Sudoku} whose variant
+	 * precomputes it, e.g a jigsaw or box {@code Sudoku}, isn't recomputed from the {@code Block}s.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose topology we want.
+	 * 
+	 * @return the {@code GridTopology} of the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 */
+	static GridTopology of(LatinSquare<?> latinSquare) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		final int size = latinSquare.size();
+		// variants that precompute their layout share a single topology between all their sudokus
+		final GridTopology shared = sharedTopologyOf(latinSquare);
+		if (shared != null) return shared;
+
+		// blocks and regions are determined by the Sudoku's variant, so read them from the Sudoku itself
+		if (!(latinSquare instanceof Sudoku)) return of(size, new int[0][]);
+		final Sudoku<?> sudoku = (Sudoku<?>) latinSquare;
+		final Map<String, ? extends UniqueCellGroup<?>> regions = sudoku.regions();
+		final int[][] blocks = new int[sudoku.blocks().size() + regions.size()][];
+		int block = 0;
+		for (Block<?> sudokuBlock : sudoku.blocks().values())
+			blocks[block++] = indicesOf(sudokuBlock, size);
+		for (UniqueCellGroup<?> region : regions.values())
+			blocks[block++] = indicesOf(region, size);
+		return of(size, blocks);
+	}
+
+	/**
+	 * Returns {@code true} if the given {@code GridTopology} describes a grid of the same size with the same units in
+	 * the same order as this one.
+	 * 
+	 * @param other the {@code GridTopology} to compare this one with. Maybe {@code null}.
+	 * 
+	 * @return {@code true} if the given {@code GridTopology} has the same units as this one.
+	 */
+	boolean hasSameUnits(GridTopology other) {
+		if (this == other) return true;
+		return other != null && size == other.size && cellCount == other.cellCount && Arrays.deepEquals(units, other.units);
+	}
+
+	/**
+	 * Returns the {@code GridTopology} of a grid of the given size with the given blocks. The units of the returned
+	 * topology are the rows of the grid, followed by its columns and then the given blocks in the given order.
+	 * 
+	 * @param size the size of the described grid.
+	 * @param blocks the row-major cell indices of each block. Maybe empty.
+	 * 
+	 * @return the {@code GridTopology} of a grid of the given size with the given blocks.
+	 * 
+	 * @throws SudokuException if any of the blocks contains an invalid cell index.
+	 */
+	static GridTopology of(int size, int[][] blocks) {
+		final int[][] units = new int[2 * size + blocks.length][];
+
+		// rows and columns are fully determined by the size of the grid
+		for (int index = 0; index < size; index++) {
+			int[] row = new int[size], column = new int[size];
+			for (int offset = 0; offset < size; offset++) {
+				row[offset] = index * size + offset;
+				column[offset] = offset * size + index;
+			}
+			units[index] = row;
+			units[size + index] = column;
+		}
+		System.arraycopy(blocks, 0, units, 2 * size, blocks.length);
+
+		return new GridTopology(size, size * size, units);
+	}
+
+	/**
+	 * Returns the row-major index of the given {@link Cell} in a {@link LatinSquare} of the given size.
+	 * 
+	 * @param cell the {@code Cell} whose index we want.
+	 * @param size the size of the {@code LatinSquare} that the {@code Cell} belongs to.
+	 * 
+	 * @return the row-major index of the given {@code Cell}.
+	 */
+	static int indexOf(Cell<?> cell, int size) {
+		return cell.y() * size + cell.x();
+	}
+
+	/**
+	 * Returns the row-major indices of the {@link Cell}s of the given {@link CellGroup} sorted in ascending order.
+	 * 
+	 * @param cellGroup the {@code CellGroup} whose {@code Cell} indices we want.
+	 * @param size the size of the {@link LatinSquare} that the {@code CellGroup} belongs to.
+	 * 
+	 * @return the sorted row-major indices of the {@code Cell}s of the given {@code CellGroup}.
+	 */
+	static int[] indicesOf(CellGroup<?> cellGroup, int size) {
+		int[] indices = new int[cellGroup.cells().size()];
+		int position = 0;
+		for (Cell<?> cell : cellGroup.cells().values())
+			indices[position++] = indexOf(cell, size);
+		Arrays.sort(indices);
+		return indices;
+	}
+
+	/**
+	 * Returns the number of {@link Symbol}s of the described grid.
+	 * 
+	 * @return the number of {@code Symbol}s of the described grid.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of {@link Cell}s of the described grid.
+	 * 
+	 * @return the number of {@code Cell}s of the described grid.
+	 */
+	int cellCount() {
+		return cellCount;
+	}
+
+	/**
+	 * Returns the number of units of the described grid.
+	 * 
+	 * @return the number of units of the described grid.
+	 */
+	int unitCount() {
+		return units.length;
+	}
+
+	/**
+	 * Returns the cell indices of the given unit. The returned array must not be modified.
+	 * 
+	 * @param unit the index of the unit.
+	 * 
+	 * @return the cell indices of the given unit.
+	 */
+	int[] unit(int unit) {
+		return units[unit];
+	}
+
+	/**
+	 * Returns the indices of the units that the given cell belongs to. The returned array must not be modified.
+	 * 
+	 * @param cell the index of the cell.
+	 * 
+	 * @return the indices of the units that the given cell belongs to.
+	 */
+	int[] unitsOf(int cell) {
+		return cellUnits[cell];
+	}
+
+	/**
+	 * Returns the distinct peers of the given cell, excluding the cell itself. The returned array must not be modified.
+	 * 
+	 * @param cell the index of the cell.
+	 * 
+	 * @return the peers of the given cell.
+	 */
+	int[] peersOf(int cell) {
+		return peers[cell];
+	}
+
+	private static GridTopology sharedTopologyOf(LatinSquare<?> latinSquare) {
+		if (!(latinSquare instanceof Sudoku)) return null;
+		final SudokuVariant variant = ((Sudoku<?>) latinSquare).variant();
+		final GridTopology topology;
+		if (variant instanceof SharedTopologyVariant)
+			topology = ((SharedTopologyVariant) variant).topology();
+		else if (variant instanceof BoxBlocksSudokuVariants)
+			topology = SimpleBoxBlocksSudokuVariant.topologyOf((BoxBlocksSudokuVariants) variant);
+		else
+			return null;
+		// the shared topology numbers the cells from the origin
+		final Cell<?> startCell = latinSquare.startCell();
+		return (topology.size() == latinSquare.size() && startCell.x() == 0 && startCell.y() == 0)? topology : null;
+	}
+
+	private static int[][] copyOf(int[][] units, int cellCount) {
+		int[][] copy = new int[units.length][];
+		for (int unit = 0; unit < units.length; unit++) {
+			copy[unit] = requireNonNull(units[unit], "units cannot contain null elements.").clone();
+			for (int cell : copy[unit])
+				if (cell < 0 || cell >= cellCount)
+					throw new SudokuException("The cell index " + cell + " of unit " + unit + " is out of range.");
+		}
+		return copy;
+	}
+
+	private static int[][] computeCellUnits(int[][] units, int cellCount) {
+		int[] counts = new int[cellCount];
+		for (int[] unit : units)
+			for (int cell : unit)
+				counts[cell]++;
+
+		int[][] cellUnits = new int[cellCount][];
+		for (int cell = 0; cell < cellCount; cell++)
+			cellUnits[cell] = new int[counts[cell]];
+
+		Arrays.fill(counts, 0);
+		for (int unit = 0; unit < units.length; unit++)
+			for (int cell : units[unit])
+				cellUnits[cell][counts[cell]++] = unit;
+		return cellUnits;
+	}
+
+	private static int[][] computePeers(int[][] units, int[][] cellUnits, int cellCount) {
+		int[][] peers = new int[cellCount][];
+		// marks the last cell whose peers we collected so that duplicates are skipped without clearing
+		int[] seen = new int[cellCount];
+		Arrays.fill(seen, -1);
+		int[] buffer = new int[cellCount];
+		for (int cell = 0; cell < cellCount; cell++) {
+			int count = 0;
+			seen[cell] = cell;
+			for (int unit : cellUnits[cell])
+				for (int peer : units[unit])
+					if (seen[peer] != cell) {
+						seen[peer] = cell;
+						buffer[count++] = peer;
+					}
+			peers[cell] = Arrays.copyOf(buffer, count);
+			Arrays.sort(peers[cell]);
+		}
+		return peers;
+	}
+}
@@ -0,0 +1,147 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@code Hint} describes a single logical step that can be taken from the current state of a {@link Sudoku}. A
+ * {@code Hint} is either a <i>placement</i>, in which case exactly one {@link Symbol} can be placed on exactly one
+ * {@link Cell}, or an <i>elimination</i>, in which case some {@code Symbol}s can be removed from the candidates of
+ * some {@code Cell}s.
+ * 
+ * <p>
+ * Every {@code Hint} is produced by a {@link Technique} and carries the {@code Cell}s and {@code Symbol}s that the
+ * deduction is based on together with the candidates that it eliminates.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s of the {@code Sudoku} that this {@code Hint} applies to.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 11:05:14
+ * 
+ * @see HintEngine
+ * @see Hints
+ */
+public interface Hint<V> {
+
+	/**
+	 * Returns the {@link Technique} used to arrive at this {@code Hint}.
+	 * 
+	 * @return the {@code Technique} used to arrive at this {@code Hint}.
+	 */
+	Technique technique();
+
+	/**
+	 * Returns the {@link Cell}s that this {@code Hint} is based on. For a placement, this is the single {@code Cell}
+	 * on which the {@link Symbol} is to be placed. For an elimination, these are the {@code Cell}s whose candidates
+	 * justify the elimination, e.g the two {@code Cell}s of a pair. The returned {@code Set} is immutable.
+	 * 
+	 * @return an immutable {@code Set} of the {@code Cell}s that this {@code Hint} is based on.
+	 */
+	Set<Cell<V>> cells();
+
+	/**
+	 * Returns the {@link Symbol}s that this {@code Hint} is based on. For a placement, this is the single
+	 * {@code Symbol} to be placed. The returned {@code Set} is immutable.
+	 * 
+	 * @return an immutable {@code Set} of the {@code Symbol}s that this {@code Hint} is based on.
+	 */
+	Set<Symbol<V>> symbols();
+
+	/**
+	 * Returns the candidates eliminated by this {@code Hint}, keyed by the {@link Cell} they are eliminated from.
+	 * The returned {@code Map} and it's values are immutable and the returned {@code Map} is empty if this
+	 * {@code Hint} eliminates nothing.
+	 * 
+	 * @return an immutable {@code Map} of the candidates eliminated by this {@code Hint}.
+	 */
+	Map<Cell<V>, Set<Symbol<V>>> eliminations();
+
+	/**
+	 * Returns the {@link Symbol} to place if this {@code Hint} is a placement, or an empty {@link Optional} if this
+	 * {@code Hint} is an elimination.
+	 * 
+	 * @implSpec
+	 * The default implementation is equivalent to, for this {@code hint}:
+	 * <pre> {@code
+	 * if (hint.technique().isPlacement())
+	 *     return hint.symbols().stream().findFirst();
+	 * return Optional.empty();
+	 * }</pre>
+	 * 
+	 * @return an {@code Optional} containing the {@code Symbol} to place or an empty {@code Optional} if this
+	 * {@code Hint} is an elimination.
+	 */
+	default Optional<Symbol<V>> placement() {
+		if (technique().isPlacement())
+			return symbols().stream().findFirst();
+		return Optional.empty();
+	}
+
+	/**
+	 * The logical techniques that a {@link HintEngine} can use to produce {@link Hint}s. The constants of this
+	 * {@code enum} are declared in increasing order of difficulty and a {@code HintEngine} always returns a
+	 * {@code Hint} produced by the simplest applicable technique.
+	 * 
+	 * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+	 * 
+	 * @since Sun, 18 Oct 2026 11:05:14
+	 */
+	static enum Technique {
+
+		/**
+		 * An empty {@link Cell} with exactly one candidate left.
+		 */
+		NAKED_SINGLE(true),
+
+		/**
+		 * A {@link Symbol} that is a candidate of exactly one {@link Cell} of a {@link Row}, {@link Column} or
+		 * {@link Block}.
+		 */
+		HIDDEN_SINGLE(true),
+
+		/**
+		 * The candidates for a {@link Symbol} in a {@link Block} all lie on one {@link Row} or {@link Column}, so the
+		 * {@code Symbol} can be eliminated from the rest of that {@code Row} or {@code Column}.
+		 */
+		POINTING(false),
+
+		/**
+		 * The candidates for a {@link Symbol} in a {@link Row} or {@link Column} all lie in one {@link Block}, so the
+		 * {@code Symbol} can be eliminated from the rest of that {@code Block}.
+		 */
+		CLAIMING(false),
+
+		/**
+		 * Two {@link Cell}s of the same group with the same two candidates, so those candidates can be eliminated
+		 * from the rest of the group.
+		 */
+		NAKED_PAIR(false),
+
+		/**
+		 * Two {@link Symbol}s that are candidates of the same two {@link Cell}s of a group and of no other
+		 * {@code Cell} in that group, so all other candidates can be eliminated from those two {@code Cell}s.
+		 */
+		HIDDEN_PAIR(false);
+
+		private final boolean placement;
+
+		private Technique(boolean placement) {
+			this.placement = placement;
+		}
+
+		/**
+		 * Returns {@code true} if the {@link Hint}s produced by this technique are placements, {@code false} if
+		 * they are eliminations.
+		 * 
+		 * @return {@code true} if this technique produces placements, {@code false} otherwise.
+		 */
+		public boolean isPlacement() {
+			return placement;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Optional;
+
+/**
+ * A {@code HintEngine} finds the next logical step that can be taken from the current state of a {@link Sudoku}.
+ * 
+ * <p>
+ * A {@code HintEngine} is meant to be kept for the duration of a solving session. Implementations are allowed to
+ * cache the candidates of the last {@code Sudoku} passed to {@link #nextHint(Sudoku)} and to only reconcile the
+ * {@link Cell}s that changed since the previous call, so that repeated calls on the same {@code Sudoku} are cheap.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s of the {@code Sudoku}s supported by this
+ * {@code HintEngine}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 11:18:40
+ * 
+ * @see Hint
+ * @see Hints
+ */
+public interface HintEngine<V> {
+
+	/**
+	 * Returns the simplest {@link Hint} that applies to the current state of the given {@link Sudoku}, or an empty
+	 * {@link Optional} if none of the supported {@link Hint.Technique techniques} applies. An empty {@code Optional}
+	 * is also returned when the given {@code Sudoku} is already complete or has an empty {@link Cell} without
+	 * candidates.
+	 * 
+	 * <p>
+	 * Elimination {@code Hint}s are remembered by this {@code HintEngine}, that is, the eliminated candidates are
+	 * removed from it's cached state so that the next call on the same {@code Sudoku} moves on to the next step.
+	 * Placement {@code Hint}s only take effect once the {@code Symbol} is placed on the {@code Sudoku}.
+	 * 
+	 * @param sudoku the {@code Sudoku} whose next step we want.
+	 * 
+	 * @return an {@code Optional} containing the next {@code Hint} or an empty {@code Optional} if there's none.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 * @throws SudokuException if any {@code Cell} of the given {@code Sudoku} holds a {@code Symbol} that isn't one
+	 * of the {@link LatinSquare#symbols() symbols} of the {@code Sudoku}.
+	 */
+	Optional<Hint<V>> nextHint(Sudoku<V> sudoku);
+
+	/**
+	 * Discards any state cached by this {@code HintEngine}. The next call to {@link #nextHint(Sudoku)} recomputes
+	 * the candidates from scratch.
+	 */
+	void reset();
+}
@@ -0,0 +1,155 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import com.kori_47.sudoku.Hint.Technique;
+
+/**
+ * This class consists exclusively of static methods that create {@link Hint}s and {@link HintEngine}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 11:26:03
+ * 
+ * @see Hint
+ * @see HintEngine
+ */
+public final class Hints {
+
+	/**
+	 * Returns a new {@link Hint} with the given properties.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the new {@code Hint}.
+	 * 
+	 * @param technique the {@code Technique} used to arrive at the new {@code Hint}.
+	 * @param cells the {@link Cell}s that the new {@code Hint} is based on.
+	 * @param symbols the {@code Symbol}s that the new {@code Hint} is based on.
+	 * @param eliminations the candidates eliminated by the new {@code Hint}, keyed by {@code Cell}.
+	 * 
+	 * @return a new {@code Hint} with the given properties.
+	 * 
+	 * @throws NullPointerException if any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException if {@code technique} is a placement technique and {@code cells} or
+	 * {@code symbols} doesn't contain exactly one element.
+	 */
+	public static final <V> Hint<V> hintOf(Technique technique, Set<Cell<V>> cells, Set<Symbol<V>> symbols,
+			Map<Cell<V>, Set<Symbol<V>>> eliminations) {
+		return new SimpleHint<V>(technique, cells, symbols, eliminations);
+	}
+
+	/**
+	 * Returns a new {@link HintEngine}. The returned {@code HintEngine} caches the candidates of the last
+	 * {@link Sudoku} passed to it and only reconciles the {@link Cell}s that changed on subsequent calls.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the {@code Sudoku}s supported by the returned
+	 * {@code HintEngine}.
+	 * 
+	 * @return a new {@code HintEngine}.
+	 * 
+	 * @implNote
+	 * The returned {@code HintEngine} is <i>not thread safe</i> and is meant to be used by one solving session at
+	 * a time.
+	 */
+	public static final <V> HintEngine<V> hintEngine() {
+		return new CachingHintEngine<V>();
+	}
+
+	/**
+	 * Returns the simplest {@link Hint} that applies to the current state of the given {@link Sudoku}. This is a
+	 * convenience method for one-off queries that uses a new {@link HintEngine} for every call, clients asking for
+	 * several hints on the same {@code Sudoku} should keep a {@code HintEngine} instead.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code Sudoku}.
+	 * 
+	 * @param sudoku the {@code Sudoku} whose next step we want.
+	 * 
+	 * @return an {@code Optional} containing the next {@code Hint} or an empty {@code Optional} if there's none.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 * @throws SudokuException if any {@code Cell} of the given {@code Sudoku} holds a {@code Symbol} that isn't one
+	 * of the {@link LatinSquare#symbols() symbols} of the {@code Sudoku}.
+	 * 
+	 * @see HintEngine#nextHint(Sudoku)
+	 */
+	public static final <V> Optional<Hint<V>> nextHint(Sudoku<V> sudoku) {
+		return Hints.<V>hintEngine().nextHint(sudoku);
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private Hints() { }
+
+	// ================================================
+	// HINT IMPLEMENTATION
+	// ================================================
+	private static final class SimpleHint<V> implements Hint<V> {
+
+		private final Technique technique;
+		private final Set<Cell<V>> cells;
+		private final Set<Symbol<V>> symbols;
+		private final Map<Cell<V>, Set<Symbol<V>>> eliminations;
+
+		SimpleHint(Technique technique, Set<Cell<V>> cells, Set<Symbol<V>> symbols, Map<Cell<V>, Set<Symbol<V>>> eliminations) {
+			this.technique = requireNonNull(technique, "technique cannot be null.");
+			this.cells = Collections.unmodifiableSet(new LinkedHashSet<>(requireNonNull(cells, "cells cannot be null.")));
+			this.symbols = Collections.unmodifiableSet(new LinkedHashSet<>(requireNonNull(symbols, "symbols cannot be null.")));
+			requireNonNull(eliminations, "eliminations cannot be null.");
+			Map<Cell<V>, Set<Symbol<V>>> _eliminations = new LinkedHashMap<>();
+			for (Map.Entry<Cell<V>, Set<Symbol<V>>> entry : eliminations.entrySet())
+				_eliminations.put(entry.getKey(), Collections.unmodifiableSet(new LinkedHashSet<>(entry.getValue())));
+			this.eliminations = Collections.unmodifiableMap(_eliminations);
+
+			if (technique.isPlacement() && (this.cells.size() != 1 || this.symbols.size() != 1))
+				throw new IllegalArgumentException("A placement hint must have exactly one cell and one symbol.");
+		}
+
+		@Override
+		public Technique technique() {
+			return technique;
+		}
+
+		@Override
+		public Set<Cell<V>> cells() {
+			return cells;
+		}
+
+		@Override
+		public Set<Symbol<V>> symbols() {
+			return symbols;
+		}
+
+		@Override
+		public Map<Cell<V>, Set<Symbol<V>>> eliminations() {
+			return eliminations;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(technique, cells, symbols, eliminations);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof Hint)) return false;
+			Hint<?> _obj = (Hint<?>) obj;
+			return technique == _obj.technique() && cells.equals(_obj.cells()) && symbols.equals(_obj.symbols())
+					&& eliminations.equals(_obj.eliminations());
+		}
+
+		@Override
+		public String toString() {
+			return "Hint{technique=" + technique + ", cells=" + cells + ", symbols=" + symbols + ", eliminations=" + eliminations + "}";
+		}
+	}
+}
@@ -0,0 +1,34 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * An {@code Inequality} is a constraint of a {@link Futoshiki} between two neighbouring {@link Cell}s, the
+ * {@link Symbol} of the {@link #lesserCellIndex() lesser} {@code Cell} must {@link Symbol#compareTo(Symbol) compare}
+ * less than the {@code Symbol} of the {@link #greaterCellIndex() greater} one. Like a {@link Cage}, an
+ * {@code Inequality} refers to it's {@code Cell}s by their {@link LatinSquare#indexOf(Cell) row-major indices}.
+ * {@code Inequality}s are immutable and are shared by a {@code Futoshiki} and it's {@link Futoshiki#copy() copies}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 02:03:27
+ * 
+ * @see Futoshiki
+ */
+public interface Inequality {
+
+	/**
+	 * Returns the row-major index of the {@link Cell} whose {@link Symbol} must be the lesser one.
+	 * 
+	 * @return the index of the lesser {@code Cell}.
+	 */
+	int lesserCellIndex();
+
+	/**
+	 * Returns the row-major index of the {@link Cell} whose {@link Symbol} must be the greater one.
+	 * 
+	 * @return the index of the greater {@code Cell}.
+	 */
+	int greaterCellIndex();
+}
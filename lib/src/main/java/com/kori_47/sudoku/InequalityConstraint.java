@@ -0,0 +1,148 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+
+/**
+ * This is the {@link SolverConstraint} of the {@link Inequality}s of a {@link Futoshiki}. For every {@link Cell} it
+ * keeps a lower and an upper bound on the ordinal of it's {@link Symbol}, the candidates of a {@code Cell} are then
+ * the ordinals between it's bounds. Every placement fixes the bounds of it's {@code Cell} and pushes them along the
+ * {@code Inequality}s, i.e the {@code Cell}s greater than a {@code Cell} are raised above it's lower bound and the
+ * lesser ones lowered below it's upper bound, until nothing changes. The changed bounds are recorded on a trail so
+ * that undoing a placement only restores what it changed.
+ * 
+ * <p>
+ * The ordinals of the {@code Symbol}s follow their natural ordering since a {@link SimpleLatinSquare} keeps it's
+ * {@code Symbol}s sorted, so the bounds on the ordinals are bounds on the {@code Symbol}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 02:19:44
+ */
+final class InequalityConstraint implements SolverConstraint {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int maxOrdinal;
+	private final int[][] greaterCells;
+	private final int[][] lesserCells;
+
+	// ================================================
+	// SEARCH STATE
+	// ================================================
+	private final int[] lowerBounds;
+	private final int[] upperBounds;
+	private final int[] queue;
+	private final boolean[] queued;
+	private int queueSize;
+	// the cell, lower bound and upper bound before each change, and the size of the trail before each placement
+	private int[] trail;
+	private int trailSize;
+	private final int[] marks;
+	private int markCount;
+
+	/**
+	 * Creates a new {@code InequalityConstraint}.
+	 * 
+	 * @param symbolCount the number of {@link Symbol}s of the {@code Futoshiki}.
+	 * @param greaterCells the {@code Cell}s that must be greater than each {@code Cell}. The array is not copied.
+	 * @param lesserCells the {@code Cell}s that must be lesser than each {@code Cell}. The array is not copied.
+	 */
+	InequalityConstraint(int symbolCount, int[][] greaterCells, int[][] lesserCells) {
+		this.maxOrdinal = symbolCount - 1;
+		this.greaterCells = greaterCells;
+		this.lesserCells = lesserCells;
+		this.lowerBounds = new int[greaterCells.length];
+		this.upperBounds = new int[greaterCells.length];
+		this.queue = new int[greaterCells.length];
+		this.queued = new boolean[greaterCells.length];
+		this.trail = new int[3 * greaterCells.length];
+		this.marks = new int[greaterCells.length + 1];
+	}
+
+	@Override
+	public void reset(int[] values) {
+		trailSize = markCount = queueSize = 0;
+		for (int cell = 0; cell < values.length; cell++) {
+			lowerBounds[cell] = (values[cell] < 0)? 0 : values[cell];
+			upperBounds[cell] = (values[cell] < 0)? maxOrdinal : values[cell];
+			enqueue(cell);
+		}
+		propagate();
+		// the bounds of the initial values are never undone
+		trailSize = 0;
+	}
+
+	@Override
+	public boolean isConsistent(int[] values) {
+		reset(values);
+		for (int cell = 0; cell < values.length; cell++)
+			if (lowerBounds[cell] > upperBounds[cell]) return false;
+		return true;
+	}
+
+	@Override
+	public long candidates(int cell) {
+		final int lower = lowerBounds[cell], upper = upperBounds[cell];
+		if (lower > upper) return 0L;
+		return (-1L >>> (63 - upper)) & (-1L << lower);
+	}
+
+	@Override
+	public void place(int cell, int ordinal) {
+		marks[markCount++] = trailSize;
+		record(cell);
+		lowerBounds[cell] = upperBounds[cell] = ordinal;
+		enqueue(cell);
+		propagate();
+	}
+
+	@Override
+	public void unplace(int cell, int ordinal) {
+		final int mark = marks[--markCount];
+		while (trailSize > mark) {
+			trailSize -= 3;
+			lowerBounds[trail[trailSize]] = trail[trailSize + 1];
+			upperBounds[trail[trailSize]] = trail[trailSize + 2];
+		}
+	}
+
+	private void propagate() {
+		while (queueSize > 0) {
+			final int cell = queue[--queueSize];
+			queued[cell] = false;
+			final int lower = lowerBounds[cell], upper = upperBounds[cell];
+			// a cell without candidates is a dead end, pushing it's bounds any further is pointless
+			if (lower > upper) continue;
+			for (int greater : greaterCells[cell]) {
+				if (lowerBounds[greater] > lower) continue;
+				record(greater);
+				lowerBounds[greater] = lower + 1;
+				enqueue(greater);
+			}
+			for (int lesser : lesserCells[cell]) {
+				if (upperBounds[lesser] < upper) continue;
+				record(lesser);
+				upperBounds[lesser] = upper - 1;
+				enqueue(lesser);
+			}
+		}
+	}
+
+	private void enqueue(int cell) {
+		if (queued[cell]) return;
+		queued[cell] = true;
+		queue[queueSize++] = cell;
+	}
+
+	private void record(int cell) {
+		if (trailSize + 3 > trail.length)
+			trail = Arrays.copyOf(trail, 2 * trail.length);
+		trail[trailSize++] = cell;
+		trail[trailSize++] = lowerBounds[cell];
+		trail[trailSize++] = upperBounds[cell];
+	}
+}
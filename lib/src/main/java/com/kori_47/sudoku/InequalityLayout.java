@@ -0,0 +1,155 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This holds the {@link Inequality}s of a {@link Futoshiki} together with, for every {@link Cell}, the
+ * {@code Cell}s that must hold a greater and a lesser {@link Symbol} than it, so that the bounds of a {@code Cell}
+ * can be pushed to it's neighbours without searching the {@code Inequality}s. An {@code InequalityLayout} is
+ * immutable and is shared by a {@code Futoshiki} and it's copies.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 02:11:36
+ */
+final class InequalityLayout {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final List<Inequality> inequalities;
+	// the cells that must be greater, and lesser, than each cell in row-major order
+	private final int[][] greaterCells;
+	private final int[][] lesserCells;
+
+	/**
+	 * Creates a new {@code InequalityLayout}.
+	 * 
+	 * @param size the size of the {@code Futoshiki}.
+	 * @param inequalities the row-major indices, {@code {lesser, greater}}, of the {@code Cell}s of each
+	 * {@code Inequality}.
+	 * 
+	 * @throws NullPointerException if {@code inequalities} or any of it's elements is {@code null}.
+	 * @throws IllegalArgumentException if the layout is invalid, see
+	 * {@link LatinSquares#futoshikiOf(int, java.util.Set, int[][])}.
+	 */
+	InequalityLayout(int size, int[][] inequalities) {
+		requireNonNull(inequalities, "inequalities cannot be null.");
+		if (size > BitmaskSolver.MAX_SIZE)
+			throw new IllegalArgumentException("Only Futoshikis of up to " + BitmaskSolver.MAX_SIZE + " symbols are supported, size: " + size + ".");
+
+		final int[] greaterCounts = new int[size * size], lesserCounts = new int[size * size];
+		final List<Inequality> createdInequalities = new ArrayList<>(inequalities.length);
+		for (int index = 0; index < inequalities.length; index++) {
+			final int[] inequality = requireNonNull(inequalities[index], "inequalities cannot contain null elements.");
+			if (inequality.length != 2)
+				throw new IllegalArgumentException("The inequality " + index + " must hold exactly 2 cell indices, found " + inequality.length + ".");
+			final int lesser = inequality[0], greater = inequality[1];
+			if (lesser < 0 || lesser >= size * size || greater < 0 || greater >= size * size)
+				throw new IllegalArgumentException("The inequality " + index + " has an invalid cell index.");
+			// neighbours are next to each other in the same row or in the same column
+			final int distance = Math.abs(lesser - greater);
+			if (!((distance == 1 && lesser / size == greater / size) || distance == size))
+				throw new IllegalArgumentException("The cells of the inequality " + index + " (" + lesser + ", " + greater + ") aren't neighbours.");
+			greaterCounts[lesser]++;
+			lesserCounts[greater]++;
+			createdInequalities.add(new SimpleInequality(lesser, greater));
+		}
+
+		this.size = size;
+		this.inequalities = unmodifiableList(createdInequalities);
+		this.greaterCells = new int[size * size][];
+		this.lesserCells = new int[size * size][];
+		for (int cell = 0; cell < size * size; cell++) {
+			greaterCells[cell] = new int[greaterCounts[cell]];
+			lesserCells[cell] = new int[lesserCounts[cell]];
+			greaterCounts[cell] = lesserCounts[cell] = 0;
+		}
+		for (Inequality inequality : createdInequalities) {
+			final int lesser = inequality.lesserCellIndex(), greater = inequality.greaterCellIndex();
+			greaterCells[lesser][greaterCounts[lesser]++] = greater;
+			lesserCells[greater][lesserCounts[greater]++] = lesser;
+		}
+	}
+
+	/**
+	 * @see Futoshiki#inequalities()
+	 */
+	List<Inequality> inequalities() {
+		return inequalities;
+	}
+
+	/**
+	 * Returns a new {@link SolverConstraint} that enforces the {@link Inequality}s of this layout.
+	 * 
+	 * @param symbolCount the number of {@link Symbol}s of the solved {@code Futoshiki}.
+	 * 
+	 * @return a new {@code SolverConstraint} for this layout.
+	 */
+	SolverConstraint newConstraint(int symbolCount) {
+		return new InequalityConstraint(symbolCount, greaterCells, lesserCells);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * size + inequalities.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof InequalityLayout)) return false;
+		final InequalityLayout other = (InequalityLayout) obj;
+		return size == other.size && inequalities.equals(other.inequalities);
+	}
+
+	/**
+	 * An immutable {@link Inequality}.
+	 */
+	private static final class SimpleInequality implements Inequality {
+
+		private final int lesserCellIndex;
+		private final int greaterCellIndex;
+
+		SimpleInequality(int lesserCellIndex, int greaterCellIndex) {
+			this.lesserCellIndex = lesserCellIndex;
+			this.greaterCellIndex = greaterCellIndex;
+		}
+
+		@Override
+		public int lesserCellIndex() {
+			return lesserCellIndex;
+		}
+
+		@Override
+		public int greaterCellIndex() {
+			return greaterCellIndex;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * lesserCellIndex + greaterCellIndex;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof SimpleInequality)) return false;
+			final SimpleInequality other = (SimpleInequality) obj;
+			return lesserCellIndex == other.lesserCellIndex && greaterCellIndex == other.greaterCellIndex;
+		}
+
+		@Override
+		public String toString() {
+			return "Inequality[" + lesserCellIndex + " < " + greaterCellIndex + "]";
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * This holds the values of the {@link Cell}s of an {@link IntLatinSquare} in a single {@code int} array in
+ * row-major order, with {@code 0} for an empty {@code Cell}. An {@code IntGrid} is the {@link CellFactory} of the
+ * {@code IntLatinSquare} that owns it, the {@code Cell}s it creates hold no state of their own and read and write
+ * the array instead.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 21:33:47
+ */
+final class IntGrid implements CellFactory<Integer> {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final SymbolAlphabet<Integer> alphabet;
+	private final int[] values;
+
+	/**
+	 * Creates a new {@code IntGrid} with all it's {@link Cell}s empty.
+	 * 
+	 * @param size the size of the owning {@link IntLatinSquare}.
+	 */
+	IntGrid(int size) {
+		this.size = size;
+		this.alphabet = Symbols.numberAlphabet(size);
+		this.values = new int[size * size];
+	}
+
+	@Override
+	public Cell<Integer> createCell(String id, int x, int y, Symbol<Integer> symbol) {
+		final IntCell cell = new IntCell(id, x, y);
+		cell.changeSymbol(symbol);
+		return cell;
+	}
+
+	/**
+	 * Returns the size of the owning {@link IntLatinSquare}.
+	 * 
+	 * @return the size of the owning {@code IntLatinSquare}.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number {@link Symbol}s of the owning {@link IntLatinSquare}.
+	 * 
+	 * @return the {@code Symbol}s of the owning {@code IntLatinSquare}.
+	 */
+	SymbolAlphabet<Integer> alphabet() {
+		return alphabet;
+	}
+
+	/**
+	 * @see IntLatinSquare#get(int, int)
+	 */
+	int get(int x, int y) {
+		return values[indexOf(x, y)];
+	}
+
+	/**
+	 * @see IntLatinSquare#set(int, int, int)
+	 */
+	void set(int x, int y, int value) {
+		values[indexOf(x, y)] = requireValue(value);
+	}
+
+	/**
+	 * Replaces all the values with the given symbol ids.
+	 * 
+	 * @param symbolIds the new values in row-major order.
+	 * 
+	 * @see LatinSquare#loadFrom(int[])
+	 */
+	void loadFrom(int[] symbolIds) {
+		GridArrays.checkLength(requireNonNull(symbolIds, "symbolIds cannot be null.").length, size);
+		for (int index = 0; index < symbolIds.length; index++)
+			if (symbolIds[index] < 0 || symbolIds[index] > size)
+				throw new SudokuException("The Symbol id (" + symbolIds[index] + ") at index " + index + " isn't the id of one of the Symbols of this LatinSquare.");
+		System.arraycopy(symbolIds, 0, values, 0, values.length);
+	}
+
+	/**
+	 * Copies all the values into the given array.
+	 * 
+	 * @param symbolIds the array to copy the values into in row-major order.
+	 * 
+	 * @see LatinSquare#exportTo(int[])
+	 */
+	void exportTo(int[] symbolIds) {
+		GridArrays.checkLength(requireNonNull(symbolIds, "symbolIds cannot be null.").length, size);
+		System.arraycopy(values, 0, symbolIds, 0, values.length);
+	}
+
+	/**
+	 * Copies all the values of the given {@code IntGrid} into this one.
+	 * 
+	 * @param other an {@code IntGrid} of the same size.
+	 */
+	void copyFrom(IntGrid other) {
+		System.arraycopy(other.values, 0, values, 0, values.length);
+	}
+
+	/**
+	 * Copies the {@link Symbol} ids of the given {@link LatinSquare} into this {@code IntGrid}.
+	 * 
+	 * @param latinSquare a {@code LatinSquare} of the same size and number {@code Symbol}s.
+	 */
+	void copyFrom(LatinSquare<Integer> latinSquare) {
+		latinSquare.exportTo(values);
+	}
+
+	/**
+	 * Clears all the values.
+	 */
+	void clear() {
+		Arrays.fill(values, 0);
+	}
+
+	/**
+	 * Swaps the first row with the last, the second with the second last and so on.
+	 * 
+	 * @see LatinSquare#flipHorizontally()
+	 */
+	void flipHorizontally() {
+		final int[] row = new int[size];
+		for (int top = 0, bottom = size - 1; top < bottom; top++, bottom--) {
+			System.arraycopy(values, top * size, row, 0, size);
+			System.arraycopy(values, bottom * size, values, top * size, size);
+			System.arraycopy(row, 0, values, bottom * size, size);
+		}
+	}
+
+	/**
+	 * Swaps the first column with the last, the second with the second last and so on.
+	 * 
+	 * @see LatinSquare#flipVertically()
+	 */
+	void flipVertically() {
+		for (int start = 0; start < values.length; start += size) {
+			for (int left = start, right = start + size - 1; left < right; left++, right--) {
+				final int value = values[left];
+				values[left] = values[right];
+				values[right] = value;
+			}
+		}
+	}
+
+	private int indexOf(int x, int y) {
+		return checkIndex(y, size) * size + checkIndex(x, size);
+	}
+
+	private int requireValue(int value) {
+		if (value < 0 || value > size)
+			throw new SudokuException("The value (" + value + ") must be between 0 and " + size + ".");
+		return value;
+	}
+
+	/**
+	 * A {@link Cell} whose value is an element of the values array.
+	 */
+	private final class IntCell implements Cell<Integer> {
+
+		private final String id;
+		private final int x;
+		private final int y;
+		private final int index;
+
+		IntCell(String id, int x, int y) {
+			this.id = id;
+			this.x = x;
+			this.y = y;
+			this.index = indexOf(x, y);
+		}
+
+		@Override
+		public void changeSymbol(Symbol<Integer> value) {
+			if (value != null && !alphabet.contains(value))
+				throw new SudokuException("The given Symbol (" + value + ") isn't one of the Symbols of this LatinSquare.");
+			values[index] = (value == null)? 0 : value.idAsInt();
+		}
+
+		@Override
+		public int x() {
+			return x;
+		}
+
+		@Override
+		public int y() {
+			return y;
+		}
+
+		@Override
+		public String id() {
+			return id;
+		}
+
+		@Override
+		public Optional<Symbol<Integer>> symbol() {
+			final int value = values[index];
+			return (value == 0)? Optional.empty() : Optional.of(alphabet.symbol(value));
+		}
+
+		@Override
+		public int hashCode() {
+			return Cells.hashCode(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return Cells.equals(this, obj);
+		}
+
+		@Override
+		public String toString() {
+			return Cells.toString(this);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * An {@code IntLatinSquare} is a {@link LatinSquare} of number {@link Symbol}s whose {@link Cell} values are
+ * stored as primitive {@code int}s. The {@code Symbol}s of an {@code IntLatinSquare} are always the
+ * {@link Symbols#numberAlphabet(int) number alphabet} of it's size, i.e the {@code Symbol}s {@code 1} to
+ * {@code size()} whose ids are equal to their values, and {@code 0} stands for an empty {@code Cell}.
+ * 
+ * <p>
+ * The {@link #get(int, int)} and {@link #set(int, int, int)} methods read and write the values of the
+ * {@code Cell}s directly, without creating {@code Symbol}s or {@link java.util.Optional Optional}s, which makes
+ * them suitable for numeric workloads that run in hot loops. An {@code IntLatinSquare} is still a
+ * {@code LatinSquare<Integer>}, the {@code Cell}s returned by it's {@link #cells() cells} {@code Map} are views of
+ * the primitive values and changes made through either are immediately visible through the other.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 21:20:38
+ * 
+ * @see LatinSquares#intLatinSquareOf(int)
+ * @see IntSudoku
+ */
+public interface IntLatinSquare extends LatinSquare<Integer> {
+
+	/**
+	 * Returns the value of the {@link Cell} with the given coordinates, or {@code 0} if the {@code Cell} is empty.
+	 * 
+	 * @param x the x coordinate of the {@code Cell}.
+	 * @param y the y coordinate of the {@code Cell}.
+	 * 
+	 * @return the value of the {@code Cell} with the given coordinates or {@code 0} if it's empty.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code x} or {@code y} is negative or not less than {@link #size()}.
+	 */
+	int get(int x, int y);
+
+	/**
+	 * Sets the value of the {@link Cell} with the given coordinates, {@code 0} clears the {@code Cell}. This is
+	 * equivalent to calling {@link #changeSymbol(Cell, Symbol)} with the {@code Cell} and the number
+	 * {@link Symbol} with the given value.
+	 * 
+	 * @param x the x coordinate of the {@code Cell}.
+	 * @param y the y coordinate of the {@code Cell}.
+	 * @param value the new value of the {@code Cell}, from {@code 0} to {@link #size()}.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code x} or {@code y} is negative or not less than {@code size()}.
+	 * @throws SudokuException if {@code value} is negative or greater than {@code size()}.
+	 */
+	void set(int x, int y, int value);
+
+	@Override
+	IntLatinSquare copy();
+}
@@ -0,0 +1,145 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * This is a {@link SimpleLatinSquare} whose {@link Cell} values are held by an {@link IntGrid}, making it an
+ * {@link IntLatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 21:41:15
+ */
+final class IntSimpleLatinSquare extends SimpleLatinSquare<Integer> implements IntLatinSquare {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final IntGrid grid;
+
+	/**
+	 * Creates a new empty {@link IntLatinSquare} of the given size.
+	 * 
+	 * @param size the size of the new {@code IntLatinSquare}.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1} or greater than the size of the largest
+	 * {@link Symbols#numberAlphabet(int) number alphabet}.
+	 */
+	IntSimpleLatinSquare(int size) {
+		this(new IntGrid(size), CellGroups.defaultRowFactory(), CellGroups.defaultColumnFactory());
+	}
+
+	/**
+	 * Creates a new {@link IntLatinSquare} with the same properties and {@link Cell} values as the given
+	 * {@link LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to copy.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if the {@link Symbol}s of {@code latinSquare} aren't the number alphabet of
+	 * it's size.
+	 */
+	IntSimpleLatinSquare(LatinSquare<Integer> latinSquare) {
+		this(gridOf(latinSquare), latinSquare.rowFactory(), latinSquare.columnFactory());
+		// the cells are created empty, copy the given Latin square's values once they exist
+		grid.copyFrom(latinSquare);
+	}
+
+	private IntSimpleLatinSquare(IntGrid grid, RowFactory<Integer> rowFactory, ColumnFactory<Integer> columnFactory) {
+		super(grid.size(), grid.alphabet(), grid, rowFactory, columnFactory);
+		this.grid = grid;
+	}
+
+	@Override
+	public int get(int x, int y) {
+		return grid.get(x, y);
+	}
+
+	@Override
+	public void set(int x, int y, int value) {
+		grid.set(x, y, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation validates the given ids and copies them into the backing {@code int} array in one go.
+	 */
+	@Override
+	public void loadFrom(int[] symbolIds) {
+		grid.loadFrom(symbolIds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation copies the backing {@code int} array into the given array in one go.
+	 */
+	@Override
+	public void exportTo(int[] symbolIds) {
+		grid.exportTo(symbolIds);
+	}
+
+	@Override
+	public void clear() {
+		grid.clear();
+	}
+
+	@Override
+	public void flipHorizontally() {
+		grid.flipHorizontally();
+	}
+
+	@Override
+	public void flipVertically() {
+		grid.flipVertically();
+	}
+
+	@Override
+	public IntLatinSquare copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final IntSimpleLatinSquare newLatinSquare = new IntSimpleLatinSquare(new IntGrid(size()), rowFactory(), columnFactory());
+		newLatinSquare.grid.copyFrom(grid);
+		event.record(newLatinSquare);
+		return newLatinSquare;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The {@code Cell}s of an {@code IntLatinSquare} are views of it's backing {@code int} array, this returns the
+	 * {@link Cells#defaultCellFactory() default CellFactory} so that {@code LatinSquare}s created from this
+	 * {@code IntLatinSquare}'s properties hold their own values.
+	 */
+	@Override
+	public CellFactory<Integer> cellFactory() {
+		return Cells.defaultCellFactory();
+	}
+
+	/**
+	 * Creates a new empty {@link IntGrid} for a copy of the given {@link LatinSquare}.
+	 * 
+	 * @param latinSquare a {@code LatinSquare} of number {@link Symbol}s.
+	 * 
+	 * @return a new empty {@code IntGrid} of the same size as the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if the {@code Symbol}s of {@code latinSquare} aren't the number alphabet of
+	 * it's size.
+	 */
+	static IntGrid gridOf(LatinSquare<Integer> latinSquare) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		final IntGrid grid = new IntGrid(latinSquare.size());
+		if (!grid.alphabet().equals(latinSquare.symbols().values().stream().collect(toSet())))
+			throw new IllegalArgumentException("The Symbols of an IntLatinSquare must be the numbers 1 to " + latinSquare.size() + ".");
+		return grid;
+	}
+}
@@ -0,0 +1,129 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This is a {@link SimpleSudoku} whose {@link Cell} values are held by an {@link IntGrid}, making it an
+ * {@link IntSudoku}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 21:48:02
+ */
+final class IntSimpleSudoku extends SimpleSudoku<Integer> implements IntSudoku {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final IntGrid grid;
+
+	/**
+	 * Creates a new empty {@link IntSudoku} described by the given {@link SudokuVariant}.
+	 * 
+	 * @param variant the {@code SudokuVariant} that describes the new {@code IntSudoku}.
+	 * 
+	 * @throws NullPointerException if {@code variant} is {@code null}.
+	 * @throws IllegalArgumentException if the size of {@code variant} is less than {@code 1} or greater than the size
+	 * of the largest {@link Symbols#numberAlphabet(int) number alphabet}.
+	 */
+	IntSimpleSudoku(SudokuVariant variant) {
+		this(variant, new IntGrid(requireNonNull(variant, "variant can't be null.").size()), CellGroups.defaultRowFactory(),
+				CellGroups.defaultColumnFactory(), variant.defaultBlockFactory());
+	}
+
+	/**
+	 * Creates a new {@link IntSudoku} with the same properties and {@link Cell} values as the given {@link Sudoku}.
+	 * 
+	 * @param sudoku the {@code Sudoku} to copy.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 * @throws IllegalArgumentException if the {@link Symbol}s of {@code sudoku} aren't the number alphabet of it's
+	 * size.
+	 */
+	IntSimpleSudoku(Sudoku<Integer> sudoku) {
+		this(requireNonNull(sudoku, "sudoku cannot be null.").variant(), IntSimpleLatinSquare.gridOf(sudoku), sudoku.rowFactory(),
+				sudoku.columnFactory(), sudoku.blockFactory());
+		// the cells are created empty, copy the given Sudoku's values once they exist
+		grid.copyFrom(sudoku);
+	}
+
+	private IntSimpleSudoku(SudokuVariant variant, IntGrid grid, RowFactory<Integer> rowFactory, ColumnFactory<Integer> columnFactory,
+			BlockFactory<Integer> blockFactory) {
+		super(variant, grid.alphabet(), grid, rowFactory, columnFactory, blockFactory);
+		this.grid = grid;
+	}
+
+	@Override
+	public int get(int x, int y) {
+		return grid.get(x, y);
+	}
+
+	@Override
+	public void set(int x, int y, int value) {
+		grid.set(x, y, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation validates the given ids and copies them into the backing {@code int} array in one go.
+	 */
+	@Override
+	public void loadFrom(int[] symbolIds) {
+		grid.loadFrom(symbolIds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation copies the backing {@code int} array into the given array in one go.
+	 */
+	@Override
+	public void exportTo(int[] symbolIds) {
+		grid.exportTo(symbolIds);
+	}
+
+	@Override
+	public void clear() {
+		grid.clear();
+	}
+
+	@Override
+	public void flipHorizontally() {
+		grid.flipHorizontally();
+	}
+
+	@Override
+	public void flipVertically() {
+		grid.flipVertically();
+	}
+
+	@Override
+	public IntSudoku copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final IntSimpleSudoku newSudoku = new IntSimpleSudoku(variant(), new IntGrid(size()), rowFactory(), columnFactory(),
+				blockFactory());
+		newSudoku.grid.copyFrom(grid);
+		event.record(newSudoku);
+		return newSudoku;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The {@code Cell}s of an {@code IntSudoku} are views of it's backing {@code int} array, this returns the
+	 * {@link Cells#defaultCellFactory() default CellFactory} so that {@code Sudoku}s created from this
+	 * {@code IntSudoku}'s properties hold their own values.
+	 */
+	@Override
+	public CellFactory<Integer> cellFactory() {
+		return Cells.defaultCellFactory();
+	}
+}
@@ -0,0 +1,20 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A {@link Sudoku} of number {@link Symbol}s whose {@link Cell} values are stored as primitive {@code int}s. This
+ * interface combines the {@code Sudoku} and {@link IntLatinSquare} interfaces.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 21:26:04
+ * 
+ * @see LatinSquares#intSudokuOf(SudokuVariant)
+ */
+public interface IntSudoku extends IntLatinSquare, Sudoku<Integer> {
+
+	@Override
+	IntSudoku copy();
+}
@@ -0,0 +1,198 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * This is the Markov chain of Jacobson and Matthews over the Latin squares of a given size, whose stationary
+ * distribution is uniform over the Latin squares of that size. A Latin square is seen as it's incidence cube, the
+ * {@code size x size x size} array that holds {@code 1} at every <i>(row, column, symbol)</i> of the square and
+ * {@code 0} elsewhere, and every step of the chain adds {@code +1} and {@code -1} to the eight corners of a sub cube.
+ * A step may leave a single <i>improper</i> entry of {@code -1}, the chain then keeps moving until the square is
+ * proper again.
+ * 
+ * <p>
+ * The cube is never stored, for every line of the cube, i.e every <i>(row, column)</i>, <i>(row, symbol)</i> and
+ * <i>(column, symbol)</i> pair, the chain keeps the one or two positions of the line that hold {@code 1}, which makes
+ * every step a constant number of array accesses. A {@code JacobsonMatthewsChain} is <i>not thread safe</i>.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 03:52:18
+ * 
+ * @see Solvers#fillRandomly(LatinSquare, Random, long)
+ */
+final class JacobsonMatthewsChain {
+
+	/**
+	 * marks an empty slot of a line.
+	 */
+	private static final int NONE = -1;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final SplittableRandom random;
+
+	// ================================================
+	// SEARCH STATE
+	// ================================================
+	// the positions holding 1 on each line, a line holds two of them only when it crosses the improper entry
+	private final int[] symbols;
+	private final int[] extraSymbols;
+	private final int[] columns;
+	private final int[] extraColumns;
+	private final int[] rows;
+	private final int[] extraRows;
+	// the coordinates of the improper entry, improperRow is NONE when the square is proper
+	private int improperRow = NONE;
+	private int improperColumn;
+	private int improperSymbol;
+
+	/**
+	 * Creates a new {@code JacobsonMatthewsChain} that starts at the cyclic Latin square of the given size, the
+	 * square whose {@link Cell} <i>(x, y)</i> holds the symbol <i>(x + y) mod size</i>.
+	 * 
+	 * @param size the size of the Latin squares.
+	 * @param random the source of the seed of the chain, it's only used once.
+	 */
+	JacobsonMatthewsChain(int size, Random random) {
+		this.size = size;
+		// a step draws up to four random numbers, a SplittableRandom keeps that cheap
+		this.random = new SplittableRandom(random.nextLong());
+		this.symbols = new int[size * size];
+		this.columns = new int[size * size];
+		this.rows = new int[size * size];
+		this.extraSymbols = new int[size * size];
+		this.extraColumns = new int[size * size];
+		this.extraRows = new int[size * size];
+		Arrays.fill(extraSymbols, NONE);
+		Arrays.fill(extraColumns, NONE);
+		Arrays.fill(extraRows, NONE);
+		for (int row = 0; row < size; row++) {
+			for (int column = 0; column < size; column++) {
+				final int symbol = (row + column) % size;
+				symbols[row * size + column] = symbol;
+				columns[row * size + symbol] = column;
+				rows[column * size + symbol] = row;
+			}
+		}
+	}
+
+	/**
+	 * Moves the chain until it has visited the given number of proper squares, stopping at the last of them.
+	 * 
+	 * @implNote
+	 * Only the proper squares count as mixing steps. The chain restricted to it's visits of proper squares is uniform
+	 * over the Latin squares, while stopping after a fixed number of steps, proper or not, and then waiting for a
+	 * proper square favours the squares that the improper squares lead back to most often.
+	 * 
+	 * @param steps the number of proper squares to visit.
+	 */
+	void mix(long steps) {
+		// the only Latin square of size 1 has no entry holding 0 to move
+		if (size < 2) return;
+		long proper = 0;
+		while (proper < steps) {
+			step();
+			if (isProper()) proper++;
+		}
+	}
+
+	/**
+	 * Moves the chain by a single step.
+	 */
+	void step() {
+		final int row, column, symbol, otherSymbol, otherColumn, otherRow;
+		if (improperRow == NONE) {
+			// any entry holding 0 of a proper square
+			row = random.nextInt(size);
+			column = random.nextInt(size);
+			final int current = symbols[row * size + column];
+			symbol = (current + 1 + random.nextInt(size - 1)) % size;
+			otherSymbol = current;
+			otherColumn = columns[row * size + symbol];
+			otherRow = rows[column * size + symbol];
+		} else {
+			// the improper entry, each of it's lines holds two positions with 1 and either may be moved
+			row = improperRow;
+			column = improperColumn;
+			symbol = improperSymbol;
+			otherSymbol = pick(symbols, extraSymbols, row * size + column);
+			otherColumn = pick(columns, extraColumns, row * size + symbol);
+			otherRow = pick(rows, extraRows, column * size + symbol);
+		}
+		increment(row, column, symbol);
+		decrement(row, column, otherSymbol);
+		decrement(row, otherColumn, symbol);
+		decrement(otherRow, column, symbol);
+		increment(row, otherColumn, otherSymbol);
+		increment(otherRow, column, otherSymbol);
+		increment(otherRow, otherColumn, symbol);
+		decrement(otherRow, otherColumn, otherSymbol);
+	}
+
+	/**
+	 * Returns {@code true} if the current square is a Latin square, i.e has no improper entry.
+	 * 
+	 * @return {@code true} if the current square is proper.
+	 */
+	boolean isProper() {
+		return improperRow == NONE;
+	}
+
+	/**
+	 * Returns the symbol of the {@link Cell} with the given row-major index. Only meaningful when the current square
+	 * is {@link #isProper() proper}.
+	 * 
+	 * @param index the row-major index of the {@code Cell}.
+	 * 
+	 * @return the symbol of the given {@code Cell}, from {@code 0} to {@code size - 1}.
+	 */
+	int symbolAt(int index) {
+		return symbols[index];
+	}
+
+	private int pick(int[] first, int[] extra, int line) {
+		return random.nextBoolean()? first[line] : extra[line];
+	}
+
+	private void increment(int row, int column, int symbol) {
+		if (row == improperRow && column == improperColumn && symbol == improperSymbol) {
+			improperRow = NONE;
+			return;
+		}
+		add(symbols, extraSymbols, row * size + column, symbol);
+		add(columns, extraColumns, row * size + symbol, column);
+		add(rows, extraRows, column * size + symbol, row);
+	}
+
+	private void decrement(int row, int column, int symbol) {
+		if (symbols[row * size + column] != symbol && extraSymbols[row * size + column] != symbol) {
+			// the entry held 0, it's now the improper entry
+			improperRow = row;
+			improperColumn = column;
+			improperSymbol = symbol;
+			return;
+		}
+		remove(symbols, extraSymbols, row * size + column, symbol);
+		remove(columns, extraColumns, row * size + symbol, column);
+		remove(rows, extraRows, column * size + symbol, row);
+	}
+
+	private static void add(int[] first, int[] extra, int line, int position) {
+		if (first[line] == NONE) first[line] = position;
+		else if (extra[line] == NONE) extra[line] = position;
+		else throw new IllegalStateException("A line of the incidence cube can't hold 1 in more than two positions.");
+	}
+
+	private static void remove(int[] first, int[] extra, int line, int position) {
+		if (first[line] == position) first[line] = extra[line];
+		extra[line] = NONE;
+	}
+}
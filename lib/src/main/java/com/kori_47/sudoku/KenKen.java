@@ -0,0 +1,50 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@code KenKen} is a {@link LatinSquare} of number {@link Symbol}s whose {@link Cell}s are also grouped into
+ * {@link ArithmeticCage}s. The values of the {@code Cell}s in an {@code ArithmeticCage} must give the target of the
+ * {@code ArithmeticCage} when combined with it's {@link ArithmeticCage.Operation Operation}. The {@code Symbol}s of a
+ * {@code KenKen} are always the {@link Symbols#numberAlphabet(int) number alphabet} of it's size and a {@code Cell}
+ * belongs to at most one {@code ArithmeticCage}.
+ * 
+ * <p>
+ * The {@link Solvers} enforce the {@code ArithmeticCage}s of a {@code KenKen} both when solving and when validating
+ * it.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 03:02:14
+ * 
+ * @see LatinSquares#kenKenOf(int, int[], ArithmeticCage.Operation[], int[])
+ */
+public interface KenKen extends LatinSquare<Integer> {
+
+	/**
+	 * Returns an unmodifiable {@code Map} of the {@link ArithmeticCage}s of this {@code KenKen} keyed by their ids.
+	 * 
+	 * @return the {@code ArithmeticCage}s of this {@code KenKen}.
+	 */
+	Map<String, ArithmeticCage> cages();
+
+	/**
+	 * Returns the {@link ArithmeticCage} that holds the {@link Cell} with the given coordinates or an empty
+	 * {@code Optional} if the {@code Cell} isn't in any {@code ArithmeticCage}.
+	 * 
+	 * @param x the x coordinate of the {@code Cell}.
+	 * @param y the y coordinate of the {@code Cell}.
+	 * 
+	 * @return an {@code Optional} describing the {@code ArithmeticCage} of the {@code Cell} with the given coordinates.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code x} or {@code y} is negative or not less than {@link #size()}.
+	 */
+	Optional<ArithmeticCage> cageOf(int x, int y);
+
+	@Override
+	KenKen copy();
+}
@@ -0,0 +1,49 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@code KillerSudoku} is a {@link Sudoku} of number {@link Symbol}s whose {@link Cell}s are also grouped into
+ * {@link Cage}s. The values of the {@code Cell}s in a {@code Cage} must be distinct and add up to the sum of the
+ * {@code Cage}. The {@code Symbol}s of a {@code KillerSudoku} are always the
+ * {@link Symbols#numberAlphabet(int) number alphabet} of it's size and a {@code Cell} belongs to at most one
+ * {@code Cage}.
+ * 
+ * <p>
+ * The {@link Solvers} enforce the {@code Cage}s of a {@code KillerSudoku} both when solving and when validating it.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 23:40:05
+ * 
+ * @see LatinSquares#killerSudokuOf(Sudoku.SudokuVariant, int[], int[])
+ */
+public interface KillerSudoku extends Sudoku<Integer> {
+
+	/**
+	 * Returns an unmodifiable {@code Map} of the {@link Cage}s of this {@code KillerSudoku} keyed by their ids.
+	 * 
+	 * @return the {@code Cage}s of this {@code KillerSudoku}.
+	 */
+	Map<String, Cage> cages();
+
+	/**
+	 * Returns the {@link Cage} that holds the {@link Cell} with the given coordinates or an empty {@code Optional}
+	 * if the {@code Cell} isn't in any {@code Cage}.
+	 * 
+	 * @param x the x coordinate of the {@code Cell}.
+	 * @param y the y coordinate of the {@code Cell}.
+	 * 
+	 * @return an {@code Optional} describing the {@code Cage} of the {@code Cell} with the given coordinates.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code x} or {@code y} is negative or not less than {@link #size()}.
+	 */
+	Optional<Cage> cageOf(int x, int y);
+
+	@Override
+	KillerSudoku copy();
+}
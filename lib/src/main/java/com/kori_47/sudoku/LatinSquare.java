@@ -3,11 +3,13 @@
  */
 package com.kori_47.sudoku;
 
+import static java.util.Objects.checkIndex;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 /**
  * A {@code LatinSquare} is an <i>n * n</i> matrix filled with <i>n</i> different {@link Symbol}s,
@@ -204,6 +206,141 @@ public interface LatinSquare<V> extends InterpolatableCellGroup<V> {
 		return columns().values().stream().filter(column -> column.x() == cell.x()).findFirst();
 	}
 
+	/**
+	 * Returns the {@link Cell} with the given row-major index, i.e the {@code Cell} with the coordinates
+	 * <i>(index % size(), index / size())</i>.
+	 * 
+	 * @param index the row-major index of the {@code Cell} to return.
+	 * 
+	 * @return the {@code Cell} with the given row-major index.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@code size() * size()}.
+	 * 
+	 * @implSpec
+	 * The default implementation is equivalent to, for this {@code latinSquare}:
+	 * <pre> {@code
+	 * return latinSquare.getCell(index % latinSquare.size(), index / latinSquare.size()).get();
+	 * }
+	 * </pre>
+	 */
+	@Override
+	default Cell<V> cellAt(int index) {
+		checkIndex(index, size() * size());
+		return getCell(index % size(), index / size()).get();
+	}
+
+	/**
+	 * Returns the row-major index of the given {@link Cell}, or {@code -1} if the {@code Cell} isn't part of this
+	 * {@code LatinSquare}. A {@code Cell} is part of a {@code LatinSquare} if it's {@link Cell#id() id} is a key of
+	 * the {@code LatinSquare}'s {@link #cells() cells} {@code Map}.
+	 * 
+	 * @param cell the {@code Cell} whose row-major index we want.
+	 * 
+	 * @return the row-major index of the given {@code Cell} or {@code -1} if it isn't part of this
+	 * {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 */
+	@Override
+	default int indexOf(Cell<V> cell) {
+		final Cell<V> ownCell = cells().get(requireNonNull(cell, "cell cannot be null.").id());
+		return (ownCell == null)? -1 : GridTopology.indexOf(ownCell, size());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * For a {@code LatinSquare} these are simply the integers from {@code 0} to {@code size() * size() - 1}.
+	 */
+	@Override
+	default int[] cellIndices() {
+		return IntStream.range(0, size() * size()).toArray();
+	}
+
+	/**
+	 * Sets the {@link Symbol}s of all the {@link Cell}s in this {@code LatinSquare} from the given array of
+	 * {@code Symbol} ids. The array holds one id per {@code Cell} in row-major order, i.e the id for the {@code Cell}
+	 * with the coordinates <i>(x, y)</i> is at the index <i>y * size() + x</i>, and {@code 0} clears the
+	 * {@code Cell}. All the ids are validated before any {@code Cell} is changed, so if this method throws, this
+	 * {@code LatinSquare} is left untouched.
+	 * 
+	 * @param symbolIds the {@code Symbol} ids to load in row-major order.
+	 * 
+	 * @throws NullPointerException if {@code symbolIds} is {@code null}.
+	 * @throws IllegalArgumentException if the length of {@code symbolIds} isn't {@code size() * size()}.
+	 * @throws SudokuException if any of the ids isn't {@code 0} or the id of one of this {@code LatinSquare}'s
+	 * {@link #symbols() symbols}.
+	 * 
+	 * @see #exportTo(int[])
+	 * 
+	 * @implSpec
+	 * The default implementation translates the ids in a single pass and then sets the {@code Symbol} of each
+	 * {@code Cell} using the {@code Cell}'s {@link Cell#changeSymbol(Symbol)} method, skipping the per call checks
+	 * made by {@link #changeSymbol(Cell, Symbol)}.
+	 */
+	default void loadFrom(int[] symbolIds) {
+		GridArrays.load(this, symbolIds);
+	}
+
+	/**
+	 * Sets the {@link Symbol}s of all the {@link Cell}s in this {@code LatinSquare} from the given array of
+	 * unsigned {@code byte} {@code Symbol} ids. This behaves exactly like {@link #loadFrom(int[])} and is meant for
+	 * compact storage and transport of grids whose {@code Symbol} ids are all less than {@code 256}.
+	 * 
+	 * @param symbolIds the {@code Symbol} ids to load in row-major order.
+	 * 
+	 * @throws NullPointerException if {@code symbolIds} is {@code null}.
+	 * @throws IllegalArgumentException if the length of {@code symbolIds} isn't {@code size() * size()}.
+	 * @throws SudokuException if any of the ids isn't {@code 0} or the id of one of this {@code LatinSquare}'s
+	 * {@link #symbols() symbols}.
+	 * 
+	 * @implSpec
+	 * The default implementation widens the ids and passes them to {@link #loadFrom(int[])}.
+	 */
+	default void loadFrom(byte[] symbolIds) {
+		loadFrom(GridArrays.widen(symbolIds));
+	}
+
+	/**
+	 * Writes the ids of the {@link Symbol}s of all the {@link Cell}s in this {@code LatinSquare} into the given array
+	 * in row-major order, with {@code 0} for empty {@code Cell}s. This is the inverse of {@link #loadFrom(int[])}.
+	 * 
+	 * @param symbolIds the array to write the ids into.
+	 * 
+	 * @throws NullPointerException if {@code symbolIds} is {@code null}.
+	 * @throws IllegalArgumentException if the length of {@code symbolIds} isn't {@code size() * size()}.
+	 * 
+	 * @implSpec
+	 * The default implementation visits every {@code Cell} of this {@code LatinSquare}'s {@link #cells() cells}
+	 * {@code Map} once and reads the {@code Symbol} of {@code Cell}s created by {@link Cells#defaultCellFactory()}
+	 * directly rather than through {@link Cell#symbol()}.
+	 */
+	default void exportTo(int[] symbolIds) {
+		GridArrays.export(this, symbolIds);
+	}
+
+	/**
+	 * Writes the ids of the {@link Symbol}s of all the {@link Cell}s in this {@code LatinSquare} into the given array
+	 * as unsigned {@code byte}s. This behaves exactly like {@link #exportTo(int[])}, if any id doesn't fit in an
+	 * unsigned {@code byte}, the given array is left untouched.
+	 * 
+	 * @param symbolIds the array to write the ids into.
+	 * 
+	 * @throws NullPointerException if {@code symbolIds} is {@code null}.
+	 * @throws IllegalArgumentException if the length of {@code symbolIds} isn't {@code size() * size()}.
+	 * @throws SudokuException if the id of a {@code Symbol} held by a {@code Cell} is negative or greater than
+	 * {@code 255}.
+	 * 
+	 * @implSpec
+	 * The default implementation exports the ids using {@link #exportTo(int[])} and then narrows them.
+	 */
+	default void exportTo(byte[] symbolIds) {
+		final int[] ids = new int[requireNonNull(symbolIds, "symbolIds cannot be null.").length];
+		exportTo(ids);
+		GridArrays.narrow(ids, symbolIds);
+	}
+
 	/**
 	 * Returns the hash code value for this {@code LatinSquare}. The hash code of a {@code LatinSquare} should
 	 * be derived from the hash codes of the following properties of a {@code LatinSquare}: 
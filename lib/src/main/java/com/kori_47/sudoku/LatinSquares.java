@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariant;
 import com.kori_47.sudoku.Sudoku.SudokuVariant;
 
 /**
@@ -232,11 +233,12 @@ public final class LatinSquares {
 	 * 
 	 * @implNote
 	 * A call to this method is similar to calling {@link #sudokuOf(SudokuVariant, Set, Symbol, CellFactory, RowFactory, ColumnFactory, BlockFactory)}
-	 * with the {@code blockFactory}instance gotten from calling {@link CellGroups#defaultBoxBlockFactory()}.
+	 * with the {@code blockFactory} instance gotten from calling {@link SudokuVariant#defaultBlockFactory() variant.defaultBlockFactory()},
+	 * which for most variants is {@link CellGroups#defaultBoxBlockFactory()}.
 	 */
 	public static final <V> Sudoku<V> sudokuOf(SudokuVariant variant, Set<Symbol<V>> symbols, CellFactory<V> cellFactory, RowFactory<V> rowFactory,
 			ColumnFactory<V> columnFactory) {
-		return sudokuOf(variant, symbols, cellFactory, rowFactory, columnFactory, CellGroups.defaultBoxBlockFactory());
+		return sudokuOf(variant, symbols, cellFactory, rowFactory, columnFactory, requireNonNull(variant, "variant can't be null.").defaultBlockFactory());
 	}
 	
 	/**
@@ -314,10 +316,11 @@ public final class LatinSquares {
 	 * 
 	 * @implNote
 	 * A call to this method is similar to calling {@link #sudokuOf(LatinSquare, SudokuVariant, BlockFactory)} with the {@code blockFactory}
-	 * instance gotten from calling {@link CellGroups#defaultBoxBlockFactory()}.
+	 * instance gotten from calling {@link SudokuVariant#defaultBlockFactory() variant.defaultBlockFactory()}, which for most variants is
+	 * {@link CellGroups#defaultBoxBlockFactory()}.
 	 */
 	public static final <V> Sudoku<V> sudokuOf(LatinSquare<V> latinSquare, SudokuVariant variant) {
-		return sudokuOf(latinSquare, variant, CellGroups.defaultBoxBlockFactory());
+		return sudokuOf(latinSquare, variant, requireNonNull(variant, "variant cannot be null.").defaultBlockFactory());
 	}
 	
 	/**
@@ -351,6 +354,338 @@ public final class LatinSquares {
 		return new CompositeSudoku<V>(latinSquare, variant, blockFactory);
 	}
 	
+	/**
+	 * Creates a new <i>thread safe</i> {@link ConcurrentLatinSquare} with the same properties and {@link Cell} values
+	 * as the given {@link LatinSquare}. The returned {@code ConcurrentLatinSquare} is independent of the given
+	 * {@code LatinSquare}, changes to one are not reflected on the other.
+	 * 
+	 * @param <V> the type of values held by the {@link Symbol}s supported by the new {@code ConcurrentLatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose properties and {@code Cell} values to copy.
+	 * 
+	 * @return a new {@code ConcurrentLatinSquare} holding the same values as the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws SudokuException if a {@code Cell} of the given {@code LatinSquare} holds a {@code Symbol} that isn't one of
+	 * it's {@link LatinSquare#symbols() symbols}.
+	 * 
+	 * @see #concurrentSudokuOf(Sudoku)
+	 * 
+	 * @implNote
+	 * The {@code Symbol}s of the returned {@code ConcurrentLatinSquare}'s {@code Cell}s are kept in a single
+	 * {@link java.util.concurrent.atomic.AtomicIntegerArray} and every {@link Row} and {@link Column} is guarded by
+	 * it's own lock. The {@code CellFactory} of the given {@code LatinSquare} is not used to create the {@code Cell}s of
+	 * the returned {@code ConcurrentLatinSquare} but is returned by it's {@link LatinSquare#cellFactory() cellFactory()}
+	 * method and used to create it's {@link ConcurrentLatinSquare#snapshot() snapshots}.
+	 */
+	public static final <V> ConcurrentLatinSquare<V> concurrentLatinSquareOf(LatinSquare<V> latinSquare) {
+		return new ConcurrentSimpleLatinSquare<V>(latinSquare);
+	}
+
+	/**
+	 * Creates a new <i>thread safe</i> {@link ConcurrentSudoku} with the same properties and {@link Cell} values as the
+	 * given {@link Sudoku}. The returned {@code ConcurrentSudoku} is independent of the given {@code Sudoku}, changes
+	 * to one are not reflected on the other.
+	 * 
+	 * @param <V> the type of values held by the {@link Symbol}s supported by the new {@code ConcurrentSudoku}.
+	 * 
+	 * @param sudoku the {@code Sudoku} whose properties and {@code Cell} values to copy.
+	 * 
+	 * @return a new {@code ConcurrentSudoku} holding the same values as the given {@code Sudoku}.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 * @throws SudokuException if a {@code Cell} of the given {@code Sudoku} holds a {@code Symbol} that isn't one of
+	 * it's {@link Sudoku#symbols() symbols}.
+	 * 
+	 * @implNote
+	 * The returned {@code ConcurrentSudoku} has the same characteristics as a {@code ConcurrentLatinSquare} created by
+	 * {@link #concurrentLatinSquareOf(LatinSquare)}, in addition, each of it's {@link Block}s is guarded by it's own
+	 * lock.
+	 */
+	public static final <V> ConcurrentSudoku<V> concurrentSudokuOf(Sudoku<V> sudoku) {
+		return new ConcurrentSimpleSudoku<V>(sudoku);
+	}
+
+	/**
+	 * Creates a new {@link ObservableLatinSquare} with the same properties and {@link Cell} values as the given
+	 * {@link LatinSquare}. The returned {@code ObservableLatinSquare} is independent of the given {@code LatinSquare},
+	 * changes to one are not reflected on the other.
+	 * 
+	 * @param <V> the type of values held by the {@link Symbol}s supported by the new {@code ObservableLatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose properties and {@code Cell} values to copy.
+	 * 
+	 * @return a new {@code ObservableLatinSquare} holding the same values as the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * 
+	 * @see #observableSudokuOf(Sudoku)
+	 * 
+	 * @implNote
+	 * The {@code Cell}s of the returned {@code ObservableLatinSquare} are created by the {@code CellFactory} of the given
+	 * {@code LatinSquare} and wrapped in {@code Cell}s that report their changes. While no {@link GridChangeListener}
+	 * is registered, a change costs a single additional array length check. The returned {@code ObservableLatinSquare}
+	 * is <i>not thread safe</i>.
+	 */
+	public static final <V> ObservableLatinSquare<V> observableLatinSquareOf(LatinSquare<V> latinSquare) {
+		return new ObservableSimpleLatinSquare<V>(latinSquare);
+	}
+
+	/**
+	 * Creates a new {@link ObservableSudoku} with the same properties and {@link Cell} values as the given
+	 * {@link Sudoku}. The returned {@code ObservableSudoku} is independent of the given {@code Sudoku}, changes to one
+	 * are not reflected on the other.
+	 * 
+	 * @param <V> the type of values held by the {@link Symbol}s supported by the new {@code ObservableSudoku}.
+	 * 
+	 * @param sudoku the {@code Sudoku} whose properties and {@code Cell} values to copy.
+	 * 
+	 * @return a new {@code ObservableSudoku} holding the same values as the given {@code Sudoku}.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 * 
+	 * @implNote
+	 * The returned {@code ObservableSudoku} has the same characteristics as an {@code ObservableLatinSquare} created
+	 * by {@link #observableLatinSquareOf(LatinSquare)}.
+	 */
+	public static final <V> ObservableSudoku<V> observableSudokuOf(Sudoku<V> sudoku) {
+		return new ObservableSimpleSudoku<V>(sudoku);
+	}
+
+	/**
+	 * Creates a new empty {@link IntLatinSquare} of the given size. The {@link Symbol}s of the returned
+	 * {@code IntLatinSquare} are the {@link Symbols#numberAlphabet(int) number alphabet} of the given size.
+	 * 
+	 * @param size the size of the new {@code IntLatinSquare}.
+	 * 
+	 * @return a new empty {@code IntLatinSquare} of the given size.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1} or greater than the size of the largest
+	 * number alphabet.
+	 * 
+	 * @see #intSudokuOf(SudokuVariant)
+	 * 
+	 * @implNote
+	 * The values of the returned {@code IntLatinSquare}'s {@link Cell}s are kept in a single {@code int} array in
+	 * row-major order. It's {@code Cell}s hold no state of their own, reading a {@code Cell}'s {@code Symbol} looks it
+	 * up in the interned number alphabet and {@link IntLatinSquare#get(int, int) get(int, int)} and
+	 * {@link IntLatinSquare#set(int, int, int) set(int, int, int)} never box their values. The returned
+	 * {@code IntLatinSquare} is <i>not thread safe</i>.
+	 */
+	public static final IntLatinSquare intLatinSquareOf(int size) {
+		return new IntSimpleLatinSquare(size);
+	}
+
+	/**
+	 * Creates a new {@link IntLatinSquare} with the same properties and {@link Cell} values as the given
+	 * {@link LatinSquare}. The returned {@code IntLatinSquare} is independent of the given {@code LatinSquare},
+	 * changes to one are not reflected on the other.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose properties and {@code Cell} values to copy.
+	 * 
+	 * @return a new {@code IntLatinSquare} holding the same values as the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if the {@link Symbol}s of the given {@code LatinSquare} aren't the
+	 * {@link Symbols#numberAlphabet(int) number alphabet} of it's size.
+	 * 
+	 * @implNote
+	 * The returned {@code IntLatinSquare} has the same characteristics as one created by
+	 * {@link #intLatinSquareOf(int)}, the {@code CellFactory} of the given {@code LatinSquare} is not used.
+	 */
+	public static final IntLatinSquare intLatinSquareOf(LatinSquare<Integer> latinSquare) {
+		return new IntSimpleLatinSquare(latinSquare);
+	}
+
+	/**
+	 * Creates a new empty {@link IntSudoku} described by the given {@link SudokuVariant}. The {@link Symbol}s of the
+	 * returned {@code IntSudoku} are the {@link Symbols#numberAlphabet(int) number alphabet} of the variant's size.
+	 * 
+	 * @param variant the {@code SudokuVariant} that describes the new {@code IntSudoku}.
+	 * 
+	 * @return a new empty {@code IntSudoku} described by the given {@code SudokuVariant}.
+	 * 
+	 * @throws NullPointerException if {@code variant} is {@code null}.
+	 * @throws IllegalArgumentException if the size of {@code variant} is greater than the size of the largest number
+	 * alphabet.
+	 * 
+	 * @implNote
+	 * The returned {@code IntSudoku} has the same characteristics as an {@code IntLatinSquare} created by
+	 * {@link #intLatinSquareOf(int)}.
+	 */
+	public static final IntSudoku intSudokuOf(SudokuVariant variant) {
+		return new IntSimpleSudoku(variant);
+	}
+
+	/**
+	 * Creates a new {@link IntSudoku} with the same properties and {@link Cell} values as the given {@link Sudoku}.
+	 * The returned {@code IntSudoku} is independent of the given {@code Sudoku}, changes to one are not reflected on
+	 * the other.
+	 * 
+	 * @param sudoku the {@code Sudoku} whose properties and {@code Cell} values to copy.
+	 * 
+	 * @return a new {@code IntSudoku} holding the same values as the given {@code Sudoku}.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 * @throws IllegalArgumentException if the {@link Symbol}s of the given {@code Sudoku} aren't the
+	 * {@link Symbols#numberAlphabet(int) number alphabet} of it's size.
+	 * 
+	 * @implNote
+	 * The returned {@code IntSudoku} has the same characteristics as an {@code IntLatinSquare} created by
+	 * {@link #intLatinSquareOf(int)}, the {@code CellFactory} of the given {@code Sudoku} is not used.
+	 */
+	public static final IntSudoku intSudokuOf(Sudoku<Integer> sudoku) {
+		return new IntSimpleSudoku(sudoku);
+	}
+
+	/**
+	 * Creates a new empty {@link KillerSudoku} described by the given {@link SudokuVariant} and {@link Cage}s. The
+	 * {@link Symbol}s of the returned {@code KillerSudoku} are the {@link Symbols#numberAlphabet(int) number alphabet}
+	 * of the variant's size. The {@code Cage} of the {@link Cell} with the coordinates <i>(x, y)</i> is at the index
+	 * <i>y * size + x</i> of {@code cageIds}, {@code -1} for a {@code Cell} in no {@code Cage}, and the sum of the
+	 * {@code Cage} {@code c} is {@code cageSums[c]}. The id of each {@code Cage} is it's index in {@code cageSums}.
+	 *
+	 * @param variant the {@code SudokuVariant} that describes the new {@code KillerSudoku}.
+	 * @param cageIds the {@code Cage} of each {@code Cell} in row-major order. The array is copied.
+	 * @param cageSums the sum of each {@code Cage}.
+	 *
+	 * @return a new empty {@code KillerSudoku}.
+	 *
+	 * @throws NullPointerException if {@code variant}, {@code cageIds} or {@code cageSums} is {@code null}.
+	 * @throws IllegalArgumentException if the size of {@code variant} is greater than {@code 64}, the length of
+	 * {@code cageIds} isn't {@code size * size}, a {@code Cage} id is out of range, a {@code Cage} has no
+	 * {@code Cell}s or a {@code Cage} can't hold distinct digits that add up to it's sum.
+	 *
+	 * @implNote
+	 * For every number of digits, the digits allowed in a {@code Cage} of each size and sum are precomputed once and
+	 * shared, so the {@link Solvers} prune the candidates of a {@code Cell} in a {@code Cage} with a single table
+	 * lookup and keep the state of a {@code Cage} up to date in constant time per placement.
+	 */
+	public static final KillerSudoku killerSudokuOf(SudokuVariant variant, int[] cageIds, int[] cageSums) {
+		requireNonNull(variant, "variant cannot be null.");
+		return new SimpleKillerSudoku(variant, new CageLayout(variant.size(), cageIds, cageSums));
+	}
+
+	/**
+	 * Creates a new empty {@link Futoshiki} with the given {@link Symbol}s and {@link Inequality}s. Each element of
+	 * {@code inequalities} holds the row-major indices, {@code {lesser, greater}}, of two neighbouring {@link Cell}s,
+	 * i.e {@code Cell}s next to each other in the same {@link Row} or {@link Column}. The {@code Symbol} of the lesser
+	 * {@code Cell} must be less than the {@code Symbol} of the greater one in the natural ordering of the
+	 * {@code Symbol}s.
+	 *
+	 * @param <V> the type of values held by the {@code Symbol}s of the new {@code Futoshiki}.
+	 *
+	 * @param size the size of the new {@code Futoshiki}.
+	 * @param symbols the {@code Symbol}s of the new {@code Futoshiki}.
+	 * @param inequalities the row-major indices of the {@code Cell}s of each {@code Inequality}. The arrays are copied.
+	 *
+	 * @return a new empty {@code Futoshiki}.
+	 *
+	 * @throws NullPointerException if {@code symbols}, {@code inequalities} or any of it's elements is {@code null}.
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1} or greater than {@code 64}, the size of
+	 * {@code symbols} is less than {@code size}, an {@code Inequality} doesn't hold exactly two {@code Cell} indices
+	 * or it's {@code Cell}s aren't valid neighbours.
+	 *
+	 * @implNote
+	 * The {@link Solvers} keep a lower and an upper bound on the {@code Symbol} of every {@code Cell} and push them
+	 * along the {@code Inequality}s after every placement, so the candidates of a {@code Cell} are narrowed by a
+	 * single mask and chains of {@code Inequality}s are pruned before they are searched.
+	 */
+	public static final <V> Futoshiki<V> futoshikiOf(int size, Set<Symbol<V>> symbols, int[][] inequalities) {
+		return new SimpleFutoshiki<V>(size, symbols, new InequalityLayout(size, inequalities));
+	}
+
+	/**
+	 * Creates a new empty {@link KenKen} with the given size and {@link ArithmeticCage}s. The {@link Symbol}s of the
+	 * returned {@code KenKen} are the {@link Symbols#numberAlphabet(int) number alphabet} of the given size. The
+	 * {@code ArithmeticCage} of the {@link Cell} with the coordinates <i>(x, y)</i> is at the index <i>y * size + x</i>
+	 * of {@code cageIds}, {@code -1} for a {@code Cell} in no {@code ArithmeticCage}, and the
+	 * {@code ArithmeticCage} {@code c} must reach {@code targets[c]} with {@code operations[c]}. The id of each
+	 * {@code ArithmeticCage} is it's index in {@code targets}.
+	 *
+	 * @param size the size of the new {@code KenKen}.
+	 * @param cageIds the {@code ArithmeticCage} of each {@code Cell} in row-major order. The array is copied.
+	 * @param operations the {@link ArithmeticCage.Operation Operation} of each {@code ArithmeticCage}.
+	 * @param targets the target of each {@code ArithmeticCage}.
+	 *
+	 * @return a new empty {@code KenKen}.
+	 *
+	 * @throws NullPointerException if {@code cageIds}, {@code operations}, {@code targets} or any of the
+	 * {@code Operation}s is {@code null}.
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1} or greater than {@code 64}, the length
+	 * of {@code cageIds} isn't {@code size * size}, the lengths of {@code operations} and {@code targets} differ, an
+	 * {@code ArithmeticCage} id is out of range, an {@code ArithmeticCage} has no {@code Cell}s, a subtraction or
+	 * division {@code ArithmeticCage} doesn't have exactly two {@code Cell}s or an {@code ArithmeticCage} has no
+	 * values that reach it's target or more than {@code 65536} of them.
+	 *
+	 * @implNote
+	 * The tuples of values that reach the target of every {@code ArithmeticCage} are enumerated once, when the
+	 * {@code KenKen} is created, and shared with it's copies. The {@link Solvers} keep the tuples still possible in
+	 * every {@code ArithmeticCage} as a bit set and narrow it with a precomputed bit set per placement, so solving
+	 * never enumerates the combinations of an {@code ArithmeticCage} again.
+	 */
+	public static final KenKen kenKenOf(int size, int[] cageIds, ArithmeticCage.Operation[] operations, int[] targets) {
+		return new SimpleKenKen(size, new ArithmeticCageLayout(size, cageIds, operations, targets));
+	}
+
+	/**
+	 * Creates a new empty {@link MultiGridSudoku} made up of one {@link Sudoku} described by the given
+	 * {@link SudokuVariant} for each of the given origins. The top left {@link Cell} of the grid {@code g} is at the
+	 * board coordinates <i>(origins[g][0], origins[g][1])</i> and grids whose origins are close enough overlap, i.e
+	 * the {@code Cell}s they place on the same position of the board share their value.
+	 *
+	 * @param <V> the type of values held by the {@link Symbol}s of the new {@code MultiGridSudoku}.
+	 *
+	 * @param variant the {@code SudokuVariant} that describes every grid.
+	 * @param symbols the {@code Symbol}s of every grid.
+	 * @param origins the board coordinates, {@code {x, y}}, of the top left {@code Cell} of each grid.
+	 *
+	 * @return a new empty {@code MultiGridSudoku}.
+	 *
+	 * @throws NullPointerException if any of the given arguments or any of the origins is {@code null}.
+	 * @throws IllegalArgumentException if {@code origins} is empty, an origin isn't a pair of non negative coordinates
+	 * or the size of {@code symbols} is less than {@code variant.size()}.
+	 *
+	 * @implNote
+	 * The layout of the board, including the units of all the grids translated to board positions, is computed once
+	 * and shared by the copies of the returned {@code MultiGridSudoku}, so that the {@link Solvers} search the whole
+	 * board with a single candidate state.
+	 */
+	public static final <V> MultiGridSudoku<V> multiGridSudokuOf(SudokuVariant variant, Set<Symbol<V>> symbols, int[][] origins) {
+		return new SimpleMultiGridSudoku<V>(variant, symbols, origins);
+	}
+
+	/**
+	 * Creates a new empty <i>Samurai</i> {@link MultiGridSudoku}, i.e five {@link Sudoku}s described by the given
+	 * {@link BoxBlocksSudokuVariant}, a centre grid and four corner grids that each share one corner {@link Block}
+	 * with the centre grid. The grids are, in order, the top left, top right, centre, bottom left and bottom right
+	 * ones. For the classical <strong><i>9x9</i></strong> variant the board is <strong><i>21x21</i></strong>.
+	 *
+	 * @param <V> the type of values held by the {@link Symbol}s of the new {@code MultiGridSudoku}.
+	 *
+	 * @param variant the {@code BoxBlocksSudokuVariant} that describes every grid.
+	 * @param symbols the {@code Symbol}s of every grid.
+	 *
+	 * @return a new empty Samurai {@code MultiGridSudoku}.
+	 *
+	 * @throws NullPointerException if {@code variant} or {@code symbols} is {@code null}.
+	 * @throws IllegalArgumentException if the {@code Block}s of {@code variant} have a single {@link Row} or
+	 * {@link Column}, in which case the corner grids would overlap each other, or the size of {@code symbols} is less
+	 * than {@code variant.size()}.
+	 *
+	 * @see #multiGridSudokuOf(SudokuVariant, Set, int[][])
+	 */
+	public static final <V> MultiGridSudoku<V> samuraiSudokuOf(BoxBlocksSudokuVariant variant, Set<Symbol<V>> symbols) {
+		requireNonNull(variant, "variant cannot be null.");
+		if (variant.blockRows() < 2 || variant.blockColumns() < 2)
+			throw new IllegalArgumentException("The Blocks of a Samurai Sudoku must have at least 2 rows and 2 columns.");
+		// the centre grid starts one block before the end of the top left grid
+		final int centreX = variant.size() - variant.blockColumns(), centreY = variant.size() - variant.blockRows();
+		return multiGridSudokuOf(variant, symbols, new int[][] {
+			{0, 0}, {2 * centreX, 0}, {centreX, centreY}, {0, 2 * centreY}, {2 * centreX, 2 * centreY}
+		});
+	}
+
 	/**
 	 * Creates and initializes the given {@link Sudoku}'s {@link Block}s and returns a {@code Map} of the created
 	 * {@code Block}s. This method uses the {@link SudokuVariant#createBlocks(Sudoku) createBlocks(Sudoku)} method
@@ -0,0 +1,147 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A {@code MoveJournal} records the moves made on a {@link LatinSquare} so that they can be undone and redone. A
+ * move is a change of the {@link Symbol} of a single {@link Cell}, made either through the {@code MoveJournal}'s
+ * {@link #changeSymbol(Cell, Symbol)} and {@link #clear(Cell)} methods or reported to it through
+ * {@link #record(Cell, Symbol, Symbol)}.
+ * 
+ * <p>
+ * Moves can be grouped by placing {@link #checkpoint() checkpoints} between them, e.g one per turn of a game, and
+ * whole groups of moves can then be undone or redone at once. Recording a new move discards all the moves that
+ * can currently be redone.
+ * 
+ * <p>
+ * Undoing a move sets the {@code Symbol} that the {@code Cell} held before the move back on the {@code Cell}, and
+ * redoing it sets the {@code Symbol} that the move set, regardless of any changes made to the {@code Cell} outside
+ * of this {@code MoveJournal}.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s of the journaled {@code LatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 17:40:12
+ * 
+ * @see MoveJournals
+ */
+public interface MoveJournal<V> {
+
+	/**
+	 * Sets the given {@link Symbol} on the given {@link Cell} using {@link LatinSquare#changeSymbol(Cell, Symbol)}
+	 * and records the move.
+	 * 
+	 * @param cell the {@code Cell} whose value we want to change.
+	 * @param symbol the {@code Symbol} to set on the given {@code Cell}. Maybe {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} or {@code Symbol} is not part of the journaled
+	 * {@link LatinSquare}.
+	 */
+	void changeSymbol(Cell<V> cell, Symbol<V> symbol);
+
+	/**
+	 * Clears the given {@link Cell} and records the move. This is equivalent to calling
+	 * {@code changeSymbol(cell, null)}.
+	 * 
+	 * @param cell the {@code Cell} to clear.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} is not part of the journaled {@link LatinSquare}.
+	 */
+	default void clear(Cell<V> cell) {
+		changeSymbol(cell, null);
+	}
+
+	/**
+	 * Records a move that has already been made on the journaled {@link LatinSquare}, without changing the
+	 * {@code LatinSquare}.
+	 * 
+	 * @param cell the {@code Cell} that was changed.
+	 * @param oldSymbol the {@code Symbol} that the {@code Cell} held before the move. Maybe {@code null}.
+	 * @param newSymbol the {@code Symbol} that the {@code Cell} holds after the move. Maybe {@code null}.
+	 * 
+	 * @throws NullPointerException if {@code cell} is {@code null}.
+	 * @throws SudokuException if the given {@code Cell} or any of the given {@code Symbol}s is not part of the
+	 * journaled {@code LatinSquare}.
+	 */
+	void record(Cell<V> cell, Symbol<V> oldSymbol, Symbol<V> newSymbol);
+
+	/**
+	 * Undoes the last move that hasn't been undone yet.
+	 * 
+	 * @return {@code true} if a move was undone, {@code false} if there was no move to undo.
+	 */
+	boolean undo();
+
+	/**
+	 * Redoes the last undone move.
+	 * 
+	 * @return {@code true} if a move was redone, {@code false} if there was no move to redo.
+	 */
+	boolean redo();
+
+	/**
+	 * Returns {@code true} if there's a move that can be undone.
+	 * 
+	 * @return {@code true} if there's a move that can be undone.
+	 */
+	boolean canUndo();
+
+	/**
+	 * Returns {@code true} if there's a move that can be redone.
+	 * 
+	 * @return {@code true} if there's a move that can be redone.
+	 */
+	boolean canRedo();
+
+	/**
+	 * Places a checkpoint at the current position in the history. Like recording a move, this discards all the
+	 * moves that can currently be redone. Placing a checkpoint right next to another one, or before the first move,
+	 * has no effect.
+	 */
+	void checkpoint();
+
+	/**
+	 * Undoes moves until the previous checkpoint, or until there are no more moves to undo.
+	 * 
+	 * @return the number of moves undone.
+	 */
+	int undoToCheckpoint();
+
+	/**
+	 * Redoes moves until the next checkpoint, or until there are no more moves to redo.
+	 * 
+	 * @return the number of moves redone.
+	 */
+	int redoToCheckpoint();
+
+	/**
+	 * Shrinks the history of this {@code MoveJournal} without changing the state reached by undoing or redoing to
+	 * any checkpoint. Moves that didn't change their {@link Cell} are dropped and consecutive moves on the same
+	 * {@code Cell} are merged into a single move. Moves are never merged across a checkpoint or across the current
+	 * position in the history.
+	 * 
+	 * <p>
+	 * The history is only compacted when this method is called, a {@code MoveJournal} whose history is full discards
+	 * it's oldest entries instead so that every move stays individually undoable.
+	 * 
+	 * @return the number of entries removed from the history.
+	 */
+	int compact();
+
+	/**
+	 * Discards all the moves and checkpoints recorded by this {@code MoveJournal}. The journaled
+	 * {@link LatinSquare} is not changed.
+	 */
+	void reset();
+
+	/**
+	 * Returns the {@link LatinSquare} whose moves are recorded by this {@code MoveJournal}.
+	 * 
+	 * @return the journaled {@code LatinSquare}.
+	 */
+	LatinSquare<V> latinSquare();
+}
@@ -0,0 +1,78 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import static com.kori_47.utils.ObjectUtils.requireGreaterThanOrEqualTo;
+
+/**
+ * This class consists exclusively of static methods that create {@link MoveJournal}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 18:20:44
+ * 
+ * @see MoveJournal
+ */
+public final class MoveJournals {
+
+	/**
+	 * the maximum number of moves and checkpoints kept by the {@link MoveJournal}s returned by
+	 * {@link #moveJournalOf(LatinSquare)}.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1 << 16;
+
+	/**
+	 * Returns a new, empty, {@link MoveJournal} for the given {@link LatinSquare} that keeps up to
+	 * {@link #DEFAULT_MAX_ENTRIES} moves and checkpoints.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose moves to record.
+	 * 
+	 * @return a new {@code MoveJournal} for the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} has more than {@code 65535} {@code Symbol}s.
+	 * 
+	 * @see #moveJournalOf(LatinSquare, int)
+	 */
+	public static final <V> MoveJournal<V> moveJournalOf(LatinSquare<V> latinSquare) {
+		return moveJournalOf(latinSquare, DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Returns a new, empty, {@link MoveJournal} for the given {@link LatinSquare} that keeps up to
+	 * {@code maxEntries} moves and checkpoints. Once the limit is reached, the oldest entries are discarded.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose moves to record.
+	 * @param maxEntries the maximum number of moves and checkpoints to keep.
+	 * 
+	 * @return a new {@code MoveJournal} for the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if {@code maxEntries} is less than {@code 1} or the given {@code LatinSquare}
+	 * has more than {@code 65535} {@code Symbol}s.
+	 * 
+	 * @implNote
+	 * The returned {@code MoveJournal} stores each move as a single {@code long} in a ring buffer that grows on
+	 * demand, so recording, undoing and redoing a move are all {@code O(1)} and a history of {@code n} moves takes
+	 * about {@code 8n} bytes. The history is never compacted implicitly, once it holds {@code maxEntries} entries
+	 * recording a move discards the oldest one. The returned
+	 * {@code MoveJournal} is <i>not thread safe</i>.
+	 */
+	public static final <V> MoveJournal<V> moveJournalOf(LatinSquare<V> latinSquare, int maxEntries) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		requireGreaterThanOrEqualTo(1, maxEntries, "maxEntries must be greater than or equal to 1.");
+		if (latinSquare.symbols().size() > RingMoveJournal.MAX_SYMBOLS)
+			throw new IllegalArgumentException("A MoveJournal supports at most " + RingMoveJournal.MAX_SYMBOLS + " Symbols.");
+		return new RingMoveJournal<V>(latinSquare, maxEntries);
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private MoveJournals() { }
+}
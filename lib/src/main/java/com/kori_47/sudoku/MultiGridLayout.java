@@ -0,0 +1,207 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This is the immutable layout of a {@link MultiGridSudoku}. The positions of the board covered by at least one grid
+ * are numbered in row-major order <i>(the board cells)</i> and every {@link Cell} of every grid is mapped to the board
+ * cell it covers, so that {@code Cell}s of overlapping grids share a single board cell. The {@link GridTopology} of
+ * the layout holds the units of all the grids expressed in board cells, which lets the {@link Solvers} search the
+ * whole board with a single candidate state. A {@code MultiGridLayout} is shared by a {@code MultiGridSudoku} and
+ * it's copies.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 01:18:06
+ */
+final class MultiGridLayout {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int width;
+	private final int height;
+	private final int[] originXs;
+	private final int[] originYs;
+	// the board cell of each cell of each grid, by grid and row-major index
+	private final int[][] gridCells;
+	// the board cell of each position of the board in row-major order, -1 for positions that no grid covers
+	private final int[] cellOfPosition;
+	private final GridTopology topology;
+
+	/**
+	 * Creates a new {@code MultiGridLayout}.
+	 * 
+	 * @param gridTopologies the {@code GridTopology} of each grid. All the topologies must have the same size.
+	 * @param origins the board coordinates, {@code {x, y}}, of the top left {@code Cell} of each grid.
+	 * 
+	 * @throws IllegalArgumentException if there are no grids, the grids are of different sizes, the number of origins
+	 * doesn't match the number of grids or an origin is negative.
+	 */
+	MultiGridLayout(GridTopology[] gridTopologies, int[][] origins) {
+		if (gridTopologies.length == 0)
+			throw new IllegalArgumentException("A MultiGridSudoku must have at least one grid.");
+		if (origins.length != gridTopologies.length)
+			throw new IllegalArgumentException("Expected " + gridTopologies.length + " origins, found " + origins.length + ".");
+		final int size = gridTopologies[0].size();
+		int width = 0, height = 0;
+		this.originXs = new int[origins.length];
+		this.originYs = new int[origins.length];
+		for (int grid = 0; grid < origins.length; grid++) {
+			if (gridTopologies[grid].size() != size)
+				throw new IllegalArgumentException("All the grids of a MultiGridSudoku must be of the same size.");
+			if (origins[grid].length != 2 || origins[grid][0] < 0 || origins[grid][1] < 0)
+				throw new IllegalArgumentException("The origin of grid " + grid + " must be a pair of non negative coordinates.");
+			originXs[grid] = origins[grid][0];
+			originYs[grid] = origins[grid][1];
+			width = Math.max(width, originXs[grid] + size);
+			height = Math.max(height, originYs[grid] + size);
+		}
+		this.width = width;
+		this.height = height;
+
+		// number the covered positions in row-major order
+		this.cellOfPosition = new int[width * height];
+		Arrays.fill(cellOfPosition, -1);
+		for (int grid = 0; grid < origins.length; grid++)
+			for (int y = 0; y < size; y++)
+				for (int x = 0; x < size; x++)
+					cellOfPosition[(originYs[grid] + y) * width + originXs[grid] + x] = 0;
+		int cellCount = 0;
+		for (int position = 0; position < cellOfPosition.length; position++)
+			if (cellOfPosition[position] == 0) cellOfPosition[position] = cellCount++;
+
+		// the units of every grid are translated to board cells, a shared unit simply appears once per grid
+		this.gridCells = new int[origins.length][size * size];
+		int unitCount = 0;
+		for (int grid = 0; grid < origins.length; grid++) {
+			for (int index = 0; index < size * size; index++)
+				gridCells[grid][index] = cellOfPosition[(originYs[grid] + index / size) * width + originXs[grid] + index % size];
+			unitCount += gridTopologies[grid].unitCount();
+		}
+		final int[][] units = new int[unitCount][];
+		int unit = 0;
+		for (int grid = 0; grid < origins.length; grid++) {
+			for (int gridUnit = 0; gridUnit < gridTopologies[grid].unitCount(); gridUnit++) {
+				final int[] cells = gridTopologies[grid].unit(gridUnit);
+				units[unit] = new int[cells.length];
+				for (int position = 0; position < cells.length; position++)
+					units[unit][position] = gridCells[grid][cells[position]];
+				unit++;
+			}
+		}
+		this.topology = new GridTopology(size, cellCount, units);
+	}
+
+	/**
+	 * Returns the {@code MultiGridLayout} of the given {@link MultiGridSudoku}.
+	 * 
+	 * @param multiGridSudoku the {@code MultiGridSudoku} whose layout we want.
+	 * 
+	 * @return the {@code MultiGridLayout} of the given {@code MultiGridSudoku}.
+	 */
+	static MultiGridLayout of(MultiGridSudoku<?> multiGridSudoku) {
+		if (multiGridSudoku instanceof SimpleMultiGridSudoku)
+			return ((SimpleMultiGridSudoku<?>) multiGridSudoku).layout();
+		final List<? extends Sudoku<?>> grids = multiGridSudoku.grids();
+		final GridTopology[] gridTopologies = new GridTopology[grids.size()];
+		final int[][] origins = new int[grids.size()][];
+		for (int grid = 0; grid < gridTopologies.length; grid++) {
+			gridTopologies[grid] = GridTopology.of(grids.get(grid));
+			origins[grid] = new int[] {multiGridSudoku.originX(grid), multiGridSudoku.originY(grid)};
+		}
+		return new MultiGridLayout(gridTopologies, origins);
+	}
+
+	/**
+	 * @see MultiGridSudoku#width()
+	 */
+	int width() {
+		return width;
+	}
+
+	/**
+	 * @see MultiGridSudoku#height()
+	 */
+	int height() {
+		return height;
+	}
+
+	/**
+	 * @see MultiGridSudoku#originX(int)
+	 */
+	int originX(int grid) {
+		return originXs[grid];
+	}
+
+	/**
+	 * @see MultiGridSudoku#originY(int)
+	 */
+	int originY(int grid) {
+		return originYs[grid];
+	}
+
+	/**
+	 * Returns the number of grids of this layout.
+	 * 
+	 * @return the number of grids of this layout.
+	 */
+	int gridCount() {
+		return gridCells.length;
+	}
+
+	/**
+	 * Returns the board cell covered by the {@link Cell} with the given row-major index in the given grid.
+	 * 
+	 * @param grid the index of the grid.
+	 * @param index the row-major index of the {@code Cell} in the grid.
+	 * 
+	 * @return the board cell covered by the given {@code Cell}.
+	 */
+	int boardCellOf(int grid, int index) {
+		return gridCells[grid][index];
+	}
+
+	/**
+	 * Returns the board cell at the given board coordinates or {@code -1} if no grid covers them.
+	 * 
+	 * @param x the x coordinate on the board.
+	 * @param y the y coordinate on the board.
+	 * 
+	 * @return the board cell at the given coordinates or {@code -1}.
+	 */
+	int boardCellAt(int x, int y) {
+		return (x >= 0 && x < width && y >= 0 && y < height)? cellOfPosition[y * width + x] : -1;
+	}
+
+	/**
+	 * Returns the {@link GridTopology} of the board, i.e the units of all the grids expressed in board cells.
+	 * 
+	 * @return the {@code GridTopology} of the board.
+	 */
+	GridTopology topology() {
+		return topology;
+	}
+
+	/**
+	 * Returns a {@link Cell} for every board cell, the {@code Cell} of the first grid that covers it.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the grids.
+	 * 
+	 * @param grids the grids laid out by this layout.
+	 * 
+	 * @return the {@code Cell} of every board cell.
+	 */
+	<V> Cell<V>[] cellsOf(List<? extends Sudoku<V>> grids) {
+		final Cell<V>[] cells = GridArrays.newArray(Cell.class, topology.cellCount());
+		for (int grid = 0; grid < gridCells.length; grid++)
+			for (int index = 0; index < gridCells[grid].length; index++)
+				if (cells[gridCells[grid][index]] == null)
+					cells[gridCells[grid][index]] = grids.get(grid).cellAt(index);
+		return cells;
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@code MultiGridSudoku} is a board made up of several {@link Sudoku}s of the same size that may overlap, e.g a
+ * <i>Samurai</i> {@code Sudoku} which is made up of five <strong><i>9x9</i></strong> {@code Sudoku}s, the centre one
+ * sharing a corner {@link Block} with each of the other four. Each grid is placed on the board at it's origin, the
+ * board coordinates of it's top left {@link Cell}, and the {@code Cell}s of overlapping grids that cover the same
+ * position of the board hold the same value, a {@link Symbol} placed through one grid is seen by all the others.
+ * 
+ * <p>
+ * The {@code Cell}s of a grid keep the coordinates they have in that grid, so the same position of the board is
+ * represented by a different {@code Cell} in each grid that covers it, all of them views of a single value.
+ * 
+ * <p>
+ * The {@link Solvers#solveBoard(MultiGridSudoku) Solvers} solve a {@code MultiGridSudoku} as a whole, i.e with the
+ * units of all the grids in a single search, instead of solving the grids one after the other.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s of this {@code MultiGridSudoku}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 01:10:44
+ * 
+ * @see LatinSquares#multiGridSudokuOf(Sudoku.SudokuVariant, java.util.Set, int[][])
+ * @see LatinSquares#samuraiSudokuOf(Sudoku.BoxBlocksSudokuVariant, java.util.Set)
+ */
+public interface MultiGridSudoku<V> {
+
+	/**
+	 * Returns an unmodifiable {@code List} of the grids of this {@code MultiGridSudoku} in the order they were
+	 * given when it was created.
+	 * 
+	 * @return the grids of this {@code MultiGridSudoku}.
+	 */
+	List<Sudoku<V>> grids();
+
+	/**
+	 * Returns the x coordinate on the board of the top left {@link Cell} of the given grid.
+	 * 
+	 * @param grid the index of the grid in {@link #grids()}.
+	 * 
+	 * @return the x coordinate of the origin of the given grid.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code grid} is negative or not less than the number of grids.
+	 */
+	int originX(int grid);
+
+	/**
+	 * Returns the y coordinate on the board of the top left {@link Cell} of the given grid.
+	 * 
+	 * @param grid the index of the grid in {@link #grids()}.
+	 * 
+	 * @return the y coordinate of the origin of the given grid.
+	 * 
+	 * @throws IndexOutOfBoundsException if {@code grid} is negative or not less than the number of grids.
+	 */
+	int originY(int grid);
+
+	/**
+	 * Returns the width of the board, i.e the number of columns spanned by the grids.
+	 * 
+	 * @return the width of the board.
+	 */
+	int width();
+
+	/**
+	 * Returns the height of the board, i.e the number of rows spanned by the grids.
+	 * 
+	 * @return the height of the board.
+	 */
+	int height();
+
+	/**
+	 * Returns the {@link Cell} at the given board coordinates or an empty {@code Optional} if no grid covers them.
+	 * When several grids cover the given coordinates, the {@code Cell} of the first of them is returned.
+	 * 
+	 * @param x the x coordinate on the board.
+	 * @param y the y coordinate on the board.
+	 * 
+	 * @return an {@code Optional} describing the {@code Cell} at the given board coordinates.
+	 */
+	Optional<Cell<V>> cellAt(int x, int y);
+
+	/**
+	 * Returns an unmodifiable {@code Map} of the {@link Symbol}s shared by all the grids of this
+	 * {@code MultiGridSudoku}.
+	 * 
+	 * @return the {@code Symbol}s of this {@code MultiGridSudoku}.
+	 */
+	Map<Integer, Symbol<V>> symbols();
+
+	/**
+	 * Clears all the {@link Cell}s of the board.
+	 */
+	void clear();
+
+	/**
+	 * Returns a new {@code MultiGridSudoku} with the same layout and {@link Cell} values as this one. The grids of
+	 * the copy don't share any value with the grids of this {@code MultiGridSudoku}.
+	 * 
+	 * @return a copy of this {@code MultiGridSudoku}.
+	 */
+	MultiGridSudoku<V> copy();
+}
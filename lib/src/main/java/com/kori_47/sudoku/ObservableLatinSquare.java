@@ -0,0 +1,108 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link LatinSquare} that notifies {@link GridChangeListener}s of the changes made to it's {@link Cell}s, whether
+ * they are made through {@link Cell#changeSymbol(Symbol)} or {@link LatinSquare#changeSymbol(Cell, Symbol)}.
+ * 
+ * <p>
+ * Changes are delivered in batches. Changes made inside a batch, i.e between a call to {@link #beginBatch()} and
+ * the matching call to {@link #endBatch()}, are delivered together when the outermost batch ends, or earlier if
+ * {@link #flush()} is called, which makes it possible to deliver changes once per transaction or once per tick of
+ * a UI or persistence loop. Changes made outside a batch are delivered immediately. Within a batch, changes are
+ * coalesced per {@code Cell}, see {@link GridChanges}.
+ * 
+ * <p>
+ * Observing costs nothing while no {@code GridChangeListener} is registered, changes are then neither recorded nor
+ * delivered.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s supported by this {@code ObservableLatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 18:49:03
+ * 
+ * @see LatinSquares#observableLatinSquareOf(LatinSquare)
+ * @see ObservableSudoku
+ */
+public interface ObservableLatinSquare<V> extends LatinSquare<V> {
+
+	/**
+	 * Registers the given {@link GridChangeListener}. Registering the same {@code GridChangeListener} more than once
+	 * has no effect.
+	 * 
+	 * @param listener the {@code GridChangeListener} to register.
+	 * 
+	 * @throws NullPointerException if {@code listener} is {@code null}.
+	 */
+	void addChangeListener(GridChangeListener<V> listener);
+
+	/**
+	 * Unregisters the given {@link GridChangeListener}.
+	 * 
+	 * @param listener the {@code GridChangeListener} to unregister.
+	 * 
+	 * @return {@code true} if the given {@code GridChangeListener} was registered.
+	 */
+	boolean removeChangeListener(GridChangeListener<V> listener);
+
+	/**
+	 * Starts a batch. Batches can be nested, the changes are delivered when the outermost batch ends.
+	 */
+	void beginBatch();
+
+	/**
+	 * Ends the current batch and, if it's the outermost batch, delivers the changes made during it.
+	 * 
+	 * @throws IllegalStateException if there's no batch to end.
+	 */
+	void endBatch();
+
+	/**
+	 * Runs the given action in a batch.
+	 * 
+	 * @param action the action to run.
+	 * 
+	 * @throws NullPointerException if {@code action} is {@code null}.
+	 * 
+	 * @implSpec
+	 * The default implementation is equivalent to, for this {@code latinSquare}:
+	 * <pre> {@code
+	 * latinSquare.beginBatch();
+	 * try {
+	 * 	action.run();
+	 * } finally {
+	 * 	latinSquare.endBatch();
+	 * }
+	 * }
+	 * </pre>
+	 */
+	default void batch(Runnable action) {
+		requireNonNull(action, "action cannot be null.");
+		beginBatch();
+		try {
+			action.run();
+		} finally {
+			endBatch();
+		}
+	}
+
+	/**
+	 * Delivers the changes recorded so far without ending the current batch, if any.
+	 */
+	void flush();
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The returned copy is also an {@code ObservableLatinSquare} but the {@link GridChangeListener}s of this
+	 * {@code ObservableLatinSquare} are not registered on it.
+	 */
+	@Override
+	ObservableLatinSquare<V> copy();
+}
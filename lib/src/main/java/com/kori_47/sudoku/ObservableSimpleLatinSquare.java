@@ -0,0 +1,114 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+
+/**
+ * This is a {@link SimpleLatinSquare} whose {@link Cell}s report their changes to a {@link ChangePublisher}, making
+ * it an {@link ObservableLatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 19:31:50
+ */
+final class ObservableSimpleLatinSquare<V> extends SimpleLatinSquare<V> implements ObservableLatinSquare<V> {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final ChangePublisher<V> publisher;
+
+	/**
+	 * Creates a new {@link ObservableLatinSquare} with the same properties and {@link Cell} values as the given
+	 * {@link LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to copy.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 */
+	ObservableSimpleLatinSquare(LatinSquare<V> latinSquare) {
+		this(latinSquare, new ChangePublisher<>(requireNonNull(latinSquare, "latinSquare cannot be null.").cellFactory(), latinSquare.size()));
+	}
+
+	private ObservableSimpleLatinSquare(LatinSquare<V> latinSquare, ChangePublisher<V> publisher) {
+		super(latinSquare.size(), new LinkedHashSet<>(latinSquare.symbols().values()), publisher, latinSquare.rowFactory(),
+				latinSquare.columnFactory());
+		this.publisher = publisher;
+		publisher.bind(this);
+		// copy the given Latin square's cell values, nobody is listening yet
+		latinSquare.cells().values().forEach(cell -> {
+			cells.get(cell.id()).changeSymbol(cell.symbol().orElse(null));
+		});
+	}
+
+	@Override
+	public void addChangeListener(GridChangeListener<V> listener) {
+		publisher.addChangeListener(listener);
+	}
+
+	@Override
+	public boolean removeChangeListener(GridChangeListener<V> listener) {
+		return publisher.removeChangeListener(listener);
+	}
+
+	@Override
+	public void beginBatch() {
+		publisher.beginBatch();
+	}
+
+	@Override
+	public void endBatch() {
+		publisher.endBatch();
+	}
+
+	@Override
+	public void flush() {
+		publisher.flush();
+	}
+
+	@Override
+	public void loadFrom(int[] symbolIds) {
+		batch(() -> super.loadFrom(symbolIds));
+	}
+
+	@Override
+	public void clear() {
+		batch(super::clear);
+	}
+
+	@Override
+	public void flipHorizontally() {
+		batch(super::flipHorizontally);
+	}
+
+	@Override
+	public void flipVertically() {
+		batch(super::flipVertically);
+	}
+
+	@Override
+	public ObservableLatinSquare<V> copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final ObservableLatinSquare<V> newLatinSquare = new ObservableSimpleLatinSquare<>(this);
+		event.record(newLatinSquare);
+		return newLatinSquare;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The {@code Cell}s of an {@code ObservableLatinSquare} are wrapped by it's {@link ChangePublisher}, this returns
+	 * the {@code CellFactory} that creates the wrapped {@code Cell}s, i.e that of the {@link LatinSquare} that this
+	 * {@code ObservableLatinSquare} was created from.
+	 */
+	@Override
+	public CellFactory<V> cellFactory() {
+		return publisher.cellFactory();
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
+
+/**
+ * This is a {@link SimpleSudoku} whose {@link Cell}s report their changes to a {@link ChangePublisher}, making
+ * it an {@link ObservableSudoku}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 19:36:12
+ */
+final class ObservableSimpleSudoku<V> extends SimpleSudoku<V> implements ObservableSudoku<V> {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final ChangePublisher<V> publisher;
+
+	/**
+	 * Creates a new {@link ObservableSudoku} with the same properties and {@link Cell} values as the given
+	 * {@link Sudoku}.
+	 * 
+	 * @param sudoku the {@code Sudoku} to copy.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 */
+	ObservableSimpleSudoku(Sudoku<V> sudoku) {
+		this(sudoku, new ChangePublisher<>(requireNonNull(sudoku, "sudoku cannot be null.").cellFactory(), sudoku.size()));
+	}
+
+	private ObservableSimpleSudoku(Sudoku<V> sudoku, ChangePublisher<V> publisher) {
+		super(sudoku.variant(), new LinkedHashSet<>(sudoku.symbols().values()), publisher, sudoku.rowFactory(),
+				sudoku.columnFactory(), sudoku.blockFactory());
+		this.publisher = publisher;
+		publisher.bind(this);
+		// copy the given Sudoku's cell values, nobody is listening yet
+		sudoku.cells().values().forEach(cell -> {
+			cells.get(cell.id()).changeSymbol(cell.symbol().orElse(null));
+		});
+	}
+
+	@Override
+	public void addChangeListener(GridChangeListener<V> listener) {
+		publisher.addChangeListener(listener);
+	}
+
+	@Override
+	public boolean removeChangeListener(GridChangeListener<V> listener) {
+		return publisher.removeChangeListener(listener);
+	}
+
+	@Override
+	public void beginBatch() {
+		publisher.beginBatch();
+	}
+
+	@Override
+	public void endBatch() {
+		publisher.endBatch();
+	}
+
+	@Override
+	public void flush() {
+		publisher.flush();
+	}
+
+	@Override
+	public void loadFrom(int[] symbolIds) {
+		batch(() -> super.loadFrom(symbolIds));
+	}
+
+	@Override
+	public void clear() {
+		batch(super::clear);
+	}
+
+	@Override
+	public void flipHorizontally() {
+		batch(super::flipHorizontally);
+	}
+
+	@Override
+	public void flipVertically() {
+		batch(super::flipVertically);
+	}
+
+	@Override
+	public ObservableSudoku<V> copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final ObservableSudoku<V> newSudoku = new ObservableSimpleSudoku<>(this);
+		event.record(newSudoku);
+		return newSudoku;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The {@code Cell}s of an {@code ObservableSudoku} are wrapped by it's {@link ChangePublisher}, this returns the
+	 * {@code CellFactory} that creates the wrapped {@code Cell}s, i.e that of the {@link Sudoku} that this
+	 * {@code ObservableSudoku} was created from.
+	 */
+	@Override
+	public CellFactory<V> cellFactory() {
+		return publisher.cellFactory();
+	}
+}
@@ -0,0 +1,22 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * A {@link Sudoku} that notifies {@link GridChangeListener}s of the changes made to it's {@link Cell}s. This
+ * interface combines the {@code Sudoku} and {@link ObservableLatinSquare} interfaces.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s supported by this {@code ObservableSudoku}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 18:50:37
+ * 
+ * @see LatinSquares#observableSudokuOf(Sudoku)
+ */
+public interface ObservableSudoku<V> extends ObservableLatinSquare<V>, Sudoku<V> {
+
+	@Override
+	ObservableSudoku<V> copy();
+}
@@ -0,0 +1,235 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * This class consists exclusively of static methods that find orthogonal mates of {@link LatinSquare}s. Two
+ * {@code LatinSquare}s of the same size are orthogonal if, when they are superimposed, every ordered pair of their
+ * {@link Symbol}s appears exactly once. A set of pairwise orthogonal {@code LatinSquare}s is a set of
+ * <i>mutually orthogonal Latin squares</i>, or MOLS.
+ * 
+ * <p>
+ * A mate is searched as a partition of the {@link Cell}s of the given {@code LatinSquare} into disjoint transversals,
+ * see {@link #countTransversals(LatinSquare)}. Relabelling the {@code Symbol}s of a mate gives another mate, so only
+ * the mates whose first {@link Row} holds the {@code Symbol}s of the given {@code LatinSquare} in their natural
+ * ordering are reported. The methods of this class work on complete {@code LatinSquare}s of up to {@code 64}
+ * {@code Symbol}s, they throw a {@link SudokuException} for larger ones and abort with a
+ * {@link CancellationException} if a thread running the search is interrupted.
+ * 
+ * <p>
+ * The transversals are kept in memory during the search of the mates, which is therefore limited to
+ * {@code LatinSquare}s with at most {@code 2097152} transversals and throws an {@link IllegalArgumentException}
+ * for others. This holds for the cyclic {@code LatinSquare}s of up to {@code 13} {@code Symbol}s, while the cyclic
+ * {@code LatinSquare} of {@code 15} {@code Symbol}s has over {@code 36} million transversals. Counting the
+ * transversals doesn't keep them and isn't limited.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 05:14:50
+ */
+public final class OrthogonalMates {
+
+	/**
+	 * Returns an orthogonal mate of the given {@link LatinSquare}, searched on the
+	 * {@link ForkJoinPool#commonPool() common pool}, or an empty {@code Optional} if it has none.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose mate we want.
+	 * 
+	 * @return an {@code Optional} describing an orthogonal mate of the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} isn't complete, holds a {@code Symbol}
+	 * twice in a {@link Row} or {@link Column} or has more than {@code 2097152} transversals.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s.
+	 * 
+	 * @see #findOrthogonalMate(LatinSquare, ForkJoinPool)
+	 */
+	public static final <V> Optional<LatinSquare<V>> findOrthogonalMate(LatinSquare<V> latinSquare) {
+		return findOrthogonalMate(latinSquare, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns an orthogonal mate of the given {@link LatinSquare}, searched on the given {@link ForkJoinPool}, or an
+	 * empty {@code Optional} if it has none. The search stops as soon as a mate is found.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose mate we want.
+	 * @param pool the {@code ForkJoinPool} to search on.
+	 * 
+	 * @return an {@code Optional} describing an orthogonal mate of the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code pool} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} isn't complete, holds a {@code Symbol}
+	 * twice in a {@link Row} or {@link Column} or has more than {@code 2097152} transversals.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s.
+	 */
+	public static final <V> Optional<LatinSquare<V>> findOrthogonalMate(LatinSquare<V> latinSquare, ForkJoinPool pool) {
+		final AtomicReference<LatinSquare<V>> mate = new AtomicReference<>();
+		search(latinSquare, pool, true, mate::set);
+		return Optional.ofNullable(mate.get());
+	}
+
+	/**
+	 * Passes every orthogonal mate of the given {@link LatinSquare}, searched on the
+	 * {@link ForkJoinPool#commonPool() common pool}, to the given action.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose mates we want.
+	 * @param action the action to pass every mate to.
+	 * 
+	 * @return the number of mates found.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code action} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} isn't complete, holds a {@code Symbol}
+	 * twice in a {@link Row} or {@link Column} or has more than {@code 2097152} transversals.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s.
+	 * 
+	 * @see #forEachOrthogonalMate(LatinSquare, ForkJoinPool, Consumer)
+	 */
+	public static final <V> long forEachOrthogonalMate(LatinSquare<V> latinSquare, Consumer<? super LatinSquare<V>> action) {
+		return forEachOrthogonalMate(latinSquare, ForkJoinPool.commonPool(), action);
+	}
+
+	/**
+	 * Passes every orthogonal mate of the given {@link LatinSquare}, searched on the given {@link ForkJoinPool}, to
+	 * the given action as soon as it's found. The action is called by the threads of the pool, possibly by several
+	 * of them at once, and must therefore be thread safe.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose mates we want.
+	 * @param pool the {@code ForkJoinPool} to search on.
+	 * @param action the action to pass every mate to.
+	 * 
+	 * @return the number of mates found.
+	 * 
+	 * @throws NullPointerException if any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} isn't complete, holds a {@code Symbol}
+	 * twice in a {@link Row} or {@link Column} or has more than {@code 2097152} transversals.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s.
+	 */
+	public static final <V> long forEachOrthogonalMate(LatinSquare<V> latinSquare, ForkJoinPool pool, Consumer<? super LatinSquare<V>> action) {
+		requireNonNull(action, "action cannot be null.");
+		return search(latinSquare, pool, false, action);
+	}
+
+	/**
+	 * Returns the number of transversals of the given {@link LatinSquare}. A transversal is a set of {@code size}
+	 * {@link Cell}s with exactly one {@code Cell} in every {@link Row} and {@link Column} and no two {@code Cell}s
+	 * holding the same {@link Symbol}. The {@code Cell}s holding any one {@code Symbol} of a mate form a transversal,
+	 * so a {@code LatinSquare} without transversals has no orthogonal mate. The transversals are counted one at a
+	 * time, the count of a large {@code LatinSquare} can take very long and is aborted with a
+	 * {@link CancellationException} if the current thread is interrupted.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose transversals to count.
+	 * 
+	 * @return the number of transversals of the given {@code LatinSquare}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} isn't complete or holds a {@code Symbol}
+	 * twice in a {@link Row} or {@link Column}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s.
+	 */
+	public static final long countTransversals(LatinSquare<?> latinSquare) {
+		return TransversalCover.countTransversals(latinSquare.size(), ranksOf(latinSquare, symbolsOf(latinSquare)));
+	}
+
+	/**
+	 * Returns {@code true} if the two given {@link LatinSquare}s are complete, of the same size and orthogonal, i.e
+	 * every ordered pair of their {@link Symbol}s appears exactly once when they are superimposed.
+	 * 
+	 * @param first the first {@code LatinSquare}.
+	 * @param second the second {@code LatinSquare}.
+	 * 
+	 * @return {@code true} if the given {@code LatinSquare}s are orthogonal.
+	 * 
+	 * @throws NullPointerException if {@code first} or {@code second} is {@code null}.
+	 */
+	public static final boolean areOrthogonal(LatinSquare<?> first, LatinSquare<?> second) {
+		requireNonNull(first, "first cannot be null.");
+		requireNonNull(second, "second cannot be null.");
+		final int size = first.size();
+		if (second.size() != size) return false;
+		final Set<Long> pairs = new HashSet<>(size * size * 2);
+		for (int index = 0; index < size * size; index++) {
+			final Symbol<?> firstSymbol = first.cellAt(index).symbol().orElse(null);
+			final Symbol<?> secondSymbol = second.cellAt(index).symbol().orElse(null);
+			if (firstSymbol == null || secondSymbol == null) return false;
+			if (!pairs.add(((long) firstSymbol.idAsInt() << 32) | (secondSymbol.idAsInt() & 0xFFFFFFFFL))) return false;
+		}
+		return true;
+	}
+
+	private static <V> long search(LatinSquare<V> latinSquare, ForkJoinPool pool, boolean firstOnly, Consumer<? super LatinSquare<V>> action) {
+		requireNonNull(pool, "pool cannot be null.");
+		final Symbol<V>[] symbols = symbolsOf(latinSquare);
+		final int size = latinSquare.size();
+		final Set<Symbol<V>> symbolSet = new LinkedHashSet<>(Arrays.asList(symbols));
+		return new TransversalCover(size, ranksOf(latinSquare, symbols)).cover(pool, firstOnly, values -> {
+			final LatinSquare<V> mate = LatinSquares.latinSquareOf(size, symbolSet);
+			for (int index = 0; index < values.length; index++)
+				mate.changeSymbol(mate.cellAt(index), symbols[values[index]]);
+			action.accept(mate);
+		});
+	}
+
+	/**
+	 * Returns the {@link Symbol}s of the first {@link Row} of the given {@link LatinSquare} in their natural ordering.
+	 */
+	private static <V> Symbol<V>[] symbolsOf(LatinSquare<V> latinSquare) {
+		final int size = requireNonNull(latinSquare, "latinSquare cannot be null.").size();
+		if (size > BitmaskSolver.MAX_SIZE)
+			throw new SudokuException("Only LatinSquares of up to " + BitmaskSolver.MAX_SIZE + " symbols are supported, size: " + size + ".");
+		final Symbol<V>[] symbols = GridArrays.newArray(Symbol.class, size);
+		for (int column = 0; column < size; column++)
+			symbols[column] = latinSquare.cellAt(column).symbol()
+					.orElseThrow(() -> new IllegalArgumentException("The LatinSquare (" + latinSquare + ") isn't complete."));
+		Arrays.sort(symbols);
+		return symbols;
+	}
+
+	/**
+	 * Returns the rank of the {@link Symbol} of every {@link Cell} of the given {@link LatinSquare} among the given
+	 * {@code Symbol}s, checking that the {@code LatinSquare} is a complete Latin square.
+	 */
+	private static <V> int[] ranksOf(LatinSquare<V> latinSquare, Symbol<?>[] symbols) {
+		final int size = latinSquare.size();
+		final int[] ranks = new int[size * size];
+		final long[] rowSymbols = new long[size], columnSymbols = new long[size];
+		for (int index = 0; index < ranks.length; index++) {
+			final Symbol<?> symbol = latinSquare.cellAt(index).symbol().orElse(null);
+			final int rank = (symbol == null)? -1 : Arrays.binarySearch(symbols, symbol);
+			if (symbol == null)
+				throw new IllegalArgumentException("The LatinSquare (" + latinSquare + ") isn't complete.");
+			if (rank < 0)
+				throw new IllegalArgumentException("The Symbol (" + symbol + ") of the LatinSquare (" + latinSquare + ") isn't in it's first Row.");
+			final long bit = 1L << rank;
+			if ((rowSymbols[index / size] & bit) != 0L || (columnSymbols[index % size] & bit) != 0L)
+				throw new IllegalArgumentException("The LatinSquare (" + latinSquare + ") holds the Symbol (" + symbol + ") twice in a Row or Column.");
+			rowSymbols[index / size] |= bit;
+			columnSymbols[index % size] |= bit;
+			ranks[index] = rank;
+		}
+		return ranks;
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private OrthogonalMates() { }
+}
@@ -0,0 +1,468 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This completes partial Latin squares, i.e solves the quasigroup completion problem, with constraint propagation and
+ * randomized restarts. A Latin square of size {@code n} is viewed in three ways, each a set of {@code n * n}
+ * variables kept as {@code long} masks of the values they may still take:
+ * <ul>
+ * <li>the {@link Cell}s, whose values are the ordinals of the {@link Symbol}s they may hold,</li>
+ * <li>the pairs of a {@link Row} and an ordinal, whose values are the {@link Column}s the ordinal may take in the
+ * {@code Row},</li>
+ * <li>the pairs of a {@code Column} and an ordinal, whose values are the {@code Row}s the ordinal may take in the
+ * {@code Column}.</li>
+ * </ul>
+ * Every {@code Row}, every {@code Column} and every ordinal, i.e the {@code Column}s taken by the ordinal in each
+ * {@code Row}, is an all-different constraint filtered to generalized arc consistency: a maximum matching of the
+ * positions of the unit to it's values is kept, and a value is removed from a position when the position and the
+ * position matched to that value lie in different strongly connected components of the alternating graph. The
+ * matching of every unit is kept between calls and only repaired where the domains have changed. The three views are
+ * channelled, a value removed from one of them is removed from the other two, which makes the propagation of the
+ * ordinal constraints much stronger than that of the {@code Row}s and {@code Column}s alone.
+ * 
+ * <p>
+ * The search branches on the variable, from any of the three views, with the smallest ratio of values to the weight of
+ * it's units, the weight of a unit being the number of times it's filtering failed. Ties are broken at random and the
+ * values are tried in random order. A search is abandoned once it has failed a number of times given by the Luby
+ * sequence and restarted from the root with new random choices, keeping the weights, which stops a single unlucky
+ * early choice from dominating the run. A search that completes without reaching it's limit is exhaustive, so the
+ * solver also proves that a partial Latin square can't be completed.
+ * 
+ * <p>
+ * A {@code QuasigroupSolver} supports Latin squares of up to {@code 64} {@link Symbol}s. The search checks
+ * periodically whether the current thread has been interrupted or the deadline of the solver has passed and if so,
+ * aborts by throwing a {@link CancellationException}. A {@code QuasigroupSolver} is <i>not thread safe</i>.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 05:41:27
+ * 
+ * @see Solvers#complete(LatinSquare, Random)
+ */
+final class QuasigroupSolver {
+
+	/**
+	 * the number of failures allowed by the first unit of the Luby sequence.
+	 */
+	private static final int RESTART_BASE = 1 << 12;
+
+	/**
+	 * the number of search nodes between two checks of the interrupt status and the deadline.
+	 */
+	private static final int CHECK_INTERVAL = 1 << 8;
+
+	/**
+	 * the outcomes of a search.
+	 */
+	private static final int SOLVED = 0, EXHAUSTED = 1, LIMITED = 2;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final int cellCount;
+	private final long deadline;
+	private final SplittableRandom random;
+	// false if the clues can't be completed
+	private final boolean consistent;
+
+	// ================================================
+	// SEARCH STATE
+	// ================================================
+	// the ordinals of each cell, the columns of each ordinal in each row and the rows of each ordinal in each column
+	private final long[] domains;
+	private final long[] rowPositions;
+	private final long[] columnPositions;
+	private int[] trailCells;
+	private long[] trailDomains;
+	private int trailSize;
+	// the matched value of each position of each unit and the matched position of each value of each unit
+	private final int[] matchedValues;
+	private final int[] matchedPositions;
+	private final int[] queue;
+	private final boolean[] queued;
+	private int queueHead;
+	private int queueTail;
+	// the number of failed filterings of each unit, kept across restarts
+	private final long[] weights;
+	private long failures;
+	private long failureLimit;
+	private long nodes;
+	// the scratch space of the matching and of the strongly connected components
+	private final long[] unitDomains;
+	private final long[] adjacency;
+	private final int[] discoveries;
+	private final int[] lowLinks;
+	private final int[] components;
+	private final int[] stack;
+	private final long[] componentValues;
+	private long visitedValues;
+	private long onStack;
+	private int stackSize;
+	private int visitCount;
+	private int componentCount;
+
+	/**
+	 * Creates a new {@code QuasigroupSolver} for the given partial Latin square.
+	 * 
+	 * @param size the size of the Latin square, at most {@code 64}.
+	 * @param values the ordinal of each {@code Cell} in row-major order, {@code -1} for empty {@code Cell}s.
+	 * @param random the source of the seed of the random choices, it's only used once.
+	 * @param deadline the value of {@link System#nanoTime()} after which the search is aborted. Use
+	 * {@link Long#MAX_VALUE} for no deadline.
+	 */
+	QuasigroupSolver(int size, int[] values, Random random, long deadline) {
+		this.size = size;
+		this.cellCount = size * size;
+		this.deadline = deadline;
+		this.random = new SplittableRandom(random.nextLong());
+		this.domains = new long[cellCount];
+		this.rowPositions = new long[cellCount];
+		this.columnPositions = new long[cellCount];
+		this.trailCells = new int[cellCount];
+		this.trailDomains = new long[cellCount];
+		this.matchedValues = new int[3 * cellCount];
+		this.matchedPositions = new int[3 * cellCount];
+		Arrays.fill(matchedValues, -1);
+		Arrays.fill(matchedPositions, -1);
+		// one spare slot so that a full queue isn't mistaken for an empty one
+		this.queue = new int[3 * size + 1];
+		this.queued = new boolean[3 * size];
+		this.weights = new long[3 * size];
+		Arrays.fill(weights, 1L);
+		this.unitDomains = new long[size];
+		this.adjacency = new long[size];
+		this.discoveries = new int[size];
+		this.lowLinks = new int[size];
+		this.components = new int[size];
+		this.stack = new int[size];
+		this.componentValues = new long[size];
+
+		final long fullMask = (size == 64)? -1L : (1L << size) - 1;
+		Arrays.fill(domains, fullMask);
+		Arrays.fill(rowPositions, fullMask);
+		Arrays.fill(columnPositions, fullMask);
+		boolean consistent = true;
+		for (int cell = 0; cell < cellCount && consistent; cell++)
+			if (values[cell] >= 0) consistent = restrict(cell, 1L << values[cell], -1);
+		for (int unit = 0; unit < 3 * size; unit++)
+			enqueue(unit);
+		// the propagated clues are the state every restart starts from
+		this.consistent = consistent && propagate();
+		this.trailSize = 0;
+	}
+
+	/**
+	 * Searches for a completion of the partial Latin square, restarting the search as needed.
+	 * 
+	 * @param solution the array to copy the completion to, the ordinal of each {@code Cell} in row-major order.
+	 * 
+	 * @return {@code true} if a completion was found, {@code false} if the partial Latin square can't be completed.
+	 * 
+	 * @throws CancellationException if the current thread is interrupted or the deadline passes during the search.
+	 */
+	boolean solve(int[] solution) {
+		if (!consistent) return false;
+		for (int run = 1; ; run++) {
+			failures = 0;
+			failureLimit = Restarts.luby(run) * RESTART_BASE;
+			final int outcome = search();
+			if (outcome == SOLVED) {
+				for (int cell = 0; cell < cellCount; cell++)
+					solution[cell] = Long.numberOfTrailingZeros(domains[cell]);
+				return true;
+			}
+			if (outcome == EXHAUSTED) return false;
+			undo(0);
+		}
+	}
+
+	/**
+	 * Returns the number of search nodes visited over all the restarts of the search so far.
+	 * 
+	 * @return the number of search nodes of this solver.
+	 */
+	long nodes() {
+		return nodes;
+	}
+
+	private int search() {
+		if ((++nodes & (CHECK_INTERVAL - 1)) == 0) checkLimits();
+		final int variable = branchingVariable();
+		if (variable < 0) return SOLVED;
+		for (long values = valuesOf(variable); values != 0L; values = valuesOf(variable)) {
+			final int value = randomBitOf(values);
+			final int cell = cellOf(variable, value), ordinal = ordinalOf(variable, value);
+			final int mark = trailSize;
+			if (restrict(cell, 1L << ordinal, -1) && propagate()) {
+				final int outcome = search();
+				if (outcome != EXHAUSTED) return outcome;
+			}
+			undo(mark);
+			if (++failures >= failureLimit) return LIMITED;
+			// the value failed, the cell can't hold the ordinal
+			if (!restrict(cell, domains[cell] & ~(1L << ordinal), -1) || !propagate()) return EXHAUSTED;
+		}
+		return EXHAUSTED;
+	}
+
+	/**
+	 * Returns the variable to branch on or {@code -1} if all the {@code Cell}s are fixed. The variables of the
+	 * {@code Cell}s are numbered from {@code 0}, those of the {@code Row}s from {@code cellCount} and those of the
+	 * {@code Column}s from {@code 2 * cellCount}, by their index in their view.
+	 */
+	private int branchingVariable() {
+		final int variableCount = 3 * cellCount, start = random.nextInt(variableCount);
+		int best = -1;
+		long bestCount = 1L, bestWeight = 0L;
+		// the scan starts at a random variable so that ties are broken at random
+		for (int step = 0, variable = start; step < variableCount; step++, variable = (variable + 1 == variableCount)? 0 : variable + 1) {
+			final long count = Long.bitCount(valuesOf(variable));
+			if (count < 2) continue;
+			final long weight = weightOf(variable);
+			if (count * bestWeight < bestCount * weight) {
+				best = variable;
+				bestCount = count;
+				bestWeight = weight;
+			}
+		}
+		return best;
+	}
+
+	private long valuesOf(int variable) {
+		if (variable < cellCount) return domains[variable];
+		if (variable < 2 * cellCount) return rowPositions[variable - cellCount];
+		return columnPositions[variable - 2 * cellCount];
+	}
+
+	private long weightOf(int variable) {
+		final int view = variable / cellCount, index = variable % cellCount;
+		if (view == 0) return weights[index / size] + weights[size + index % size];
+		// index / size is the ordinal, index % size the row or column
+		return weights[(view - 1) * size + index % size] + weights[2 * size + index / size];
+	}
+
+	private int cellOf(int variable, int value) {
+		final int view = variable / cellCount, index = variable % cellCount;
+		if (view == 0) return index;
+		if (view == 1) return (index % size) * size + value;
+		return value * size + index % size;
+	}
+
+	private int ordinalOf(int variable, int value) {
+		return (variable < cellCount)? value : (variable % cellCount) / size;
+	}
+
+	private int randomBitOf(long mask) {
+		int skip = random.nextInt(Long.bitCount(mask));
+		while (skip-- > 0) mask &= mask - 1;
+		return Long.numberOfTrailingZeros(mask);
+	}
+
+	/**
+	 * Narrows the domain of the given {@code Cell}, updating the other two views and queueing the units whose
+	 * variables changed, except the given one.
+	 * 
+	 * @return {@code false} if the domain is now empty.
+	 */
+	private boolean restrict(int cell, long domain, int exceptUnit) {
+		final long removed = domains[cell] & ~domain;
+		if (removed == 0L) return true;
+		if (trailSize == trailCells.length) {
+			trailCells = Arrays.copyOf(trailCells, 2 * trailSize);
+			trailDomains = Arrays.copyOf(trailDomains, 2 * trailSize);
+		}
+		trailCells[trailSize] = cell;
+		trailDomains[trailSize++] = domains[cell];
+		domains[cell] &= domain;
+		final int row = cell / size, column = cell % size;
+		for (long bits = removed; bits != 0L; bits &= bits - 1) {
+			final int ordinal = Long.numberOfTrailingZeros(bits);
+			rowPositions[ordinal * size + row] &= ~(1L << column);
+			columnPositions[ordinal * size + column] &= ~(1L << row);
+			if (2 * size + ordinal != exceptUnit) enqueue(2 * size + ordinal);
+		}
+		if (row != exceptUnit) enqueue(row);
+		if (size + column != exceptUnit) enqueue(size + column);
+		return domains[cell] != 0L;
+	}
+
+	private void undo(int mark) {
+		while (trailSize > mark) {
+			final int cell = trailCells[--trailSize], row = cell / size, column = cell % size;
+			for (long bits = trailDomains[trailSize] & ~domains[cell]; bits != 0L; bits &= bits - 1) {
+				final int ordinal = Long.numberOfTrailingZeros(bits);
+				rowPositions[ordinal * size + row] |= 1L << column;
+				columnPositions[ordinal * size + column] |= 1L << row;
+			}
+			domains[cell] = trailDomains[trailSize];
+		}
+	}
+
+	private void enqueue(int unit) {
+		if (queued[unit]) return;
+		queued[unit] = true;
+		queue[queueTail] = unit;
+		queueTail = (queueTail + 1) % queue.length;
+	}
+
+	/**
+	 * Filters the queued units until none is left.
+	 * 
+	 * @return {@code false} if a unit can't be completed.
+	 */
+	private boolean propagate() {
+		while (queueHead != queueTail) {
+			final int unit = queue[queueHead];
+			queueHead = (queueHead + 1) % queue.length;
+			queued[unit] = false;
+			if (!filter(unit)) {
+				weights[unit]++;
+				// drop the rest of the queue, the caller backtracks
+				while (queueHead != queueTail) {
+					queued[queue[queueHead]] = false;
+					queueHead = (queueHead + 1) % queue.length;
+				}
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Filters the given unit to generalized arc consistency. The units {@code 0} to {@code size - 1} are the
+	 * {@link Row}s, whose positions are the {@code Column}s and whose values are the ordinals, the units
+	 * {@code size} to {@code 2 * size - 1} are the {@link Column}s, whose positions are the {@code Row}s and whose
+	 * values are the ordinals, and the units {@code 2 * size} to {@code 3 * size - 1} are the ordinals, whose
+	 * positions are the {@code Row}s and whose values are the {@code Column}s.
+	 */
+	private boolean filter(int unit) {
+		final int offset = unit * size;
+		// drop the matched pairs whose value has left the domain, then match the free positions again
+		long unfixed = 0L;
+		for (int position = 0; position < size; position++) {
+			final long domain = unitDomains[position] = unitDomainOf(unit, position);
+			final int value = matchedValues[offset + position];
+			if (value >= 0 && (domain & (1L << value)) == 0L) {
+				matchedValues[offset + position] = -1;
+				matchedPositions[offset + value] = -1;
+			}
+			if ((domain & (domain - 1)) != 0L) unfixed |= 1L << position;
+		}
+		for (int position = 0; position < size; position++) {
+			visitedValues = 0L;
+			if (matchedValues[offset + position] < 0 && !augment(offset, position)) return false;
+		}
+
+		// a fixed position is a component of it's own, position p reaches position q if p can take the value
+		// matched to q
+		visitCount = componentCount = stackSize = 0;
+		onStack = 0L;
+		for (int position = 0; position < size; position++) {
+			if ((unfixed & (1L << position)) != 0L) {
+				long reached = 0L;
+				for (long domain = unitDomains[position]; domain != 0L; domain &= domain - 1)
+					reached |= 1L << matchedPositions[offset + Long.numberOfTrailingZeros(domain)];
+				adjacency[position] = reached & unfixed;
+				discoveries[position] = -1;
+			} else {
+				discoveries[position] = visitCount++;
+				components[position] = componentCount++;
+			}
+		}
+		for (long positions = unfixed; positions != 0L; positions &= positions - 1) {
+			final int position = Long.numberOfTrailingZeros(positions);
+			if (discoveries[position] < 0) connect(position);
+		}
+
+		// a value is kept if the position matched to it is in the same component
+		Arrays.fill(componentValues, 0, componentCount, 0L);
+		for (int position = 0; position < size; position++)
+			componentValues[components[position]] |= 1L << matchedValues[offset + position];
+		for (long positions = unfixed; positions != 0L; positions &= positions - 1) {
+			final int position = Long.numberOfTrailingZeros(positions);
+			final long removed = unitDomains[position] & ~componentValues[components[position]];
+			if (removed != 0L && !remove(unit, position, removed)) return false;
+		}
+		return true;
+	}
+
+	private long unitDomainOf(int unit, int position) {
+		if (unit < size) return domains[unit * size + position];
+		if (unit < 2 * size) return domains[position * size + unit - size];
+		return rowPositions[(unit - 2 * size) * size + position];
+	}
+
+	/**
+	 * Removes the given values from the given position of the given unit.
+	 */
+	private boolean remove(int unit, int position, long values) {
+		if (unit < 2 * size) {
+			final int cell = (unit < size)? unit * size + position : position * size + unit - size;
+			return restrict(cell, domains[cell] & ~values, unit);
+		}
+		// the values of an ordinal are the columns it can't take in the row
+		final long ordinal = 1L << (unit - 2 * size);
+		for (long columns = values; columns != 0L; columns &= columns - 1) {
+			final int cell = position * size + Long.numberOfTrailingZeros(columns);
+			if (!restrict(cell, domains[cell] & ~ordinal, unit)) return false;
+		}
+		return true;
+	}
+
+	private boolean augment(int offset, int position) {
+		for (long domain = unitDomains[position] & ~visitedValues; domain != 0L; domain &= domain - 1) {
+			final int value = Long.numberOfTrailingZeros(domain);
+			if ((visitedValues & (1L << value)) != 0L) continue;
+			visitedValues |= 1L << value;
+			final int other = matchedPositions[offset + value];
+			if (other < 0 || augment(offset, other)) {
+				matchedValues[offset + position] = value;
+				matchedPositions[offset + value] = position;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tarjan's algorithm over the positions of the unit being filtered.
+	 */
+	private void connect(int position) {
+		discoveries[position] = lowLinks[position] = visitCount++;
+		stack[stackSize++] = position;
+		onStack |= 1L << position;
+		for (long next = adjacency[position]; next != 0L; next &= next - 1) {
+			final int other = Long.numberOfTrailingZeros(next);
+			if (discoveries[other] < 0) {
+				connect(other);
+				lowLinks[position] = Math.min(lowLinks[position], lowLinks[other]);
+			} else if ((onStack & (1L << other)) != 0L) {
+				lowLinks[position] = Math.min(lowLinks[position], discoveries[other]);
+			}
+		}
+		if (lowLinks[position] == discoveries[position]) {
+			int member;
+			do {
+				member = stack[--stackSize];
+				onStack &= ~(1L << member);
+				components[member] = componentCount;
+			} while (member != position);
+			componentCount++;
+		}
+	}
+
+	private void checkLimits() {
+		if (Thread.currentThread().isInterrupted())
+			throw new CancellationException("The search was interrupted.");
+		if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0)
+			throw new CancellationException("The search deadline has passed.");
+	}
+}
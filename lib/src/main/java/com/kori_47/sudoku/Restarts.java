@@ -0,0 +1,34 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+/**
+ * This class consists of static helpers used by the solvers that restart their search, i.e the
+ * {@link QuasigroupSolver} and the {@link CdclSolver}, to schedule their restarts.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:38:12
+ */
+final class Restarts {
+
+	/**
+	 * Returns the given element of the Luby sequence, {@code 1, 1, 2, 1, 1, 2, 4, 1, ...}, starting at {@code 1}.
+	 * Multiplied by a base number of failures or conflicts, this gives the limit of each run of a restarting search.
+	 * 
+	 * @param index the position of the element in the sequence, starting at {@code 1}.
+	 * 
+	 * @return the given element of the Luby sequence.
+	 */
+	static long luby(int index) {
+		for (int power = 1; ; power++) {
+			final int end = (1 << power) - 1;
+			if (index == end) return 1L << (power - 1);
+			if (index < end) return luby(index - (1 << (power - 1)) + 1);
+		}
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private Restarts() { }
+}
@@ -0,0 +1,277 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This is a {@link MoveJournal} that packs every move into a single {@code long} and keeps them in a growable ring
+ * buffer. A move entry holds the row-major index of the {@link Cell} in it's upper {@code 32} bits and the slots of
+ * the old and new {@link Symbol}s, i.e their ordinals plus one or {@code 0} for no {@code Symbol}, in the next two
+ * {@code 16} bit fields. A checkpoint is an entry with only it's sign bit set.
+ * 
+ * <p>
+ * The buffer starts small and doubles whenever it's full, until it can hold the maximum number of entries. From then
+ * on, recording a move discards the oldest entry, and the checkpoint after it if that checkpoint would be left at
+ * the start of the history. The history is only compacted when {@link #compact()} is called, so every move stays
+ * individually undoable until it's discarded.
+ * 
+ * <p>
+ * The entries are kept such that there's never a checkpoint at the start of the history or two consecutive
+ * checkpoints, so that the positions before and after the current position can be checked in constant time.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s of the journaled {@link LatinSquare}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 17:58:29
+ */
+final class RingMoveJournal<V> implements MoveJournal<V> {
+
+	/**
+	 * the initial capacity of the buffer, must be a power of two.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * the largest number of symbols whose slots fit in a move entry.
+	 */
+	static final int MAX_SYMBOLS = 0xFFFF;
+
+	private static final long CHECKPOINT = Long.MIN_VALUE;
+	private static final int SLOT_MASK = 0xFFFF;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final LatinSquare<V> latinSquare;
+	private final SymbolIndex<V> symbolIndex;
+	private final Cell<V>[] cells;
+	private final int maxEntries;
+	// the history
+	private long[] entries;
+	private int head;
+	private int length;
+	private int cursor;
+
+	/**
+	 * Creates a new, empty, {@code RingMoveJournal}.
+	 * 
+	 * @param latinSquare the {@link LatinSquare} whose moves to record.
+	 * @param maxEntries the maximum number of moves and checkpoints to keep.
+	 */
+	RingMoveJournal(LatinSquare<V> latinSquare, int maxEntries) {
+		this.latinSquare = latinSquare;
+		this.symbolIndex = new SymbolIndex<>(latinSquare.symbols());
+		this.cells = GridArrays.newArray(Cell.class, latinSquare.size() * latinSquare.size());
+		for (Cell<V> cell : latinSquare.cells().values())
+			this.cells[GridTopology.indexOf(cell, latinSquare.size())] = cell;
+		this.maxEntries = maxEntries;
+		this.entries = new long[INITIAL_CAPACITY];
+	}
+
+	@Override
+	public void changeSymbol(Cell<V> cell, Symbol<V> symbol) {
+		final Cell<V> ownCell = ownCellOf(cell);
+		final long entry = moveOf(ownCell, ownCell.symbol().orElse(null), symbol);
+		latinSquare.changeSymbol(ownCell, symbol);
+		append(entry);
+	}
+
+	@Override
+	public void record(Cell<V> cell, Symbol<V> oldSymbol, Symbol<V> newSymbol) {
+		append(moveOf(ownCellOf(cell), oldSymbol, newSymbol));
+	}
+
+	@Override
+	public boolean undo() {
+		while (cursor > 0) {
+			final long entry = at(--cursor);
+			if (entry == CHECKPOINT) continue;
+			apply(entry, oldSlotOf(entry));
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean redo() {
+		while (cursor < length) {
+			final long entry = at(cursor++);
+			if (entry == CHECKPOINT) continue;
+			apply(entry, newSlotOf(entry));
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean canUndo() {
+		// the history never starts with a checkpoint
+		return cursor > 0;
+	}
+
+	@Override
+	public boolean canRedo() {
+		// checkpoints are never consecutive so only a single trailing checkpoint can be in the way
+		return cursor < length && !(cursor == length - 1 && at(cursor) == CHECKPOINT);
+	}
+
+	@Override
+	public void checkpoint() {
+		if (cursor == 0 || at(cursor - 1) == CHECKPOINT || (cursor < length && at(cursor) == CHECKPOINT)) return;
+		append(CHECKPOINT);
+	}
+
+	@Override
+	public int undoToCheckpoint() {
+		int undone = 0;
+		if (cursor > 0 && at(cursor - 1) == CHECKPOINT) cursor--;
+		while (cursor > 0 && at(cursor - 1) != CHECKPOINT) {
+			final long entry = at(--cursor);
+			apply(entry, oldSlotOf(entry));
+			undone++;
+		}
+		return undone;
+	}
+
+	@Override
+	public int redoToCheckpoint() {
+		int redone = 0;
+		if (cursor < length && at(cursor) == CHECKPOINT) cursor++;
+		while (cursor < length && at(cursor) != CHECKPOINT) {
+			final long entry = at(cursor++);
+			apply(entry, newSlotOf(entry));
+			redone++;
+		}
+		return redone;
+	}
+
+	@Override
+	public int compact() {
+		int write = 0, floor = 0, newCursor = cursor;
+		for (int read = 0; read < length; read++) {
+			// entries after the current position must never be merged into entries before it
+			if (read == cursor) floor = newCursor = write;
+			final long entry = at(read);
+			if (entry == CHECKPOINT) {
+				if (write > 0 && at(write - 1) != CHECKPOINT) set(write++, CHECKPOINT);
+				continue;
+			}
+			if (oldSlotOf(entry) == newSlotOf(entry)) continue;
+			if (write > floor) {
+				final long previous = at(write - 1);
+				if (previous != CHECKPOINT && cellIndexOf(previous) == cellIndexOf(entry)) {
+					// merge consecutive moves on the same cell, dropping the result if it changes nothing
+					if (oldSlotOf(previous) == newSlotOf(entry)) write--;
+					else set(write - 1, moveOf(cellIndexOf(entry), oldSlotOf(previous), newSlotOf(entry)));
+					continue;
+				}
+			}
+			set(write++, entry);
+		}
+		if (cursor == length) newCursor = write;
+
+		final int removed = length - write;
+		length = write;
+		cursor = newCursor;
+		return removed;
+	}
+
+	@Override
+	public void reset() {
+		entries = new long[INITIAL_CAPACITY];
+		head = length = cursor = 0;
+	}
+
+	@Override
+	public LatinSquare<V> latinSquare() {
+		return latinSquare;
+	}
+
+	@Override
+	public String toString() {
+		return "MoveJournal{entries=" + length + ", position=" + cursor + ", capacity=" + entries.length + "}";
+	}
+
+	private void append(long entry) {
+		// recording discards everything that could be redone
+		length = cursor;
+		ensureRoom();
+		set(length++, entry);
+		cursor = length;
+	}
+
+	private void ensureRoom() {
+		if (length < Math.min(entries.length, maxEntries)) return;
+		if (entries.length < maxEntries) {
+			grow();
+			return;
+		}
+		// the history is full, discard the oldest entry and any checkpoint that would be left at the start
+		discardOldest();
+		if (length > 0 && at(0) == CHECKPOINT) discardOldest();
+	}
+
+	private void grow() {
+		final long[] grown = new long[entries.length * 2];
+		for (int position = 0; position < length; position++)
+			grown[position] = at(position);
+		entries = grown;
+		head = 0;
+	}
+
+	private void discardOldest() {
+		head = (head + 1) & (entries.length - 1);
+		length--;
+		cursor--;
+	}
+
+	private long at(int position) {
+		return entries[(head + position) & (entries.length - 1)];
+	}
+
+	private void set(int position, long entry) {
+		entries[(head + position) & (entries.length - 1)] = entry;
+	}
+
+	private void apply(long entry, int slot) {
+		latinSquare.changeSymbol(cells[cellIndexOf(entry)], (slot == 0)? null : symbolIndex.symbol(slot - 1));
+	}
+
+	private Cell<V> ownCellOf(Cell<V> cell) {
+		final Cell<V> ownCell = latinSquare.cells().get(requireNonNull(cell, "cell cannot be null.").id());
+		if (ownCell == null)
+			throw new SudokuException("The given Cell (" + cell + ") isn't part of this LatinSquare.");
+		return ownCell;
+	}
+
+	private long moveOf(Cell<V> cell, Symbol<V> oldSymbol, Symbol<V> newSymbol) {
+		return moveOf(GridTopology.indexOf(cell, latinSquare.size()), slotOf(oldSymbol), slotOf(newSymbol));
+	}
+
+	private int slotOf(Symbol<V> symbol) {
+		if (symbol == null) return 0;
+		final int ordinal = symbolIndex.ordinalOf(symbol);
+		if (ordinal < 0)
+			throw new SudokuException("The given Symbol (" + symbol + ") isn't one of the Symbols of this LatinSquare.");
+		return ordinal + 1;
+	}
+
+	private static long moveOf(int cellIndex, int oldSlot, int newSlot) {
+		return ((long) cellIndex << 32) | ((long) oldSlot << 16) | newSlot;
+	}
+
+	private static int cellIndexOf(long entry) {
+		return (int) (entry >>> 32);
+	}
+
+	private static int oldSlotOf(long entry) {
+		return (int) (entry >>> 16) & SLOT_MASK;
+	}
+
+	private static int newSlotOf(long entry) {
+		return (int) entry & SLOT_MASK;
+	}
+}
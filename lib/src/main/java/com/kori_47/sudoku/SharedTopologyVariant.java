@@ -0,0 +1,27 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import com.kori_47.sudoku.Sudoku.SudokuVariant;
+
+/**
+ * A {@link SudokuVariant} that precomputes the {@link GridTopology} of the {@link Sudoku}s it describes, so that
+ * every {@code Sudoku} of the variant shares a single topology instead of computing it from it's {@link Block}s.
+ * The units of the topology must be ordered the same way as those computed by {@link GridTopology#of(LatinSquare)},
+ * i.e the rows, then the columns and then the {@code Block}s in the order they are returned by
+ * {@link SudokuVariant#createBlocks(Sudoku)}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 22:48:19
+ */
+interface SharedTopologyVariant extends SudokuVariant {
+
+	/**
+	 * Returns the {@link GridTopology} shared by every {@link Sudoku} described by this variant.
+	 * 
+	 * @return the {@code GridTopology} of the {@code Sudoku}s described by this variant.
+	 */
+	GridTopology topology();
+}
@@ -0,0 +1,180 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariant;
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+/**
+ * This is a {@link BoxBlocksSudokuVariant} of any block dimensions. The {@link GridTopology} of the described
+ * {@link Sudoku}s is precomputed once, when the variant is created, and shared by every {@code Sudoku} created from
+ * it. This class also holds the {@link Block} creation and topology code shared with {@link BoxBlocksSudokuVariants},
+ * both of which are linear in the number of {@link Cell}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 22:53:37
+ */
+final class SimpleBoxBlocksSudokuVariant implements BoxBlocksSudokuVariant, SharedTopologyVariant {
+
+	/**
+	 * the topologies of the {@code BoxBlocksSudokuVariants} constants, computed when first needed.
+	 */
+	private static final AtomicReferenceArray<GridTopology> CONSTANT_TOPOLOGIES = new AtomicReferenceArray<>(BoxBlocksSudokuVariants.values().length);
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final int blockRows;
+	private final int blockColumns;
+	private final GridTopology topology;
+
+	/**
+	 * Creates a new {@code SimpleBoxBlocksSudokuVariant} with the given block dimensions.
+	 * 
+	 * @param blockRows the number of {@link Row}s in each {@link Block}.
+	 * @param blockColumns the number of {@link Column}s in each {@code Block}.
+	 */
+	SimpleBoxBlocksSudokuVariant(int blockRows, int blockColumns) {
+		this.size = blockRows * blockColumns;
+		this.blockRows = blockRows;
+		this.blockColumns = blockColumns;
+		this.topology = GridTopology.of(size, blocksOf(blockRows, blockColumns));
+	}
+
+	@Override
+	public <V> Set<Block<V>> createBlocks(Sudoku<V> sudoku) {
+		return createBoxBlocks(this, sudoku);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int blockRows() {
+		return blockRows;
+	}
+
+	@Override
+	public int blockColumns() {
+		return blockColumns;
+	}
+
+	@Override
+	public int xBlocks() {
+		return blockRows;
+	}
+
+	@Override
+	public int yBlocks() {
+		return blockColumns;
+	}
+
+	@Override
+	public GridTopology topology() {
+		return topology;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * blockRows + blockColumns;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof SimpleBoxBlocksSudokuVariant)) return false;
+		final SimpleBoxBlocksSudokuVariant other = (SimpleBoxBlocksSudokuVariant) obj;
+		return blockRows == other.blockRows && blockColumns == other.blockColumns;
+	}
+
+	@Override
+	public String toString() {
+		return "VARIANT_" + size + "x" + size + "[" + blockRows + "x" + blockColumns + " blocks]";
+	}
+
+	/**
+	 * Creates the {@link BoxBlock}s of the given {@link Sudoku} as described by the given {@link BoxBlocksSudokuVariant}.
+	 * The {@code Block}s are created starting from the first {@link Row} of the {@code Sudoku} moving to the last, and
+	 * starting from the first {@link Column} moving to the last, each {@code Cell} is looked up once by it's
+	 * coordinates.
+	 * 
+	 * @param <V> the type of values held by {@code Symbol}s of the given {@code Sudoku}.
+	 * 
+	 * @param variant the {@code BoxBlocksSudokuVariant} that describes the {@code Block}s.
+	 * @param sudoku the {@code Sudoku} whose {@code Block}s to create.
+	 * 
+	 * @return a {@code Set} of the created {@code Block}s.
+	 * 
+	 * @throws NullPointerException if {@code sudoku} is {@code null}.
+	 */
+	static <V> Set<Block<V>> createBoxBlocks(BoxBlocksSudokuVariant variant, Sudoku<V> sudoku) {
+		requireNonNull(sudoku, "sudoku cannot be null.");
+		final int size = variant.size(), blockRows = variant.blockRows(), blockColumns = variant.blockColumns();
+		final Set<Block<V>> blocks = new LinkedHashSet<Block<V>>(size);
+		// get the first sudoku cell
+		final Cell<V> firstSudokuCell = sudoku.startCell();
+		for (int index = 0; index < size; index++) {
+			// the coordinates of the first cell of the next block
+			final int x = firstSudokuCell.x() + (index % variant.xBlocks()) * blockColumns;
+			final int y = firstSudokuCell.y() + (index / variant.xBlocks()) * blockRows;
+			final Map<String, Cell<V>> blockCells = new LinkedHashMap<String, Cell<V>>(size);
+			for (int row = 0; row < blockRows; row++) {
+				for (int column = 0; column < blockColumns; column++) {
+					final Cell<V> cell = sudoku.getCell(x + column, y + row).get();
+					blockCells.put(cell.id(), cell);
+				}
+			}
+			final Cell<V> startCell = sudoku.getCell(x, y).get();
+			final Cell<V> endCell = sudoku.getCell(x + blockColumns - 1, y + blockRows - 1).get();
+			blocks.add(sudoku.blockFactory().createBlock(Integer.toString(index), size, blockCells, startCell, endCell));
+		}
+		return blocks;
+	}
+
+	/**
+	 * Returns the {@link GridTopology} of the {@link Sudoku}s described by the given {@link BoxBlocksSudokuVariants}
+	 * constant. The topology is computed the first time it's needed and then shared.
+	 * 
+	 * @param variant a {@code BoxBlocksSudokuVariants} constant.
+	 * 
+	 * @return the {@code GridTopology} of the {@code Sudoku}s described by the given variant.
+	 */
+	static GridTopology topologyOf(BoxBlocksSudokuVariants variant) {
+		GridTopology topology = CONSTANT_TOPOLOGIES.get(variant.ordinal());
+		if (topology == null) {
+			// racing threads compute equal topologies, keep the first one published
+			CONSTANT_TOPOLOGIES.compareAndSet(variant.ordinal(), null, GridTopology.of(variant.size(), blocksOf(variant.blockRows(), variant.blockColumns())));
+			topology = CONSTANT_TOPOLOGIES.get(variant.ordinal());
+		}
+		return topology;
+	}
+
+	private static int[][] blocksOf(int blockRows, int blockColumns) {
+		final int size = blockRows * blockColumns, xBlocks = blockRows;
+		final int[][] blocks = new int[size][];
+		for (int block = 0; block < size; block++) {
+			final int x = (block % xBlocks) * blockColumns, y = (block / xBlocks) * blockRows;
+			final int[] cells = new int[size];
+			int position = 0;
+			// row-major order keeps the indices of each block sorted
+			for (int row = 0; row < blockRows; row++)
+				for (int column = 0; column < blockColumns; column++)
+					cells[position++] = (y + row) * size + x + column;
+			blocks[block] = cells;
+		}
+		return blocks;
+	}
+}
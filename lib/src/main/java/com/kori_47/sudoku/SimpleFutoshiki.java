@@ -0,0 +1,77 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This is a {@link SimpleLatinSquare} with an {@link InequalityLayout}, making it a {@link Futoshiki}. The
+ * {@link Inequality}s are handed to the {@link Solvers} as an {@link InequalityConstraint}.
+ * 
+ * @param <V> the type of value held by the {@link Symbol}s of this {@code Futoshiki}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 02:31:08
+ */
+final class SimpleFutoshiki<V> extends SimpleLatinSquare<V> implements Futoshiki<V>, SolverConstraint.Source {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final InequalityLayout layout;
+
+	/**
+	 * Creates a new empty {@link Futoshiki} with the given {@link Symbol}s and {@link InequalityLayout}.
+	 * 
+	 * @param size the size of the new {@code Futoshiki}.
+	 * @param symbols the {@code Symbol}s of the new {@code Futoshiki}.
+	 * @param layout the {@code Inequality}s of the new {@code Futoshiki}.
+	 * 
+	 * @throws NullPointerException if {@code symbols} or {@code layout} is {@code null}.
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1} or the size of {@code symbols} is less
+	 * than {@code size}.
+	 */
+	SimpleFutoshiki(int size, Set<Symbol<V>> symbols, InequalityLayout layout) {
+		super(size, symbols, Cells.defaultCellFactory(), CellGroups.defaultRowFactory(), CellGroups.defaultColumnFactory());
+		this.layout = requireNonNull(layout, "layout cannot be null.");
+	}
+
+	/**
+	 * Creates a new empty {@link Futoshiki} with the same properties and {@link Inequality}s as the given
+	 * {@code SimpleFutoshiki}.
+	 * 
+	 * @param futoshiki the {@code SimpleFutoshiki} whose properties to copy.
+	 */
+	private SimpleFutoshiki(SimpleFutoshiki<V> futoshiki) {
+		super(futoshiki);
+		this.layout = futoshiki.layout;
+	}
+
+	@Override
+	public List<Inequality> inequalities() {
+		return layout.inequalities();
+	}
+
+	@Override
+	public List<SolverConstraint> solverConstraints(SymbolIndex<?> symbols) {
+		return List.of(layout.newConstraint(symbols.size()));
+	}
+
+	@Override
+	public Futoshiki<V> copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final SimpleFutoshiki<V> newFutoshiki = new SimpleFutoshiki<V>(this);
+		// copy the current Futoshiki's cell values to the new Futoshiki
+		final int[] symbolIds = new int[size() * size()];
+		exportTo(symbolIds);
+		newFutoshiki.loadFrom(symbolIds);
+		event.record(newFutoshiki);
+		return newFutoshiki;
+	}
+}
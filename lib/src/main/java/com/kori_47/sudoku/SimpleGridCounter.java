@@ -0,0 +1,278 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This is a {@link GridCounter} of the completions of a partially filled grid described by a {@link GridTopology}.
+ * The empty {@link Cell}s are taken in row-major order and every consistent assignment of the first few of them
+ * becomes a task, as many {@code Cell}s are taken as it takes to have at least {@link #TARGET_TASKS} tasks. The tasks
+ * are computed once, when the {@code SimpleGridCounter} is created, in a fixed order so that a task has the same
+ * index in every run, which is what the checkpoint files record. Every task is counted by it's own
+ * {@link GridEnumerator}.
+ * 
+ * <p>
+ * A checkpoint file starts with a header that identifies the counted grids, followed by a line of the form
+ * {@code <task> <count>} for every completed task. Lines that can't be parsed, e.g a line cut short when a run was
+ * killed, are ignored when resuming.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 04:26:47
+ */
+final class SimpleGridCounter implements GridCounter {
+
+	/**
+	 * the least number of tasks that the enumeration is split into, unless there are fewer completions.
+	 */
+	static final int TARGET_TASKS = 1 << 10;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final String header;
+	private final GridTopology topology;
+	private final int[] values;
+	private final BigInteger symmetryFactor;
+	// the cells assigned by the tasks and the ordinals each task assigns to them
+	private final int[] taskCells;
+	private final int[][] tasks;
+
+	/**
+	 * Creates a new {@code SimpleGridCounter}.
+	 * 
+	 * @param name the name of the counted grids, written to the checkpoint files.
+	 * @param topology the {@code GridTopology} of the counted grids.
+	 * @param values the ordinals fixed to break symmetry in row-major order, {@code -1} for empty {@code Cell}s. The
+	 * array is copied and the values must not conflict.
+	 * @param symmetryFactor the number of grids represented by every counted grid.
+	 */
+	SimpleGridCounter(String name, GridTopology topology, int[] values, BigInteger symmetryFactor) {
+		this.topology = topology;
+		this.values = values.clone();
+		this.symmetryFactor = symmetryFactor;
+
+		final int[] empties = new int[values.length];
+		int emptyCount = 0;
+		for (int cell = 0; cell < values.length; cell++)
+			if (values[cell] < 0) empties[emptyCount++] = cell;
+		// extend every assignment by one more cell until there are enough of them
+		List<int[]> assignments = List.of(new int[0]);
+		int assigned = 0;
+		while (assignments.size() < TARGET_TASKS && assigned < emptyCount) {
+			final List<int[]> extended = new ArrayList<>(assignments.size() * topology.size());
+			for (int[] assignment : assignments) {
+				final long candidates = candidatesOf(empties, assignment, empties[assigned]);
+				for (long mask = candidates; mask != 0L; mask &= mask - 1) {
+					final int[] next = Arrays.copyOf(assignment, assigned + 1);
+					next[assigned] = Long.numberOfTrailingZeros(mask);
+					extended.add(next);
+				}
+			}
+			assignments = extended;
+			assigned++;
+		}
+		this.taskCells = Arrays.copyOf(empties, assigned);
+		this.tasks = assignments.toArray(new int[0][]);
+
+		// the units and the fixed values identify the grids, their hashes are stable across runs
+		final int[][] units = new int[topology.unitCount()][];
+		for (int unit = 0; unit < units.length; unit++)
+			units[unit] = topology.unit(unit);
+		this.header = "GridCounter " + name + " size=" + topology.size() + " tasks=" + tasks.length
+				+ " grid=" + Integer.toHexString(31 * Arrays.deepHashCode(units) + Arrays.hashCode(values));
+	}
+
+	@Override
+	public int size() {
+		return topology.size();
+	}
+
+	@Override
+	public int taskCount() {
+		return tasks.length;
+	}
+
+	@Override
+	public BigInteger symmetryFactor() {
+		return symmetryFactor;
+	}
+
+	@Override
+	public long count(ForkJoinPool pool) {
+		requireNonNull(pool, "pool cannot be null.");
+		final Run run = new Run(null);
+		pool.invoke(new CountTask(run, 0, tasks.length));
+		return run.total();
+	}
+
+	@Override
+	public long count(ForkJoinPool pool, Path checkpoint) throws IOException {
+		requireNonNull(pool, "pool cannot be null.");
+		requireNonNull(checkpoint, "checkpoint cannot be null.");
+		// an empty file, e.g one just created to hold the checkpoint, is a fresh start
+		final boolean resumed = Files.exists(checkpoint) && Files.size(checkpoint) > 0;
+		final long[] recorded = resumed? read(checkpoint) : null;
+		try (BufferedWriter writer = Files.newBufferedWriter(checkpoint, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+			if (!resumed) {
+				writer.write(header);
+				writer.newLine();
+				writer.flush();
+			} else if (!endsWithLineBreak(checkpoint)) {
+				// end the line cut short so that it isn't merged with the next record
+				writer.newLine();
+			}
+			final Run run = new Run(writer);
+			if (recorded != null) {
+				for (int task = 0; task < tasks.length; task++) {
+					if (recorded[task] < 0) continue;
+					run.counts[task] = recorded[task];
+					run.completed[task] = true;
+				}
+			}
+			pool.invoke(new CountTask(run, 0, tasks.length));
+			return run.total();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return header;
+	}
+
+	/**
+	 * Returns the count of every task recorded in the given checkpoint file, {@code -1} for tasks without a count.
+	 */
+	private long[] read(Path checkpoint) throws IOException {
+		final long[] recorded = new long[tasks.length];
+		Arrays.fill(recorded, -1L);
+		try (BufferedReader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+			final String firstLine = reader.readLine();
+			if (!header.equals(firstLine))
+				throw new IllegalArgumentException("The checkpoint (" + checkpoint + ") wasn't written by " + header + ".");
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				final String[] fields = line.trim().split(" ");
+				if (fields.length != 2) continue;
+				try {
+					final int task = Integer.parseInt(fields[0]);
+					final long count = Long.parseLong(fields[1]);
+					if (task >= 0 && task < tasks.length && count >= 0) recorded[task] = count;
+				} catch (NumberFormatException e) {
+					// a line cut short by an interrupted run, the task is simply run again
+				}
+			}
+		}
+		return recorded;
+	}
+
+	private static boolean endsWithLineBreak(Path checkpoint) throws IOException {
+		try (SeekableByteChannel channel = Files.newByteChannel(checkpoint)) {
+			if (channel.size() == 0) return true;
+			final ByteBuffer last = ByteBuffer.allocate(1);
+			channel.position(channel.size() - 1).read(last);
+			return last.get(0) == '\n';
+		}
+	}
+
+	private long countTask(int task) {
+		final int[] taskValues = values.clone();
+		for (int position = 0; position < taskCells.length; position++)
+			taskValues[taskCells[position]] = tasks[task][position];
+		return new GridEnumerator(topology, taskValues).count();
+	}
+
+	private long candidatesOf(int[] empties, int[] assignment, int cell) {
+		final int[] current = values.clone();
+		for (int position = 0; position < assignment.length; position++)
+			current[empties[position]] = assignment[position];
+		long mask = (topology.size() == 64)? -1L : (1L << topology.size()) - 1;
+		for (int peer : topology.peersOf(cell))
+			if (current[peer] >= 0) mask &= ~(1L << current[peer]);
+		return mask;
+	}
+
+	/**
+	 * The state of a single run, i.e the count of every completed task.
+	 */
+	private final class Run {
+
+		private final long[] counts = new long[tasks.length];
+		private final boolean[] completed = new boolean[tasks.length];
+		private final BufferedWriter writer;
+
+		Run(BufferedWriter writer) {
+			this.writer = writer;
+		}
+
+		void complete(int task, long count) {
+			counts[task] = count;
+			completed[task] = true;
+			if (writer == null) return;
+			synchronized (writer) {
+				try {
+					writer.write(task + " " + count);
+					writer.newLine();
+					writer.flush();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		}
+
+		long total() {
+			long total = 0L;
+			for (long count : counts)
+				total = Math.addExact(total, count);
+			return total;
+		}
+	}
+
+	/**
+	 * Counts a range of tasks, splitting it in halves until a single task is left.
+	 */
+	private final class CountTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient Run run;
+		private final int from;
+		private final int to;
+
+		CountTask(Run run, int from, int to) {
+			this.run = run;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > 1) {
+				final int middle = (from + to) >>> 1;
+				invokeAll(new CountTask(run, from, middle), new CountTask(run, middle, to));
+			} else if (to > from && !run.completed[from]) {
+				run.complete(from, countTask(from));
+			}
+		}
+	}
+}
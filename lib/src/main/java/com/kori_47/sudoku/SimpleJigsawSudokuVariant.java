@@ -0,0 +1,149 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.kori_47.sudoku.Sudoku.JigsawSudokuVariant;
+
+/**
+ * This is a simple implementation of the {@link JigsawSudokuVariant} interface. The layout is validated once when
+ * the variant is created and the cell indices of each region, together with the {@link GridTopology} of the
+ * described {@link Sudoku}s, are precomputed and shared by every {@code Sudoku} created from this variant.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 22:15:03
+ */
+final class SimpleJigsawSudokuVariant implements JigsawSudokuVariant, SharedTopologyVariant {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	// the region id of each cell in row-major order
+	private final int[] regionIds;
+	// the row-major cell indices of each region in ascending order
+	private final int[][] regions;
+	// the rows, columns and regions of the described sudokus
+	private final GridTopology topology;
+
+	/**
+	 * Creates a new {@code SimpleJigsawSudokuVariant}.
+	 * 
+	 * @param size the size of the described {@link Sudoku}s.
+	 * @param regionIds the region id of each {@link Cell} in row-major order.
+	 * 
+	 * @throws NullPointerException if {@code regionIds} is {@code null}.
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1}, the length of {@code regionIds} isn't
+	 * {@code size * size}, a region id isn't between {@code 0} and {@code size - 1} or a region doesn't have exactly
+	 * {@code size} {@code Cell}s.
+	 */
+	SimpleJigsawSudokuVariant(int size, int[] regionIds) {
+		requireNonNull(regionIds, "regionIds cannot be null.");
+		if (size < 1)
+			throw new IllegalArgumentException("size must be greater than or equal to 1.");
+		if (regionIds.length != size * size)
+			throw new IllegalArgumentException("You must provide exactly " + size * size + " region ids but " + regionIds.length + " were given.");
+		this.size = size;
+		this.regionIds = regionIds.clone();
+		this.regions = regionsOf(this.regionIds, size);
+		this.topology = GridTopology.of(size, this.regions);
+	}
+
+	@Override
+	public <V> Set<Block<V>> createBlocks(Sudoku<V> sudoku) {
+		requireNonNull(sudoku, "sudoku cannot be null.");
+		if (sudoku.size() != size)
+			throw new SudokuException("The size of the Sudoku (" + sudoku.size() + ") isn't equal to the size of this variant (" + size + ").");
+		final Set<Block<V>> blocks = new LinkedHashSet<Block<V>>(size);
+		for (int region = 0; region < size; region++) {
+			final Map<String, Cell<V>> blockCells = new LinkedHashMap<String, Cell<V>>(size);
+			for (int index : regions[region]) {
+				final Cell<V> cell = sudoku.cellAt(index);
+				blockCells.put(cell.id(), cell);
+			}
+			final Cell<V> startCell = sudoku.cellAt(regions[region][0]), endCell = sudoku.cellAt(regions[region][size - 1]);
+			blocks.add(sudoku.blockFactory().createBlock(Integer.toString(region), size, blockCells, startCell, endCell));
+		}
+		return blocks;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation returns {@link CellGroups#defaultBlockFactory()} since the regions of a jigsaw
+	 * {@code Sudoku} are generally not boxes.
+	 */
+	@Override
+	public <V> BlockFactory<V> defaultBlockFactory() {
+		return CellGroups.defaultBlockFactory();
+	}
+
+	@Override
+	public int regionOf(int x, int y) {
+		return regionIds[checkIndex(y, size) * size + checkIndex(x, size)];
+	}
+
+	@Override
+	public int[] regionIds() {
+		return regionIds.clone();
+	}
+
+	@Override
+	public GridTopology topology() {
+		return topology;
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(regionIds);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof SimpleJigsawSudokuVariant)) return false;
+		final SimpleJigsawSudokuVariant other = (SimpleJigsawSudokuVariant) obj;
+		return size == other.size && Arrays.equals(regionIds, other.regionIds);
+	}
+
+	@Override
+	public String toString() {
+		return "JigsawSudokuVariant[size=" + size + "]";
+	}
+
+	private static int[][] regionsOf(int[] regionIds, int size) {
+		final int[] counts = new int[size];
+		for (int index = 0; index < regionIds.length; index++) {
+			if (regionIds[index] < 0 || regionIds[index] >= size)
+				throw new IllegalArgumentException("The region id (" + regionIds[index] + ") at index " + index + " must be between 0 and " + (size - 1) + ".");
+			counts[regionIds[index]]++;
+		}
+		final int[][] regions = new int[size][];
+		for (int region = 0; region < size; region++) {
+			if (counts[region] != size)
+				throw new IllegalArgumentException("The region " + region + " has " + counts[region] + " cells instead of " + size + ".");
+			regions[region] = new int[size];
+		}
+		// the cells are visited in row-major order so each region ends up sorted
+		Arrays.fill(counts, 0);
+		for (int index = 0; index < regionIds.length; index++)
+			regions[regionIds[index]][counts[regionIds[index]]++] = index;
+		return regions;
+	}
+}
@@ -0,0 +1,80 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is a {@link SimpleLatinSquare} of number {@link Symbol}s with an {@link ArithmeticCageLayout}, making it a
+ * {@link KenKen}. The {@link ArithmeticCage}s are handed to the {@link Solvers} as an
+ * {@link ArithmeticCageConstraint}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 03:27:10
+ */
+final class SimpleKenKen extends SimpleLatinSquare<Integer> implements KenKen, SolverConstraint.Source {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final ArithmeticCageLayout layout;
+
+	/**
+	 * Creates a new empty {@link KenKen} with the given size and {@link ArithmeticCageLayout}.
+	 * 
+	 * @param size the size of the new {@code KenKen}.
+	 * @param layout the {@code ArithmeticCage}s of the new {@code KenKen}.
+	 * 
+	 * @throws NullPointerException if {@code layout} is {@code null}.
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1}.
+	 */
+	SimpleKenKen(int size, ArithmeticCageLayout layout) {
+		super(size, Symbols.numberAlphabet(size), Cells.defaultCellFactory(), CellGroups.defaultRowFactory(), CellGroups.defaultColumnFactory());
+		this.layout = requireNonNull(layout, "layout cannot be null.");
+	}
+
+	/**
+	 * Creates a new empty {@link KenKen} with the same properties and {@link ArithmeticCage}s as the given
+	 * {@code SimpleKenKen}.
+	 * 
+	 * @param kenKen the {@code SimpleKenKen} whose properties to copy.
+	 */
+	private SimpleKenKen(SimpleKenKen kenKen) {
+		super(kenKen);
+		this.layout = kenKen.layout;
+	}
+
+	@Override
+	public Map<String, ArithmeticCage> cages() {
+		return layout.cages();
+	}
+
+	@Override
+	public Optional<ArithmeticCage> cageOf(int x, int y) {
+		return layout.cageOf(x, y);
+	}
+
+	@Override
+	public List<SolverConstraint> solverConstraints(SymbolIndex<?> symbols) {
+		return List.of(layout.newConstraint());
+	}
+
+	@Override
+	public KenKen copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final SimpleKenKen newKenKen = new SimpleKenKen(this);
+		// copy the current KenKen's cell values to the new KenKen
+		final int[] symbolIds = new int[size() * size()];
+		exportTo(symbolIds);
+		newKenKen.loadFrom(symbolIds);
+		event.record(newKenKen);
+		return newKenKen;
+	}
+}
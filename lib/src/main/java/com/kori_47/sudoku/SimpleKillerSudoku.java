@@ -0,0 +1,79 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is a {@link SimpleSudoku} with a {@link CageLayout}, making it a {@link KillerSudoku}. The {@link Cage}s are
+ * handed to the {@link Solvers} as a {@link CageConstraint}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 00:04:51
+ */
+final class SimpleKillerSudoku extends SimpleSudoku<Integer> implements KillerSudoku, SolverConstraint.Source {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final CageLayout layout;
+
+	/**
+	 * Creates a new empty {@link KillerSudoku} described by the given {@link SudokuVariant} and {@link CageLayout}.
+	 * 
+	 * @param variant the {@code SudokuVariant} that describes the new {@code KillerSudoku}.
+	 * @param layout the {@code Cage}s of the new {@code KillerSudoku}.
+	 * 
+	 * @throws NullPointerException if {@code variant} or {@code layout} is {@code null}.
+	 */
+	SimpleKillerSudoku(SudokuVariant variant, CageLayout layout) {
+		super(variant, Symbols.numberAlphabet(requireNonNull(variant, "variant can't be null.").size()), Cells.defaultCellFactory(),
+				CellGroups.defaultRowFactory(), CellGroups.defaultColumnFactory(), variant.defaultBlockFactory());
+		this.layout = requireNonNull(layout, "layout cannot be null.");
+	}
+
+	/**
+	 * Creates a new empty {@link KillerSudoku} with the same properties and {@link Cage}s as the given
+	 * {@code SimpleKillerSudoku}.
+	 * 
+	 * @param killerSudoku the {@code SimpleKillerSudoku} whose properties to copy.
+	 */
+	private SimpleKillerSudoku(SimpleKillerSudoku killerSudoku) {
+		super(killerSudoku);
+		this.layout = killerSudoku.layout;
+	}
+
+	@Override
+	public Map<String, Cage> cages() {
+		return layout.cages();
+	}
+
+	@Override
+	public Optional<Cage> cageOf(int x, int y) {
+		return layout.cageOf(x, y);
+	}
+
+	@Override
+	public List<SolverConstraint> solverConstraints(SymbolIndex<?> symbols) {
+		return List.of(layout.newConstraint());
+	}
+
+	@Override
+	public KillerSudoku copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
+		final SimpleKillerSudoku newSudoku = new SimpleKillerSudoku(this);
+		// copy the current Sudoku's cell values to the new Sudoku
+		final int[] symbolIds = new int[size() * size()];
+		exportTo(symbolIds);
+		newSudoku.loadFrom(symbolIds);
+		event.record(newSudoku);
+		return newSudoku;
+	}
+}
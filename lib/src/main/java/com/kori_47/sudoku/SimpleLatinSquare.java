@@ -4,6 +4,7 @@
 package com.kori_47.sudoku;
 
 import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.checkIndex;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toMap;
 
@@ -14,8 +15,6 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 /**
  * <p>This is a simple implementation of the {@link LatinSquare} interface.
@@ -47,6 +46,13 @@ class SimpleLatinSquare<V> implements LatinSquare<V> {
 	private final Map<String, Row<V>> rowsView;
 	private final Map<String, Column<V>> columnsView;
 
+	// ================================================
+	// BULK ACCESS
+	// ================================================
+	// the cells in row-major order and the ordinals of the symbols, for integer addressing and bulk access
+	private final Cell<V>[] cellArray;
+	private final SymbolIndex<V> symbolIndex;
+
 	/**
 	 * Creates a new {@link LatinSquare} with the given properties.
 	 * 
@@ -94,6 +100,8 @@ class SimpleLatinSquare<V> implements LatinSquare<V> {
 	 */
 	private SimpleLatinSquare(int size, Map<Integer, Symbol<V>> symbols, CellFactory<V> cellFactory, RowFactory<V> rowFactory,
 			ColumnFactory<V> columnFactory) {
+		final GridConstructionEvent event = new GridConstructionEvent();
+		event.begin();
 		this.size = requireGreaterThanOrEqualTo(1, size, "size must be greater than or equal to 1.");
 		this.cellFactory = requireNonNull(cellFactory, "cellFactory cannot be null.");
 		this.rowFactory = requireNonNull(rowFactory, "rowFactory cannot be null.");
@@ -102,6 +110,8 @@ class SimpleLatinSquare<V> implements LatinSquare<V> {
 		this.cells = new LinkedHashMap<String, Cell<V>>(this.size * this.size);
 		this.rows = new LinkedHashMap<String, Row<V>>(this.size);
 		this.columns = new LinkedHashMap<String, Column<V>>(this.size);
+		this.cellArray = GridArrays.newArray(Cell.class, this.size * this.size);
+		this.symbolIndex = new SymbolIndex<>(this.symbols);
 
 		// Initialize Views
 		this.symbolsView = unmodifiableMap(this.symbols);
@@ -111,22 +121,55 @@ class SimpleLatinSquare<V> implements LatinSquare<V> {
 		
 		// create cells, rows and columns
 		init();
+		constructed(event);
 	}
 
 	@Override
 	public Optional<Cell<V>> getCell(int x, int y) {
-		// construct the id from x and y and use getCell(String cellId)
-		return getCell(x + "/" + y);
+		// read the row-major cell array instead of constructing the id from x and y
+		return (x >= 0 && x < size && y >= 0 && y < size)? Optional.of(cellArray[y * size + x]) : Optional.empty();
+	}
+
+	@Override
+	public Cell<V> cellAt(int index) {
+		return cellArray[checkIndex(index, cellArray.length)];
+	}
+
+	@Override
+	public int indexOf(Cell<V> cell) {
+		requireNonNull(cell, "cell cannot be null.");
+		// our own cells can be located without a lookup
+		final int x = cell.x(), y = cell.y();
+		if (x >= 0 && x < size && y >= 0 && y < size && cellArray[y * size + x] == cell) return y * size + x;
+		final Cell<V> ownCell = cells.get(cell.id());
+		return (ownCell == null)? -1 : GridTopology.indexOf(ownCell, size);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation performs the same checks as the default implementation but locates the given
+	 * {@code Cell} by it's coordinates and the given {@code Symbol} by it's {@link Symbol#idAsInt() primitive id}
+	 * instead of looking them up in the {@code cells} and {@code symbols} {@code Map}s.
+	 */
+	@Override
+	public void changeSymbol(Cell<V> cell, Symbol<V> symbol) {
+		if (indexOf(cell) < 0)
+			throw new SudokuException("The given Cell (" + cell + ") isn't part of this LatinSquare.");
+		if (symbol != null && symbolIndex.ordinalOfId(symbol.idAsInt()) < 0)
+			throw new SudokuException("The given Symbol (" + symbol + ") isn't one of the Symbols of this LatinSquare.");
+		cell.changeSymbol(symbol);
+	}
+
 	@Override
 	public Cell<V> startCell() {
-		return getCell(0, 0).get();
+		return cellArray[0];
 	}
 
 	@Override
 	public Cell<V> endCell() {
-		return getCell(size() - 1, size() - 1).get();
+		return cellArray[cellArray.length - 1];
 	}
 
 	@Override
@@ -163,13 +206,43 @@ class SimpleLatinSquare<V> implements LatinSquare<V> {
 		}		
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation translates the ids in a single pass and then sets the {@code Symbol}s of the {@code Cell}s
+	 * in row-major order without looking any of them up.
+	 */
+	@Override
+	public void loadFrom(int[] symbolIds) {
+		final int[] slots = GridArrays.slotsOf(symbolIds, symbolIndex, size);
+		for (int index = 0; index < slots.length; index++)
+			cellArray[index].changeSymbol(GridArrays.symbolOf(slots[index], symbolIndex));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation reads the {@code Cell}s in row-major order without looking any of them up.
+	 */
+	@Override
+	public void exportTo(int[] symbolIds) {
+		GridArrays.checkLength(requireNonNull(symbolIds, "symbolIds cannot be null.").length, size);
+		for (int index = 0; index < cellArray.length; index++)
+			symbolIds[index] = GridArrays.idOf(Cells.symbolOf(cellArray[index]));
+	}
+
 	@Override
 	public LatinSquare<V> copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
 		SimpleLatinSquare<V> newLatinSquare = new SimpleLatinSquare<>(this);
 		// copy the current Latin square's cell values to the new Latin square
 		cells.values().forEach(cell -> {
 			newLatinSquare.cells.get(cell.id()).changeSymbol(cell.symbol().orElse(null));
 		});
+		event.record(newLatinSquare);
 		return newLatinSquare;
 	}
 	
@@ -253,20 +326,21 @@ class SimpleLatinSquare<V> implements LatinSquare<V> {
 			for (int y = 0; y < size; y++) {
 				Cell<V> cell = cellFactory.createCell(x + "/" + y , x, y, null);
 				cells.put(cell.id(), cell);
+				cellArray[y * size + x] = cell;
 			}
 		}
 	
-		Supplier<Stream<Cell<V>>> cellStreamSupplier = () -> cells.values().stream();
 		// create rows and columns
 		for (int index = 0; index < size; index++) {
 			final int y = index, x = index;
-			// extract row and column cells
-			Map<String, Cell<V>> rowCells = cellStreamSupplier.get()
-					.filter(cell -> cell.y() == y)
-					.collect(toMap(cell -> cell.id(), cell -> cell));
-			Map<String, Cell<V>> columnCells = cellStreamSupplier.get()
-					.filter(cell -> cell.x() == x)
-					.collect(toMap(cell -> cell.id(), cell -> cell));
+			// extract row and column cells straight from the row-major cell array, which keeps this linear
+			Map<String, Cell<V>> rowCells = new LinkedHashMap<String, Cell<V>>(size);
+			Map<String, Cell<V>> columnCells = new LinkedHashMap<String, Cell<V>>(size);
+			for (int offset = 0; offset < size; offset++) {
+				Cell<V> rowCell = cellArray[y * size + offset], columnCell = cellArray[offset * size + x];
+				rowCells.put(rowCell.id(), rowCell);
+				columnCells.put(columnCell.id(), columnCell);
+			}
 			
 			// create a row with index y and a column with index x
 			Row<V> row = rowFactory.createRow(Integer.toString(y), size, rowCells, y);
@@ -278,6 +352,17 @@ class SimpleLatinSquare<V> implements LatinSquare<V> {
 		}
 	}
 
+	/**
+	 * Records the construction of this {@code LatinSquare}, called at the end of the constructor once it's
+	 * {@link Cell}s, {@link Row}s and {@link Column}s are created. Subclasses that create more units override this
+	 * to record the given event once they are done.
+	 * 
+	 * @param event the {@link GridConstructionEvent} begun when the construction started.
+	 */
+	protected void constructed(GridConstructionEvent event) {
+		event.record(this);
+	}
+
 	private static final <V> Map<Integer, Symbol<V>> validateSymbols(Set<Symbol<V>> symbols, int size) {
 		requireNonNull(symbols, "symbols must not be null.");
 		requireGreaterThanOrEqualTo(size, symbols.size(), "You must provide atleast " + size + " symbols.");
@@ -0,0 +1,244 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.checkIndex;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.kori_47.sudoku.Sudoku.SudokuVariant;
+
+/**
+ * This is a {@link MultiGridSudoku} whose grids are {@link SimpleSudoku}s sharing a single array of values, one
+ * element per board cell of it's {@link MultiGridLayout}. The {@link Cell}s of the grids hold no state of their own
+ * and read and write the element of the board cell they cover.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 01:24:57
+ */
+final class SimpleMultiGridSudoku<V> implements MultiGridSudoku<V> {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final SudokuVariant variant;
+	private final Set<Symbol<V>> symbols;
+	private final MultiGridLayout layout;
+	private final Symbol<V>[] values;
+	private final List<Sudoku<V>> grids;
+	private final Cell<V>[] boardCells;
+
+	// ================================================
+	// COLLECTION VIEWS
+	// ================================================
+	private final List<Sudoku<V>> gridsView;
+
+	/**
+	 * Creates a new empty {@code SimpleMultiGridSudoku}.
+	 * 
+	 * @param variant the {@code SudokuVariant} that describes every grid.
+	 * @param symbols the {@link Symbol}s of every grid.
+	 * @param origins the board coordinates, {@code {x, y}}, of the top left {@code Cell} of each grid.
+	 * 
+	 * @throws NullPointerException if any of the given arguments or any of the origins is {@code null}.
+	 * @throws IllegalArgumentException if there are no origins, an origin is negative or the size of
+	 * {@code symbols} is less than {@code variant.size()}.
+	 */
+	SimpleMultiGridSudoku(SudokuVariant variant, Set<Symbol<V>> symbols, int[][] origins) {
+		this(variant, symbols, layoutOf(variant, symbols, origins));
+	}
+
+	private SimpleMultiGridSudoku(SudokuVariant variant, Set<Symbol<V>> symbols, MultiGridLayout layout) {
+		this.variant = variant;
+		this.symbols = symbols;
+		this.layout = layout;
+		this.values = newValues(layout.topology().cellCount());
+		this.grids = new ArrayList<Sudoku<V>>(layout.gridCount());
+		for (int grid = 0; grid < layout.gridCount(); grid++)
+			grids.add(new Grid<V>(variant, symbols, boardCellFactoryOf(grid)));
+		this.boardCells = layout.cellsOf(grids);
+		// Initialize Views
+		this.gridsView = unmodifiableList(grids);
+	}
+
+	@Override
+	public List<Sudoku<V>> grids() {
+		return gridsView;
+	}
+
+	@Override
+	public int originX(int grid) {
+		return layout.originX(checkIndex(grid, layout.gridCount()));
+	}
+
+	@Override
+	public int originY(int grid) {
+		return layout.originY(checkIndex(grid, layout.gridCount()));
+	}
+
+	@Override
+	public int width() {
+		return layout.width();
+	}
+
+	@Override
+	public int height() {
+		return layout.height();
+	}
+
+	@Override
+	public Optional<Cell<V>> cellAt(int x, int y) {
+		final int cell = layout.boardCellAt(x, y);
+		return (cell < 0)? Optional.empty() : Optional.of(boardCells[cell]);
+	}
+
+	@Override
+	public Map<Integer, Symbol<V>> symbols() {
+		return grids.get(0).symbols();
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(values, null);
+	}
+
+	@Override
+	public MultiGridSudoku<V> copy() {
+		final SimpleMultiGridSudoku<V> newMultiGridSudoku = new SimpleMultiGridSudoku<V>(variant, symbols, layout);
+		System.arraycopy(values, 0, newMultiGridSudoku.values, 0, values.length);
+		return newMultiGridSudoku;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder(layout.height() * (layout.width() + 1));
+		for (int y = 0; y < layout.height(); y++) {
+			for (int x = 0; x < layout.width(); x++) {
+				final int cell = layout.boardCellAt(x, y);
+				builder.append((cell < 0)? " " : (values[cell] == null)? "." : values[cell].id().toString());
+			}
+			builder.append('\n');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Returns the {@link MultiGridLayout} of this {@code SimpleMultiGridSudoku}.
+	 * 
+	 * @return the layout of this {@code SimpleMultiGridSudoku}.
+	 */
+	MultiGridLayout layout() {
+		return layout;
+	}
+
+	private static <V> MultiGridLayout layoutOf(SudokuVariant variant, Set<Symbol<V>> symbols, int[][] origins) {
+		requireNonNull(variant, "variant cannot be null.");
+		requireNonNull(symbols, "symbols cannot be null.");
+		requireNonNull(origins, "origins cannot be null.");
+		// every grid has the layout of the variant, read it once from a throwaway sudoku
+		final GridTopology gridTopology = GridTopology.of(LatinSquares.sudokuOf(variant, symbols));
+		final GridTopology[] gridTopologies = new GridTopology[origins.length];
+		Arrays.fill(gridTopologies, gridTopology);
+		for (int[] origin : origins)
+			requireNonNull(origin, "origins cannot contain null elements.");
+		return new MultiGridLayout(gridTopologies, origins);
+	}
+
+	private CellFactory<V> boardCellFactoryOf(int grid) {
+		final int size = variant.size();
+		return (id, x, y, symbol) -> new BoardCell(id, x, y, layout.boardCellOf(grid, y * size + x));
+	}
+
+	private static <V> Symbol<V>[] newValues(int length) {
+		return GridArrays.newArray(Symbol.class, length);
+	}
+
+	/**
+	 * A grid of the board, it's {@link Cell}s are views of the board cells they cover.
+	 */
+	private static final class Grid<V> extends SimpleSudoku<V> {
+
+		Grid(SudokuVariant variant, Set<Symbol<V>> symbols, CellFactory<V> boardCellFactory) {
+			super(variant, symbols, boardCellFactory, CellGroups.defaultRowFactory(), CellGroups.defaultColumnFactory(), variant.defaultBlockFactory());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * 
+		 * <p>
+		 * The {@code Cell}s of a grid are views of the board, this returns the
+		 * {@link Cells#defaultCellFactory() default CellFactory} so that the copies of a grid hold their own values.
+		 */
+		@Override
+		public CellFactory<V> cellFactory() {
+			return Cells.defaultCellFactory();
+		}
+	}
+
+	/**
+	 * A {@link Cell} whose value is an element of the values array.
+	 */
+	private final class BoardCell implements Cell<V> {
+
+		private final String id;
+		private final int x;
+		private final int y;
+		private final int boardCell;
+
+		BoardCell(String id, int x, int y, int boardCell) {
+			this.id = id;
+			this.x = x;
+			this.y = y;
+			this.boardCell = boardCell;
+		}
+
+		@Override
+		public void changeSymbol(Symbol<V> value) {
+			values[boardCell] = value;
+		}
+
+		@Override
+		public int x() {
+			return x;
+		}
+
+		@Override
+		public int y() {
+			return y;
+		}
+
+		@Override
+		public String id() {
+			return id;
+		}
+
+		@Override
+		public Optional<Symbol<V>> symbol() {
+			return Optional.ofNullable(values[boardCell]);
+		}
+
+		@Override
+		public int hashCode() {
+			return Cells.hashCode(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return Cells.equals(this, obj);
+		}
+
+		@Override
+		public String toString() {
+			return Cells.toString(this);
+		}
+	}
+}
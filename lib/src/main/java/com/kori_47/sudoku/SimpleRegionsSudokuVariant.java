@@ -0,0 +1,142 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.kori_47.sudoku.Sudoku.SudokuVariant;
+
+/**
+ * This is a {@link SudokuVariant} that adds extra regions to the {@link Sudoku}s described by another variant. The
+ * {@link Block}s are still created by the other variant while the regions are described by the row-major indices of
+ * their {@link Cell}s. The {@link GridTopology} of the described {@code Sudoku}s, which holds the {@code Block}s and
+ * the regions as ordinary units, is computed once when the variant is created and shared by every {@code Sudoku}
+ * created from it.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 00:45:32
+ */
+final class SimpleRegionsSudokuVariant implements SharedTopologyVariant {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final SudokuVariant base;
+	private final int[][] regions;
+	private final GridTopology topology;
+
+	/**
+	 * Creates a new {@code SimpleRegionsSudokuVariant}. If the given variant is itself a
+	 * {@code SimpleRegionsSudokuVariant}, the new variant has it's regions followed by the given ones.
+	 * 
+	 * @param base the {@code SudokuVariant} that creates the {@link Block}s.
+	 * @param regions the row-major indices of the {@link Cell}s of each region.
+	 * 
+	 * @throws NullPointerException if {@code base}, {@code regions} or any of it's elements is {@code null}.
+	 * @throws IllegalArgumentException if a region doesn't hold exactly {@code base.size()} distinct and valid
+	 * {@code Cell} indices.
+	 */
+	SimpleRegionsSudokuVariant(SudokuVariant base, int[][] regions) {
+		requireNonNull(base, "base cannot be null.");
+		requireNonNull(regions, "regions cannot be null.");
+		final int size = base.size();
+		final int[][] baseRegions = (base instanceof SimpleRegionsSudokuVariant)? ((SimpleRegionsSudokuVariant) base).regions : new int[0][];
+		this.base = (base instanceof SimpleRegionsSudokuVariant)? ((SimpleRegionsSudokuVariant) base).base : base;
+		this.regions = Arrays.copyOf(baseRegions, baseRegions.length + regions.length);
+		for (int region = 0; region < regions.length; region++)
+			this.regions[baseRegions.length + region] = validateRegion(regions[region], size, region);
+
+		// the blocks of the base variant are read once from a throwaway sudoku, the regions follow them
+		final GridTopology baseTopology = GridTopology.of(LatinSquares.sudokuOf(this.base, Symbols.numberAlphabet(size)));
+		final int blockCount = baseTopology.unitCount() - 2 * size;
+		final int[][] units = new int[blockCount + this.regions.length][];
+		for (int block = 0; block < blockCount; block++)
+			units[block] = baseTopology.unit(2 * size + block);
+		System.arraycopy(this.regions, 0, units, blockCount, this.regions.length);
+		this.topology = GridTopology.of(size, units);
+	}
+
+	@Override
+	public <V> Set<Block<V>> createBlocks(Sudoku<V> sudoku) {
+		return base.createBlocks(sudoku);
+	}
+
+	@Override
+	public <V> BlockFactory<V> defaultBlockFactory() {
+		return base.defaultBlockFactory();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation creates the regions with {@link CellGroups#regionOf(String, int, Map)}, the id of each region
+	 * is it's index.
+	 */
+	@Override
+	public <V> Set<UniqueCellGroup<V>> createRegions(Sudoku<V> sudoku) {
+		requireNonNull(sudoku, "sudoku cannot be null.");
+		final int size = size();
+		final Set<UniqueCellGroup<V>> createdRegions = new LinkedHashSet<UniqueCellGroup<V>>(regions.length * 2);
+		for (int region = 0; region < regions.length; region++) {
+			final Map<String, Cell<V>> regionCells = new LinkedHashMap<String, Cell<V>>(size * 2);
+			for (int index : regions[region]) {
+				final Cell<V> cell = sudoku.cellAt(index);
+				regionCells.put(cell.id(), cell);
+			}
+			createdRegions.add(CellGroups.regionOf(Integer.toString(region), size, regionCells));
+		}
+		return createdRegions;
+	}
+
+	@Override
+	public int size() {
+		return base.size();
+	}
+
+	@Override
+	public GridTopology topology() {
+		return topology;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * base.hashCode() + Arrays.deepHashCode(regions);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof SimpleRegionsSudokuVariant)) return false;
+		final SimpleRegionsSudokuVariant other = (SimpleRegionsSudokuVariant) obj;
+		return base.equals(other.base) && Arrays.deepEquals(regions, other.regions);
+	}
+
+	@Override
+	public String toString() {
+		return base + "[" + regions.length + " regions]";
+	}
+
+	private static int[] validateRegion(int[] region, int size, int index) {
+		final int[] cells = requireNonNull(region, "regions cannot contain null elements.").clone();
+		if (cells.length != size)
+			throw new IllegalArgumentException("The region " + index + " must have exactly " + size + " cells, found " + cells.length + ".");
+		// sorted indices keep the region in row-major order and make duplicates adjacent
+		Arrays.sort(cells);
+		for (int position = 0; position < cells.length; position++) {
+			if (cells[position] < 0 || cells[position] >= size * size)
+				throw new IllegalArgumentException("The region " + index + " has an invalid cell index (" + cells[position] + ").");
+			if (position > 0 && cells[position] == cells[position - 1])
+				throw new IllegalArgumentException("The region " + index + " has the cell index " + cells[position] + " twice.");
+		}
+		return cells;
+	}
+}
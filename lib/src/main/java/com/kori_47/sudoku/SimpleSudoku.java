@@ -26,11 +26,19 @@ class SimpleSudoku<V> extends SimpleLatinSquare<V> implements Sudoku<V> {
 	private final BlockFactory<V> blockFactory;
 	// protected values that concrete classes need to access
 	protected final Map<String, Block<V>> blocks;
+	protected final Map<String, UniqueCellGroup<V>> regions;
 
 	// ================================================
 	// COLLECTION VIEWS
 	// ================================================
 	private final Map<String, Block<V>> blockViews;
+	private final Map<String, UniqueCellGroup<V>> regionViews;
+
+	// ================================================
+	// EVENTS
+	// ================================================
+	// set by constructed() while the super constructor runs, so it mustn't have an initializer, null once recorded
+	private GridConstructionEvent construction;
 	
 	/**
 	 * Creates a new {@link Sudoku} with the given properties.
@@ -51,11 +59,15 @@ class SimpleSudoku<V> extends SimpleLatinSquare<V> implements Sudoku<V> {
 		this.variant = variant;
 		this.blockFactory = requireNonNull(blockFactory, "blockFactory cannot be null.");
 		this.blocks = new LinkedHashMap<String, Block<V>>(this.variant.size());
+		this.regions = new LinkedHashMap<String, UniqueCellGroup<V>>();
 		// Initialize Views
 		this.blockViews = unmodifiableMap(blocks);
+		this.regionViews = unmodifiableMap(regions);
 		
-		// create blocks
+		// create blocks and regions
 		initBlocks();
+		initRegions();
+		recordConstruction();
 	}
 
 	/**
@@ -71,21 +83,28 @@ class SimpleSudoku<V> extends SimpleLatinSquare<V> implements Sudoku<V> {
 		this.variant =  requireNonNull(sudoku.variant(), "variant can't be null.");
 		this.blockFactory = requireNonNull(sudoku.blockFactory(), "blockFactory cannot be null.");
 		this.blocks = new LinkedHashMap<String, Block<V>>(this.variant.size());
+		this.regions = new LinkedHashMap<String, UniqueCellGroup<V>>();
 		
 		// Initialize Views
 		this.blockViews = unmodifiableMap(blocks);
+		this.regionViews = unmodifiableMap(regions);
 		
-		// create blocks
+		// create blocks and regions
 		initBlocks();
+		initRegions();
+		recordConstruction();
 	}
 	
 	@Override
 	public Sudoku<V> copy() {
+		final GridCopyEvent event = new GridCopyEvent();
+		event.begin();
 		SimpleSudoku<V> newSudoku = new SimpleSudoku<>(this);
 		// copy the current Sudoku's cell values to the new Sudoku
 		cells.values().forEach(cell -> {
 			newSudoku.cells.get(cell.id()).changeSymbol(cell.symbol().orElse(null));
 		});
+		event.record(newSudoku);
 		return newSudoku;
 	}
 
@@ -104,6 +123,17 @@ class SimpleSudoku<V> extends SimpleLatinSquare<V> implements Sudoku<V> {
 		return blockViews;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * @implSpec
+	 * This implementation returns an unmodifiable view of the regions created when this {@code Sudoku} was created.
+	 */
+	@Override
+	public Map<String, UniqueCellGroup<V>> regions() {
+		return regionViews;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -151,4 +181,29 @@ class SimpleSudoku<V> extends SimpleLatinSquare<V> implements Sudoku<V> {
 		// copy the createdBlocks into this.blocks
 		createdBlocks.forEach(block -> blocks.put(block.id(), block));
 	}
+
+	/**
+	 * Initializes this {@code Sudoku}s regions
+	 */
+	private final void initRegions() {
+		Set<UniqueCellGroup<V>> createdRegions = requireNonNull(variant.createRegions(this), "'variant.createRegions()' shouldn't return null.");
+		createdRegions.forEach(region -> regions.put(region.id(), region));
+	}
+
+	/**
+	 * Keeps the construction event of this {@code Sudoku} until it's {@link Block}s and regions are created.
+	 */
+	@Override
+	protected void constructed(GridConstructionEvent event) {
+		if (event.isEnabled()) construction = event;
+	}
+
+	/**
+	 * Records the construction of this {@code Sudoku}, once it's {@link Block}s and regions are created.
+	 */
+	private final void recordConstruction() {
+		if (construction == null) return;
+		construction.record(this);
+		construction = null;
+	}
 }
@@ -0,0 +1,60 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This event records a search of the {@link Solvers} for a solution of a grid, by
+ * {@link Solvers#solve(LatinSquare) solve}, {@link Solvers#complete(LatinSquare, java.util.Random) complete} or
+ * {@link Solvers#solveWithSat(LatinSquare) solveWithSat}. A search aborted by a
+ * {@link java.util.concurrent.CancellationException CancellationException} is recorded as cancelled.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:10:17
+ */
+@Name("com.kori_47.sudoku.Solve")
+@Label("Solve")
+@Description("A search for a solution of a grid")
+final class SolveEvent extends GridEvent {
+
+	@Label("Solver")
+	@Description("The search used, i.e backtracking, quasigroup or sat")
+	String solver;
+
+	@Label("Nodes")
+	@Description("The number of search nodes, the number of decisions of a sat search")
+	long nodes;
+
+	@Label("Solved")
+	@Description("Whether a solution was found")
+	boolean solved;
+
+	@Label("Cancelled")
+	@Description("Whether the search was aborted by an interrupt or it's deadline")
+	boolean cancelled;
+
+	/**
+	 * Records the search of a solution of the given grid.
+	 * 
+	 * @param grid the searched {@link LatinSquare}.
+	 * @param solver the name of the search used.
+	 * @param nodes the number of search nodes.
+	 * @param solved whether a solution was found.
+	 * @param cancelled whether the search was aborted.
+	 */
+	void record(LatinSquare<?> grid, String solver, long nodes, boolean solved, boolean cancelled) {
+		end();
+		if (!shouldCommit()) return;
+		describe(grid);
+		this.solver = solver;
+		this.nodes = nodes;
+		this.solved = solved;
+		this.cancelled = cancelled;
+		commit();
+	}
+}
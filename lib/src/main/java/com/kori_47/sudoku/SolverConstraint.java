@@ -0,0 +1,85 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.List;
+
+/**
+ * A {@code SolverConstraint} is a rule that a {@link BitmaskSolver} enforces in addition to the uniqueness of the
+ * {@link Symbol}s in every unit of a {@link GridTopology}. A {@code SolverConstraint} works on the same primitive
+ * representation as the solver, i.e {@link Cell}s are identified by their row-major indices and {@code Symbol}s by
+ * their ordinals, and keeps whatever incremental state it needs to answer {@link #candidates(int)} quickly.
+ * 
+ * <p>
+ * A {@code SolverConstraint} holds the state of a single search and is <i>not thread safe</i>, a new one is
+ * requested from the {@link Source} for every solver.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 23:41:26
+ */
+interface SolverConstraint {
+
+	/**
+	 * Recomputes the state of this {@code SolverConstraint} from the given values.
+	 * 
+	 * @param values the ordinal of the {@link Symbol} of each {@link Cell} in row-major order or {@code -1} for empty
+	 * {@code Cell}s.
+	 */
+	void reset(int[] values);
+
+	/**
+	 * Returns {@code true} if the given values don't violate this {@code SolverConstraint} and it can still be
+	 * satisfied by filling the empty {@link Cell}s. This doesn't have to be exact, but it must never return
+	 * {@code false} for values that can be completed into a solution.
+	 * 
+	 * @param values the ordinal of the {@link Symbol} of each {@code Cell} in row-major order or {@code -1} for empty
+	 * {@code Cell}s.
+	 * 
+	 * @return {@code true} if the given values are consistent with this {@code SolverConstraint}.
+	 */
+	boolean isConsistent(int[] values);
+
+	/**
+	 * Returns a mask of the ordinals of the {@link Symbol}s that this {@code SolverConstraint} allows in the given
+	 * empty {@link Cell} in it's current state.
+	 * 
+	 * @param cell the row-major index of an empty {@code Cell}.
+	 * 
+	 * @return a mask of the allowed ordinals, {@code -1L} if the {@code Cell} isn't restricted.
+	 */
+	long candidates(int cell);
+
+	/**
+	 * Updates the state of this {@code SolverConstraint} after a {@link Symbol} is placed on a {@link Cell}.
+	 * 
+	 * @param cell the row-major index of the {@code Cell}.
+	 * @param ordinal the ordinal of the placed {@code Symbol}.
+	 */
+	void place(int cell, int ordinal);
+
+	/**
+	 * Reverts a previous call to {@link #place(int, int)} with the same arguments.
+	 * 
+	 * @param cell the row-major index of the {@link Cell}.
+	 * @param ordinal the ordinal of the removed {@link Symbol}.
+	 */
+	void unplace(int cell, int ordinal);
+
+	/**
+	 * Implemented by {@link LatinSquare}s that have rules beyond the uniqueness of their {@link Symbol}s, so that the
+	 * {@link Solvers} can enforce them.
+	 */
+	static interface Source {
+
+		/**
+		 * Returns new {@link SolverConstraint}s for the rules of this {@link LatinSquare}.
+		 * 
+		 * @param symbols the {@link SymbolIndex} used by the solver.
+		 * 
+		 * @return a new {@code SolverConstraint} for each rule of this {@code LatinSquare}.
+		 */
+		List<SolverConstraint> solverConstraints(SymbolIndex<?> symbols);
+	}
+}
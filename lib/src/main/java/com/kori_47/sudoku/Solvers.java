@@ -0,0 +1,642 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.utils.ObjectUtils.requireGreaterThanOrEqualTo;
+import static com.kori_47.utils.ObjectUtils.requireInRange;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This class consists exclusively of static methods that solve, validate and generate {@link LatinSquare}s and
+ * {@link Sudoku}s.
+ * 
+ * <p>
+ * All the methods of this class, except {@link #fillRandomly(LatinSquare, Random, long) fillRandomly} and
+ * {@link #solveWithSat(LatinSquare, Duration) solveWithSat}, work on {@code LatinSquare}s of up to {@code 64}
+ * {@link Symbol}s and throw a {@link SudokuException} for larger ones. The methods that take a timeout abort by
+ * throwing a {@link CancellationException} once the timeout elapses, all the methods also abort with a
+ * {@code CancellationException} if the calling thread is interrupted. A {@code LatinSquare} is only modified when a
+ * method completes normally.
+ * 
+ * <p>
+ * The {@link Cage}s of a {@link KillerSudoku} are enforced by {@link #solve(LatinSquare, Duration) solve},
+ * {@link #countSolutions(LatinSquare, int) countSolutions}, {@link #isConsistent(LatinSquare) isConsistent},
+ * {@link #hasUniqueSolution(LatinSquare, FailedStateCache) hasUniqueSolution} and
+ * {@link #generate(LatinSquare, Random, FailedStateCache) generate}, i.e a {@code KillerSudoku} is only consistent if
+ * no {@code Cage} repeats a digit or can no longer reach it's sum. Likewise, the {@link Inequality}s of a
+ * {@link Futoshiki} and the {@link ArithmeticCage}s of a {@link KenKen} are enforced by these methods. The methods
+ * that only know the uniqueness of the {@code Symbol}s of the units, i.e
+ * {@link #fillRandomly(LatinSquare, Random, long) fillRandomly}, {@link #complete(LatinSquare, Random, Duration)
+ * complete} and {@link #solveWithSat(LatinSquare, Duration) solveWithSat}, reject grids with such rules with an
+ * {@link IllegalArgumentException} instead. The grids of a {@link MultiGridSudoku} are solved together, as a single
+ * board.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 12:58:16
+ * 
+ * @see SudokuService
+ */
+public final class Solvers {
+
+	/**
+	 * Solves the given {@link LatinSquare} in place. If the {@code LatinSquare} has more than one solution, the
+	 * first one found is placed.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to solve.
+	 * 
+	 * @return {@code true} if a solution was found and placed on the {@code LatinSquare}, {@code false} if the
+	 * {@code LatinSquare} has no solution.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s or any of
+	 * it's {@link Cell}s holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> boolean solve(LatinSquare<V> latinSquare) {
+		return solve(latinSquare, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Solves the given {@link LatinSquare} in place, giving up once the given timeout elapses. If the
+	 * {@code LatinSquare} has more than one solution, the first one found is placed.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to solve.
+	 * @param timeout the maximum amount of time to search for a solution.
+	 * 
+	 * @return {@code true} if a solution was found and placed on the {@code LatinSquare}, {@code false} if the
+	 * {@code LatinSquare} has no solution.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code timeout} is {@code null}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s or any of
+	 * it's {@link Cell}s holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the timeout elapses or the calling thread is interrupted.
+	 */
+	public static final <V> boolean solve(LatinSquare<V> latinSquare, Duration timeout) {
+		return solve(latinSquare, deadlineOf(timeout));
+	}
+
+	/**
+	 * Returns the number of solutions of the given {@link LatinSquare}, counting at most {@code limit} solutions.
+	 * The {@code LatinSquare} isn't modified.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} whose solutions to count.
+	 * @param limit the number of solutions after which to stop counting.
+	 * 
+	 * @return the number of solutions of the given {@code LatinSquare}, at most {@code limit}.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if {@code limit} is less than {@code 1}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s or any of
+	 * it's {@link Cell}s holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> int countSolutions(LatinSquare<V> latinSquare, int limit) {
+		requireGreaterThanOrEqualTo(1, limit, "limit must be greater than or equal to 1.");
+		return new BitmaskSolver<V>(latinSquare, Long.MAX_VALUE).search(limit, null, null);
+	}
+
+	/**
+	 * Returns {@code true} if none of the {@link Row}s, {@link Column}s and, for a {@link Sudoku}, {@link Block}s of
+	 * the given {@link LatinSquare} holds the same {@link Symbol} more than once. This doesn't search for a solution.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to check.
+	 * 
+	 * @return {@code true} if the placed {@code Symbol}s of the given {@code LatinSquare} don't conflict.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s or any of
+	 * it's {@link Cell}s holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 */
+	public static final <V> boolean isConsistent(LatinSquare<V> latinSquare) {
+		return new BitmaskSolver<V>(latinSquare, Long.MAX_VALUE).isConsistent();
+	}
+
+	/**
+	 * Returns {@code true} if the given {@link LatinSquare} is a valid puzzle, that is, if it has exactly one
+	 * solution. The {@code LatinSquare} isn't modified.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to validate.
+	 * 
+	 * @return {@code true} if the given {@code LatinSquare} has exactly one solution, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s or any of
+	 * it's {@link Cell}s holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> boolean hasUniqueSolution(LatinSquare<V> latinSquare) {
+		return validate(latinSquare, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Returns {@code true} if the given {@link LatinSquare} is a valid puzzle, that is, if it has exactly one
+	 * solution, skipping the partial assignments recorded in the given {@link FailedStateCache} and recording the
+	 * new ones that turn out to have no solution. This speeds up checking many closely related puzzles one after the
+	 * other. The {@code LatinSquare} isn't modified.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to validate.
+	 * @param cache the cache of failed partial assignments to use.
+	 * 
+	 * @return {@code true} if the given {@code LatinSquare} has exactly one solution, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code FailedStateCache} wasn't created by
+	 * {@link #failedStateCacheOf(int)}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s or any of
+	 * it's {@link Cell}s holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> boolean hasUniqueSolution(LatinSquare<V> latinSquare, FailedStateCache cache) {
+		final ClockFailedStateCache clockCache = requireSupported(cache);
+		final BitmaskSolver<V> solver = new BitmaskSolver<V>(latinSquare, Long.MAX_VALUE);
+		solver.useCache(clockCache);
+		return solver.search(2, null, null) == 1;
+	}
+
+	/**
+	 * Replaces the contents of the given {@link LatinSquare} with a new random puzzle that has exactly one
+	 * solution. A random complete grid is generated first and it's {@link Symbol}s are then removed in random order
+	 * for as long as the solution stays unique, so the resulting puzzle is minimal.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to fill with a new puzzle.
+	 * @param random the source of randomness to use.
+	 * 
+	 * @return the number of clues of the generated puzzle, i.e the number of non empty {@link Cell}s.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code random} is {@code null}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> int generate(LatinSquare<V> latinSquare, Random random) {
+		return generate(latinSquare, random, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Replaces the contents of the given {@link LatinSquare} with a new random puzzle that has exactly one
+	 * solution, like {@link #generate(LatinSquare, Random) generate(latinSquare, random)}, using the given
+	 * {@link FailedStateCache} for the uniqueness checks. Every removed {@link Symbol} is followed by a search for a
+	 * second solution of a puzzle that differs from the previous one by a single {@link Cell}, and those searches
+	 * keep running into the same dead ends, which the cache lets them skip. Sharing a cache between several calls on
+	 * {@code LatinSquare}s with the same rules carries the recorded dead ends over, the {@link FailedStateCache#hits() hits} and
+	 * {@link FailedStateCache#misses() misses} of the cache tell how much it helped.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to fill with a new puzzle.
+	 * @param random the source of randomness to use.
+	 * @param cache the cache of failed partial assignments to use.
+	 * 
+	 * @return the number of clues of the generated puzzle, i.e the number of non empty {@code Cell}s.
+	 * 
+	 * @throws NullPointerException if any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code FailedStateCache} wasn't created by
+	 * {@link #failedStateCacheOf(int)}.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> int generate(LatinSquare<V> latinSquare, Random random, FailedStateCache cache) {
+		return generate(latinSquare, random, requireSupported(cache), Long.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new empty {@link FailedStateCache} for the uniqueness checks of
+	 * {@link #generate(LatinSquare, Random, FailedStateCache) generate} and
+	 * {@link #hasUniqueSolution(LatinSquare, FailedStateCache) hasUniqueSolution}. The cache holds a fixed number of
+	 * {@code 64} bit hashes, the given capacity rounded up to a power of two, and so takes a little over
+	 * {@code 8} bytes per hash no matter how long it is used.
+	 * 
+	 * @param capacity the minimum number of failed partial assignments to hold.
+	 * 
+	 * @return a new empty {@code FailedStateCache}.
+	 * 
+	 * @throws IllegalArgumentException if {@code capacity} is less than {@code 1} or greater than {@code 2^30}.
+	 */
+	public static final FailedStateCache failedStateCacheOf(int capacity) {
+		requireInRange(1, ClockFailedStateCache.MAX_CAPACITY + 1, capacity, "capacity must be between 1 and " + ClockFailedStateCache.MAX_CAPACITY + ".");
+		return new ClockFailedStateCache(capacity);
+	}
+
+	/**
+	 * Fills the given {@link LatinSquare} with a complete Latin square chosen uniformly at random, replacing all of
+	 * it's {@link Cell} values. This is the same as calling
+	 * {@link #fillRandomly(LatinSquare, Random, long) fillRandomly(latinSquare, random, size * size)}.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to fill.
+	 * @param random the source of randomness to use.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code random} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} is a {@link Sudoku} or has rules beyond the
+	 * uniqueness of the {@code Symbol}s of it's {@link Row}s and {@link Column}s.
+	 */
+	public static final <V> void fillRandomly(LatinSquare<V> latinSquare, Random random) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		final long size = latinSquare.size();
+		fillRandomly(latinSquare, random, size * size);
+	}
+
+	/**
+	 * Fills the given {@link LatinSquare} with a complete Latin square chosen uniformly at random, replacing all of
+	 * it's {@link Cell} values. The square is sampled with the Markov chain of Jacobson and Matthews, started at a
+	 * cyclic square and moved until it has visited {@code mixingSteps} Latin squares, the last of which is returned,
+	 * so the longer the mixing length the closer the distribution of the returned squares is to the uniform
+	 * distribution. The chain also passes through improper squares, which aren't counted. Only the first {@code size}
+	 * {@link Symbol}s, in their natural ordering, are placed. Unlike the other methods of this class, this works on
+	 * {@code LatinSquare}s of any size.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to fill.
+	 * @param random the source of randomness to use.
+	 * @param mixingSteps the number of Latin squares the chain visits before taking one.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code random} is {@code null}.
+	 * @throws IllegalArgumentException if {@code mixingSteps} is negative or the given {@code LatinSquare} is a
+	 * {@link Sudoku} or has rules beyond the uniqueness of the {@code Symbol}s of it's {@link Row}s and
+	 * {@link Column}s.
+	 * 
+	 * @implNote
+	 * A step of the chain takes constant time, the square is kept as the positions of the {@code 1}s on every line
+	 * of it's incidence cube. Between two Latin squares the chain takes about {@code size} steps, so the default
+	 * mixing length of {@code size * size} Latin squares is about {@code size * size * size} steps and a
+	 * {@code 64x64} square is generated in a few tens of milliseconds. Backtracking with random candidate orders, as done by
+	 * {@link #generate(LatinSquare, Random)}, is faster for small squares but doesn't sample them uniformly.
+	 */
+	public static final <V> void fillRandomly(LatinSquare<V> latinSquare, Random random, long mixingSteps) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		requireNonNull(random, "random cannot be null.");
+		if (mixingSteps < 0)
+			throw new IllegalArgumentException("mixingSteps must be greater than or equal to 0.");
+		// a Latin square would break the blocks of a Sudoku and the constraints of a SolverConstraint.Source
+		if (latinSquare instanceof Sudoku || latinSquare instanceof SolverConstraint.Source)
+			throw new IllegalArgumentException("Only plain LatinSquares can be filled randomly, found: " + latinSquare.getClass().getSimpleName() + ".");
+		final int size = latinSquare.size();
+		final JacobsonMatthewsChain chain = new JacobsonMatthewsChain(size, random);
+		chain.mix(mixingSteps);
+		final SymbolIndex<V> symbols = new SymbolIndex<>(latinSquare.symbols());
+		for (Cell<V> cell : latinSquare.cells().values())
+			latinSquare.changeSymbol(cell, symbols.symbol(chain.symbolAt(GridTopology.indexOf(cell, size))));
+	}
+
+	/**
+	 * Completes the given partially filled {@link LatinSquare} in place, i.e solves it as a quasigroup completion
+	 * problem. This is the same as calling
+	 * {@link #complete(LatinSquare, Random, Duration) complete(latinSquare, random, timeout)} with no timeout.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to complete.
+	 * @param random the source of randomness to use.
+	 * 
+	 * @return {@code true} if a completion was found and placed on the {@code LatinSquare}, {@code false} if the
+	 * {@code LatinSquare} can't be completed.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code random} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} is a {@link Sudoku}, has rules beyond the
+	 * uniqueness of the {@code Symbol}s of it's {@link Row}s and {@link Column}s or doesn't have exactly
+	 * {@code size} {@code Symbol}s.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s or any of
+	 * it's {@link Cell}s holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> boolean complete(LatinSquare<V> latinSquare, Random random) {
+		return complete(latinSquare, random, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Completes the given partially filled {@link LatinSquare} in place, giving up once the given timeout elapses.
+	 * Unlike {@link #solve(LatinSquare, Duration) solve}, which is tuned for puzzles, this is tuned for large
+	 * Latin squares with many empty {@link Cell}s: every {@link Row} and {@link Column} is kept arc consistent with
+	 * a matching based all-different filter and the search restarts with new random choices after a growing number
+	 * of failures, which keeps it fast on the hard instances close to the phase transition. A search that ends
+	 * without reaching it's failure limit is exhaustive, so an incompletable {@code LatinSquare} is detected.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to complete.
+	 * @param random the source of randomness to use.
+	 * @param timeout the maximum amount of time to search for a completion.
+	 * 
+	 * @return {@code true} if a completion was found and placed on the {@code LatinSquare}, {@code false} if the
+	 * {@code LatinSquare} can't be completed.
+	 * 
+	 * @throws NullPointerException if any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} is a {@link Sudoku}, has rules beyond the
+	 * uniqueness of the {@code Symbol}s of it's {@code Row}s and {@code Column}s or doesn't have exactly
+	 * {@code size} {@code Symbol}s.
+	 * @throws SudokuException if the given {@code LatinSquare} has more than {@code 64} {@code Symbol}s or any of
+	 * it's {@code Cell}s holds a {@code Symbol} that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the timeout elapses or the calling thread is interrupted.
+	 */
+	public static final <V> boolean complete(LatinSquare<V> latinSquare, Random random, Duration timeout) {
+		return complete(latinSquare, random, deadlineOf(timeout));
+	}
+
+	/**
+	 * Solves the given {@link LatinSquare} in place with a SAT solver. This is the same as calling
+	 * {@link #solveWithSat(LatinSquare, Duration) solveWithSat(latinSquare, timeout)} with no timeout.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to solve.
+	 * 
+	 * @return {@code true} if a solution was found and placed on the {@code LatinSquare}, {@code false} if the
+	 * {@code LatinSquare} has no solution.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} has rules beyond the uniqueness of the
+	 * {@code Symbol}s of it's units, such as the {@link Cage}s of a {@link KillerSudoku}.
+	 * @throws SudokuException if any of the {@link Cell}s of the given {@code LatinSquare} holds a {@code Symbol}
+	 * that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> boolean solveWithSat(LatinSquare<V> latinSquare) {
+		return solveWithSat(latinSquare, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Solves the given {@link LatinSquare} in place with a SAT solver, giving up once the given timeout elapses. The
+	 * {@code LatinSquare} is encoded to a CNF formula over one variable per empty {@link Cell} and candidate
+	 * {@link Symbol}, which is solved by a conflict driven clause learning solver. Unlike
+	 * {@link #solve(LatinSquare, Duration) solve}, whose backtracking search is fastest on ordinary puzzles, the
+	 * learnt clauses keep the search from repeating the same dead ends, which pays off on hard and large grids. There
+	 * is also no limit on the number of {@code Symbol}s of the {@code LatinSquare}. If the {@code LatinSquare} has
+	 * more than one solution, the first one found is placed.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to solve.
+	 * @param timeout the maximum amount of time to search for a solution.
+	 * 
+	 * @return {@code true} if a solution was found and placed on the {@code LatinSquare}, {@code false} if the
+	 * {@code LatinSquare} has no solution.
+	 * 
+	 * @throws NullPointerException if any of the given arguments is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code LatinSquare} has rules beyond the uniqueness of the
+	 * {@code Symbol}s of it's units, such as the {@code Cage}s of a {@code KillerSudoku}.
+	 * @throws SudokuException if any of the {@code Cell}s of the given {@code LatinSquare} holds a {@code Symbol}
+	 * that isn't part of the {@code LatinSquare}.
+	 * @throws CancellationException if the timeout elapses or the calling thread is interrupted.
+	 */
+	public static final <V> boolean solveWithSat(LatinSquare<V> latinSquare, Duration timeout) {
+		return solveWithSat(latinSquare, deadlineOf(timeout));
+	}
+
+	/**
+	 * Solves the given {@link MultiGridSudoku} in place. The whole board is searched at once, i.e a {@link Symbol}
+	 * placed on a {@link Cell} shared by several grids restricts the candidates of all of them. If the board has
+	 * more than one solution, the first one found is placed.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol}s of the given {@code MultiGridSudoku}.
+	 * 
+	 * @param multiGridSudoku the {@code MultiGridSudoku} to solve.
+	 * 
+	 * @return {@code true} if a solution was found and placed on the board, {@code false} if the board has no
+	 * solution.
+	 * 
+	 * @throws NullPointerException if {@code multiGridSudoku} is {@code null}.
+	 * @throws SudokuException if the grids of the given {@code MultiGridSudoku} have more than {@code 64}
+	 * {@code Symbol}s or any of it's {@code Cell}s holds a {@code Symbol} that isn't one of it's {@code Symbol}s.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> boolean solveBoard(MultiGridSudoku<V> multiGridSudoku) {
+		return solve(BitmaskSolver.of(multiGridSudoku, Long.MAX_VALUE));
+	}
+
+	/**
+	 * Returns the number of solutions of the given {@link MultiGridSudoku}, counting at most {@code limit}
+	 * solutions. The {@code MultiGridSudoku} isn't modified.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code MultiGridSudoku}.
+	 * 
+	 * @param multiGridSudoku the {@code MultiGridSudoku} whose solutions to count.
+	 * @param limit the number of solutions after which to stop counting.
+	 * 
+	 * @return the number of solutions of the given {@code MultiGridSudoku}, at most {@code limit}.
+	 * 
+	 * @throws NullPointerException if {@code multiGridSudoku} is {@code null}.
+	 * @throws IllegalArgumentException if {@code limit} is less than {@code 1}.
+	 * @throws SudokuException if the grids of the given {@code MultiGridSudoku} have more than {@code 64}
+	 * {@code Symbol}s or any of it's {@link Cell}s holds a {@code Symbol} that isn't one of it's {@code Symbol}s.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> int countBoardSolutions(MultiGridSudoku<V> multiGridSudoku, int limit) {
+		requireGreaterThanOrEqualTo(1, limit, "limit must be greater than or equal to 1.");
+		return BitmaskSolver.of(multiGridSudoku, Long.MAX_VALUE).search(limit, null, null);
+	}
+
+	/**
+	 * Returns {@code true} if none of the units of the grids of the given {@link MultiGridSudoku} holds the same
+	 * {@link Symbol} more than once. This doesn't search for a solution.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol}s of the given {@code MultiGridSudoku}.
+	 * 
+	 * @param multiGridSudoku the {@code MultiGridSudoku} to check.
+	 * 
+	 * @return {@code true} if the placed {@code Symbol}s of the given {@code MultiGridSudoku} don't conflict.
+	 * 
+	 * @throws NullPointerException if {@code multiGridSudoku} is {@code null}.
+	 * @throws SudokuException if the grids of the given {@code MultiGridSudoku} have more than {@code 64}
+	 * {@code Symbol}s or any of it's {@link Cell}s holds a {@code Symbol} that isn't one of it's {@code Symbol}s.
+	 */
+	public static final <V> boolean isBoardConsistent(MultiGridSudoku<V> multiGridSudoku) {
+		return BitmaskSolver.of(multiGridSudoku, Long.MAX_VALUE).isConsistent();
+	}
+
+	/**
+	 * Returns {@code true} if the given {@link MultiGridSudoku} is a valid puzzle, that is, if it's board has exactly
+	 * one solution. The {@code MultiGridSudoku} isn't modified.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code MultiGridSudoku}.
+	 * 
+	 * @param multiGridSudoku the {@code MultiGridSudoku} to validate.
+	 * 
+	 * @return {@code true} if the given {@code MultiGridSudoku} has exactly one solution, {@code false} otherwise.
+	 * 
+	 * @throws NullPointerException if {@code multiGridSudoku} is {@code null}.
+	 * @throws SudokuException if the grids of the given {@code MultiGridSudoku} have more than {@code 64}
+	 * {@code Symbol}s or any of it's {@link Cell}s holds a {@code Symbol} that isn't one of it's {@code Symbol}s.
+	 * @throws CancellationException if the calling thread is interrupted.
+	 */
+	public static final <V> boolean hasUniqueBoardSolution(MultiGridSudoku<V> multiGridSudoku) {
+		return BitmaskSolver.of(multiGridSudoku, Long.MAX_VALUE).search(2, null, null) == 1;
+	}
+
+	// ================================================
+	// DEADLINE AWARE VARIANTS
+	// ================================================
+
+	static <V> boolean solve(LatinSquare<V> latinSquare, long deadline) {
+		final SolveEvent event = new SolveEvent();
+		event.begin();
+		final BitmaskSolver<V> solver = new BitmaskSolver<V>(latinSquare, deadline);
+		boolean solved = false, cancelled = false;
+		try {
+			return solved = solve(solver);
+		} catch (CancellationException e) {
+			cancelled = true;
+			throw e;
+		} finally {
+			event.record(latinSquare, "backtracking", solver.nodes(), solved, cancelled);
+		}
+	}
+
+	private static <V> boolean solve(BitmaskSolver<V> solver) {
+		int[] solution = new int[solver.values().length];
+		if (solver.search(1, solution, null) == 0) return false;
+		solver.store(solution);
+		return true;
+	}
+
+	static <V> boolean complete(LatinSquare<V> latinSquare, Random random, long deadline) {
+		requireNonNull(random, "random cannot be null.");
+		// the loading solver checks the size and the Symbols of the LatinSquare
+		final BitmaskSolver<V> solver = new BitmaskSolver<V>(latinSquare, deadline);
+		if (latinSquare instanceof Sudoku || latinSquare instanceof SolverConstraint.Source)
+			throw new IllegalArgumentException("Only plain LatinSquares can be completed, found: " + latinSquare.getClass().getSimpleName() + ".");
+		if (latinSquare.symbols().size() != latinSquare.size())
+			throw new IllegalArgumentException("A LatinSquare of size " + latinSquare.size() + " must have exactly " + latinSquare.size() + " Symbols to be completed, found: " + latinSquare.symbols().size() + ".");
+		final SolveEvent event = new SolveEvent();
+		event.begin();
+		final int[] solution = new int[solver.values().length];
+		final QuasigroupSolver quasigroupSolver = new QuasigroupSolver(latinSquare.size(), solver.values(), random, deadline);
+		boolean solved = false, cancelled = false;
+		try {
+			if (!quasigroupSolver.solve(solution)) return false;
+			solver.store(solution);
+			return solved = true;
+		} catch (CancellationException e) {
+			cancelled = true;
+			throw e;
+		} finally {
+			event.record(latinSquare, "quasigroup", quasigroupSolver.nodes(), solved, cancelled);
+		}
+	}
+
+	static <V> boolean solveWithSat(LatinSquare<V> latinSquare, long deadline) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		if (latinSquare instanceof SolverConstraint.Source)
+			throw new IllegalArgumentException("Only the units of a LatinSquare can be encoded, found: " + latinSquare.getClass().getSimpleName() + ".");
+		final SolveEvent event = new SolveEvent();
+		event.begin();
+		final SymbolIndex<V> symbols = new SymbolIndex<>(latinSquare.symbols());
+		final int[] values = new int[latinSquare.size() * latinSquare.size()];
+		for (int index = 0; index < values.length; index++) {
+			final Cell<V> cell = latinSquare.cellAt(index);
+			final Symbol<V> symbol = cell.symbol().orElse(null);
+			values[index] = symbols.ordinalOf(symbol);
+			if (symbol != null && values[index] < 0)
+				throw new SudokuException("The Symbol (" + symbol + ") of " + cell + " isn't one of the Symbols of the LatinSquare.");
+		}
+		final GridCnf cnf = new GridCnf(GridTopology.of(latinSquare), symbols.size(), values, deadline);
+		boolean solved = false, cancelled = false;
+		try {
+			final int[] solution = cnf.solve();
+			if (solution == null) return false;
+			for (int index = 0; index < solution.length; index++)
+				latinSquare.changeSymbol(latinSquare.cellAt(index), symbols.symbol(solution[index]));
+			return solved = true;
+		} catch (CancellationException e) {
+			cancelled = true;
+			throw e;
+		} finally {
+			event.record(latinSquare, "sat", cnf.decisions(), solved, cancelled);
+		}
+	}
+
+	static <V> boolean validate(LatinSquare<V> latinSquare, long deadline) {
+		return new BitmaskSolver<V>(latinSquare, deadline).search(2, null, null) == 1;
+	}
+
+	static <V> int generate(LatinSquare<V> latinSquare, Random random, long deadline) {
+		return generate(latinSquare, random, null, deadline);
+	}
+
+	static <V> int generate(LatinSquare<V> latinSquare, Random random, ClockFailedStateCache cache, long deadline) {
+		requireNonNull(random, "random cannot be null.");
+		final GenerateEvent event = new GenerateEvent();
+		event.begin();
+		BitmaskSolver<V> solver = new BitmaskSolver<V>(latinSquare, deadline);
+		int clues = 0;
+		boolean cancelled = false;
+		try {
+			return clues = generate(latinSquare, solver, random, cache);
+		} catch (CancellationException e) {
+			cancelled = true;
+			throw e;
+		} finally {
+			event.record(latinSquare, solver.nodes(), clues, cancelled);
+		}
+	}
+
+	private static <V> int generate(LatinSquare<V> latinSquare, BitmaskSolver<V> solver, Random random, ClockFailedStateCache cache) {
+		int[] values = solver.values(), solution = new int[values.length];
+		Arrays.fill(values, -1);
+		if (solver.search(1, solution, random) == 0)
+			throw new SudokuException("The LatinSquare (" + latinSquare + ") cannot be completed.");
+		System.arraycopy(solution, 0, values, 0, values.length);
+		// only the uniqueness checks use the cache, so that it doesn't change the random grid
+		solver.useCache(cache);
+
+		// remove the clues in random order as long as the solution stays unique
+		int[] order = new int[values.length];
+		for (int index = 0; index < order.length; index++) {
+			int other = random.nextInt(index + 1);
+			order[index] = order[other];
+			order[other] = index;
+		}
+		int clues = values.length;
+		for (int index : order) {
+			int value = values[index];
+			values[index] = -1;
+			if (solver.search(2, null, null) == 1) clues--;
+			else values[index] = value;
+		}
+		solver.store(values);
+		return clues;
+	}
+
+	private static ClockFailedStateCache requireSupported(FailedStateCache cache) {
+		requireNonNull(cache, "cache cannot be null.");
+		if (!(cache instanceof ClockFailedStateCache))
+			throw new IllegalArgumentException("Only FailedStateCaches created by Solvers.failedStateCacheOf are supported, found: " + cache.getClass().getSimpleName() + ".");
+		return (ClockFailedStateCache) cache;
+	}
+
+	static long deadlineOf(Duration timeout) {
+		requireNonNull(timeout, "timeout cannot be null.");
+		long now = System.nanoTime();
+		try {
+			long deadline = now + timeout.toNanos();
+			// guard against overflow into the past for very long timeouts
+			return (timeout.isNegative() || deadline - now >= 0)? deadline : Long.MAX_VALUE;
+		} catch (ArithmeticException e) {
+			return timeout.isNegative()? now : Long.MAX_VALUE;
+		}
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private Solvers() { }
+}
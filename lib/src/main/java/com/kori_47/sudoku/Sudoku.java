@@ -3,13 +3,13 @@
  */
 package com.kori_47.sudoku;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toMap;
-
-import java.util.HashSet;
 
 import static com.kori_47.utils.ObjectUtils.requireGreaterThanOrEqualTo;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -31,6 +31,7 @@ import java.util.Set;
  * @see Block
  * @see SudokuVariant
  * @see BoxBlocksSudokuVariants
+ * @see SudokuVariants
  */
 public interface Sudoku<V> extends LatinSquare<V> {
 	
@@ -133,6 +134,24 @@ public interface Sudoku<V> extends LatinSquare<V> {
 	 * @return a {@code Map} of the {@code Block}s contained in this {@code Sudoku}.
 	 */
 	Map<String, Block<V>> blocks();
+
+	/**
+	 * Returns a {@code Map} of the extra regions of this {@code Sudoku}, i.e the {@link UniqueCellGroup}s other than
+	 * the {@link Row}s, {@link Column}s and {@link Block}s that must also contain every {@link Symbol} exactly once,
+	 * such as the diagonals of an <i>X-Sudoku</i>. The regions are created by the
+	 * {@link SudokuVariant#createRegions(Sudoku) variant} of this {@code Sudoku}.
+	 * 
+	 * @return a {@code Map} of the extra regions of this {@code Sudoku}, empty if it has none.
+	 * 
+	 * @implSpec
+	 * The default implementation creates the regions using the {@code createRegions(Sudoku)} method of this
+	 * {@code Sudoku}'s variant on every call and returns them in an unmodifiable {@code Map} keyed by their ids.
+	 */
+	default Map<String, UniqueCellGroup<V>> regions() {
+		final Map<String, UniqueCellGroup<V>> regions = new LinkedHashMap<String, UniqueCellGroup<V>>();
+		variant().createRegions(this).forEach(region -> regions.put(region.id(), region));
+		return unmodifiableMap(regions);
+	}
 	
 	/**
 	 * A {@code SudokuVariant} describes the size of a {@link Sudoku} and determines the sizes and shapes
@@ -173,6 +192,45 @@ public interface Sudoku<V> extends LatinSquare<V> {
 		 * @return the size of the {@code Sudoku} described by this variant.
 		 */
 		int size();
+
+		/**
+		 * Returns the {@link BlockFactory} that should be used to create the {@link Block}s of a {@link Sudoku}
+		 * described by this variant when the client doesn't provide one.
+		 * 
+		 * @param <V> the type of values held by the {@code Symbol}s of the {@code Sudoku}.
+		 * 
+		 * @return the default {@code BlockFactory} for {@code Sudoku}s described by this variant.
+		 * 
+		 * @implSpec
+		 * The default implementation returns {@link CellGroups#defaultBoxBlockFactory()}.
+		 */
+		default <V> BlockFactory<V> defaultBlockFactory() {
+			return CellGroups.defaultBoxBlockFactory();
+		}
+
+		/**
+		 * This method creates the extra regions of a {@link Sudoku}, i.e the {@link UniqueCellGroup}s besides the
+		 * {@link Row}s, {@link Column}s and {@link Block}s that must also contain every {@link Symbol} exactly once.
+		 * Every region must hold exactly {@link #size()} {@code Cell}s. The regions are enforced by the
+		 * {@link Solvers} the same way as the {@code Block}s.
+		 * 
+		 * @param <V> the type of values held by {@code Symbol}s of the given {@code Sudoku}.
+		 * 
+		 * @param sudoku the {@code Sudoku} instance for which to create regions for.
+		 * 
+		 * @return a {@code Set} of the created regions, empty if the described {@code Sudoku}s have none.
+		 * 
+		 * @throws NullPointerException if {@code sudoku} is {@code null}.
+		 * 
+		 * @implSpec
+		 * The default implementation returns an empty {@code Set}.
+		 * 
+		 * @see SudokuVariants#regionsVariantOf(SudokuVariant, int[][])
+		 */
+		default <V> Set<UniqueCellGroup<V>> createRegions(Sudoku<V> sudoku) {
+			requireNonNull(sudoku, "sudoku cannot be null.");
+			return emptySet();
+		}
 	}
 	
 	/**
@@ -228,6 +286,48 @@ public interface Sudoku<V> extends LatinSquare<V> {
 		int yBlocks();
 	}
 	
+	/**
+	 * This describes a <i>jigsaw</i> {@link Sudoku}, i.e a {@code Sudoku} whose {@link Block}s are irregular
+	 * regions of {@link #size()} {@link Cell}s each instead of boxes. The layout of a jigsaw {@code Sudoku} is given
+	 * by the id of the region that each {@code Cell} belongs to, the {@code Block} with the id {@code "r"} is made up of
+	 * the {@code Cell}s whose region id is {@code r}.
+	 * 
+	 * <p>
+	 * Instances of this interface are immutable and validate their layout once, when they are created. They can be
+	 * obtained from {@link SudokuVariants#jigsawVariantOf(int, int[])}.
+	 * 
+	 * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+	 * 
+	 * @since Sun, 18 Oct 2026 22:04:51
+	 * 
+	 * @see Sudoku
+	 * @see SudokuVariant
+	 * @see SudokuVariants#jigsawVariantOf(int, int[])
+	 */
+	static interface JigsawSudokuVariant extends SudokuVariant {
+
+		/**
+		 * Returns the id of the region that the {@link Cell} with the given coordinates belongs to.
+		 * 
+		 * @param x the x coordinate of the {@code Cell}.
+		 * @param y the y coordinate of the {@code Cell}.
+		 * 
+		 * @return the id of the region of the given {@code Cell}, from {@code 0} to {@code size() - 1}.
+		 * 
+		 * @throws IndexOutOfBoundsException if {@code x} or {@code y} is negative or not less than {@link #size()}.
+		 */
+		int regionOf(int x, int y);
+
+		/**
+		 * Returns the region ids of all the {@link Cell}s of a {@link Sudoku} described by this variant in row-major
+		 * order, i.e the region id of the {@code Cell} with the coordinates <i>(x, y)</i> is at the index
+		 * <i>y * size() + x</i>. The returned array is a copy.
+		 * 
+		 * @return the region ids of all the {@code Cell}s in row-major order.
+		 */
+		int[] regionIds();
+	}
+
 	/**
 	 * This represents a set of commonly used {@link BoxBlocksSudokuVariant}s including the famous 9x9 variant.
 	 * 
@@ -306,34 +406,7 @@ public interface Sudoku<V> extends LatinSquare<V> {
 		 */
 		@Override
 		public <V> Set<Block<V>> createBlocks(Sudoku<V> sudoku) {
-			requireNonNull(sudoku, "sudoku cannot be null.");
-			Set<Block<V>> blocks = new HashSet<Block<V>>(size);
-			// get the first sudoku cell
-			Cell<V> firstSudokuCell = sudoku.startCell();
-			
-			// initialize blocks
-			for (int index = 0, x = firstSudokuCell.x(), y = firstSudokuCell.y(); index < size; index++) { 
-				// extract the cells of the next block and store them on a Map
-				Map<String, Cell<V>> blockCells = extractBlockCells(x, y, sudoku);
-				// get the start cell of this block
-				Cell<V> startCell = sudoku.getCell(x, y).get();
-				// get the end cell of this block
-				Cell<V> endCell = sudoku.getCell(x + blockRows, y + blockColumns).get();
-				// create the next block
-				Block<V> block = sudoku.blockFactory().createBlock(Integer.toString(index), size, blockCells, startCell, endCell);
-				// add the created block to the blocks Set
-				blocks.add(block);
-				
-				// calculate and set the next blocks starting coordinates
-				if ((index + 1) % xBlocks() == 0) { // if we have reached the last column?
-					x = firstSudokuCell.x(); // then reset to the index of the first column
-					y += blockColumns; // and move up to the next row
-				} else {
-					x += blockColumns; // move to the start of the next block
-				}
-			}
-			
-			return blocks;
+			return SimpleBoxBlocksSudokuVariant.createBoxBlocks(this, sudoku);
 		}
 		
 		@Override
@@ -360,24 +433,5 @@ public interface Sudoku<V> extends LatinSquare<V> {
 		public int yBlocks() {
 			return yBlocks;
 		}
-		
-		/**
-		 * Extract and return a {@code Map} of {@code Block} {@code Cell}s given the starting coordinates
-		 * of the {@code Block}.
-		 * 
-		 * @param x the starting x coordinate of the {@code Block}; 
-		 * @param y the starting y coordinate of the {@code Block};
-		 * @param sudoku the {@code Sudoku} to extract the {@code Cell}s from.
-		 * 
-		 * @return a {@code Map} of the {@code Cells} that belong to the stated {@code Block}.
-		 */
-		private final <V> Map<String, Cell<V>> extractBlockCells(int x, int y, Sudoku<V> sudoku) {
-			// find the ends of the next block
-			final int x1 = x + blockColumns, y1 = y + blockRows;
-			return sudoku.cells().values().stream()
-					.filter(cell -> cell.x() >= x && x < x1)
-					.filter(cell -> cell.y() >= y && y < y1)
-					.collect(toMap(Cell::id, cell -> cell));
-		}
 	}
 }
@@ -0,0 +1,116 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@code SudokuService} is a request-serving facade over {@link Solvers} meant for applications that handle many
+ * concurrent solve, validate and generate requests. Each request runs asynchronously and is represented by a
+ * {@link Future} through which it can be awaited or cancelled.
+ * 
+ * <p>
+ * Every request carries a deadline. Once the deadline of a request passes, it's search is aborted and the returned
+ * {@code Future} completes exceptionally with an {@link ExecutionException} whose cause is a
+ * {@link TimeoutException}. Cancelling a {@code Future} with {@code mayInterruptIfRunning} set to {@code true}
+ * aborts the search of the request promptly.
+ * 
+ * <p>
+ * A {@code SudokuService} bounds the number of requests in flight. When that bound is reached, new requests wait
+ * for a bounded amount of time to be admitted and are rejected with a {@link RejectedExecutionException} if they
+ * aren't.
+ * 
+ * <p>
+ * The {@link LatinSquare}s passed to a {@code SudokuService} are read and, for solve and generate requests, modified
+ * by the thread serving the request. Clients must not access such a {@code LatinSquare} until the {@code Future} of
+ * it's request is done.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 13:20:07
+ * 
+ * @see SudokuServices
+ * @see Solvers
+ */
+public interface SudokuService extends AutoCloseable {
+
+	/**
+	 * Solves the given {@link LatinSquare} in place. The returned {@link Future} completes with {@code true} if a
+	 * solution was found and placed on the {@code LatinSquare} or {@code false} if the {@code LatinSquare} has no
+	 * solution.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to solve.
+	 * @param deadline the maximum amount of time to spend serving this request, measured from the time the request
+	 * was admitted.
+	 * 
+	 * @return a {@code Future} representing the pending result of the request.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code deadline} is {@code null}.
+	 * @throws RejectedExecutionException if the request couldn't be admitted or this {@code SudokuService} is closed.
+	 */
+	<V> Future<Boolean> solve(LatinSquare<V> latinSquare, Duration deadline);
+
+	/**
+	 * Validates the given {@link LatinSquare}. The returned {@link Future} completes with {@code true} if the
+	 * {@code LatinSquare} has exactly one solution, {@code false} otherwise. The {@code LatinSquare} isn't modified.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to validate.
+	 * @param deadline the maximum amount of time to spend serving this request, measured from the time the request
+	 * was admitted.
+	 * 
+	 * @return a {@code Future} representing the pending result of the request.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code deadline} is {@code null}.
+	 * @throws RejectedExecutionException if the request couldn't be admitted or this {@code SudokuService} is closed.
+	 */
+	<V> Future<Boolean> validate(LatinSquare<V> latinSquare, Duration deadline);
+
+	/**
+	 * Replaces the contents of the given {@link LatinSquare} with a new random puzzle that has exactly one solution.
+	 * The returned {@link Future} completes with the number of clues of the generated puzzle.
+	 * 
+	 * @param <V> the type of value held by the {@link Symbol}s of the given {@code LatinSquare}.
+	 * 
+	 * @param latinSquare the {@code LatinSquare} to fill with a new puzzle.
+	 * @param deadline the maximum amount of time to spend serving this request, measured from the time the request
+	 * was admitted.
+	 * 
+	 * @return a {@code Future} representing the pending result of the request.
+	 * 
+	 * @throws NullPointerException if {@code latinSquare} or {@code deadline} is {@code null}.
+	 * @throws RejectedExecutionException if the request couldn't be admitted or this {@code SudokuService} is closed.
+	 * 
+	 * @see Solvers#generate(LatinSquare, java.util.Random)
+	 */
+	<V> Future<Integer> generate(LatinSquare<V> latinSquare, Duration deadline);
+
+	/**
+	 * Returns the number of requests that have been admitted and aren't done yet.
+	 * 
+	 * @return the number of requests in flight.
+	 */
+	int inFlight();
+
+	/**
+	 * Cancels all the requests in flight, interrupting the threads serving them.
+	 * 
+	 * @return the number of requests that were cancelled.
+	 */
+	int cancelAll();
+
+	/**
+	 * Stops admitting new requests, cancels all the requests in flight and waits for the threads serving them to
+	 * terminate.
+	 */
+	@Override
+	void close();
+}
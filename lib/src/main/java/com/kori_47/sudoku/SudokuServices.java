@@ -0,0 +1,63 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.utils.ObjectUtils.requireGreaterThanOrEqualTo;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+/**
+ * This class consists exclusively of static methods that create {@link SudokuService}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 13:29:55
+ * 
+ * @see SudokuService
+ */
+public final class SudokuServices {
+
+	/**
+	 * Returns a new {@link SudokuService} that serves each request on a new virtual thread and admits at most
+	 * {@code maxInFlight} requests at a time. Requests that arrive when {@code maxInFlight} requests are already in
+	 * flight are rejected immediately.
+	 * 
+	 * @param maxInFlight the maximum number of requests in flight.
+	 * 
+	 * @return a new {@code SudokuService} backed by virtual threads.
+	 * 
+	 * @throws IllegalArgumentException if {@code maxInFlight} is less than {@code 1}.
+	 * 
+	 * @see #newVirtualThreadSudokuService(int, Duration)
+	 */
+	public static final SudokuService newVirtualThreadSudokuService(int maxInFlight) {
+		return newVirtualThreadSudokuService(maxInFlight, Duration.ZERO);
+	}
+
+	/**
+	 * Returns a new {@link SudokuService} that serves each request on a new virtual thread, created with
+	 * {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()}, and admits at most
+	 * {@code maxInFlight} requests at a time. Requests that arrive when {@code maxInFlight} requests are already in
+	 * flight wait for up to {@code admissionTimeout} for a request to finish and are rejected if none does.
+	 * 
+	 * @param maxInFlight the maximum number of requests in flight.
+	 * @param admissionTimeout how long a new request waits to be admitted before it is rejected.
+	 * 
+	 * @return a new {@code SudokuService} backed by virtual threads.
+	 * 
+	 * @throws NullPointerException if {@code admissionTimeout} is {@code null}.
+	 * @throws IllegalArgumentException if {@code maxInFlight} is less than {@code 1} or {@code admissionTimeout} is
+	 * negative.
+	 */
+	public static final SudokuService newVirtualThreadSudokuService(int maxInFlight, Duration admissionTimeout) {
+		requireGreaterThanOrEqualTo(1, maxInFlight, "maxInFlight must be greater than or equal to 1.");
+		if (requireNonNull(admissionTimeout, "admissionTimeout cannot be null.").isNegative())
+			throw new IllegalArgumentException("admissionTimeout cannot be negative.");
+		return new VirtualThreadSudokuService(maxInFlight, admissionTimeout);
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private SudokuServices() { }
+}
@@ -0,0 +1,223 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import static com.kori_47.utils.ObjectUtils.requireGreaterThanOrEqualTo;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariant;
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+import com.kori_47.sudoku.Sudoku.JigsawSudokuVariant;
+import com.kori_47.sudoku.Sudoku.SudokuVariant;
+
+/**
+ * This class consists exclusively of static methods that return {@link SudokuVariant}s other than the ones
+ * defined by {@link BoxBlocksSudokuVariants}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 22:19:44
+ * 
+ * @see SudokuVariant
+ * @see LatinSquares#sudokuOf(SudokuVariant, java.util.Set)
+ */
+public final class SudokuVariants {
+
+	/**
+	 * the largest size of a {@code Sudoku} described by the variants returned by {@link #boxBlocksVariantOf(int, int)}.
+	 */
+	private static final int MAX_BOX_BLOCKS_SIZE = DenseSymbolAlphabet.MAX_ID;
+
+	/**
+	 * Returns a {@link BoxBlocksSudokuVariant} whose {@link Block}s have the given number of {@link Row}s and
+	 * {@link Column}s. The size of the described {@link Sudoku}s is {@code blockRows * blockColumns}, e.g
+	 * {@code boxBlocksVariantOf(5, 5)} describes a <i>25x25</i> {@code Sudoku} and {@code boxBlocksVariantOf(8, 8)} a
+	 * <i>64x64</i> one. If one of the {@link BoxBlocksSudokuVariants} constants has the given block dimensions, that
+	 * constant is returned.
+	 * 
+	 * <p>
+	 * The {@link Symbols#numberAlphabet(int) number alphabet} of the variant's size can be used as the
+	 * {@link Symbol}s of the described {@code Sudoku}s at any size.
+	 * 
+	 * @param blockRows the number of {@code Row}s in each {@code Block}.
+	 * @param blockColumns the number of {@code Column}s in each {@code Block}.
+	 * 
+	 * @return a {@code BoxBlocksSudokuVariant} with the given block dimensions.
+	 * 
+	 * @throws IllegalArgumentException if {@code blockRows} or {@code blockColumns} is less than {@code 1} or their
+	 * product is greater than {@code 4096}.
+	 * 
+	 * @implNote
+	 * The cell indices of every {@code Block} and the peers of every {@code Cell} of the returned variant are
+	 * precomputed once and shared by all the {@code Sudoku}s created from it, and the {@code Block}s of a
+	 * {@code Sudoku} are created in a single pass over it's {@code Cell}s, so creating, validating and solving these
+	 * {@code Sudoku}s scales with the number of {@code Cell}s. The {@link Solvers} support {@code Sudoku}s of up to
+	 * {@code 64} {@code Symbol}s, i.e up to {@code boxBlocksVariantOf(8, 8)}.
+	 */
+	public static final BoxBlocksSudokuVariant boxBlocksVariantOf(int blockRows, int blockColumns) {
+		requireGreaterThanOrEqualTo(1, blockRows, "blockRows must be greater than or equal to 1.");
+		requireGreaterThanOrEqualTo(1, blockColumns, "blockColumns must be greater than or equal to 1.");
+		if ((long) blockRows * blockColumns > MAX_BOX_BLOCKS_SIZE)
+			throw new IllegalArgumentException("The product of blockRows and blockColumns must be less than or equal to " + MAX_BOX_BLOCKS_SIZE + ".");
+		for (BoxBlocksSudokuVariants variant : BoxBlocksSudokuVariants.values())
+			if (variant.blockRows() == blockRows && variant.blockColumns() == blockColumns)
+				return variant;
+		return new SimpleBoxBlocksSudokuVariant(blockRows, blockColumns);
+	}
+
+	/**
+	 * Returns a {@link JigsawSudokuVariant} whose regions are described by the given region ids. The region id of
+	 * the {@link Cell} with the coordinates <i>(x, y)</i> is at the index <i>y * size + x</i> of the given array and
+	 * every region must have exactly {@code size} {@code Cell}s. The regions don't need to be connected.
+	 * 
+	 * <p>
+	 * For example, the following describes a <i>4x4</i> jigsaw {@link Sudoku}:
+	 * <pre> {@code
+	 * SudokuVariants.jigsawVariantOf(4, new int[] {
+	 * 	0, 0, 0, 1,
+	 * 	2, 0, 1, 1,
+	 * 	2, 2, 3, 1,
+	 * 	2, 3, 3, 3
+	 * });
+	 * }
+	 * </pre>
+	 * 
+	 * @param size the size of the {@code Sudoku}s described by the returned variant.
+	 * @param regionIds the region id of every {@code Cell} in row-major order, each from {@code 0} to
+	 * {@code size - 1}. The array is copied.
+	 * 
+	 * @return a {@code JigsawSudokuVariant} with the given layout.
+	 * 
+	 * @throws NullPointerException if {@code regionIds} is {@code null}.
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1}, the length of {@code regionIds} isn't
+	 * {@code size * size}, a region id is out of range or a region doesn't have exactly {@code size} {@code Cell}s.
+	 * 
+	 * @implNote
+	 * The layout is validated once, when the variant is created. The cell indices of every region and the peers
+	 * of every {@code Cell} are then precomputed and shared by all the {@code Sudoku}s created from the returned
+	 * variant, so the solvers, candidate grids and hint engines of this library don't recompute them from the
+	 * {@link Block}s of each {@code Sudoku}. The {@code Block}s of the {@code Sudoku}s created with the
+	 * {@link SudokuVariant#defaultBlockFactory() default BlockFactory} of the returned variant are created by
+	 * {@link CellGroups#blockOf(String, int, java.util.Map, Cell, Cell)}.
+	 */
+	public static final JigsawSudokuVariant jigsawVariantOf(int size, int[] regionIds) {
+		return new SimpleJigsawSudokuVariant(size, regionIds);
+	}
+
+	/**
+	 * Returns a {@link SudokuVariant} that describes the same {@link Sudoku}s as the given variant with the given
+	 * extra regions. Every region is a group of exactly {@code size} {@link Cell}s that must contain every
+	 * {@link Symbol} once, just like a {@link Row}, {@link Column} or {@link Block}. The {@code Cell}s of a region are
+	 * given by their row-major indices, i.e the index of the {@code Cell} with the coordinates <i>(x, y)</i> is
+	 * <i>y * size + x</i>. The regions of the described {@code Sudoku}s are returned by {@link Sudoku#regions()}
+	 * and their ids are their positions in the given array. If the given variant already has extra regions, the
+	 * given ones are added after them.
+	 * 
+	 * @param variant the variant that describes the {@code Block}s of the {@code Sudoku}s.
+	 * @param regions the row-major indices of the {@code Cell}s of each region. The arrays are copied.
+	 * 
+	 * @return a {@code SudokuVariant} with the given extra regions.
+	 * 
+	 * @throws NullPointerException if {@code variant}, {@code regions} or any of it's elements is {@code null}.
+	 * @throws IllegalArgumentException if a region doesn't have exactly {@code size} distinct and valid {@code Cell}
+	 * indices.
+	 * 
+	 * @implNote
+	 * The regions are compiled into the same precomputed cell indices and peers as the {@code Row}s, {@code Column}s
+	 * and {@code Block}s, which are shared by all the {@code Sudoku}s created from the returned variant, so the
+	 * solvers, candidate grids and hint engines of this library enforce them at no extra cost per move.
+	 * 
+	 * @see #diagonalVariantOf(SudokuVariant)
+	 * @see #windokuVariantOf(BoxBlocksSudokuVariant)
+	 * @see #disjointGroupsVariantOf(BoxBlocksSudokuVariant)
+	 */
+	public static final SudokuVariant regionsVariantOf(SudokuVariant variant, int[][] regions) {
+		return new SimpleRegionsSudokuVariant(variant, regions);
+	}
+
+	/**
+	 * Returns a {@link SudokuVariant} that adds the two main diagonals to the regions of the given variant, i.e the
+	 * variant of an <i>X-Sudoku</i>.
+	 * 
+	 * @param variant the variant to add the diagonals to.
+	 * 
+	 * @return a {@code SudokuVariant} whose {@link Sudoku}s must also hold every {@link Symbol} once on each diagonal.
+	 * 
+	 * @throws NullPointerException if {@code variant} is {@code null}.
+	 * 
+	 * @see #regionsVariantOf(SudokuVariant, int[][])
+	 */
+	public static final SudokuVariant diagonalVariantOf(SudokuVariant variant) {
+		final int size = requireNonNull(variant, "variant cannot be null.").size();
+		final int[][] diagonals = new int[2][size];
+		for (int index = 0; index < size; index++) {
+			diagonals[0][index] = index * size + index;
+			diagonals[1][index] = index * size + size - 1 - index;
+		}
+		return regionsVariantOf(variant, diagonals);
+	}
+
+	/**
+	 * Returns a {@link SudokuVariant} that adds the extra windows of a <i>Windoku</i> (also known as a
+	 * <i>Hyper Sudoku</i>) to the regions of the given variant. The windows have the same shape as the {@link Block}s
+	 * and sit one {@link Cell} in from the edges of the grid with one {@code Cell} between them, e.g a
+	 * <i>9x9</i> Windoku has four extra windows starting at <i>(1, 1)</i>, <i>(5, 1)</i>, <i>(1, 5)</i> and
+	 * <i>(5, 5)</i>.
+	 * 
+	 * @param variant a variant with square blocks.
+	 * 
+	 * @return a {@code SudokuVariant} whose {@link Sudoku}s must also hold every {@link Symbol} once in each window.
+	 * 
+	 * @throws NullPointerException if {@code variant} is {@code null}.
+	 * @throws IllegalArgumentException if the blocks of the given variant aren't square.
+	 * 
+	 * @see #regionsVariantOf(SudokuVariant, int[][])
+	 */
+	public static final SudokuVariant windokuVariantOf(BoxBlocksSudokuVariant variant) {
+		requireNonNull(variant, "variant cannot be null.");
+		final int size = variant.size(), blockSize = variant.blockRows();
+		if (variant.blockColumns() != blockSize)
+			throw new IllegalArgumentException("Windoku windows only fit between square blocks, found " + variant.blockRows() + "x" + variant.blockColumns() + " blocks.");
+		final int windowsPerSide = blockSize - 1;
+		final int[][] windows = new int[windowsPerSide * windowsPerSide][];
+		for (int window = 0; window < windows.length; window++) {
+			final int x = 1 + (window % windowsPerSide) * (blockSize + 1), y = 1 + (window / windowsPerSide) * (blockSize + 1);
+			windows[window] = new int[size];
+			for (int cell = 0; cell < size; cell++)
+				windows[window][cell] = (y + cell / blockSize) * size + x + cell % blockSize;
+		}
+		return regionsVariantOf(variant, windows);
+	}
+
+	/**
+	 * Returns a {@link SudokuVariant} that adds the disjoint groups to the regions of the given variant. A disjoint
+	 * group is made of the {@link Cell}s at the same position within each {@link Block}, e.g the centre {@code Cell}s
+	 * of all the {@code Block}s of a <i>9x9</i> {@link Sudoku}.
+	 * 
+	 * @param variant the variant to add the disjoint groups to.
+	 * 
+	 * @return a {@code SudokuVariant} whose {@code Sudoku}s must also hold every {@link Symbol} once in each disjoint
+	 * group.
+	 * 
+	 * @throws NullPointerException if {@code variant} is {@code null}.
+	 * 
+	 * @see #regionsVariantOf(SudokuVariant, int[][])
+	 */
+	public static final SudokuVariant disjointGroupsVariantOf(BoxBlocksSudokuVariant variant) {
+		requireNonNull(variant, "variant cannot be null.");
+		final int size = variant.size(), blockRows = variant.blockRows(), blockColumns = variant.blockColumns();
+		final int xBlocks = size / blockColumns;
+		final int[][] groups = new int[size][size];
+		for (int group = 0; group < size; group++) {
+			final int row = group / blockColumns, column = group % blockColumns;
+			for (int block = 0; block < size; block++)
+				groups[group][block] = ((block / xBlocks) * blockRows + row) * size + (block % xBlocks) * blockColumns + column;
+		}
+		return regionsVariantOf(variant, groups);
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private SudokuVariants() { }
+}
@@ -35,16 +35,16 @@ public interface Symbol<V> extends Comparable<Symbol<V>>, Unique<Integer> {
      * @throws NullPointerException if {@code other} is {@code null}.
      * 
      * @implSpec
-     * The default implementation performs comparison based on the {@link #id() ids}
+     * The default implementation performs comparison based on the {@link #idAsInt() ids}
      * of the two symbols. That is, the implementation is equivalent to:
      * <pre> {@code
-	 * return this.id().compare(other.id());
+	 * return Integer.compare(this.idAsInt(), other.idAsInt());
 	 * }
 	 * </pre>
 	 */
 	@Override
 	default int compareTo(Symbol<V> other) {
-		return id().compareTo(requireNonNull(other, "other cannot be null.").id());
+		return Integer.compare(idAsInt(), requireNonNull(other, "other cannot be null.").idAsInt());
 	}
 	
 	/**
@@ -54,6 +54,23 @@ public interface Symbol<V> extends Comparable<Symbol<V>>, Unique<Integer> {
 	 */
 	Integer id();
 	
+	/**
+	 * Returns the id of this symbol as a primitive {@code int}. This should always be equal to
+	 * {@code id().intValue()}.
+	 * 
+	 * @return the id of this symbol.
+	 * 
+	 * @apiNote
+	 * Comparators, lookup tables and other code that runs in hot loops should prefer this method to
+	 * {@link #id()} so that implementations that store their id as an {@code int} aren't forced to box it.
+	 * 
+	 * @implSpec
+	 * The default implementation is equivalent to {@code return id().intValue();}.
+	 */
+	default int idAsInt() {
+		return id().intValue();
+	}
+	
 	/**
 	 * Returns the value of this symbol.
 	 * 
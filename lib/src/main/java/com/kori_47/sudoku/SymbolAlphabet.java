@@ -0,0 +1,60 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Set;
+
+/**
+ * A {@code SymbolAlphabet} is an immutable {@link Set} of {@link Symbol}s with positive, distinct
+ * {@link Symbol#idAsInt() ids} that can be looked up by their primitive id in constant time. The {@code Symbol}s of
+ * a {@code SymbolAlphabet} are iterated in ascending order of their ids.
+ * 
+ * <p>
+ * The alphabets returned by {@link Symbols#numberAlphabet(int)} and {@link Symbols#letterAlphabet(int)} are
+ * interned, i.e every call with the same size returns the same {@code SymbolAlphabet} holding the same
+ * {@code Symbol} instances, so any number of grids can share them. A {@code SymbolAlphabet} can be passed anywhere
+ * a {@code Set} of {@code Symbol}s is expected, e.g to {@link LatinSquares#latinSquareOf(int, Set)}.
+ * 
+ * <p>
+ * All the methods that would modify a {@code SymbolAlphabet} throw an {@link UnsupportedOperationException}.
+ * 
+ * @param <V> the type of value held by the {@code Symbol}s of this {@code SymbolAlphabet}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 20:47:10
+ * 
+ * @see Symbols#numberAlphabet(int)
+ * @see Symbols#letterAlphabet(int)
+ * @see Symbols#alphabetOf(Set)
+ */
+public interface SymbolAlphabet<V> extends Set<Symbol<V>> {
+
+	/**
+	 * Returns the {@link Symbol} of this {@code SymbolAlphabet} with the given id.
+	 * 
+	 * @param id the id of the {@code Symbol} to return.
+	 * 
+	 * @return the {@code Symbol} with the given id.
+	 * 
+	 * @throws IllegalArgumentException if this {@code SymbolAlphabet} has no {@code Symbol} with the given id.
+	 */
+	Symbol<V> symbol(int id);
+
+	/**
+	 * Returns {@code true} if this {@code SymbolAlphabet} has a {@link Symbol} with the given id.
+	 * 
+	 * @param id the id to look for.
+	 * 
+	 * @return {@code true} if this {@code SymbolAlphabet} has a {@code Symbol} with the given id.
+	 */
+	boolean containsId(int id);
+
+	/**
+	 * Returns the largest id of the {@link Symbol}s of this {@code SymbolAlphabet}.
+	 * 
+	 * @return the largest {@code Symbol} id in this {@code SymbolAlphabet}.
+	 */
+	int maxId();
+}
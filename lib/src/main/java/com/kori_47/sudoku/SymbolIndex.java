@@ -0,0 +1,118 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This maps the {@link Symbol}s of a {@link LatinSquare} to dense ordinals, i.e the position of each {@code Symbol}
+ * in the iteration order of the {@code LatinSquare}'s {@link LatinSquare#symbols() symbols} {@code Map}. Ordinals
+ * are used as bit positions in candidate masks and as compact symbol representations in primitive arrays.
+ * 
+ * <p>
+ * When the identifiers of the {@code Symbol}s are small non negative integers, the lookup from a {@code Symbol} to
+ * it's ordinal is a plain array access, otherwise a {@code Map} is used.
+ * 
+ * @param <V> the type of value held by the indexed {@code Symbol}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 09:20:05
+ */
+final class SymbolIndex<V> {
+
+	/**
+	 * the largest symbol id for which an array lookup table is used.
+	 */
+	private static final int MAX_DENSE_ID = 4096;
+
+	private final Symbol<V>[] symbols;
+	private final int[] ordinalsById;
+	private final Map<Integer, Integer> ordinalsByIdMap;
+
+	/**
+	 * Creates a new {@code SymbolIndex} for the given {@link Symbol}s.
+	 * 
+	 * @param symbols the {@code Symbol}s to index in their iteration order.
+	 * 
+	 * @throws NullPointerException if {@code symbols} is {@code null}.
+	 */
+	SymbolIndex(Map<Integer, Symbol<V>> symbols) {
+		requireNonNull(symbols, "symbols cannot be null.");
+		this.symbols = symbols.values().toArray(GridArrays.newArray(Symbol.class, symbols.size()));
+
+		int maxId = -1;
+		boolean dense = true;
+		for (Symbol<V> symbol : this.symbols) {
+			int id = symbol.idAsInt();
+			dense &= id >= 0 && id <= MAX_DENSE_ID;
+			maxId = Math.max(maxId, id);
+		}
+
+		if (dense) {
+			this.ordinalsById = new int[maxId + 1];
+			Arrays.fill(this.ordinalsById, -1);
+			for (int ordinal = 0; ordinal < this.symbols.length; ordinal++)
+				this.ordinalsById[this.symbols[ordinal].idAsInt()] = ordinal;
+			this.ordinalsByIdMap = null;
+		} else {
+			this.ordinalsById = null;
+			this.ordinalsByIdMap = new HashMap<>(this.symbols.length * 2);
+			for (int ordinal = 0; ordinal < this.symbols.length; ordinal++)
+				this.ordinalsByIdMap.put(this.symbols[ordinal].id(), ordinal);
+		}
+	}
+
+	/**
+	 * Returns the number of indexed {@link Symbol}s.
+	 * 
+	 * @return the number of indexed {@code Symbol}s.
+	 */
+	int size() {
+		return symbols.length;
+	}
+
+	/**
+	 * Returns the {@link Symbol} with the given ordinal.
+	 * 
+	 * @param ordinal the ordinal of the {@code Symbol} to return.
+	 * 
+	 * @return the {@code Symbol} with the given ordinal.
+	 * 
+	 * @throws ArrayIndexOutOfBoundsException if {@code ordinal} is negative or not less than {@link #size()}.
+	 */
+	Symbol<V> symbol(int ordinal) {
+		return symbols[ordinal];
+	}
+
+	/**
+	 * Returns the ordinal of the given {@link Symbol} or {@code -1} if the {@code Symbol} is {@code null} or isn't
+	 * one of the indexed {@code Symbol}s.
+	 * 
+	 * @param symbol the {@code Symbol} whose ordinal we want. Maybe {@code null}.
+	 * 
+	 * @return the ordinal of the given {@code Symbol} or {@code -1} if it isn't indexed.
+	 */
+	int ordinalOf(Symbol<?> symbol) {
+		return (symbol == null)? -1 : ordinalOfId(symbol.idAsInt());
+	}
+
+	/**
+	 * Returns the ordinal of the {@link Symbol} with the given id or {@code -1} if no such {@code Symbol} is indexed.
+	 * 
+	 * @param id the id of the {@code Symbol} whose ordinal we want.
+	 * 
+	 * @return the ordinal of the {@code Symbol} with the given id or {@code -1} if no such {@code Symbol} is indexed.
+	 */
+	int ordinalOfId(int id) {
+		if (ordinalsById != null)
+			return (id >= 0 && id < ordinalsById.length)? ordinalsById[id] : -1;
+		Integer ordinal = ordinalsByIdMap.get(id);
+		return (ordinal == null)? -1 : ordinal.intValue();
+	}
+}
@@ -7,13 +7,16 @@ import static java.util.stream.Collectors.toSet;
 import static java.util.stream.IntStream.range;
 
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static java.util.Objects.requireNonNull;
 
 import static com.kori_47.utils.ObjectUtils.requireGreaterThanOrEqualTo;
 import static com.kori_47.utils.ObjectUtils.requireInRange;
 
+import java.util.Arrays;
 import java.util.Set;
+import java.util.function.IntFunction;
 
 /**
  * This class consists exclusively of static methods that return different implementations of 
@@ -31,7 +34,23 @@ public final class Symbols {
 	/**
 	 * default {@code Symbol} comparator
 	 */
-	private static final Comparator<Symbol<?>> DEFAULT_SYMBOL_COMPARATOR = Comparator.comparingInt(symbol -> symbol.id().intValue());
+	private static final Comparator<Symbol<?>> DEFAULT_SYMBOL_COMPARATOR = Comparator.comparingInt(Symbol::idAsInt);
+
+	/**
+	 * the largest number {@code Symbol} id, and the largest number alphabet size, that is interned.
+	 */
+	private static final int MAX_INTERNED_NUMBER = 1024;
+
+	/**
+	 * the number of letter {@code Symbol}s, i.e the letters {@code A} to {@code Z}.
+	 */
+	private static final int LETTER_COUNT = 26;
+
+	// interned symbols and alphabets, indexed by id and size respectively and created on first use
+	private static final AtomicReferenceArray<Symbol<Integer>> NUMBER_SYMBOLS = new AtomicReferenceArray<>(MAX_INTERNED_NUMBER + 1);
+	private static final AtomicReferenceArray<Symbol<Character>> LETTER_SYMBOLS = new AtomicReferenceArray<>(LETTER_COUNT + 1);
+	private static final AtomicReferenceArray<SymbolAlphabet<Integer>> NUMBER_ALPHABETS = new AtomicReferenceArray<>(MAX_INTERNED_NUMBER + 1);
+	private static final AtomicReferenceArray<SymbolAlphabet<Character>> LETTER_ALPHABETS = new AtomicReferenceArray<>(LETTER_COUNT + 1);
 
 	/**
 	 * Returns a new {@link Symbol} with the given {@code id} and {@code value}.
@@ -63,12 +82,16 @@ public final class Symbols {
 	 * @throws IllegalArgumentException if {@code upTo} is less than {@code 1}.
 	 * 
 	 * @see #emptyNumberSymbol()
+	 * @see #numberAlphabet(int)
+	 * 
+	 * @implNote
+	 * The returned {@code Set} is a new, modifiable, {@code Set} on every call but the {@code Symbol}s in it are
+	 * interned, i.e shared with the alphabets returned by {@link #numberAlphabet(int)}.
 	 */
 	public static final Set<Symbol<Integer>> numberSymbolsUpTo(int upTo) {
 		requireGreaterThanOrEqualTo(1, upTo, "upTo must be greater than or equal to 1.");
 		return range(1, upTo)
-				.mapToObj(Integer::valueOf)
-				.map(value -> of(value, value))
+				.mapToObj(Symbols::numberSymbol)
 				.collect(toSet());
 	}
 
@@ -88,13 +111,90 @@ public final class Symbols {
 	 * @throws IllegalArgumentException if {@code upTo} is less than {@code 1} or greater than {@code 27}.
 	 * 
 	 * @see #emptyLetterSymbol()
+	 * @see #letterAlphabet(int)
 	 */
 	public static final Set<Symbol<Character>> letterSymbolsUpTo(int upTo) {
 		requireInRange(1, 28, upTo, "upTo must be greater than or equal to 1 and less than or equal to 27.");
 		return range(1, upTo)
-				.mapToObj(Symbols::nextLetterSymbol)
+				.mapToObj(Symbols::letterSymbol)
 				.collect(toSet());
 	}
+
+	/**
+	 * Returns the interned {@link SymbolAlphabet} of the number {@link Symbol}s {@code 1} to {@code size}
+	 * <strong><i>(inclusive)</i></strong>. That is, an alphabet of exactly {@code size} {@code Symbol}s where each
+	 * {@code Symbol} has an id and value equal to it's position, starting from {@code 1}. This is the alphabet of a
+	 * {@link LatinSquare} of the given size.
+	 * 
+	 * @param size the number of {@code Symbol}s in the returned alphabet.
+	 * 
+	 * @return the number {@code SymbolAlphabet} of the given size.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1} or greater than {@code 4096}.
+	 * 
+	 * @implNote
+	 * Alphabets of up to {@code 1024} {@code Symbol}s are created once and then shared, larger alphabets are created
+	 * on every call.
+	 */
+	public static final SymbolAlphabet<Integer> numberAlphabet(int size) {
+		requireInRange(1, DenseSymbolAlphabet.MAX_ID + 1, size, "size must be greater than or equal to 1 and less than or equal to " + DenseSymbolAlphabet.MAX_ID + ".");
+		if (size > MAX_INTERNED_NUMBER) return createAlphabet(size, Symbols::numberSymbol);
+		SymbolAlphabet<Integer> alphabet = NUMBER_ALPHABETS.get(size);
+		if (alphabet == null) {
+			NUMBER_ALPHABETS.compareAndSet(size, null, createAlphabet(size, Symbols::numberSymbol));
+			alphabet = NUMBER_ALPHABETS.get(size);
+		}
+		return alphabet;
+	}
+
+	/**
+	 * Returns the interned {@link SymbolAlphabet} of the first {@code size} letter {@link Symbol}s. That is, an
+	 * alphabet of exactly {@code size} {@code Symbol}s where the first {@code Symbol} has an id of {@code 1} and the
+	 * value {@code A}, the second has an id of {@code 2} and the value {@code B} and so on.
+	 * 
+	 * @param size the number of {@code Symbol}s in the returned alphabet.
+	 * 
+	 * @return the letter {@code SymbolAlphabet} of the given size.
+	 * 
+	 * @throws IllegalArgumentException if {@code size} is less than {@code 1} or greater than {@code 26}.
+	 */
+	public static final SymbolAlphabet<Character> letterAlphabet(int size) {
+		requireInRange(1, LETTER_COUNT + 1, size, "size must be greater than or equal to 1 and less than or equal to " + LETTER_COUNT + ".");
+		SymbolAlphabet<Character> alphabet = LETTER_ALPHABETS.get(size);
+		if (alphabet == null) {
+			LETTER_ALPHABETS.compareAndSet(size, null, createAlphabet(size, Symbols::letterSymbol));
+			alphabet = LETTER_ALPHABETS.get(size);
+		}
+		return alphabet;
+	}
+
+	/**
+	 * Returns a new {@link SymbolAlphabet} holding the given {@link Symbol}s. Unlike the alphabets returned by
+	 * {@link #numberAlphabet(int)} and {@link #letterAlphabet(int)}, the returned alphabet is not interned.
+	 * 
+	 * @param <V> the type of value held by the given {@code Symbol}s.
+	 * 
+	 * @param symbols the {@code Symbol}s of the returned alphabet.
+	 * 
+	 * @return a new {@code SymbolAlphabet} holding the given {@code Symbol}s.
+	 * 
+	 * @throws NullPointerException if {@code symbols} is {@code null} or contains a {@code null} element.
+	 * @throws IllegalArgumentException if {@code symbols} is empty, if any two of the given {@code Symbol}s have the
+	 * same id or if any of the ids is less than {@code 1} or greater than {@code 4096}.
+	 */
+	public static final <V> SymbolAlphabet<V> alphabetOf(Set<Symbol<V>> symbols) {
+		requireNonNull(symbols, "symbols cannot be null.");
+		requireGreaterThanOrEqualTo(1, symbols.size(), "symbols cannot be empty.");
+		Symbol<V>[] sorted = symbols.toArray(GridArrays.newArray(Symbol.class, symbols.size()));
+		Arrays.sort(sorted, DEFAULT_SYMBOL_COMPARATOR);
+		for (int index = 0; index < sorted.length; index++) {
+			int id = requireNonNull(sorted[index], "symbols cannot contain null elements.").idAsInt();
+			requireInRange(1, DenseSymbolAlphabet.MAX_ID + 1, id, "The id of " + sorted[index] + " must be greater than or equal to 1 and less than or equal to " + DenseSymbolAlphabet.MAX_ID + ".");
+			if (index > 0 && sorted[index - 1].idAsInt() == id)
+				throw new IllegalArgumentException("The Symbols " + sorted[index - 1] + " and " + sorted[index] + " have the same id.");
+		}
+		return new DenseSymbolAlphabet<>(sorted);
+	}
 	
 	/**
 	 * Returns a default {@link Comparator} that can be used to compare two {@link Symbol}s for equality and
@@ -120,7 +220,7 @@ public final class Symbols {
 	 */
 	public static final int hashCode(Symbol<?> symbol) {
 		requireNonNull(symbol, "symbol cannot be null.");
-		int hashCode = symbol.id().hashCode();
+		int hashCode = Integer.hashCode(symbol.idAsInt());
 		hashCode = 92821 * hashCode + symbol.value().hashCode();
 		return hashCode;
 	}
@@ -142,7 +242,7 @@ public final class Symbols {
 		if (obj == symbol) return true;
 		if (!(obj instanceof Symbol)) return false;
 		Symbol<?> _obj = (Symbol<?>)obj;
-		return symbol.id().equals(_obj.id()) && symbol.value().equals(_obj.value());
+		return symbol.idAsInt() == _obj.idAsInt() && symbol.value().equals(_obj.value());
 	}
 	
 	/**
@@ -160,15 +260,54 @@ public final class Symbols {
 	}
 
 	/**
-	 * This helper method used internally by the {@link #letterSymbolsUpTo(int)} to convert an {@code Integer}
-	 * into a {@code Character}. 
+	 * Returns the number {@link Symbol} with the given id, interning it if the id is small enough.
+	 * 
+	 * @param id the id, and value, of the number {@code Symbol} to return.
+	 * 
+	 * @return the number {@code Symbol} with the given id.
+	 */
+	private static final Symbol<Integer> numberSymbol(int id) {
+		if (id > MAX_INTERNED_NUMBER) return of(id, id);
+		Symbol<Integer> symbol = NUMBER_SYMBOLS.get(id);
+		if (symbol == null) {
+			NUMBER_SYMBOLS.compareAndSet(id, null, of(id, id));
+			symbol = NUMBER_SYMBOLS.get(id);
+		}
+		return symbol;
+	}
+
+	/**
+	 * Returns the interned letter {@link Symbol} with the given id, i.e the letter {@code Symbol} whose value is the
+	 * {@code id}th letter of the alphabet.
 	 * 
-	 * @param offset the number to construct a {@code Character} from.
+	 * @param id the id of the letter {@code Symbol} to return, from {@code 1} to {@code 26}.
 	 * 
-	 * @return a new letter {@code Symbol} constructed from the given {@code Symbol}.
+	 * @return the letter {@code Symbol} with the given id.
 	 */
-	private static final Symbol<Character> nextLetterSymbol(int offset) {
-		return of(Integer.valueOf(offset), (char)('A' + (--offset)));
+	private static final Symbol<Character> letterSymbol(int id) {
+		Symbol<Character> symbol = LETTER_SYMBOLS.get(id);
+		if (symbol == null) {
+			LETTER_SYMBOLS.compareAndSet(id, null, of(id, (char) ('A' + id - 1)));
+			symbol = LETTER_SYMBOLS.get(id);
+		}
+		return symbol;
+	}
+
+	/**
+	 * Creates a {@link SymbolAlphabet} of the {@link Symbol}s with the ids {@code 1} to {@code size}.
+	 * 
+	 * @param <V> the type of value held by the {@code Symbol}s of the alphabet.
+	 * 
+	 * @param size the number of {@code Symbol}s in the alphabet.
+	 * @param symbolOf returns the {@code Symbol} with a given id.
+	 * 
+	 * @return a new {@code SymbolAlphabet} of the given size.
+	 */
+	private static final <V> SymbolAlphabet<V> createAlphabet(int size, IntFunction<Symbol<V>> symbolOf) {
+		Symbol<V>[] symbols = GridArrays.newArray(Symbol.class, size);
+		for (int id = 1; id <= size; id++)
+			symbols[id - 1] = symbolOf.apply(id);
+		return new DenseSymbolAlphabet<>(symbols);
 	}
 	
 	/**
@@ -184,6 +323,7 @@ public final class Symbols {
 	private static class SimpleSymbol<V> implements Symbol<V> {
 
 		private final Integer id;
+		private final int idAsInt;
 		private final V value;
 		private final int hashCode;
 		
@@ -197,6 +337,7 @@ public final class Symbols {
 		 */
 		SimpleSymbol(Integer id, V value) {
 			this.id = requireNonNull(id, "id cannot be null.");
+			this.idAsInt = id.intValue();
 			this.value = requireNonNull(value, "value cannot be null.");
 			// cache the hash code
 			this.hashCode = Symbols.hashCode(this);
@@ -207,6 +348,11 @@ public final class Symbols {
 			return id;
 		}
 
+		@Override
+		public int idAsInt() {
+			return idAsInt;
+		}
+
 		@Override
 		public V value() {
 			return value;
@@ -0,0 +1,315 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * This finds the orthogonal mates of a complete Latin square as an exact cover problem. A Latin square has an
+ * orthogonal mate if and only if it's {@link Cell}s can be partitioned into {@code size} disjoint transversals, sets
+ * of {@code size} {@code Cell}s with exactly one {@code Cell} in every {@link Row} and {@link Column} and no
+ * {@link Symbol} twice. Every transversal of the square is enumerated once, when the {@code TransversalCover} is
+ * created, and stored as a bit set of it's {@code Cell}s, the mates are then the sets of {@code size} pairwise
+ * disjoint transversals. The transversal that covers the {@code Cell} of the first {@code Row} in {@code Column}
+ * {@code c} gets the symbol {@code c} in the mate, so a partition gives a single mate whose first {@code Row} holds
+ * the symbols in order.
+ * 
+ * <p>
+ * Every transversal holds exactly one {@code Cell} of the first {@code Row}, so covering the first {@code Row} with
+ * disjoint transversals covers the whole square. The search always covers next the {@code Cell} of the first
+ * {@code Row} with the fewest transversals disjoint from the ones already chosen, and the transversals of the first
+ * such {@code Cell} are searched in parallel on a {@link ForkJoinPool}. Storing the transversals limits the search
+ * to squares with at most {@link #MAX_TRANSVERSALS} of them, more than the {@code 1030367} of the cyclic square of size
+ * {@code 13} but far fewer than the over {@code 36} million of the cyclic square of size {@code 15}, while
+ * {@link #countTransversals(int, int[])} counts them without storing them. A {@code TransversalCover} is immutable and
+ * the search checks periodically whether the current thread has been interrupted and if so, aborts by throwing a
+ * {@link CancellationException}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 05:02:33
+ * 
+ * @see OrthogonalMates
+ */
+final class TransversalCover {
+
+	/**
+	 * the number of search nodes between two checks of the interrupt status.
+	 */
+	private static final int CHECK_INTERVAL = 1 << 10;
+
+	/**
+	 * the largest number of transversals that a {@code TransversalCover} stores, about {@code 100} bytes each for a
+	 * square of size {@code 16}.
+	 */
+	static final int MAX_TRANSVERSALS = 1 << 21;
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final int size;
+	private final int words;
+	// the cells of each transversal as a bit set of words words
+	private final long[] cells;
+	// the column of each transversal in each row, by transversal * size + row
+	private final int[] columns;
+	// the transversals through the cell of the first row in each column
+	private final int[][] transversalsByColumn;
+
+	/**
+	 * Creates a new {@code TransversalCover} of the given Latin square.
+	 * 
+	 * @param size the size of the Latin square, at most {@code 64}.
+	 * @param values the symbol of each {@code Cell} in row-major order, from {@code 0} to {@code size - 1}. The
+	 * values must form a Latin square.
+	 * 
+	 * @throws IllegalArgumentException if the Latin square has more than {@link #MAX_TRANSVERSALS} transversals.
+	 * @throws CancellationException if the current thread is interrupted while enumerating the transversals.
+	 */
+	TransversalCover(int size, int[] values) {
+		this.size = size;
+		this.words = (size * size + 63) >>> 6;
+		final Transversals transversals = new Transversals(size, values, true);
+		transversals.enumerate(0, 0L, 0L);
+		final int transversalCount = (int) transversals.count;
+		this.columns = Arrays.copyOf(transversals.columns, transversalCount * size);
+		this.cells = new long[transversalCount * words];
+		final int[] columnSizes = new int[size];
+		for (int transversal = 0; transversal < transversalCount; transversal++) {
+			for (int row = 0; row < size; row++) {
+				final int cell = row * size + columns[transversal * size + row];
+				cells[transversal * words + (cell >>> 6)] |= 1L << cell;
+			}
+			columnSizes[columns[transversal * size]]++;
+		}
+		this.transversalsByColumn = new int[size][];
+		for (int column = 0; column < size; column++) {
+			transversalsByColumn[column] = new int[columnSizes[column]];
+			columnSizes[column] = 0;
+		}
+		for (int transversal = 0; transversal < transversalCount; transversal++) {
+			final int column = columns[transversal * size];
+			transversalsByColumn[column][columnSizes[column]++] = transversal;
+		}
+	}
+
+	/**
+	 * Returns the number of transversals of the given Latin square, enumerating them without storing them.
+	 * 
+	 * @param size the size of the Latin square, at most {@code 64}.
+	 * @param values the symbol of each {@code Cell} in row-major order, from {@code 0} to {@code size - 1}. The
+	 * values must form a Latin square.
+	 * 
+	 * @return the number of transversals of the given Latin square.
+	 * 
+	 * @throws CancellationException if the current thread is interrupted while enumerating the transversals.
+	 */
+	static long countTransversals(int size, int[] values) {
+		final Transversals transversals = new Transversals(size, values, false);
+		transversals.enumerate(0, 0L, 0L);
+		return transversals.count;
+	}
+
+	/**
+	 * Searches the orthogonal mates of the Latin square on the given {@link ForkJoinPool}, passing each one to the
+	 * given action as the symbol of every {@code Cell} in row-major order. The action may be called by several
+	 * threads at once.
+	 * 
+	 * @param pool the {@code ForkJoinPool} to search on.
+	 * @param firstOnly whether to stop at the first mate found.
+	 * @param action the action to pass the mates to.
+	 * 
+	 * @return the number of mates passed to the action.
+	 * 
+	 * @throws CancellationException if a thread running the search is interrupted.
+	 */
+	long cover(ForkJoinPool pool, boolean firstOnly, Consumer<int[]> action) {
+		// a cell of the first row that no transversal goes through can't be covered
+		int rootColumn = 0;
+		for (int column = 0; column < size; column++) {
+			if (transversalsByColumn[column].length == 0) return 0L;
+			if (transversalsByColumn[column].length < transversalsByColumn[rootColumn].length) rootColumn = column;
+		}
+		final Run run = new Run(firstOnly, action);
+		final int[] roots = transversalsByColumn[rootColumn];
+		pool.invoke(new CoverTask(run, roots, 0, roots.length));
+		return run.found.get();
+	}
+
+	/**
+	 * The state shared by the tasks of a single search.
+	 */
+	private static final class Run {
+
+		private final boolean firstOnly;
+		private final Consumer<int[]> action;
+		private final AtomicBoolean stopped = new AtomicBoolean();
+		private final AtomicLong found = new AtomicLong();
+
+		Run(boolean firstOnly, Consumer<int[]> action) {
+			this.firstOnly = firstOnly;
+			this.action = action;
+		}
+	}
+
+	/**
+	 * Searches the covers that start with a range of the transversals of the root {@code Cell}, splitting the range
+	 * in halves until a single transversal is left.
+	 */
+	private final class CoverTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient Run run;
+		private final int[] roots;
+		private final int from;
+		private final int to;
+
+		CoverTask(Run run, int[] roots, int from, int to) {
+			this.run = run;
+			this.roots = roots;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > 1) {
+				final int middle = (from + to) >>> 1;
+				invokeAll(new CoverTask(run, roots, from, middle), new CoverTask(run, roots, middle, to));
+			} else if (to > from && !run.stopped.get()) {
+				new Search(run).start(roots[from]);
+			}
+		}
+	}
+
+	/**
+	 * The depth first search of the covers below a single root transversal.
+	 */
+	private final class Search {
+
+		private final Run run;
+		private final long[] covered = new long[words];
+		// the transversal chosen for the cell of the first row in each column, -1 if none yet
+		private final int[] chosen = new int[size];
+		private long nodes;
+
+		Search(Run run) {
+			this.run = run;
+			Arrays.fill(chosen, -1);
+		}
+
+		void start(int root) {
+			choose(root, true);
+			search(size - 1);
+		}
+
+		private void search(int remaining) {
+			if (remaining == 0) {
+				// only the first of several threads finishing at once reports it's mate
+				if (run.firstOnly && !run.stopped.compareAndSet(false, true)) return;
+				run.found.incrementAndGet();
+				run.action.accept(mate());
+				return;
+			}
+			if ((++nodes & (CHECK_INTERVAL - 1)) == 0 && Thread.currentThread().isInterrupted())
+				throw new CancellationException("The search was interrupted.");
+			if (run.stopped.get()) return;
+
+			// cover next the cell of the first row with the fewest disjoint transversals
+			int bestColumn = -1, bestCount = Integer.MAX_VALUE;
+			for (int column = 0; column < size && bestCount > 0; column++) {
+				if (chosen[column] >= 0) continue;
+				int count = 0;
+				for (int transversal : transversalsByColumn[column])
+					if (isDisjoint(transversal)) count++;
+				if (count < bestCount) {
+					bestColumn = column;
+					bestCount = count;
+				}
+			}
+			if (bestCount == 0) return;
+			for (int transversal : transversalsByColumn[bestColumn]) {
+				if (!isDisjoint(transversal)) continue;
+				choose(transversal, true);
+				search(remaining - 1);
+				choose(transversal, false);
+				if (run.stopped.get()) return;
+			}
+		}
+
+		private boolean isDisjoint(int transversal) {
+			for (int word = 0; word < words; word++)
+				if ((covered[word] & cells[transversal * words + word]) != 0L) return false;
+			return true;
+		}
+
+		private void choose(int transversal, boolean chose) {
+			for (int word = 0; word < words; word++)
+				covered[word] ^= cells[transversal * words + word];
+			chosen[columns[transversal * size]] = chose? transversal : -1;
+		}
+
+		private int[] mate() {
+			final int[] mate = new int[size * size];
+			for (int symbol = 0; symbol < size; symbol++)
+				for (int row = 0; row < size; row++)
+					mate[row * size + columns[chosen[symbol] * size + row]] = symbol;
+			return mate;
+		}
+	}
+
+	/**
+	 * The depth first enumeration of the transversals, a row at a time, that either stores or only counts them.
+	 */
+	private static final class Transversals {
+
+		private final int size;
+		private final int[] values;
+		private final boolean stored;
+		private final int[] current;
+		private int[] columns;
+		private long count;
+		private long nodes;
+
+		Transversals(int size, int[] values, boolean stored) {
+			this.size = size;
+			this.values = values;
+			this.stored = stored;
+			this.current = new int[size];
+			this.columns = new int[stored? size * 64 : 0];
+		}
+
+		void enumerate(int row, long usedColumns, long usedSymbols) {
+			if (row == size) {
+				if (stored) store();
+				count++;
+				return;
+			}
+			if ((++nodes & (CHECK_INTERVAL - 1)) == 0 && Thread.currentThread().isInterrupted())
+				throw new CancellationException("The enumeration of the transversals was interrupted.");
+			for (int column = 0; column < size; column++) {
+				final long symbol = 1L << values[row * size + column];
+				if ((usedColumns & (1L << column)) != 0L || (usedSymbols & symbol) != 0L) continue;
+				current[row] = column;
+				enumerate(row + 1, usedColumns | (1L << column), usedSymbols | symbol);
+			}
+		}
+
+		private void store() {
+			if (count == MAX_TRANSVERSALS)
+				throw new IllegalArgumentException("The Latin square has more than " + MAX_TRANSVERSALS + " transversals.");
+			final int end = (int) (count + 1) * size;
+			if (end > columns.length)
+				columns = Arrays.copyOf(columns, Math.min(2 * columns.length, MAX_TRANSVERSALS * size));
+			System.arraycopy(current, 0, columns, end - size, size);
+		}
+	}
+}
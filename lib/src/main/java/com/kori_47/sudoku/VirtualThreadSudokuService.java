@@ -0,0 +1,186 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is a {@link SudokuService} that serves every request on it's own virtual thread. The number of requests in
+ * flight is bounded by a {@link Semaphore}, a permit is acquired when a request is admitted and released when the
+ * thread serving the request finishes, or when the request is cancelled before it starts running. A cancelled
+ * request that is already running stays in flight until it's thread finishes.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 13:36:44
+ */
+final class VirtualThreadSudokuService implements SudokuService {
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final ExecutorService executor;
+	private final Semaphore admissions;
+	private final long admissionTimeout;
+	private final Set<Request<?>> requests;
+	private final AtomicInteger inFlight;
+	private volatile boolean closed;
+
+	/**
+	 * Creates a new {@code VirtualThreadSudokuService}.
+	 * 
+	 * @param maxInFlight the maximum number of requests in flight.
+	 * @param admissionTimeout how long a new request waits to be admitted before it is rejected.
+	 */
+	VirtualThreadSudokuService(int maxInFlight, Duration admissionTimeout) {
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		this.admissions = new Semaphore(maxInFlight);
+		this.admissionTimeout = requireNonNull(admissionTimeout, "admissionTimeout cannot be null.").toNanos();
+		this.requests = ConcurrentHashMap.newKeySet();
+		this.inFlight = new AtomicInteger();
+	}
+
+	@Override
+	public <V> Future<Boolean> solve(LatinSquare<V> latinSquare, Duration deadline) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		return submit(deadline, _deadline -> Solvers.solve(latinSquare, _deadline));
+	}
+
+	@Override
+	public <V> Future<Boolean> validate(LatinSquare<V> latinSquare, Duration deadline) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		return submit(deadline, _deadline -> Solvers.validate(latinSquare, _deadline));
+	}
+
+	@Override
+	public <V> Future<Integer> generate(LatinSquare<V> latinSquare, Duration deadline) {
+		requireNonNull(latinSquare, "latinSquare cannot be null.");
+		return submit(deadline, _deadline -> Solvers.generate(latinSquare, ThreadLocalRandom.current(), _deadline));
+	}
+
+	@Override
+	public int inFlight() {
+		return inFlight.get();
+	}
+
+	@Override
+	public int cancelAll() {
+		int cancelled = 0;
+		for (Request<?> request : requests)
+			if (request.cancel(true)) cancelled++;
+		return cancelled;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		cancelAll();
+		executor.shutdownNow();
+		boolean interrupted = false;
+		while (true) {
+			try {
+				if (executor.awaitTermination(1, TimeUnit.DAYS)) break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	@Override
+	public String toString() {
+		return "SudokuService{inFlight=" + inFlight() + ", availablePermits=" + admissions.availablePermits() + ", closed=" + closed + "}";
+	}
+
+	private <T> Future<T> submit(Duration deadline, Task<T> task) {
+		requireNonNull(deadline, "deadline cannot be null.");
+		if (closed)
+			throw new RejectedExecutionException("The SudokuService is closed.");
+		try {
+			if (!admissions.tryAcquire(admissionTimeout, TimeUnit.NANOSECONDS))
+				throw new RejectedExecutionException("Too many requests in flight, the request was rejected.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting for the request to be admitted.", e);
+		}
+
+		inFlight.incrementAndGet();
+		// the deadline is measured from the time the request is admitted
+		Request<T> request = new Request<>(task, Solvers.deadlineOf(deadline));
+		requests.add(request);
+		try {
+			executor.execute(request);
+		} catch (RejectedExecutionException e) {
+			request.cancel(false);
+			throw e;
+		}
+		return request;
+	}
+
+	private void release() {
+		inFlight.decrementAndGet();
+		admissions.release();
+	}
+
+	private static <T> T call(Task<T> task, long deadline) throws TimeoutException {
+		try {
+			return task.call(deadline);
+		} catch (CancellationException e) {
+			if (System.nanoTime() - deadline >= 0)
+				throw new TimeoutException("The deadline of the request has passed.");
+			throw e;
+		}
+	}
+
+	@FunctionalInterface
+	private static interface Task<T> {
+
+		T call(long deadline);
+	}
+
+	private final class Request<T> extends FutureTask<T> {
+
+		private static final int NEW = 0, RUNNING = 1, RELEASED = 2;
+
+		private final AtomicInteger state = new AtomicInteger(NEW);
+
+		Request(Task<T> task, long deadline) {
+			super(() -> call(task, deadline));
+		}
+
+		@Override
+		public void run() {
+			// a request that was cancelled before it started has already released it's permit
+			if (!state.compareAndSet(NEW, RUNNING)) return;
+			try {
+				super.run();
+			} finally {
+				state.set(RELEASED);
+				release();
+			}
+		}
+
+		@Override
+		protected void done() {
+			requests.remove(this);
+			if (state.compareAndSet(NEW, RELEASED))
+				release();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.util.Random;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariant;
+
+/**
+ * A benchmark for {@link Sudoku}s with box shaped {@link Block}s of increasing sizes, from the classic <i>9x9</i>
+ * {@code Sudoku} up to <i>64x64</i>. For each size it reports the average time taken to create an empty
+ * {@code Sudoku}, to load and validate a complete grid and to solve a puzzle made by clearing a share of the
+ * {@link Cell}s of that grid. The complete grids are made from the shifted row pattern of box {@code Sudoku}s with
+ * their symbols shuffled, since filling an empty <i>64x64</i> grid by search alone is a benchmark of luck.
+ * 
+ * <p>
+ * Run it with {@code ./gradlew :lib:benchmark}, optionally passing {@code --args="<iterations> <clearedPercentage>"}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 23:06:52
+ */
+public final class BoxBlocksBenchmark {
+
+	/**
+	 * the block dimensions of the benchmarked variants.
+	 */
+	private static final int[] BLOCK_SIZES = { 3, 4, 5, 6, 7, 8 };
+
+	public static void main(String[] args) {
+		final int iterations = (args.length > 0)? Integer.parseInt(args[0]) : 5;
+		final int clearedPercentage = (args.length > 1)? Integer.parseInt(args[1]) : 30;
+
+		System.out.printf("iterations=%d cleared=%d%%%n", iterations, clearedPercentage);
+		System.out.printf("%-8s %8s %12s %12s %12s %12s%n", "size", "cells", "create(ms)", "load(ms)", "validate(ms)", "solve(ms)");
+		for (int blockSize : BLOCK_SIZES) {
+			final BoxBlocksSudokuVariant variant = SudokuVariants.boxBlocksVariantOf(blockSize, blockSize);
+			final Random random = new Random(47);
+			long create = 0, load = 0, validate = 0, solve = 0;
+			// the first iteration warms the code paths up and isn't measured
+			for (int iteration = 0; iteration <= iterations; iteration++) {
+				long start = System.nanoTime();
+				Sudoku<Integer> sudoku = newSudoku(variant);
+				long created = System.nanoTime();
+				int[] values = completeGrid(blockSize, random);
+				sudoku.loadFrom(values);
+				long filled = System.nanoTime();
+				if (!Solvers.isConsistent(sudoku))
+					throw new IllegalStateException("A complete " + variant + " sudoku isn't consistent.");
+				long validated = System.nanoTime();
+
+				for (int index = 0; index < values.length; index++)
+					if (random.nextInt(100) < clearedPercentage)
+						values[index] = 0;
+				Sudoku<Integer> puzzle = newSudoku(variant);
+				puzzle.loadFrom(values);
+				long loaded = System.nanoTime();
+				if (!Solvers.solve(puzzle))
+					throw new IllegalStateException("A " + variant + " puzzle couldn't be solved.");
+				long solved = System.nanoTime();
+
+				if (iteration > 0) {
+					create += created - start;
+					load += filled - created;
+					validate += validated - filled;
+					solve += solved - loaded;
+				}
+			}
+			System.out.printf("%-8s %8d %12.3f %12.3f %12.3f %12.3f%n", variant.size() + "x" + variant.size(), variant.size() * variant.size(),
+					create / (iterations * 1e6), load / (iterations * 1e6), validate / (iterations * 1e6), solve / (iterations * 1e6));
+		}
+	}
+
+	/**
+	 * Returns the symbol ids of a complete grid of a box {@code Sudoku} with square blocks of the given size, in
+	 * row-major order. Each row is the row above it shifted by a block, or by one more at the start of a band.
+	 */
+	private static int[] completeGrid(int blockSize, Random random) {
+		final int size = blockSize * blockSize;
+		final int[] symbolIds = new int[size];
+		for (int ordinal = 0; ordinal < size; ordinal++) {
+			int other = random.nextInt(ordinal + 1);
+			symbolIds[ordinal] = symbolIds[other];
+			symbolIds[other] = ordinal + 1;
+		}
+		final int[] values = new int[size * size];
+		for (int y = 0; y < size; y++)
+			for (int x = 0; x < size; x++)
+				values[y * size + x] = symbolIds[((y % blockSize) * blockSize + y / blockSize + x) % size];
+		return values;
+	}
+
+	private static Sudoku<Integer> newSudoku(BoxBlocksSudokuVariant variant) {
+		return LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(variant.size()));
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private BoxBlocksBenchmark() { }
+}
@@ -0,0 +1,170 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+/**
+ * This class defines the tests for the {@link CandidateGrid} instances returned by the
+ * {@link CandidateGrids} utility class.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 10:41:09
+ */
+public class CandidateGridsTest {
+
+	/**
+	 * Tests that the candidates of a new {@link CandidateGrid} are computed from the placed {@link Symbol}s.
+	 */
+	@Test
+	public void testCandidateGridOf() {
+		Sudoku<Integer> sudoku = LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberSymbolsUpTo(10));
+		Symbol<Integer> five = sudoku.symbols().get(5);
+		sudoku.changeSymbol(sudoku.getCell(4, 4).get(), five);
+
+		CandidateGrid<Integer> grid = CandidateGrids.candidateGridOf(sudoku);
+
+		// assert that the CandidateGrid returned isn't null and is attached to the given Sudoku
+		assertNotNull(grid);
+		assertEquals(sudoku, grid.latinSquare());
+
+		// assert that a filled Cell has no candidates
+		assertEquals(0, grid.candidateCount(sudoku.getCell(4, 4).get()));
+		assertTrue(grid.candidates(sudoku.getCell(4, 4).get()).isEmpty());
+
+		// assert that the peers of the filled Cell lost the placed Symbol
+		assertFalse(grid.hasCandidate(sudoku.getCell(0, 4).get(), five));
+		assertFalse(grid.hasCandidate(sudoku.getCell(4, 8).get(), five));
+		assertFalse(grid.hasCandidate(sudoku.getCell(3, 5).get(), five));
+		assertEquals(8, grid.candidateCount(sudoku.getCell(3, 5).get()));
+
+		// assert that other Cells have all the Symbols as candidates
+		assertTrue(grid.hasCandidate(sudoku.getCell(0, 0).get(), five));
+		assertEquals(9, grid.candidates(sudoku.getCell(0, 0).get()).size());
+
+		// assert that a NullPointerException is thrown if null is passed
+		assertThrows(NullPointerException.class, () -> CandidateGrids.candidateGridOf(null));
+	}
+
+	/**
+	 * Tests that {@link CandidateGrid#changeSymbol(Cell, Symbol)} updates the candidates incrementally.
+	 */
+	@Test
+	public void testChangeSymbol() {
+		Sudoku<Integer> sudoku = LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberSymbolsUpTo(10));
+		CandidateGrid<Integer> grid = CandidateGrids.candidateGridOf(sudoku);
+		Symbol<Integer> three = sudoku.symbols().get(3), seven = sudoku.symbols().get(7);
+		Cell<Integer> cell = sudoku.getCell(1, 1).get(), rowPeer = sudoku.getCell(8, 1).get(), blockPeer = sudoku.getCell(2, 2).get();
+
+		grid.changeSymbol(cell, three);
+
+		// assert that the Symbol was placed and removed from the peers of the Cell
+		assertEquals(three, cell.symbol().get());
+		assertFalse(grid.hasCandidate(rowPeer, three));
+		assertFalse(grid.hasCandidate(blockPeer, three));
+		assertTrue(grid.hasCandidate(sudoku.getCell(8, 8).get(), three));
+
+		// assert that replacing the Symbol restores the old one and blocks the new one
+		grid.changeSymbol(cell, seven);
+		assertTrue(grid.hasCandidate(rowPeer, three));
+		assertFalse(grid.hasCandidate(rowPeer, seven));
+
+		// assert that a Symbol that is still blocked by another Cell isn't restored
+		grid.changeSymbol(sudoku.getCell(5, 1).get(), three);
+		grid.changeSymbol(cell, null);
+		assertFalse(grid.hasCandidate(rowPeer, three));
+		assertTrue(grid.hasCandidate(rowPeer, seven));
+		assertFalse(grid.hasCandidate(cell, three));
+		assertTrue(grid.hasCandidate(cell, seven));
+
+		// assert that changes made directly on the Sudoku and it's Cells are picked up, keeping removed candidates
+		Cell<Integer> corner = sudoku.getCell(8, 8).get(), columnPeer = sudoku.getCell(8, 4).get(), origin = sudoku.getCell(0, 0).get();
+		assertTrue(grid.removeCandidate(origin, seven));
+		sudoku.changeSymbol(corner, three);
+		assertFalse(grid.hasCandidate(columnPeer, three));
+		assertEquals(0, grid.candidateCount(corner));
+		assertFalse(grid.hasCandidate(origin, seven));
+		corner.changeSymbol(null);
+		assertTrue(grid.candidates(columnPeer).contains(three));
+
+		// assert that placing a Symbol through the CandidateGrid also applies the direct changes to it's peers
+		sudoku.changeSymbol(corner, three);
+		grid.changeSymbol(sudoku.getCell(8, 0).get(), seven);
+		assertFalse(grid.hasCandidate(columnPeer, three));
+		assertFalse(grid.hasCandidate(columnPeer, seven));
+
+		// assert that invalid Cells and Symbols are rejected
+		assertThrows(SudokuException.class, () -> grid.changeSymbol(Cells.of("x", 20, 20), three));
+		assertThrows(SudokuException.class, () -> grid.changeSymbol(cell, Symbols.of(12, 12)));
+		assertThrows(NullPointerException.class, () -> grid.changeSymbol(null, three));
+	}
+
+	/**
+	 * Tests the per {@link CellGroup} bulk operations of a {@link CandidateGrid}.
+	 */
+	@Test
+	public void testCellGroupOperations() {
+		Sudoku<Integer> sudoku = LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberSymbolsUpTo(10));
+		CandidateGrid<Integer> grid = CandidateGrids.candidateGridOf(sudoku);
+		Symbol<Integer> one = sudoku.symbols().get(1), two = sudoku.symbols().get(2), nine = sudoku.symbols().get(9);
+		Row<Integer> row = sudoku.rows().get("0");
+		Column<Integer> column = sudoku.columns().get("0");
+		Block<Integer> block = sudoku.blocks().get("0");
+
+		// assert that removing a candidate from a Row affects every Cell of the Row once
+		assertEquals(9, grid.removeCandidate(row, one));
+		assertEquals(0, grid.removeCandidate(row, one));
+		assertTrue(grid.cellsWithCandidate(row, one).isEmpty());
+		assertEquals(8, grid.cellsWithCandidate(column, one).size());
+
+		// assert that adding a candidate to a Column only affects the Cells missing it
+		assertEquals(1, grid.addCandidate(column, one));
+		assertEquals(1, grid.cellsWithCandidate(row, one).size());
+
+		// assert that retaining candidates on a Block restricts the union of the Block's candidates
+		assertEquals(9, grid.retainCandidates(block, Set.of(one, two)));
+		assertEquals(Set.of(one, two), grid.candidates(block));
+		assertEquals(9, grid.removeCandidates(block, Set.of(two, nine)));
+		assertEquals(7, grid.cellsWithCandidate(block, one).size());
+
+		// assert that refreshing recomputes the candidates from the placed Symbols
+		grid.refresh();
+		assertEquals(9, grid.cellsWithCandidate(block, two).size());
+		assertEquals(9, grid.candidates(row).size());
+	}
+
+	/**
+	 * Tests a {@link CandidateGrid} attached to a {@link LatinSquare} with more than {@code 64} {@link Symbol}s.
+	 */
+	@Test
+	public void testWideCandidateGrid() {
+		LatinSquare<Integer> latinSquare = LatinSquares.latinSquareOf(70, Symbols.numberSymbolsUpTo(71));
+		CandidateGrid<Integer> grid = CandidateGrids.candidateGridOf(latinSquare);
+		Symbol<Integer> last = latinSquare.symbols().get(70);
+		Cell<Integer> cell = latinSquare.getCell(10, 20).get();
+
+		assertEquals(70, grid.candidateCount(cell));
+		grid.changeSymbol(latinSquare.getCell(10, 69).get(), last);
+		assertFalse(grid.hasCandidate(cell, last));
+		assertEquals(69, grid.candidates(cell).size());
+		assertFalse(grid.candidates(cell).contains(last));
+
+		// assert that a copy is independent of the original
+		CandidateGrid<Integer> copy = grid.copy();
+		copy.clearCandidates(cell);
+		assertEquals(0, copy.candidateCount(cell));
+		assertEquals(69, grid.candidateCount(cell));
+	}
+}
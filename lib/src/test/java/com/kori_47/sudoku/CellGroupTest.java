@@ -5,6 +5,7 @@ package com.kori_47.sudoku;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Map;
@@ -138,6 +139,36 @@ public interface CellGroupTest<T extends CellGroup<Object>> extends TestHashCode
 		assertEquals(cellGroup.cells(), cells);
 	}
 	
+	/**
+	 * Tests a {@code CellGroup}'s {@link CellGroup#cellAt(int) cellAt(int)}, {@link CellGroup#indexOf(Cell)
+	 * indexOf(Cell)} and {@link CellGroup#cellIndices() cellIndices()} methods.
+	 */
+	@Test
+	default void testCellAddressing() {
+		T cellGroup = createValue();
+		int[] cellIndices = cellGroup.cellIndices();
+		
+		// assert that there's an index for each cell and that the indices are row-major and ascending
+		assertEquals(cellGroup.cells().size(), cellIndices.length);
+		for (int index = 0; index < cellIndices.length; index++) {
+			Cell<Object> cell = cellGroup.cellAt(index);
+			assertEquals(cell, cellGroup.cells().get(cell.id()));
+			assertEquals(cell.y() * cellGroup.size() + cell.x(), cellIndices[index]);
+			assertEquals(index, cellGroup.indexOf(cell));
+			assertTrue(index == 0 || cellIndices[index - 1] < cellIndices[index]);
+		}
+		
+		// assert that the returned indices are a copy
+		cellIndices[0] = -1;
+		assertEquals(cellGroup.cellAt(0).y() * cellGroup.size() + cellGroup.cellAt(0).x(), cellGroup.cellIndices()[0]);
+		
+		// assert that foreign cells and invalid positions are handled
+		assertEquals(-1, cellGroup.indexOf(Cells.of("not a cell id", 0, 0)));
+		assertThrows(NullPointerException.class, () -> cellGroup.indexOf(null));
+		assertThrows(IndexOutOfBoundsException.class, () -> cellGroup.cellAt(-1));
+		assertThrows(IndexOutOfBoundsException.class, () -> cellGroup.cellAt(cellIndices.length));
+	}
+	
 	/**
 	 * Tests a {@code CellGroup}'s {@link CellGroup#getCell(String) getCell(String)} method.
 	 */
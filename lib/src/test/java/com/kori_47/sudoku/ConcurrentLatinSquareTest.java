@@ -0,0 +1,144 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.PUZZLE;
+import static com.kori_47.sudoku.SolversTest.digitsOf;
+import static com.kori_47.sudoku.SolversTest.sudokuOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for {@link ConcurrentLatinSquare}s and {@link ConcurrentSudoku}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 17:12:45
+ */
+public class ConcurrentLatinSquareTest {
+
+	/**
+	 * Tests the single threaded behaviour of a {@link ConcurrentSudoku}.
+	 */
+	@Test
+	public void testConcurrentSudoku() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		ConcurrentSudoku<Integer> concurrentSudoku = LatinSquares.concurrentSudokuOf(sudoku);
+		Symbol<Integer> one = sudoku.symbols().get(1), five = sudoku.symbols().get(5);
+		Cell<Integer> empty = concurrentSudoku.getCell(2, 0).get();
+
+		// assert that the properties and values are copied
+		assertEquals(sudoku, concurrentSudoku);
+		assertEquals(PUZZLE, digitsOf(concurrentSudoku));
+		assertEquals(sudoku.cellFactory(), concurrentSudoku.cellFactory());
+
+		// assert that conflicting symbols are rejected and consistent ones are set
+		long version = concurrentSudoku.version();
+		assertFalse(concurrentSudoku.changeSymbolIfConsistent(empty, five));
+		assertEquals(version, concurrentSudoku.version());
+		assertTrue(concurrentSudoku.changeSymbolIfConsistent(sudoku.getCell(2, 0).get(), one));
+		assertEquals(one, empty.symbol().get());
+		assertNotEquals(version, concurrentSudoku.version());
+
+		// assert that compare and change only succeeds when the expected symbol is held
+		assertFalse(concurrentSudoku.compareAndChangeSymbol(empty, null, five));
+		assertTrue(concurrentSudoku.compareAndChangeSymbol(empty, one, null));
+		assertFalse(empty.symbol().isPresent());
+
+		// assert that snapshots and copies are independent of the original
+		Sudoku<Integer> snapshot = concurrentSudoku.snapshot();
+		ConcurrentSudoku<Integer> copy = concurrentSudoku.copy();
+		concurrentSudoku.clear();
+		assertEquals(PUZZLE, digitsOf(snapshot));
+		assertEquals(PUZZLE, digitsOf(copy));
+		assertEquals("0".repeat(81), digitsOf(concurrentSudoku));
+		assertFalse(snapshot instanceof ConcurrentLatinSquare);
+
+		// assert that foreign symbols and cells are rejected
+		assertThrows(SudokuException.class, () -> empty.changeSymbol(Symbols.of(10, 10)));
+		assertThrows(SudokuException.class, () -> concurrentSudoku.changeSymbol(Cells.of("x", 0, 0), one));
+		assertThrows(NullPointerException.class, () -> concurrentSudoku.changeSymbolIfConsistent(null, one));
+	}
+
+	/**
+	 * Tests that competing writers can't place the same {@link Symbol} twice in a {@link Row}.
+	 */
+	@Test
+	public void testCompetingWriters() throws Exception {
+		for (int round = 0; round < 20; round++) {
+			ConcurrentSudoku<Integer> sudoku = LatinSquares.concurrentSudokuOf(sudokuOf("0".repeat(81)));
+			Symbol<Integer> seven = sudoku.symbols().get(7);
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Boolean>> placements = new ArrayList<>();
+			try (ExecutorService executor = Executors.newFixedThreadPool(9)) {
+				for (int x = 0; x < 9; x++) {
+					Cell<Integer> cell = sudoku.getCell(x, 4).get();
+					placements.add(executor.submit(() -> {
+						start.await();
+						return sudoku.changeSymbolIfConsistent(cell, seven);
+					}));
+				}
+				start.countDown();
+			}
+
+			// assert that exactly one of the writers succeeded
+			int placed = 0;
+			for (Future<Boolean> placement : placements)
+				if (placement.get()) placed++;
+			assertEquals(1, placed);
+			assertEquals(1, sudoku.rows().get("4").cells().values().stream().filter(cell -> cell.symbol().isPresent()).count());
+		}
+	}
+
+	/**
+	 * Tests that snapshots taken while a {@link ConcurrentLatinSquare} is being modified are consistent.
+	 */
+	@Test
+	public void testSnapshots() throws Exception {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		String flipped = digitsOf(flip(sudokuOf(PUZZLE)));
+		ConcurrentSudoku<Integer> concurrentSudoku = LatinSquares.concurrentSudokuOf(sudoku);
+		AtomicBoolean done = new AtomicBoolean();
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+			Future<?> writer = executor.submit(() -> {
+				for (int flip = 0; flip < 2_000; flip++)
+					concurrentSudoku.flipHorizontally();
+				done.set(true);
+			});
+			Future<Integer> reader = executor.submit(() -> {
+				int snapshots = 0;
+				do {
+					String digits = digitsOf(concurrentSudoku.snapshot());
+
+					// assert that every snapshot shows the grid either before or after a flip
+					assertTrue(digits.equals(PUZZLE) || digits.equals(flipped), digits);
+					snapshots++;
+				} while (!done.get());
+				return snapshots;
+			});
+			writer.get();
+			assertTrue(reader.get() > 0);
+		}
+		assertEquals(PUZZLE, digitsOf(concurrentSudoku));
+	}
+
+	private static Sudoku<Integer> flip(Sudoku<Integer> sudoku) {
+		sudoku.flipHorizontally();
+		return sudoku;
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.SOLUTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for {@link Futoshiki}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 02:40:15
+ */
+public class FutoshikiTest {
+
+	/**
+	 * the inequalities between every pair of neighbouring cells of {@link SolversTest#SOLUTION}.
+	 */
+	static final int[][] INEQUALITIES;
+
+	static {
+		List<int[]> inequalities = new ArrayList<>();
+		for (int index = 0; index < 81; index++) {
+			if (index % 9 < 8) inequalities.add(ordered(index, index + 1));
+			if (index / 9 < 8) inequalities.add(ordered(index, index + 9));
+		}
+		INEQUALITIES = inequalities.toArray(new int[0][]);
+	}
+
+	/**
+	 * Tests the {@link Inequality}s of a {@link Futoshiki} and their validation.
+	 */
+	@Test
+	public void testInequalities() {
+		Futoshiki<Integer> futoshiki = LatinSquares.futoshikiOf(9, Symbols.numberAlphabet(9), INEQUALITIES);
+
+		// assert that the inequalities are kept in order and shared by copies
+		assertEquals(144, futoshiki.inequalities().size());
+		assertEquals(INEQUALITIES[0][0], futoshiki.inequalities().get(0).lesserCellIndex());
+		assertEquals(INEQUALITIES[0][1], futoshiki.inequalities().get(0).greaterCellIndex());
+		assertEquals(futoshiki.inequalities(), futoshiki.copy().inequalities());
+		assertThrows(UnsupportedOperationException.class, () -> futoshiki.inequalities().clear());
+
+		// assert that only neighbouring cells can be compared
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.futoshikiOf(4, Symbols.numberAlphabet(4), new int[][] {{3, 4}}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.futoshikiOf(4, Symbols.numberAlphabet(4), new int[][] {{0, 5}}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.futoshikiOf(4, Symbols.numberAlphabet(4), new int[][] {{0, 0}}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.futoshikiOf(4, Symbols.numberAlphabet(4), new int[][] {{0, 16}}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.futoshikiOf(4, Symbols.numberAlphabet(4), new int[][] {{0, 1, 2}}));
+		assertThrows(NullPointerException.class, () -> LatinSquares.futoshikiOf(4, Symbols.numberAlphabet(4), new int[][] {null}));
+	}
+
+	/**
+	 * Tests that the {@link Solvers} enforce the {@link Inequality}s of a {@link Futoshiki}.
+	 */
+	@Test
+	public void testSolve() {
+		// assert that a chain of inequalities fixes the first row of a 4x4 Futoshiki
+		Futoshiki<Integer> chain = LatinSquares.futoshikiOf(4, Symbols.numberAlphabet(4), new int[][] {{0, 1}, {1, 2}, {2, 3}});
+		assertTrue(Solvers.solve(chain));
+		for (int x = 0; x < 4; x++)
+			assertEquals(Integer.valueOf(x + 1), chain.getCell(x, 0).get().symbol().get().value());
+
+		// assert that placements the bounds rule out are inconsistent, even before the inequality is complete
+		chain.clear();
+		chain.changeSymbol(chain.getCell(1, 0).get(), chain.symbols().get(1));
+		assertFalse(Solvers.isConsistent(chain));
+		chain.clear();
+		chain.changeSymbol(chain.getCell(3, 0).get(), chain.symbols().get(3));
+		assertFalse(Solvers.isConsistent(chain));
+		assertEquals(0, Solvers.countSolutions(chain, 1));
+
+		// assert that contradicting inequalities have no solution
+		Futoshiki<Integer> cycle = LatinSquares.futoshikiOf(4, Symbols.numberAlphabet(4), new int[][] {{0, 1}, {1, 0}});
+		assertFalse(Solvers.isConsistent(cycle));
+		assertFalse(Solvers.solve(cycle));
+
+		// assert that the inequalities alone of a 9x9 solution leave only a few Latin squares
+		Futoshiki<Integer> futoshiki = LatinSquares.futoshikiOf(9, Symbols.numberAlphabet(9), INEQUALITIES);
+		assertEquals(12, Solvers.countSolutions(futoshiki, 100));
+		assertTrue(Solvers.solve(futoshiki));
+		assertTrue(Solvers.isConsistent(futoshiki));
+		assertTrue(futoshiki.inequalities().stream().allMatch(inequality -> valueAt(futoshiki, inequality.lesserCellIndex()) < valueAt(futoshiki, inequality.greaterCellIndex())));
+
+		// assert that generated puzzles keep the inequalities and have a single solution
+		Futoshiki<Integer> generated = LatinSquares.futoshikiOf(9, Symbols.numberAlphabet(9), new int[][] {{0, 1}, {10, 19}, {40, 41}, {70, 61}});
+		Solvers.generate(generated, new Random(42));
+		assertTrue(Solvers.hasUniqueSolution(generated));
+		assertTrue(Solvers.solve(generated));
+		assertTrue(generated.inequalities().stream().allMatch(inequality -> valueAt(generated, inequality.lesserCellIndex()) < valueAt(generated, inequality.greaterCellIndex())));
+	}
+
+	private static int[] ordered(int first, int second) {
+		return (SOLUTION.charAt(first) < SOLUTION.charAt(second))? new int[] {first, second} : new int[] {second, first};
+	}
+
+	private static int valueAt(LatinSquare<Integer> latinSquare, int index) {
+		return latinSquare.cellAt(index).symbol().get().value();
+	}
+}
@@ -0,0 +1,144 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.PUZZLE;
+import static com.kori_47.sudoku.SolversTest.SOLUTION;
+import static com.kori_47.sudoku.SolversTest.digitsOf;
+import static com.kori_47.sudoku.SolversTest.sudokuOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for addressing the {@link Cell}s of a {@link LatinSquare} by their row-major
+ * indices and for loading the {@link Symbol}s of a {@code LatinSquare} from, and exporting them to, primitive
+ * arrays of {@code Symbol} ids.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 20:14:37
+ */
+public class GridArraysTest {
+
+	/**
+	 * Tests that loading and exporting round trip for every kind of {@link Sudoku}.
+	 */
+	@Test
+	public void testLoadAndExport() {
+		int[] puzzle = idsOf(PUZZLE), solution = idsOf(SOLUTION);
+		List<Sudoku<Integer>> sudokus = List.of(sudokuOf("0".repeat(81)), LatinSquares.concurrentSudokuOf(sudokuOf("0".repeat(81))),
+				LatinSquares.observableSudokuOf(sudokuOf("0".repeat(81))));
+		for (Sudoku<Integer> sudoku : sudokus) {
+			// assert that loaded ids end up in row-major order and are exported back unchanged
+			sudoku.loadFrom(puzzle);
+			assertEquals(PUZZLE, digitsOf(sudoku));
+			int[] ids = new int[81];
+			sudoku.exportTo(ids);
+			assertArrayEquals(puzzle, ids);
+
+			// assert that the byte variants agree with the int variants
+			byte[] bytes = new byte[81];
+			sudoku.loadFrom(toBytes(solution));
+			sudoku.exportTo(bytes);
+			assertEquals(SOLUTION, digitsOf(sudoku));
+			assertArrayEquals(toBytes(solution), bytes);
+		}
+
+		// assert that the default implementation matches the optimized ones
+		Sudoku<Integer> sudoku = sudokuOf("0".repeat(81));
+		GridArrays.load(sudoku, puzzle);
+		assertEquals(PUZZLE, digitsOf(sudoku));
+		int[] ids = new int[81];
+		GridArrays.export(sudoku, ids);
+		assertArrayEquals(puzzle, ids);
+
+		// assert that loading into an observable sudoku is delivered as a single batch
+		ObservableSudoku<Integer> observable = LatinSquares.observableSudokuOf(sudokuOf(PUZZLE));
+		List<GridChanges<Integer>> delivered = new ArrayList<>();
+		observable.addChangeListener(changes -> delivered.add(changes));
+		observable.loadFrom(solution);
+		assertEquals(1, delivered.size());
+	}
+
+	/**
+	 * Tests that invalid ids are rejected before anything is changed.
+	 */
+	@Test
+	public void testInvalidIds() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		ConcurrentSudoku<Integer> concurrent = LatinSquares.concurrentSudokuOf(sudokuOf(PUZZLE));
+		int[] unknown = idsOf(SOLUTION);
+		unknown[80] = 10;
+
+		for (Sudoku<Integer> target : List.of(sudoku, concurrent)) {
+			// assert that the arrays must hold exactly one id per cell
+			assertThrows(NullPointerException.class, () -> target.loadFrom((int[]) null));
+			assertThrows(IllegalArgumentException.class, () -> target.loadFrom(new int[80]));
+			assertThrows(IllegalArgumentException.class, () -> target.exportTo(new byte[82]));
+
+			// assert that unknown ids are rejected and the grid is left untouched
+			assertThrows(SudokuException.class, () -> target.loadFrom(unknown));
+			assertThrows(SudokuException.class, () -> target.loadFrom(toBytes(unknown)));
+			assertEquals(PUZZLE, digitsOf(target));
+		}
+
+		// assert that ids that don't fit in a byte are rejected without touching the target array
+		LatinSquare<Integer> latinSquare = LatinSquares.latinSquareOf(1, Set.of(Symbols.of(300, 300)));
+		latinSquare.loadFrom(new int[] { 300 });
+		byte[] bytes = { 7 };
+		assertThrows(SudokuException.class, () -> latinSquare.exportTo(bytes));
+		assertEquals(7, bytes[0]);
+	}
+
+	/**
+	 * Tests addressing the {@link Cell}s of a {@link LatinSquare} by their row-major indices.
+	 */
+	@Test
+	public void testCellAddressing() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		List<Sudoku<Integer>> sudokus = List.of(sudoku, LatinSquares.concurrentSudokuOf(sudoku), LatinSquares.observableSudokuOf(sudoku),
+				LatinSquares.sudokuOf(LatinSquares.latinSquareOf(sudoku), sudoku.variant(), sudoku.blockFactory()));
+		for (Sudoku<Integer> target : sudokus) {
+			// assert that cell indices are row-major and that indexOf is the inverse of cellAt
+			for (int index = 0; index < 81; index++) {
+				Cell<Integer> cell = target.cellAt(index);
+				assertEquals(target.getCell(index % 9, index / 9).get(), cell);
+				assertEquals(index, target.indexOf(cell));
+			}
+			assertArrayEquals(IntStream.range(0, 81).toArray(), target.cellIndices());
+
+			// assert that the indices of every block are valid indices of the sudoku
+			for (Block<Integer> block : target.blocks().values())
+				for (int index : block.cellIndices())
+					assertEquals(block.cellAt(block.indexOf(target.cellAt(index))), target.cellAt(index));
+
+			// assert that foreign cells and invalid indices are handled
+			assertEquals(-1, target.indexOf(Cells.of("not a cell id", 0, 0)));
+			assertThrows(IndexOutOfBoundsException.class, () -> target.cellAt(81));
+			assertThrows(IndexOutOfBoundsException.class, () -> target.cellAt(-1));
+		}
+	}
+
+	private static int[] idsOf(String digits) {
+		int[] ids = new int[digits.length()];
+		for (int index = 0; index < ids.length; index++)
+			ids[index] = digits.charAt(index) - '0';
+		return ids;
+	}
+
+	private static byte[] toBytes(int[] ids) {
+		byte[] bytes = new byte[ids.length];
+		for (int index = 0; index < ids.length; index++)
+			bytes[index] = (byte) ids[index];
+		return bytes;
+	}
+}
@@ -0,0 +1,98 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+/**
+ * This class defines the tests for {@link GridCounter}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 04:44:21
+ */
+public class GridCounterTest {
+
+	/**
+	 * Tests counting reduced Latin squares.
+	 */
+	@Test
+	public void testReducedLatinSquares() {
+		// assert that the known numbers of reduced Latin squares are found
+		long[] expected = {1, 1, 1, 4, 56, 9408};
+		for (int size = 1; size <= expected.length; size++)
+			assertEquals(expected[size - 1], GridCounters.reducedLatinSquareCounterOf(size).count());
+
+		// assert that the symmetry factor gives the number of all the Latin squares
+		GridCounter counter = GridCounters.reducedLatinSquareCounterOf(5);
+		assertEquals(BigInteger.valueOf(161280), BigInteger.valueOf(counter.count(new ForkJoinPool(3))).multiply(counter.symmetryFactor()));
+		assertThrows(IllegalArgumentException.class, () -> GridCounters.reducedLatinSquareCounterOf(0));
+		assertThrows(IllegalArgumentException.class, () -> GridCounters.reducedLatinSquareCounterOf(65));
+	}
+
+	/**
+	 * Tests counting {@link Sudoku} grids.
+	 */
+	@Test
+	public void testSudokuGrids() {
+		// assert that the known numbers of 4x4 and 6x6 sudoku grids are found
+		GridCounter small = GridCounters.sudokuGridCounterOf(BoxBlocksSudokuVariants.VARIANT_4x4);
+		assertEquals(BigInteger.valueOf(288), BigInteger.valueOf(small.count()).multiply(small.symmetryFactor()));
+		GridCounter counter = GridCounters.sudokuGridCounterOf(SudokuVariants.boxBlocksVariantOf(2, 3));
+		assertEquals(BigInteger.valueOf(28200960), BigInteger.valueOf(counter.count()).multiply(counter.symmetryFactor()));
+		assertTrue(counter.taskCount() >= SimpleGridCounter.TARGET_TASKS);
+		assertThrows(NullPointerException.class, () -> GridCounters.sudokuGridCounterOf(null));
+	}
+
+	/**
+	 * Tests checkpointing and resuming a count.
+	 */
+	@Test
+	public void testCheckpoint() throws IOException {
+		GridCounter counter = GridCounters.reducedLatinSquareCounterOf(6);
+		Path checkpoint = Files.createTempFile("grid-counter", ".txt");
+		try {
+			// assert that an empty file is a fresh start
+			assertEquals(9408, counter.count(ForkJoinPool.commonPool(), checkpoint));
+			assertEquals(counter.taskCount() + 1, Files.readAllLines(checkpoint, StandardCharsets.UTF_8).size());
+
+			// assert that a complete run records every task
+			Files.delete(checkpoint);
+			assertEquals(9408, counter.count(ForkJoinPool.commonPool(), checkpoint));
+			List<String> lines = Files.readAllLines(checkpoint, StandardCharsets.UTF_8);
+			assertEquals(counter.taskCount() + 1, lines.size());
+
+			// assert that a run cut short is resumed from the recorded tasks
+			List<String> partial = lines.subList(0, lines.size() / 2);
+			Files.write(checkpoint, partial, StandardCharsets.UTF_8);
+			Files.write(checkpoint, "12".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+			assertEquals(9408, counter.count(ForkJoinPool.commonPool(), checkpoint));
+			assertEquals(counter.taskCount() + 2, Files.readAllLines(checkpoint, StandardCharsets.UTF_8).size());
+
+			// assert that recorded tasks aren't run again and that checkpoints of other grids are rejected
+			List<String> tampered = lines.stream().map(line -> line.startsWith("0 ")? "0 1000000" : line).toList();
+			Files.write(checkpoint, tampered, StandardCharsets.UTF_8);
+			long firstTask = Long.parseLong(lines.stream().filter(line -> line.startsWith("0 ")).findFirst().get().substring(2));
+			assertEquals(9408 - firstTask + 1000000, counter.count(ForkJoinPool.commonPool(), checkpoint));
+			assertThrows(IllegalArgumentException.class, () -> GridCounters.reducedLatinSquareCounterOf(5).count(ForkJoinPool.commonPool(), checkpoint));
+		} finally {
+			Files.deleteIfExists(checkpoint);
+		}
+	}
+}
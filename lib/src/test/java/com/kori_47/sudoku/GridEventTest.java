@@ -0,0 +1,136 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.PUZZLE;
+import static com.kori_47.sudoku.SolversTest.sudokuOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * This class defines the tests for the JDK Flight Recorder events of this library.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 07:16:05
+ */
+public class GridEventTest {
+
+	/**
+	 * Tests the events recorded by the grids, {@link Formattables} and {@link Solvers} once enabled.
+	 */
+	@Test
+	public void testEnabledEvents() throws IOException {
+		List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable("com.kori_47.sudoku.GridConstruction");
+			recording.enable("com.kori_47.sudoku.GridCopy");
+			recording.enable("com.kori_47.sudoku.GridFormat");
+			recording.enable("com.kori_47.sudoku.Solve");
+			recording.enable("com.kori_47.sudoku.Generate");
+			recording.start();
+			Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+			sudoku.copy();
+			Formattables.toV(sudoku);
+			Solvers.solve(sudoku);
+			Solvers.generate(sudokuOf(""), new Random(7));
+			assertThrows(CancellationException.class, () -> Solvers.solve(sudokuOf(""), Duration.ZERO));
+			recording.stop();
+			events = eventsOf(recording);
+		}
+
+		// assert that every grid created is recorded once, with it's variant
+		List<RecordedEvent> constructions = named(events, "com.kori_47.sudoku.GridConstruction");
+		assertEquals(4, constructions.size());
+		for (RecordedEvent construction : constructions) {
+			assertEquals("SimpleSudoku", construction.getString("type"));
+			assertEquals(String.valueOf(BoxBlocksSudokuVariants.VARIANT_9x9), construction.getString("variant"));
+			assertEquals(9, construction.getInt("size"));
+		}
+
+		// assert that copies and renderings are recorded
+		assertEquals(1, named(events, "com.kori_47.sudoku.GridCopy").size());
+		RecordedEvent format = named(events, "com.kori_47.sudoku.GridFormat").get(0);
+		assertEquals("V", format.getString("format"));
+		assertEquals(Formattables.toV(sudokuOf(PUZZLE)).length(), format.getInt("length"));
+
+		// assert that searches are recorded with their nodes and outcome, including cancelled ones
+		List<RecordedEvent> solves = named(events, "com.kori_47.sudoku.Solve");
+		assertEquals(2, solves.size());
+		assertEquals("backtracking", solves.get(0).getString("solver"));
+		assertTrue(solves.get(0).getBoolean("solved"));
+		assertTrue(solves.get(0).getLong("nodes") > 0L);
+		assertFalse(solves.get(1).getBoolean("solved"));
+		assertTrue(solves.get(1).getBoolean("cancelled"));
+
+		// assert that a generation is recorded with the clues of the puzzle
+		RecordedEvent generate = named(events, "com.kori_47.sudoku.Generate").get(0);
+		assertTrue(generate.getInt("clues") >= 17 && generate.getInt("clues") < 81);
+		assertTrue(generate.getLong("nodes") > 0L);
+		assertFalse(generate.getBoolean("cancelled"));
+	}
+
+	/**
+	 * Tests that the fine grained events are only recorded when enabled.
+	 */
+	@Test
+	public void testDefaultEvents() throws IOException {
+		List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.start();
+			Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+			sudoku.copy();
+			Formattables.toV(sudoku);
+			Solvers.solveWithSat(sudoku);
+			recording.stop();
+			events = eventsOf(recording);
+		}
+
+		// assert that constructions, copies and renderings are disabled by default
+		assertTrue(named(events, "com.kori_47.sudoku.GridConstruction").isEmpty());
+		assertTrue(named(events, "com.kori_47.sudoku.GridCopy").isEmpty());
+		assertTrue(named(events, "com.kori_47.sudoku.GridFormat").isEmpty());
+
+		// assert that searches are enabled by default
+		List<RecordedEvent> solves = named(events, "com.kori_47.sudoku.Solve");
+		assertEquals(1, solves.size());
+		assertEquals("sat", solves.get(0).getString("solver"));
+		assertTrue(solves.get(0).getBoolean("solved"));
+	}
+
+	private static List<RecordedEvent> eventsOf(Recording recording) throws IOException {
+		Path file = Files.createTempFile("grid-events", ".jfr");
+		try {
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+		return events.stream()
+				.filter(event -> event.getEventType().getName().equals(name))
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.Hint.Technique;
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+/**
+ * This class defines the tests for the {@link Hint}s and {@link HintEngine}s returned by the {@link Hints} utility
+ * class.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 11:58:44
+ */
+public class HintsTest {
+
+	/**
+	 * Tests that a {@link HintEngine} observes {@link Symbol}s placed directly on the {@link Sudoku} between calls.
+	 */
+	@Test
+	public void testNakedSingle() {
+		Sudoku<Integer> sudoku = newSudoku();
+		HintEngine<Integer> engine = Hints.hintEngine();
+
+		// assert that an empty Sudoku has no logical step to offer
+		assertFalse(engine.nextHint(sudoku).isPresent());
+
+		for (int x = 0; x < 8; x++)
+			sudoku.changeSymbol(sudoku.getCell(x, 0).get(), sudoku.symbols().get(x + 1));
+		Optional<Hint<Integer>> hint = engine.nextHint(sudoku);
+
+		// assert that the last Cell of the first Row is found as a naked single
+		assertTrue(hint.isPresent());
+		assertEquals(Technique.NAKED_SINGLE, hint.get().technique());
+		assertEquals(Set.of(sudoku.getCell(8, 0).get()), hint.get().cells());
+		assertEquals(sudoku.symbols().get(9), hint.get().placement().get());
+		assertTrue(hint.get().eliminations().isEmpty());
+
+		// assert that a placement hint is returned again until it is acted on
+		assertEquals(hint, engine.nextHint(sudoku));
+		sudoku.changeSymbol(sudoku.getCell(8, 0).get(), sudoku.symbols().get(9));
+		assertFalse(engine.nextHint(sudoku).isPresent());
+
+		// assert that a NullPointerException is thrown if null is passed
+		assertThrows(NullPointerException.class, () -> engine.nextHint(null));
+		assertThrows(NullPointerException.class, () -> Hints.nextHint(null));
+	}
+
+	/**
+	 * Tests that a hidden single is found when no naked single exists.
+	 */
+	@Test
+	public void testHiddenSingle() {
+		Sudoku<Integer> sudoku = newSudoku();
+		Symbol<Integer> one = sudoku.symbols().get(1);
+		sudoku.changeSymbol(sudoku.getCell(5, 1).get(), one);
+		sudoku.changeSymbol(sudoku.getCell(8, 2).get(), one);
+		sudoku.changeSymbol(sudoku.getCell(1, 6).get(), one);
+		sudoku.changeSymbol(sudoku.getCell(2, 7).get(), one);
+
+		Hint<Integer> hint = Hints.nextHint(sudoku).get();
+
+		// assert that the only Cell of the first Block that can hold a one is hinted
+		assertEquals(Technique.HIDDEN_SINGLE, hint.technique());
+		assertEquals(Set.of(sudoku.getCell(0, 0).get()), hint.cells());
+		assertEquals(Optional.of(one), hint.placement());
+		assertEquals(8, hint.eliminations().get(sudoku.getCell(0, 0).get()).size());
+	}
+
+	/**
+	 * Tests that elimination hints are remembered so that subsequent calls advance to the next step.
+	 */
+	@Test
+	public void testPointing() {
+		Sudoku<Integer> sudoku = newSudoku();
+		int symbol = 2;
+		for (int y = 1; y < 3; y++)
+			for (int x = 0; x < 3; x++)
+				sudoku.changeSymbol(sudoku.getCell(x, y).get(), sudoku.symbols().get(symbol++));
+		HintEngine<Integer> engine = Hints.hintEngine();
+
+		Hint<Integer> hint = engine.nextHint(sudoku).get();
+
+		// assert that the ones of the first Block point along the first Row
+		assertEquals(Technique.POINTING, hint.technique());
+		assertFalse(hint.placement().isPresent());
+		assertEquals(Set.of(sudoku.symbols().get(1)), hint.symbols());
+		assertEquals(Set.of(sudoku.getCell(0, 0).get(), sudoku.getCell(1, 0).get(), sudoku.getCell(2, 0).get()), hint.cells());
+		assertEquals(6, hint.eliminations().size());
+		assertEquals(Set.of(sudoku.symbols().get(1)), hint.eliminations().get(sudoku.getCell(8, 0).get()));
+
+		// assert that the next calls move on to the eights and nines of the first Block
+		assertEquals(Set.of(sudoku.symbols().get(8)), engine.nextHint(sudoku).get().symbols());
+		assertEquals(Set.of(sudoku.symbols().get(9)), engine.nextHint(sudoku).get().symbols());
+
+		// assert that resetting the engine forgets the remembered eliminations
+		engine.reset();
+		assertEquals(hint, engine.nextHint(sudoku).get());
+	}
+
+	/**
+	 * Tests the validation done by {@link Hints#hintOf(Technique, Set, Set, Map)}.
+	 */
+	@Test
+	public void testHintOf() {
+		Sudoku<Integer> sudoku = newSudoku();
+		Cell<Integer> cell = sudoku.getCell(0, 0).get();
+
+		// assert that placement hints must have exactly one Cell and one Symbol
+		assertThrows(IllegalArgumentException.class, () -> Hints.hintOf(Technique.NAKED_SINGLE, Set.of(cell), Set.of(), Map.of()));
+		assertThrows(NullPointerException.class, () -> Hints.hintOf(null, Set.of(cell), Set.of(), Map.of()));
+
+		// assert that hints with the same properties are equal
+		Hint<Integer> hint = Hints.hintOf(Technique.NAKED_SINGLE, Set.of(cell), Set.of(sudoku.symbols().get(1)), Map.of());
+		assertEquals(hint, Hints.hintOf(Technique.NAKED_SINGLE, Set.of(cell), Set.of(sudoku.symbols().get(1)), Map.of()));
+		assertEquals(hint.hashCode(), Hints.hintOf(Technique.NAKED_SINGLE, Set.of(cell), Set.of(sudoku.symbols().get(1)), Map.of()).hashCode());
+	}
+
+	private static Sudoku<Integer> newSudoku() {
+		return LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberSymbolsUpTo(10));
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.PUZZLE;
+import static com.kori_47.sudoku.SolversTest.SOLUTION;
+import static com.kori_47.sudoku.SolversTest.digitsOf;
+import static com.kori_47.sudoku.SolversTest.sudokuOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for {@link IntLatinSquare}s and {@link IntSudoku}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 21:55:40
+ */
+public class IntSudokuTest {
+
+	/**
+	 * Tests that the primitive accessors and the {@link Cell}s of an {@link IntSudoku} are views of the same values.
+	 */
+	@Test
+	public void testPrimitiveAccess() {
+		IntSudoku sudoku = LatinSquares.intSudokuOf(Sudoku.BoxBlocksSudokuVariants.VARIANT_9x9);
+
+		// assert that an IntSudoku starts empty and uses the interned number alphabet
+		assertEquals("0".repeat(81), digitsOf(sudoku));
+		assertEquals(Symbols.numberAlphabet(9), Set.copyOf(sudoku.symbols().values()));
+		assertEquals(9, sudoku.blocks().size());
+
+		// assert that values set through the primitive accessors are visible through the cells and vice versa
+		sudoku.set(2, 1, 7);
+		Cell<Integer> cell = sudoku.getCell(2, 1).get();
+		assertEquals(Integer.valueOf(7), cell.symbol().get().value());
+		assertSame(Symbols.numberAlphabet(9).symbol(7), cell.symbol().get());
+		sudoku.changeSymbol(cell, sudoku.symbols().get(4));
+		assertEquals(4, sudoku.get(2, 1));
+		sudoku.set(2, 1, 0);
+		assertFalse(cell.symbol().isPresent());
+
+		// assert that invalid coordinates and values are rejected
+		assertThrows(IndexOutOfBoundsException.class, () -> sudoku.get(9, 0));
+		assertThrows(IndexOutOfBoundsException.class, () -> sudoku.set(0, -1, 1));
+		assertThrows(SudokuException.class, () -> sudoku.set(0, 0, 10));
+		assertThrows(SudokuException.class, () -> sudoku.changeSymbol(cell, Symbols.of(10, 10)));
+		assertThrows(IllegalArgumentException.class, () -> sudoku.loadFrom(new int[80]));
+	}
+
+	/**
+	 * Tests that an {@link IntSudoku} behaves like any other {@link Sudoku}.
+	 */
+	@Test
+	public void testSudokuView() {
+		Sudoku<Integer> reference = sudokuOf(PUZZLE);
+		IntSudoku sudoku = LatinSquares.intSudokuOf(reference);
+
+		// assert that the values are copied and that the two sudokus are equal
+		assertEquals(PUZZLE, digitsOf(sudoku));
+		assertEquals(reference, sudoku);
+		assertEquals(reference.hashCode(), sudoku.hashCode());
+
+		// assert that flips match those of a regular sudoku
+		reference.flipHorizontally();
+		sudoku.flipHorizontally();
+		assertEquals(digitsOf(reference), digitsOf(sudoku));
+		reference.flipVertically();
+		sudoku.flipVertically();
+		assertEquals(digitsOf(reference), digitsOf(sudoku));
+		sudoku.flipVertically();
+		sudoku.flipHorizontally();
+		assertEquals(PUZZLE, digitsOf(sudoku));
+
+		// assert that a copy is independent of the original
+		IntSudoku copy = sudoku.copy();
+		assertTrue(Solvers.solve(copy));
+		assertEquals(SOLUTION, digitsOf(copy));
+		assertEquals(PUZZLE, digitsOf(sudoku));
+
+		// assert that regular grids created from an IntSudoku hold their own values
+		Sudoku<Integer> regular = LatinSquares.sudokuOf(copy);
+		copy.clear();
+		assertEquals("0".repeat(81), digitsOf(copy));
+		assertEquals("0".repeat(81), digitsOf(regular));
+
+		// assert that grids that don't use the number alphabet are rejected
+		LatinSquare<Integer> letters = LatinSquares.latinSquareOf(2, Set.of(Symbols.of(1, 1), Symbols.of(3, 3)));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.intLatinSquareOf(letters));
+		assertThrows(NullPointerException.class, () -> LatinSquares.intSudokuOf((Sudoku<Integer>) null));
+	}
+
+	/**
+	 * Tests {@link IntLatinSquare}s.
+	 */
+	@Test
+	public void testIntLatinSquare() {
+		IntLatinSquare latinSquare = LatinSquares.intLatinSquareOf(3);
+		int[] ids = { 1, 2, 3, 2, 3, 1, 3, 1, 2 };
+		latinSquare.loadFrom(ids);
+
+		// assert that ids are loaded in row-major order and exported back unchanged
+		assertEquals(2, latinSquare.get(1, 0));
+		assertEquals(2, latinSquare.get(0, 1));
+		int[] exported = new int[9];
+		latinSquare.exportTo(exported);
+		assertArrayEquals(ids, exported);
+
+		// assert that cells are addressed by their row-major index
+		assertEquals(Integer.valueOf(3), latinSquare.cellAt(4).symbol().get().value());
+		assertEquals(LatinSquares.latinSquareOf(latinSquare), latinSquare);
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.intLatinSquareOf(0));
+	}
+}
@@ -0,0 +1,180 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.SOLUTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.ArithmeticCage.Operation;
+
+/**
+ * This class defines the tests for {@link KenKen}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 03:34:52
+ */
+public class KenKenTest {
+
+	/**
+	 * the cage of every cell of a 9x9 {@link KenKen}, dominoes along the rows and down the last column.
+	 */
+	static final int[] CAGE_IDS = new int[81];
+
+	/**
+	 * the operation of every cage of {@link #CAGE_IDS}.
+	 */
+	static final Operation[] OPERATIONS;
+
+	/**
+	 * the targets of the cages of {@link #CAGE_IDS} reached by {@link SolversTest#SOLUTION}.
+	 */
+	static final int[] TARGETS;
+
+	static {
+		int cageCount = 0;
+		for (int y = 0; y < 9; y++)
+			for (int x = 0; x < 8; x += 2)
+				CAGE_IDS[y * 9 + x] = CAGE_IDS[y * 9 + x + 1] = cageCount++;
+		for (int y = 0; y < 8; y += 2)
+			CAGE_IDS[y * 9 + 8] = CAGE_IDS[y * 9 + 17] = cageCount++;
+		CAGE_IDS[80] = cageCount++;
+		OPERATIONS = new Operation[cageCount];
+		TARGETS = new int[cageCount];
+		Arrays.fill(TARGETS, -1);
+		for (int index = 0; index < 81; index++) {
+			int cage = CAGE_IDS[index], value = SOLUTION.charAt(index) - '0';
+			if (TARGETS[cage] < 0) {
+				OPERATIONS[cage] = Operation.values()[cage % 4];
+				TARGETS[cage] = value;
+				continue;
+			}
+			int greater = Math.max(TARGETS[cage], value), lesser = Math.min(TARGETS[cage], value);
+			if (OPERATIONS[cage] == Operation.DIVIDE && greater % lesser != 0) OPERATIONS[cage] = Operation.MULTIPLY;
+			switch (OPERATIONS[cage]) {
+				case ADD: TARGETS[cage] += value; break;
+				case SUBTRACT: TARGETS[cage] = greater - lesser; break;
+				case MULTIPLY: TARGETS[cage] *= value; break;
+				case DIVIDE: TARGETS[cage] = greater / lesser; break;
+			}
+		}
+	}
+
+	/**
+	 * Tests the {@link ArithmeticCage}s of a {@link KenKen} and their validation.
+	 */
+	@Test
+	public void testCages() {
+		KenKen kenKen = LatinSquares.kenKenOf(9, CAGE_IDS, OPERATIONS, TARGETS);
+
+		// assert that the cages are keyed by their index and shared by copies
+		assertEquals(41, kenKen.cages().size());
+		assertEquals(Operation.ADD, kenKen.cages().get("0").operation());
+		assertEquals(8, kenKen.cages().get("0").target());
+		assertEquals(2, kenKen.cageOf(8, 7).get().size());
+		assertTrue(Arrays.equals(new int[] {62, 71}, kenKen.cageOf(8, 7).get().cellIndices()));
+		assertEquals(1, kenKen.cageOf(8, 8).get().size());
+		assertSame(kenKen.cageOf(3, 3).get(), kenKen.copy().cageOf(3, 3).get());
+		assertThrows(IndexOutOfBoundsException.class, () -> kenKen.cageOf(9, 0));
+		assertThrows(UnsupportedOperationException.class, () -> kenKen.cages().clear());
+
+		// assert that cells can be left out of the cages
+		KenKen partial = LatinSquares.kenKenOf(2, new int[] {0, 0, -1, -1}, new Operation[] {Operation.SUBTRACT}, new int[] {1});
+		assertFalse(partial.cageOf(0, 1).isPresent());
+
+		// assert that invalid cages are rejected
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.kenKenOf(2, new int[] {0, 0, 0, -1}, new Operation[] {Operation.SUBTRACT}, new int[] {1}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.kenKenOf(2, new int[] {0, 0, -1, 1}, new Operation[] {Operation.ADD}, new int[] {3}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.kenKenOf(2, new int[] {0, 0, -1, -1}, new Operation[] {Operation.ADD, Operation.ADD}, new int[] {3, 1}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.kenKenOf(2, new int[] {0, 0, -1}, new Operation[] {Operation.ADD}, new int[] {3}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.kenKenOf(2, new int[] {0, 0, -1, -1}, new Operation[] {Operation.ADD}, new int[] {2}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.kenKenOf(4, new int[16], new Operation[] {Operation.MULTIPLY}, new int[] {24}));
+		assertThrows(NullPointerException.class, () -> LatinSquares.kenKenOf(2, new int[] {0, 0, -1, -1}, new Operation[] {null}, new int[] {3}));
+	}
+
+	/**
+	 * Tests the precomputed value tuples of {@link ArithmeticCage}s.
+	 */
+	@Test
+	public void testCageTuples() {
+		// assert that every operation keeps only the values that reach the target
+		assertEquals(2, new CageTuples(4, Operation.SUBTRACT, 3, new int[] {0, 1}).tupleCount());
+		assertEquals(4, new CageTuples(4, Operation.DIVIDE, 2, new int[] {0, 1}).tupleCount());
+		assertEquals(6, new CageTuples(4, Operation.MULTIPLY, 24, new int[] {0, 1, 2}).tupleCount());
+		assertEquals(0, new CageTuples(4, Operation.ADD, 12, new int[] {0, 1, 2}).tupleCount());
+
+		// assert that the values of cells in different rows and columns may repeat
+		assertEquals(2, new CageTuples(4, Operation.ADD, 4, new int[] {0, 1}).tupleCount());
+		assertEquals(3, new CageTuples(4, Operation.ADD, 4, new int[] {0, 5}).tupleCount());
+		assertEquals(3, new CageTuples(4, Operation.MULTIPLY, 4, new int[] {0, 5}).tupleCount());
+
+		// assert that placements narrow the candidates of the other cells
+		CageTuples tuples = new CageTuples(4, Operation.SUBTRACT, 3, new int[] {0, 1});
+		long[] alive = new long[tuples.words()];
+		tuples.fill(alive, 0);
+		assertEquals(0b1001L, tuples.mask(alive, 0, 1));
+		tuples.retain(alive, 0, 0, 3);
+		assertEquals(0b0001L, tuples.mask(alive, 0, 1));
+		tuples.retain(alive, 0, 1, 3);
+		assertFalse(tuples.any(alive, 0));
+
+		// assert that a cage with too many tuples is rejected
+		assertThrows(IllegalArgumentException.class, () -> new CageTuples(64, Operation.ADD, 130, new int[] {0, 1, 2, 3}));
+	}
+
+	/**
+	 * Tests that the {@link Solvers} enforce the {@link ArithmeticCage}s of a {@link KenKen}.
+	 */
+	@Test
+	public void testSolve() {
+		// assert that the cages of a 9x9 solution are reached by every solution found
+		KenKen kenKen = LatinSquares.kenKenOf(9, CAGE_IDS, OPERATIONS, TARGETS);
+		assertTrue(Solvers.isConsistent(kenKen));
+		assertTrue(Solvers.solve(kenKen));
+		assertTrue(Solvers.isConsistent(kenKen));
+		assertTrue(kenKen.cages().values().stream().allMatch(cage -> reaches(kenKen, cage)));
+
+		// assert that the solution the cages were taken from is accepted
+		KenKen solved = LatinSquares.kenKenOf(9, CAGE_IDS, OPERATIONS, TARGETS);
+		for (int index = 0; index < 81; index++)
+			solved.changeSymbol(solved.cellAt(index), solved.symbols().get(SOLUTION.charAt(index) - '0'));
+		assertTrue(Solvers.isConsistent(solved));
+		assertEquals(1, Solvers.countSolutions(solved, 2));
+
+		// assert that a value no tuple allows is inconsistent and leaves no solution
+		KenKen broken = kenKen.copy();
+		broken.clear();
+		broken.changeSymbol(broken.getCell(8, 8).get(), broken.symbols().get(TARGETS[40] % 9 + 1));
+		assertFalse(Solvers.isConsistent(broken));
+		assertEquals(0, Solvers.countSolutions(broken, 1));
+
+		// assert that a 4x4 KenKen with a single solution, and a cell in no cage, is solved
+		KenKen small = LatinSquares.kenKenOf(4,
+				new int[] {0, 0, 1, 1, 2, 3, 3, 1, 2, 4, 5, 5, 6, 4, 7, -1},
+				new Operation[] {Operation.SUBTRACT, Operation.MULTIPLY, Operation.ADD, Operation.SUBTRACT, Operation.DIVIDE, Operation.DIVIDE, Operation.ADD, Operation.ADD},
+				new int[] {1, 24, 7, 3, 3, 2, 2, 4});
+		assertTrue(Solvers.hasUniqueSolution(small));
+		assertTrue(Solvers.solve(small));
+		assertEquals(Integer.valueOf(3), small.getCell(3, 3).get().symbol().get().value());
+		assertTrue(small.cages().values().stream().allMatch(cage -> reaches(small, cage)));
+	}
+
+	private static boolean reaches(KenKen kenKen, ArithmeticCage cage) {
+		int[] values = Arrays.stream(cage.cellIndices()).map(index -> kenKen.cellAt(index).symbol().get().value()).toArray();
+		switch (cage.operation()) {
+			case ADD: return Arrays.stream(values).sum() == cage.target();
+			case SUBTRACT: return Math.abs(values[0] - values[1]) == cage.target();
+			case MULTIPLY: return Arrays.stream(values).reduce(1, (first, second) -> first * second) == cage.target();
+			default: return Math.max(values[0], values[1]) == cage.target() * Math.min(values[0], values[1]);
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.PUZZLE;
+import static com.kori_47.sudoku.SolversTest.SOLUTION;
+import static com.kori_47.sudoku.SolversTest.digitsOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+/**
+ * This class defines the tests for {@link KillerSudoku}s and the {@link CageSums} tables.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 00:12:37
+ */
+public class KillerSudokuTest {
+
+	/**
+	 * the cages of the tests, horizontal pairs in the first eight columns and vertical pairs in the last one.
+	 */
+	static final int[] CAGE_IDS = new int[81];
+
+	/**
+	 * the sums of {@link #CAGE_IDS} in {@link SolversTest#SOLUTION}.
+	 */
+	static final int[] CAGE_SUMS;
+
+	static {
+		int cages = 0;
+		for (int y = 0; y < 9; y++)
+			for (int x = 0; x < 8; x += 2) {
+				CAGE_IDS[y * 9 + x] = cages;
+				CAGE_IDS[y * 9 + x + 1] = cages++;
+			}
+		for (int y = 0; y < 9; y += 2) {
+			CAGE_IDS[y * 9 + 8] = cages;
+			if (y < 8) CAGE_IDS[(y + 1) * 9 + 8] = cages;
+			cages++;
+		}
+		CAGE_SUMS = new int[cages];
+		for (int index = 0; index < CAGE_IDS.length; index++)
+			CAGE_SUMS[CAGE_IDS[index]] += SOLUTION.charAt(index) - '0';
+	}
+
+	/**
+	 * Tests the masks of {@link CageSums}.
+	 */
+	@Test
+	public void testCageSums() {
+		CageSums sums = CageSums.of(9);
+
+		// assert that the masks hold exactly the digits of the matching sets
+		assertEquals(0b11L, sums.mask(2, 3));
+		assertEquals(0b110000000L, sums.mask(2, 17));
+		assertEquals(0b111L, sums.mask(3, 6));
+		assertEquals(0b111101111L, sums.mask(2, 10));
+		assertEquals(0x1FFL, sums.mask(9, 45));
+		assertEquals(0L, sums.mask(2, 2));
+		assertEquals(0L, sums.mask(1, 10));
+		assertEquals(0L, sums.mask(3, -1));
+		assertTrue(sums.isFeasible(0, 0));
+		assertFalse(sums.isFeasible(0, 1));
+
+		// assert that the tables are shared and cover 64 digits
+		assertTrue(CageSums.of(9) == sums);
+		assertEquals(-1L, CageSums.of(64).mask(64, 2080));
+		assertEquals(1L << 63, CageSums.of(64).mask(1, 64));
+	}
+
+	/**
+	 * Tests {@link LatinSquares#killerSudokuOf(Sudoku.SudokuVariant, int[], int[])}.
+	 */
+	@Test
+	public void testKillerSudokuOf() {
+		KillerSudoku sudoku = LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, CAGE_IDS, CAGE_SUMS);
+
+		// assert that the cages follow the layout
+		assertEquals(CAGE_SUMS.length, sudoku.cages().size());
+		Cage cage = sudoku.cageOf(8, 1).get();
+		assertEquals(sudoku.cages().get(cage.id()), cage);
+		assertEquals(10, cage.sum());
+		assertEquals(2, cage.size());
+		assertArrayEquals(new int[] { 8, 17 }, cage.cellIndices());
+		assertEquals(8, sudoku.cageOf(0, 0).get().sum());
+		assertThrows(IndexOutOfBoundsException.class, () -> sudoku.cageOf(9, 0));
+
+		// assert that copies share the cages and hold the same values
+		place(sudoku, 0, 0, 5);
+		KillerSudoku copy = sudoku.copy();
+		assertEquals(sudoku.cages(), copy.cages());
+		assertEquals(sudoku, copy);
+
+		// assert that cells may be left out of the cages
+		int[] partial = CAGE_IDS.clone();
+		partial[0] = -1;
+		int[] partialSums = CAGE_SUMS.clone();
+		partialSums[0] = 3;
+		assertFalse(LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, partial, partialSums).cageOf(0, 0).isPresent());
+
+		// assert that invalid layouts are rejected
+		int[] outOfRange = CAGE_IDS.clone();
+		outOfRange[0] = CAGE_SUMS.length;
+		int[] infeasible = CAGE_SUMS.clone();
+		infeasible[0] = 2;
+		assertThrows(NullPointerException.class, () -> LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, null, CAGE_SUMS));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, new int[80], CAGE_SUMS));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, outOfRange, CAGE_SUMS));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, CAGE_IDS, infeasible));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, CAGE_IDS, new int[CAGE_SUMS.length + 1]));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.killerSudokuOf(SudokuVariants.boxBlocksVariantOf(9, 8), new int[72 * 72], new int[0]));
+	}
+
+	/**
+	 * Tests solving and validating {@link KillerSudoku}s.
+	 */
+	@Test
+	public void testSolveKillerSudoku() {
+		// assert that a killer sudoku with no clues is solved within it's cages
+		KillerSudoku empty = LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, CAGE_IDS, CAGE_SUMS);
+		assertTrue(Solvers.solve(empty));
+		assertTrue(Solvers.isConsistent(empty));
+		for (Cage cage : empty.cages().values()) {
+			int sum = 0;
+			for (int index : cage.cellIndices())
+				sum += empty.cellAt(index).symbol().get().value();
+			assertEquals(cage.sum(), sum);
+		}
+
+		// assert that the clues and the cages lead to the known solution
+		KillerSudoku puzzle = LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, CAGE_IDS, CAGE_SUMS);
+		puzzle.loadFrom(PUZZLE.chars().map(digit -> digit - '0').toArray());
+		assertTrue(Solvers.hasUniqueSolution(puzzle));
+		assertTrue(Solvers.solve(puzzle));
+		assertEquals(SOLUTION, digitsOf(puzzle));
+
+		// assert that a cage that can't reach it's sum or repeats a digit is inconsistent
+		KillerSudoku sudoku = LatinSquares.killerSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, CAGE_IDS, CAGE_SUMS);
+		place(sudoku, 8, 0, 9);
+		assertTrue(Solvers.isConsistent(sudoku));
+		place(sudoku, 8, 1, 2);
+		assertFalse(Solvers.isConsistent(sudoku));
+		place(sudoku, 8, 1, 1);
+		assertTrue(Solvers.isConsistent(sudoku));
+		place(sudoku, 0, 0, 8);
+		assertFalse(Solvers.isConsistent(sudoku));
+		assertFalse(Solvers.solve(sudoku));
+	}
+
+	private static void place(KillerSudoku sudoku, int x, int y, int value) {
+		sudoku.changeSymbol(sudoku.getCell(x, y).get(), sudoku.symbols().get(value));
+	}
+}
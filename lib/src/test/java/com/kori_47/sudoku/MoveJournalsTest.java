@@ -0,0 +1,135 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.PUZZLE;
+import static com.kori_47.sudoku.SolversTest.digitsOf;
+import static com.kori_47.sudoku.SolversTest.sudokuOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for the {@link MoveJournal}s returned by {@link MoveJournals}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 18:31:02
+ */
+public class MoveJournalsTest {
+
+	/**
+	 * Tests undoing and redoing single moves and checkpoints.
+	 */
+	@Test
+	public void testUndoRedo() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		MoveJournal<Integer> journal = MoveJournals.moveJournalOf(sudoku);
+		Cell<Integer> first = sudoku.getCell(2, 0).get(), second = sudoku.getCell(3, 0).get();
+
+		// assert that a fresh journal has nothing to undo or redo
+		assertFalse(journal.canUndo());
+		assertFalse(journal.undo());
+		assertFalse(journal.redo());
+
+		journal.changeSymbol(first, sudoku.symbols().get(4));
+		journal.checkpoint();
+		journal.checkpoint();
+		journal.changeSymbol(second, sudoku.symbols().get(6));
+		journal.changeSymbol(second, sudoku.symbols().get(8));
+		String played = digitsOf(sudoku);
+
+		// assert that single moves are undone and redone in order
+		assertTrue(journal.undo());
+		assertEquals(6, (int) second.symbol().get().value());
+		assertTrue(journal.canRedo());
+		assertTrue(journal.redo());
+		assertEquals(played, digitsOf(sudoku));
+
+		// assert that checkpoints group moves
+		assertEquals(2, journal.undoToCheckpoint());
+		assertFalse(second.symbol().isPresent());
+		assertEquals(1, journal.undoToCheckpoint());
+		assertEquals(PUZZLE, digitsOf(sudoku));
+		assertFalse(journal.canUndo());
+		assertEquals(1, journal.redoToCheckpoint());
+		assertEquals(2, journal.redoToCheckpoint());
+		assertEquals(played, digitsOf(sudoku));
+		assertFalse(journal.canRedo());
+
+		// assert that recording a move discards what could be redone
+		journal.undo();
+		journal.clear(first);
+		assertFalse(journal.canRedo());
+		assertFalse(first.symbol().isPresent());
+
+		// assert that foreign cells and symbols are rejected
+		assertThrows(SudokuException.class, () -> journal.changeSymbol(Cells.of("x", 0, 0), null));
+		assertThrows(SudokuException.class, () -> journal.record(first, null, Symbols.of(10, 10)));
+		assertThrows(NullPointerException.class, () -> journal.clear(null));
+	}
+
+	/**
+	 * Tests that compaction shrinks the history without changing the states reachable through checkpoints.
+	 */
+	@Test
+	public void testCompaction() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		MoveJournal<Integer> journal = MoveJournals.moveJournalOf(sudoku);
+		Cell<Integer> cell = sudoku.getCell(2, 0).get(), other = sudoku.getCell(3, 0).get();
+
+		// cycle through symbols on the same cell, ending where we started in the second turn
+		for (int id = 1; id <= 9; id++)
+			journal.changeSymbol(cell, sudoku.symbols().get(id));
+		journal.checkpoint();
+		String firstTurn = digitsOf(sudoku);
+		journal.changeSymbol(other, sudoku.symbols().get(2));
+		journal.changeSymbol(other, null);
+		journal.changeSymbol(cell, sudoku.symbols().get(1));
+		journal.changeSymbol(cell, sudoku.symbols().get(9));
+
+		// assert that the merged and cancelled moves are removed
+		assertEquals(12, journal.compact());
+		assertEquals(0, journal.compact());
+		assertEquals(firstTurn, digitsOf(sudoku));
+
+		// assert that undoing still returns to the original puzzle through the checkpoint
+		assertEquals(1, journal.undoToCheckpoint());
+		assertEquals(PUZZLE, digitsOf(sudoku));
+		assertFalse(journal.canUndo());
+	}
+
+	/**
+	 * Tests that a long session stays within it's limit and that undoing it replays the grid backwards.
+	 */
+	@Test
+	public void testLongSession() {
+		Sudoku<Integer> sudoku = sudokuOf("0".repeat(81));
+		MoveJournal<Integer> journal = MoveJournals.moveJournalOf(sudoku, 1_000);
+		Random random = new Random(47);
+		String[] states = new String[5_001];
+		states[0] = digitsOf(sudoku);
+		for (int move = 1; move < states.length; move++) {
+			// moves on the same cell in a row are kept apart, the history is never compacted implicitly
+			int index = random.nextInt(9);
+			Cell<Integer> cell = sudoku.getCell(index % 9, index / 9).get();
+			int id = cell.symbol().map(Symbol::id).orElse(0) % 9 + 1;
+			journal.changeSymbol(cell, sudoku.symbols().get(id));
+			states[move] = digitsOf(sudoku);
+		}
+
+		// assert that the most recent moves can be undone one at a time and that the oldest moves were discarded
+		int undone = 0;
+		while (journal.undo()) {
+			undone++;
+			assertEquals(states[states.length - 1 - undone], digitsOf(sudoku));
+		}
+		assertEquals(1_000, undone);
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+/**
+ * This class defines the tests for {@link MultiGridSudoku}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 01:41:19
+ */
+public class MultiGridSudokuTest {
+
+	/**
+	 * Tests the layout of a Samurai {@link MultiGridSudoku} and the sharing of values between it's grids.
+	 */
+	@Test
+	public void testSamuraiLayout() {
+		MultiGridSudoku<Integer> samurai = LatinSquares.samuraiSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9));
+		Sudoku<Integer> topLeft = samurai.grids().get(0), topRight = samurai.grids().get(1), centre = samurai.grids().get(2);
+
+		// assert that the grids are laid out on a 21x21 board
+		assertEquals(5, samurai.grids().size());
+		assertEquals(21, samurai.width());
+		assertEquals(21, samurai.height());
+		assertEquals(6, samurai.originX(2));
+		assertEquals(6, samurai.originY(2));
+		assertEquals(12, samurai.originX(4));
+		assertEquals(12, samurai.originY(4));
+		assertFalse(samurai.cellAt(9, 0).isPresent());
+		assertFalse(samurai.cellAt(21, 0).isPresent());
+		assertSame(topLeft.getCell(6, 6).get(), samurai.cellAt(6, 6).get());
+		assertSame(centre.getCell(3, 3).get(), samurai.cellAt(9, 9).get());
+		assertThrows(IndexOutOfBoundsException.class, () -> samurai.originX(5));
+
+		// assert that a value placed through one grid is seen by the grids that share the cell
+		topLeft.changeSymbol(topLeft.getCell(8, 7).get(), topLeft.symbols().get(4));
+		assertEquals(Integer.valueOf(4), centre.getCell(2, 1).get().symbol().get().value());
+		centre.changeSymbol(centre.getCell(6, 0).get(), centre.symbols().get(7));
+		assertEquals(Integer.valueOf(7), topRight.getCell(0, 6).get().symbol().get().value());
+		assertFalse(topRight.getCell(6, 0).get().symbol().isPresent());
+
+		// assert that copies, of the board or of a single grid, don't share values with the board
+		MultiGridSudoku<Integer> copy = samurai.copy();
+		Sudoku<Integer> gridCopy = centre.copy();
+		assertEquals(Integer.valueOf(4), copy.grids().get(2).getCell(2, 1).get().symbol().get().value());
+		assertEquals(Integer.valueOf(4), gridCopy.getCell(2, 1).get().symbol().get().value());
+		copy.clear();
+		gridCopy.clear();
+		assertFalse(copy.grids().get(0).getCell(8, 7).get().symbol().isPresent());
+		assertEquals(Integer.valueOf(4), topLeft.getCell(8, 7).get().symbol().get().value());
+		assertEquals(Integer.valueOf(7), centre.getCell(6, 0).get().symbol().get().value());
+	}
+
+	/**
+	 * Tests solving a Samurai {@link MultiGridSudoku} as a single board.
+	 */
+	@Test
+	public void testSolveSamurai() {
+		MultiGridSudoku<Integer> samurai = LatinSquares.samuraiSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9));
+
+		// assert that an empty board is solved into five complete grids that agree on their shared blocks
+		assertEquals(2, Solvers.countBoardSolutions(samurai, 2));
+		assertTrue(Solvers.solveBoard(samurai));
+		assertTrue(Solvers.isBoardConsistent(samurai));
+		for (Sudoku<Integer> grid : samurai.grids()) {
+			assertTrue(Solvers.isConsistent(grid));
+			assertTrue(grid.cells().values().stream().allMatch(cell -> cell.symbol().isPresent()));
+		}
+
+		// assert that a board missing a whole shared block has a single solution
+		MultiGridSudoku<Integer> puzzle = samurai.copy();
+		for (int y = 0; y < 3; y++)
+			for (int x = 0; x < 3; x++)
+				puzzle.grids().get(2).getCell(x, y).get().clear();
+		assertTrue(Solvers.hasUniqueBoardSolution(puzzle));
+		assertTrue(Solvers.solveBoard(puzzle));
+		assertEquals(samurai.toString(), puzzle.toString());
+	}
+
+	/**
+	 * Tests that the grids of a {@link MultiGridSudoku} restrict each other when solving.
+	 */
+	@Test
+	public void testSolveAcrossGrids() {
+		MultiGridSudoku<Integer> samurai = LatinSquares.samuraiSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9));
+		Sudoku<Integer> topLeft = samurai.grids().get(0), centre = samurai.grids().get(2);
+		// the centre grid leaves the last row of the shared block for the 1, the top left grid has a 1 in that row
+		centre.changeSymbol(centre.getCell(3, 0).get(), centre.symbols().get(1));
+		centre.changeSymbol(centre.getCell(6, 1).get(), centre.symbols().get(1));
+		topLeft.changeSymbol(topLeft.getCell(0, 8).get(), topLeft.symbols().get(1));
+
+		// assert that each grid can be solved on it's own but the board can't
+		for (Sudoku<Integer> grid : samurai.grids())
+			assertEquals(1, Solvers.countSolutions(grid, 1));
+		assertTrue(Solvers.isBoardConsistent(samurai));
+		assertFalse(Solvers.solveBoard(samurai));
+		assertEquals(0, Solvers.countBoardSolutions(samurai, 1));
+	}
+
+	/**
+	 * Tests {@link LatinSquares#multiGridSudokuOf(Sudoku.SudokuVariant, java.util.Set, int[][])} with smaller and
+	 * invalid layouts.
+	 */
+	@Test
+	public void testMultiGridSudokuOf() {
+		// assert that a 4x4 Samurai is laid out on an 8x8 board and can be solved
+		MultiGridSudoku<Integer> small = LatinSquares.samuraiSudokuOf(BoxBlocksSudokuVariants.VARIANT_4x4, Symbols.numberAlphabet(4));
+		assertEquals(8, small.width());
+		assertTrue(Solvers.solveBoard(small));
+		assertTrue(small.grids().stream().allMatch(Solvers::isConsistent));
+
+		// assert that grids sharing a row are solved together
+		MultiGridSudoku<Integer> pair = LatinSquares.multiGridSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9), new int[][] {{0, 0}, {0, 8}});
+		assertEquals(9, pair.width());
+		assertEquals(17, pair.height());
+		assertTrue(Solvers.solveBoard(pair));
+		assertEquals(pair.grids().get(0).getCell(4, 8).get().symbol(), pair.grids().get(1).getCell(4, 0).get().symbol());
+
+		// assert that invalid layouts are rejected
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.multiGridSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9), new int[0][]));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.multiGridSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9), new int[][] {{0, -1}}));
+		assertThrows(NullPointerException.class, () -> LatinSquares.multiGridSudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9), new int[][] {null}));
+		assertThrows(IllegalArgumentException.class, () -> LatinSquares.samuraiSudokuOf(SudokuVariants.boxBlocksVariantOf(1, 4), Symbols.numberAlphabet(4)));
+	}
+}
@@ -0,0 +1,113 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.PUZZLE;
+import static com.kori_47.sudoku.SolversTest.digitsOf;
+import static com.kori_47.sudoku.SolversTest.sudokuOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for {@link ObservableLatinSquare}s and {@link ObservableSudoku}s.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 19:48:20
+ */
+public class ObservableLatinSquareTest {
+
+	/**
+	 * Tests that changes are delivered immediately outside a batch and coalesced per {@link Cell} inside one.
+	 */
+	@Test
+	public void testChangeDelivery() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		ObservableSudoku<Integer> observable = LatinSquares.observableSudokuOf(sudoku);
+		List<String> delivered = new ArrayList<>();
+		GridChangeListener<Integer> listener = changes -> {
+			assertTrue(changes.latinSquare() == observable);
+			delivered.add(changes.toString());
+		};
+		Cell<Integer> first = observable.getCell(2, 0).get(), second = observable.getCell(3, 0).get();
+
+		// assert that the values are copied and that changes aren't recorded while nobody listens
+		assertEquals(sudoku, observable);
+		assertEquals(sudoku.cellFactory(), observable.cellFactory());
+		first.changeSymbol(sudoku.symbols().get(1));
+		assertTrue(delivered.isEmpty());
+
+		// assert that changes through a Cell and through the Sudoku are delivered immediately outside a batch
+		observable.addChangeListener(listener);
+		observable.addChangeListener(listener);
+		first.clear();
+		observable.changeSymbol(second, sudoku.symbols().get(6));
+		assertEquals(List.of("GridChanges[2/0: " + sudoku.symbols().get(1) + " -> null]",
+				"GridChanges[3/0: null -> " + sudoku.symbols().get(6) + "]"), delivered);
+
+		// assert that a batch delivers a single change per cell and drops cells that are back where they started
+		delivered.clear();
+		observable.batch(() -> {
+			for (int id = 1; id <= 9; id++)
+				first.changeSymbol(sudoku.symbols().get(id));
+			second.changeSymbol(sudoku.symbols().get(2));
+			second.changeSymbol(sudoku.symbols().get(6));
+			assertTrue(delivered.isEmpty());
+		});
+		assertEquals(List.of("GridChanges[2/0: null -> " + sudoku.symbols().get(9) + "]"), delivered);
+
+		// assert that flushing delivers without ending the batch and that clearing the grid is a single batch
+		delivered.clear();
+		observable.beginBatch();
+		first.clear();
+		observable.flush();
+		assertEquals(1, delivered.size());
+		observable.clear();
+		assertEquals(1, delivered.size());
+		observable.endBatch();
+		assertEquals(2, delivered.size());
+		assertEquals("0".repeat(81), digitsOf(observable));
+		assertThrows(IllegalStateException.class, () -> observable.endBatch());
+
+		// assert that removed listeners aren't notified
+		assertTrue(observable.removeChangeListener(listener));
+		assertFalse(observable.removeChangeListener(listener));
+		first.changeSymbol(sudoku.symbols().get(1));
+		assertEquals(2, delivered.size());
+	}
+
+	/**
+	 * Tests that listeners can change the observed {@link LatinSquare} while being notified.
+	 */
+	@Test
+	public void testReentrantListener() {
+		ObservableLatinSquare<Integer> observable = LatinSquares.observableLatinSquareOf(sudokuOf("0".repeat(81)));
+		Cell<Integer> first = observable.getCell(0, 0).get(), mirror = observable.getCell(8, 8).get();
+		List<Symbol<Integer>> mirrored = new ArrayList<>();
+		observable.addChangeListener(changes -> {
+			for (int index = 0; index < changes.size(); index++) {
+				if (changes.cell(index) == first)
+					mirror.changeSymbol(changes.newSymbol(index));
+				else
+					mirrored.add(changes.newSymbol(index));
+			}
+		});
+
+		// assert that the listener's own change is delivered after it returns
+		first.changeSymbol(observable.symbols().get(5));
+		assertEquals(List.of(observable.symbols().get(5)), mirrored);
+		assertEquals(observable.symbols().get(5), mirror.symbol().get());
+		first.clear();
+		assertNull(mirrored.get(1));
+		assertFalse(observable instanceof Sudoku);
+	}
+}
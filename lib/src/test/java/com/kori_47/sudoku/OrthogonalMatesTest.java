@@ -0,0 +1,93 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for the {@link OrthogonalMates} utility class.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Mon, 19 Oct 2026 05:26:08
+ */
+public class OrthogonalMatesTest {
+
+	/**
+	 * Tests finding a single orthogonal mate.
+	 */
+	@Test
+	public void testFindOrthogonalMate() {
+		// assert that the cyclic squares of odd size and the Klein square have mates
+		for (LatinSquare<Integer> latinSquare : List.of(squareOf(5, (x, y) -> (x + y) % 5), squareOf(4, (x, y) -> x ^ y), squareOf(9, (x, y) -> (x + y) % 9))) {
+			Optional<LatinSquare<Integer>> mate = OrthogonalMates.findOrthogonalMate(latinSquare);
+			assertTrue(mate.isPresent());
+			assertTrue(OrthogonalMates.areOrthogonal(latinSquare, mate.get()));
+			assertTrue(Solvers.isConsistent(mate.get()));
+			for (int x = 0; x < latinSquare.size(); x++)
+				assertEquals(Integer.valueOf(x + 1), mate.get().getCell(x, 0).get().symbol().get().value());
+		}
+
+		// assert that the cyclic squares of even size have no transversals and no mates
+		LatinSquare<Integer> cyclic = squareOf(4, (x, y) -> (x + y) % 4);
+		assertEquals(0, OrthogonalMates.countTransversals(cyclic));
+		assertFalse(OrthogonalMates.findOrthogonalMate(cyclic).isPresent());
+		assertFalse(OrthogonalMates.areOrthogonal(cyclic, cyclic));
+
+		// assert that no Latin square of size 6 has a mate
+		LatinSquare<Integer> six = LatinSquares.latinSquareOf(6, Symbols.numberAlphabet(6));
+		Solvers.fillRandomly(six, new Random(36));
+		assertFalse(OrthogonalMates.findOrthogonalMate(six, new ForkJoinPool(2)).isPresent());
+
+		// assert that the search of a Latin square with too many transversals to keep is rejected
+		LatinSquare<Integer> fifteen = squareOf(15, (x, y) -> (x + y) % 15);
+		assertThrows(IllegalArgumentException.class, () -> OrthogonalMates.findOrthogonalMate(fifteen));
+	}
+
+	/**
+	 * Tests passing every orthogonal mate to an action.
+	 */
+	@Test
+	public void testForEachOrthogonalMate() {
+		// assert that the mates of the cyclic square of size 5 are distinct and orthogonal to it
+		LatinSquare<Integer> cyclic = squareOf(5, (x, y) -> (x + y) % 5);
+		assertEquals(15, OrthogonalMates.countTransversals(cyclic));
+		assertEquals(37851, OrthogonalMates.countTransversals(squareOf(11, (x, y) -> (x + y) % 11)));
+		Set<String> mates = ConcurrentHashMap.newKeySet();
+		long found = OrthogonalMates.forEachOrthogonalMate(cyclic, mate -> {
+			assertTrue(OrthogonalMates.areOrthogonal(cyclic, mate));
+			mates.add(mate.toString());
+		});
+		assertEquals(3, found);
+		assertEquals(3, mates.size());
+
+		// assert that only complete Latin squares are accepted
+		LatinSquare<Integer> incomplete = squareOf(3, (x, y) -> (x + y) % 3);
+		incomplete.cellAt(4).clear();
+		assertThrows(IllegalArgumentException.class, () -> OrthogonalMates.countTransversals(incomplete));
+		assertThrows(IllegalArgumentException.class, () -> OrthogonalMates.findOrthogonalMate(squareOf(3, (x, y) -> x)));
+		assertThrows(NullPointerException.class, () -> OrthogonalMates.forEachOrthogonalMate(cyclic, null));
+	}
+
+	private static LatinSquare<Integer> squareOf(int size, IntBinaryOperator symbolAt) {
+		LatinSquare<Integer> latinSquare = LatinSquares.latinSquareOf(size, Symbols.numberAlphabet(size));
+		for (int y = 0; y < size; y++)
+			for (int x = 0; x < size; x++)
+				latinSquare.changeSymbol(latinSquare.getCell(x, y).get(), latinSquare.symbols().get(symbolAt.applyAsInt(x, y) + 1));
+		return latinSquare;
+	}
+}
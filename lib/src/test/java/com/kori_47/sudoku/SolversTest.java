@@ -0,0 +1,315 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.ArithmeticCage.Operation;
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+/**
+ * This class defines the tests for the {@link Solvers} utility class.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 14:02:31
+ */
+public class SolversTest {
+
+	/**
+	 * a well known puzzle with a unique solution, row by row, {@code 0} for empty cells.
+	 */
+	static final String PUZZLE = "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+
+	/**
+	 * the solution of {@link #PUZZLE}.
+	 */
+	static final String SOLUTION = "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+	/**
+	 * Tests {@link Solvers#solve(LatinSquare)}.
+	 */
+	@Test
+	public void testSolve() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+
+		// assert that the puzzle is solved in place
+		assertTrue(Solvers.solve(sudoku));
+		assertEquals(SOLUTION, digitsOf(sudoku));
+
+		// assert that an inconsistent puzzle has no solution and is left untouched
+		Sudoku<Integer> invalid = sudokuOf("55" + PUZZLE.substring(2));
+		assertFalse(Solvers.solve(invalid));
+		assertEquals("55" + PUZZLE.substring(2), digitsOf(invalid));
+
+		// assert that an elapsed timeout aborts the search
+		assertThrows(CancellationException.class, () -> Solvers.solve(sudokuOf(PUZZLE), Duration.ZERO));
+		assertThrows(NullPointerException.class, () -> Solvers.solve(null));
+	}
+
+	/**
+	 * Tests {@link Solvers#countSolutions(LatinSquare, int)}, {@link Solvers#hasUniqueSolution(LatinSquare)} and
+	 * {@link Solvers#isConsistent(LatinSquare)}.
+	 */
+	@Test
+	public void testValidation() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+
+		// assert that the puzzle has exactly one solution and isn't modified
+		assertEquals(1, Solvers.countSolutions(sudoku, 10));
+		assertTrue(Solvers.hasUniqueSolution(sudoku));
+		assertTrue(Solvers.isConsistent(sudoku));
+		assertEquals(PUZZLE, digitsOf(sudoku));
+
+		// assert that an empty grid has many solutions and counting stops at the limit
+		assertEquals(5, Solvers.countSolutions(sudokuOf("0".repeat(81)), 5));
+		assertFalse(Solvers.hasUniqueSolution(sudokuOf("0".repeat(81))));
+
+		// assert that conflicting symbols are detected
+		assertFalse(Solvers.isConsistent(sudokuOf("55" + PUZZLE.substring(2))));
+		assertThrows(IllegalArgumentException.class, () -> Solvers.countSolutions(sudoku, 0));
+	}
+
+	/**
+	 * Tests {@link Solvers#generate(LatinSquare, Random)}.
+	 */
+	@Test
+	public void testGenerate() {
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		int clues = Solvers.generate(sudoku, new Random(47));
+
+		// assert that the generated puzzle is consistent, unique and has the reported number of clues
+		assertTrue(Solvers.isConsistent(sudoku));
+		assertTrue(Solvers.hasUniqueSolution(sudoku));
+		assertEquals(clues, sudoku.cells().values().stream().filter(cell -> cell.symbol().isPresent()).count());
+		assertTrue(clues < 81);
+
+		// assert that plain LatinSquares are supported too
+		LatinSquare<Integer> latinSquare = LatinSquares.latinSquareOf(5, Symbols.numberSymbolsUpTo(6));
+		Solvers.generate(latinSquare, new Random(7));
+		assertTrue(Solvers.hasUniqueSolution(latinSquare));
+		assertThrows(NullPointerException.class, () -> Solvers.generate(sudoku, null));
+	}
+
+	/**
+	 * Tests {@link Solvers#generate(LatinSquare, Random, FailedStateCache)}.
+	 */
+	@Test
+	public void testFailedStateCache() {
+		// assert that the cache skips searches without changing the generated puzzles
+		FailedStateCache cache = Solvers.failedStateCacheOf(1000);
+		assertEquals(1024, cache.capacity());
+		Sudoku<Integer> plain = sudokuOf(""), cached = sudokuOf("");
+		for (long seed = 1; seed <= 10; seed++) {
+			assertEquals(Solvers.generate(plain, new Random(seed)), Solvers.generate(cached, new Random(seed), cache));
+			assertEquals(digitsOf(plain), digitsOf(cached));
+		}
+		assertTrue(cache.hits() > 0);
+		assertTrue(cache.misses() > 0);
+		assertTrue(cache.size() > 0 && cache.size() <= cache.capacity());
+
+		// assert that the dead ends are shared by puzzles with the same units without changing the answers
+		int size = cache.size();
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		assertTrue(Solvers.hasUniqueSolution(sudoku, cache));
+		assertTrue(cache.size() >= size);
+		assertFalse(Solvers.hasUniqueSolution(sudokuOf(""), Solvers.failedStateCacheOf(4)));
+		assertFalse(Solvers.hasUniqueSolution(sudokuOf("55" + PUZZLE.substring(2)), cache));
+		assertTrue(Solvers.hasUniqueSolution(sudoku, cache));
+
+		// assert that the cache forgets the dead ends of grids with other units
+		assertFalse(Solvers.hasUniqueSolution(LatinSquares.latinSquareOf(4, Symbols.numberAlphabet(4)), cache));
+		assertTrue(cache.size() < size);
+		assertTrue(Solvers.hasUniqueSolution(sudoku, cache));
+
+		// assert that clearing the cache resets it's counters
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.hits());
+		assertEquals(0, cache.misses());
+
+		assertThrows(IllegalArgumentException.class, () -> Solvers.failedStateCacheOf(0));
+		assertThrows(NullPointerException.class, () -> Solvers.generate(sudoku, new Random(1), null));
+		assertThrows(IllegalArgumentException.class, () -> Solvers.hasUniqueSolution(sudoku, new FailedStateCache() {
+			@Override public int capacity() { return 0; }
+			@Override public int size() { return 0; }
+			@Override public long hits() { return 0; }
+			@Override public long misses() { return 0; }
+			@Override public void clear() { }
+		}));
+	}
+
+	/**
+	 * Tests {@link Solvers#fillRandomly(LatinSquare, Random, long)}.
+	 */
+	@Test
+	public void testFillRandomly() {
+		// assert that squares larger than the solvers support are filled with a Latin square
+		LatinSquare<Integer> large = LatinSquares.latinSquareOf(70, Symbols.numberAlphabet(70));
+		Solvers.fillRandomly(large, new Random(3));
+		for (int line = 0; line < 70; line++) {
+			Set<Integer> rowValues = new HashSet<>(), columnValues = new HashSet<>();
+			for (int position = 0; position < 70; position++) {
+				rowValues.add(large.getCell(position, line).get().symbol().get().value());
+				columnValues.add(large.getCell(line, position).get().symbol().get().value());
+			}
+			assertEquals(70, rowValues.size());
+			assertEquals(70, columnValues.size());
+		}
+
+		// assert that the same seed gives the same square
+		LatinSquare<Integer> first = LatinSquares.latinSquareOf(9, Symbols.numberAlphabet(9));
+		LatinSquare<Integer> second = LatinSquares.latinSquareOf(9, Symbols.numberAlphabet(9));
+		Solvers.fillRandomly(first, new Random(11));
+		Solvers.fillRandomly(second, new Random(11));
+		assertTrue(Solvers.isConsistent(first));
+		assertEquals(first.toString(), second.toString());
+
+		// assert that all the 12 Latin squares of size 3 are sampled about as often
+		Map<String, Integer> counts = new HashMap<>();
+		Random random = new Random(5);
+		LatinSquare<Integer> small = LatinSquares.latinSquareOf(3, Symbols.numberAlphabet(3));
+		for (int sample = 0; sample < 2400; sample++) {
+			Solvers.fillRandomly(small, random, 50);
+			counts.merge(small.toString(), 1, Integer::sum);
+		}
+		assertEquals(12, counts.size());
+		assertTrue(counts.values().stream().allMatch(count -> count > 140 && count < 260));
+
+		// assert that the 576 Latin squares of size 4, which fall in two isotopy classes, pass a chi-squared test
+		Map<Long, Integer> fourCounts = new HashMap<>();
+		LatinSquare<Integer> four = LatinSquares.latinSquareOf(4, Symbols.numberAlphabet(4));
+		for (int sample = 0; sample < 576 * 200; sample++) {
+			Solvers.fillRandomly(four, random);
+			long key = 0L;
+			for (int index = 0; index < 16; index++)
+				key = key * 4 + four.cellAt(index).symbol().get().value() - 1;
+			fourCounts.merge(key, 1, Integer::sum);
+		}
+		assertEquals(576, fourCounts.size());
+		// the statistic has 575 degrees of freedom, 700 is exceeded by a uniform sample with a probability of about 0.03%
+		double chiSquared = fourCounts.values().stream().mapToDouble(count -> (count - 200.0) * (count - 200.0) / 200.0).sum();
+		assertTrue(chiSquared < 700.0, "chi-squared: " + chiSquared);
+
+		// assert that only plain LatinSquares can be filled
+		assertThrows(IllegalArgumentException.class, () -> Solvers.fillRandomly(sudokuOf(PUZZLE), new Random(1)));
+		assertThrows(IllegalArgumentException.class, () -> Solvers.fillRandomly(first, new Random(1), -1));
+		assertThrows(NullPointerException.class, () -> Solvers.fillRandomly(first, null));
+	}
+
+	/**
+	 * Tests {@link Solvers#complete(LatinSquare, Random)} on quasigroups with holes.
+	 */
+	@Test
+	public void testComplete() {
+		// assert that random Latin squares with holes, 42% of their cells given, are completed keeping their clues
+		Random random = new Random(17);
+		for (int size : new int[] {30, 60}) {
+			LatinSquare<Integer> square = LatinSquares.latinSquareOf(size, Symbols.numberAlphabet(size));
+			Solvers.fillRandomly(square, random);
+			LatinSquare<Integer> puzzle = square.copy();
+			for (Cell<Integer> cell : puzzle.cells().values())
+				if (random.nextDouble() < 0.58) puzzle.changeSymbol(cell, null);
+			LatinSquare<Integer> clues = puzzle.copy();
+			assertTrue(Solvers.complete(puzzle, random, Duration.ofSeconds(30)));
+			assertTrue(Solvers.isConsistent(puzzle));
+			for (int y = 0; y < size; y++) {
+				for (int x = 0; x < size; x++) {
+					assertTrue(puzzle.getCell(x, y).get().symbol().isPresent());
+					if (clues.getCell(x, y).get().symbol().isPresent())
+						assertEquals(clues.getCell(x, y).get().symbol(), puzzle.getCell(x, y).get().symbol());
+				}
+			}
+		}
+
+		// assert that a partial Latin square that can't be completed is left unchanged
+		LatinSquare<Integer> blocked = LatinSquares.latinSquareOf(3, Symbols.numberAlphabet(3));
+		blocked.changeSymbol(blocked.getCell(0, 0).get(), blocked.symbols().get(1));
+		blocked.changeSymbol(blocked.getCell(1, 0).get(), blocked.symbols().get(2));
+		blocked.changeSymbol(blocked.getCell(2, 1).get(), blocked.symbols().get(3));
+		String before = blocked.toString();
+		assertFalse(Solvers.complete(blocked, random));
+		assertEquals(before, blocked.toString());
+
+		// assert that only plain LatinSquares with as many Symbols as their size can be completed
+		assertThrows(IllegalArgumentException.class, () -> Solvers.complete(sudokuOf(PUZZLE), random));
+		assertThrows(IllegalArgumentException.class, () -> Solvers.complete(LatinSquares.latinSquareOf(3, Symbols.numberAlphabet(4)), random));
+		assertThrows(NullPointerException.class, () -> Solvers.complete(blocked, null));
+	}
+
+	/**
+	 * Test method for {@link com.kori_47.sudoku.Solvers#solveWithSat(com.kori_47.sudoku.LatinSquare, java.time.Duration)}.
+	 */
+	@Test
+	public void testSolveWithSat() {
+		// assert that the SAT backend finds the same solution as the backtracking search
+		Sudoku<Integer> sudoku = sudokuOf(PUZZLE);
+		assertTrue(Solvers.solveWithSat(sudoku, Duration.ofSeconds(30)));
+		assertEquals(SOLUTION, digitsOf(sudoku));
+
+		// assert that a grid without solution is detected and left unchanged
+		Sudoku<Integer> invalid = sudokuOf("55" + PUZZLE.substring(2));
+		assertFalse(Solvers.solveWithSat(invalid));
+		assertEquals("55" + PUZZLE.substring(2), digitsOf(invalid));
+		Sudoku<Integer> blocked = sudokuOf("123456780000000009");
+		String before = digitsOf(blocked);
+		assertFalse(Solvers.solveWithSat(blocked));
+		assertEquals(before, digitsOf(blocked));
+
+		// assert that Latin squares with more than 64 Symbols are solved keeping their clues
+		Random random = new Random(23);
+		LatinSquare<Integer> square = LatinSquares.latinSquareOf(70, Symbols.numberAlphabet(70));
+		Solvers.fillRandomly(square, random);
+		LatinSquare<Integer> puzzle = square.copy();
+		for (Cell<Integer> cell : puzzle.cells().values())
+			if (random.nextDouble() < 0.7) puzzle.changeSymbol(cell, null);
+		LatinSquare<Integer> clues = puzzle.copy();
+		assertTrue(Solvers.solveWithSat(puzzle, Duration.ofSeconds(30)));
+		for (int y = 0; y < 70; y++) {
+			Set<Integer> row = new HashSet<>(), column = new HashSet<>();
+			for (int x = 0; x < 70; x++) {
+				assertTrue(row.add(puzzle.getCell(x, y).get().symbol().get().value()));
+				assertTrue(column.add(puzzle.getCell(y, x).get().symbol().get().value()));
+				if (clues.getCell(x, y).get().symbol().isPresent())
+					assertEquals(clues.getCell(x, y).get().symbol(), puzzle.getCell(x, y).get().symbol());
+			}
+		}
+
+		// assert that LatinSquares with extra rules are rejected
+		assertThrows(IllegalArgumentException.class, () -> Solvers.solveWithSat(LatinSquares.kenKenOf(2, new int[] {0, 0, -1, -1}, new Operation[] {Operation.SUBTRACT}, new int[] {1})));
+		assertThrows(NullPointerException.class, () -> Solvers.solveWithSat(null));
+		assertThrows(NullPointerException.class, () -> Solvers.solveWithSat(sudoku, null));
+	}
+
+	static Sudoku<Integer> sudokuOf(String digits) {
+		Sudoku<Integer> sudoku = LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberSymbolsUpTo(10));
+		for (int index = 0; index < digits.length(); index++) {
+			int digit = digits.charAt(index) - '0';
+			if (digit > 0)
+				sudoku.changeSymbol(sudoku.getCell(index % 9, index / 9).get(), sudoku.symbols().get(digit));
+		}
+		return sudoku;
+	}
+
+	static String digitsOf(Sudoku<Integer> sudoku) {
+		StringBuilder digits = new StringBuilder(81);
+		for (int y = 0; y < 9; y++)
+			for (int x = 0; x < 9; x++)
+				digits.append(sudoku.getCell(x, y).get().symbol().map(Symbol::value).orElse(0));
+		return digits.toString();
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+
+/**
+ * A load-test harness for {@link SudokuService}. It drives a virtual thread backed {@code SudokuService} with a
+ * mix of solve and validate requests issued by many concurrent clients and reports the p50, p99 and p99.9
+ * latencies of the served requests together with the number of rejected and timed out requests.
+ * 
+ * <p>
+ * Run it with {@code ./gradlew :lib:loadTest}, optionally passing {@code --args="<requests> <clients> <maxInFlight>
+ * <deadlineMillis>"}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 14:41:12
+ */
+public final class SudokuServiceLoadHarness {
+
+	private static final int PUZZLES = 64;
+
+	public static void main(String[] args) throws Exception {
+		final int requests = (args.length > 0)? Integer.parseInt(args[0]) : 20_000;
+		final int clients = (args.length > 1)? Integer.parseInt(args[1]) : 1_000;
+		final int maxInFlight = (args.length > 2)? Integer.parseInt(args[2]) : 256;
+		final Duration deadline = Duration.ofMillis((args.length > 3)? Long.parseLong(args[3]) : 1_000);
+
+		// generate the puzzles up front so that only the service is measured
+		int[][] puzzles = new int[PUZZLES][];
+		Random random = new Random(47);
+		for (int puzzle = 0; puzzle < PUZZLES; puzzle++) {
+			Sudoku<Integer> sudoku = newSudoku();
+			Solvers.generate(sudoku, random);
+			puzzles[puzzle] = valuesOf(sudoku);
+		}
+
+		long[] latencies = new long[requests];
+		AtomicInteger next = new AtomicInteger(), served = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger(), timedOut = new AtomicInteger(), failed = new AtomicInteger();
+
+		long start = System.nanoTime();
+		try (SudokuService service = SudokuServices.newVirtualThreadSudokuService(maxInFlight, Duration.ofMillis(50));
+				ExecutorService clientPool = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int client = 0; client < clients; client++) {
+				clientPool.execute(() -> {
+					for (int request = next.getAndIncrement(); request < requests; request = next.getAndIncrement()) {
+						Sudoku<Integer> sudoku = sudokuOf(puzzles[request % PUZZLES]);
+						long submitted = System.nanoTime();
+						try {
+							if (request % 4 == 0)
+								service.validate(sudoku, deadline).get();
+							else
+								service.solve(sudoku, deadline).get();
+							latencies[served.getAndIncrement()] = System.nanoTime() - submitted;
+						} catch (RejectedExecutionException e) {
+							rejected.incrementAndGet();
+						} catch (ExecutionException e) {
+							if (e.getCause() instanceof TimeoutException) timedOut.incrementAndGet();
+							else failed.incrementAndGet();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							return;
+						}
+					}
+				});
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+
+		long[] sorted = Arrays.copyOf(latencies, served.get());
+		Arrays.sort(sorted);
+		System.out.printf("requests=%d clients=%d maxInFlight=%d deadline=%dms%n", requests, clients, maxInFlight, deadline.toMillis());
+		System.out.printf("served=%d rejected=%d timedOut=%d failed=%d throughput=%.0f req/s%n", served.get(), rejected.get(),
+				timedOut.get(), failed.get(), served.get() / (elapsed / 1e9));
+		System.out.printf("p50=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms%n", percentile(sorted, 0.50), percentile(sorted, 0.99),
+				percentile(sorted, 0.999), percentile(sorted, 1.0));
+	}
+
+	private static double percentile(long[] sorted, double percentile) {
+		if (sorted.length == 0) return Double.NaN;
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+	}
+
+	private static Sudoku<Integer> newSudoku() {
+		return LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberSymbolsUpTo(10));
+	}
+
+	private static Sudoku<Integer> sudokuOf(int[] values) {
+		Sudoku<Integer> sudoku = newSudoku();
+		for (int index = 0; index < values.length; index++)
+			if (values[index] > 0)
+				sudoku.changeSymbol(sudoku.getCell(index % 9, index / 9).get(), sudoku.symbols().get(values[index]));
+		return sudoku;
+	}
+
+	private static int[] valuesOf(Sudoku<Integer> sudoku) {
+		int[] values = new int[81];
+		for (int index = 0; index < values.length; index++)
+			values[index] = sudoku.getCell(index % 9, index / 9).get().symbol().map(Symbol::value).orElse(0);
+		return values;
+	}
+
+	// make constructor private to prevent instantiation of this class
+	private SudokuServiceLoadHarness() { }
+}
@@ -0,0 +1,120 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for the {@link SudokuService}s returned by the {@link SudokuServices} utility class.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 14:20:48
+ */
+public class SudokuServicesTest {
+
+	/**
+	 * Tests that solve, validate and generate requests are served.
+	 */
+	@Test
+	public void testRequests() throws Exception {
+		try (SudokuService service = SudokuServices.newVirtualThreadSudokuService(4)) {
+			Sudoku<Integer> sudoku = SolversTest.sudokuOf(SolversTest.PUZZLE);
+
+			// assert that the requests complete with the expected results
+			assertTrue(service.validate(sudoku, Duration.ofSeconds(10)).get());
+			assertTrue(service.solve(sudoku, Duration.ofSeconds(10)).get());
+			assertEquals(SolversTest.SOLUTION, SolversTest.digitsOf(sudoku));
+			int clues = service.generate(sudoku, Duration.ofSeconds(10)).get();
+			assertTrue(clues > 0 && clues < 81);
+			assertTrue(Solvers.hasUniqueSolution(sudoku));
+
+			// assert that a passed deadline completes the request with a TimeoutException
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> service.solve(SolversTest.sudokuOf(SolversTest.PUZZLE), Duration.ZERO).get());
+			assertTrue(exception.getCause() instanceof TimeoutException);
+
+			assertThrows(NullPointerException.class, () -> service.solve(null, Duration.ZERO));
+			assertThrows(NullPointerException.class, () -> service.solve(sudoku, null));
+		}
+	}
+
+	/**
+	 * Tests that requests are rejected once the admission bound is reached and that cancelling a request frees it's
+	 * slot.
+	 */
+	@Test
+	public void testAdmissionAndCancellation() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1), release = new CountDownLatch(1);
+		LatinSquare<Integer> blocking = blockingLatinSquare(entered, release);
+
+		try (SudokuService service = SudokuServices.newVirtualThreadSudokuService(1, Duration.ofMillis(200))) {
+			Future<Boolean> stuck = service.solve(blocking, Duration.ofMinutes(1));
+			assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+			// assert that a second request is rejected while the first one holds the only slot
+			assertEquals(1, service.inFlight());
+			assertThrows(RejectedExecutionException.class, () -> service.validate(SolversTest.sudokuOf(SolversTest.PUZZLE), Duration.ofSeconds(1)));
+
+			// assert that cancelling the first request frees the slot for new requests
+			assertEquals(1, service.cancelAll());
+			assertThrows(CancellationException.class, () -> stuck.get());
+			awaitIdle(service);
+			assertEquals(0, service.inFlight());
+			assertTrue(service.validate(SolversTest.sudokuOf(SolversTest.PUZZLE), Duration.ofSeconds(10)).get());
+		}
+
+		// assert that a closed service rejects new requests
+		SudokuService service = SudokuServices.newVirtualThreadSudokuService(1);
+		service.close();
+		assertThrows(RejectedExecutionException.class, () -> service.solve(blocking, Duration.ofSeconds(1)));
+		assertThrows(IllegalArgumentException.class, () -> SudokuServices.newVirtualThreadSudokuService(0));
+		assertThrows(IllegalArgumentException.class, () -> SudokuServices.newVirtualThreadSudokuService(1, Duration.ofSeconds(-1)));
+	}
+
+	/*
+	 * Waits for the threads serving the requests of the given SudokuService to finish, a cancelled request stays in
+	 * flight until it's thread notices the interrupt.
+	 */
+	private static void awaitIdle(SudokuService service) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (service.inFlight() > 0 && System.nanoTime() - deadline < 0)
+			Thread.sleep(1);
+	}
+
+	/*
+	 * Returns a LatinSquare whose cells() method blocks until the given latch is released.
+	 */
+	@SuppressWarnings("unchecked")
+	private static LatinSquare<Integer> blockingLatinSquare(CountDownLatch entered, CountDownLatch release) {
+		LatinSquare<Integer> latinSquare = SolversTest.sudokuOf(SolversTest.PUZZLE);
+		return (LatinSquare<Integer>) Proxy.newProxyInstance(LatinSquare.class.getClassLoader(), new Class<?>[] { LatinSquare.class },
+				(proxy, method, args) -> {
+					if (method.getName().equals("cells")) {
+						entered.countDown();
+						release.await();
+					}
+					try {
+						return method.invoke(latinSquare, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+}
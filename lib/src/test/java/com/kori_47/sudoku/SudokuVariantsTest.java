@@ -0,0 +1,234 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku;
+
+import static com.kori_47.sudoku.SolversTest.PUZZLE;
+import static com.kori_47.sudoku.SolversTest.digitsOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariant;
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+import com.kori_47.sudoku.Sudoku.JigsawSudokuVariant;
+import com.kori_47.sudoku.Sudoku.SudokuVariant;
+
+/**
+ * This class defines the tests for the {@link Sudoku.SudokuVariant}s returned by {@link SudokuVariants}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 22:31:08
+ */
+public class SudokuVariantsTest {
+
+	/**
+	 * a 9x9 jigsaw layout that {@link SolversTest#SOLUTION} satisfies.
+	 */
+	static final int[] JIGSAW_LAYOUT = {
+		0, 0, 0, 1, 1, 1, 2, 2, 2,
+		0, 0, 0, 1, 1, 1, 2, 2, 2,
+		0, 0, 3, 1, 1, 1, 2, 2, 2,
+		0, 3, 3, 4, 4, 4, 4, 4, 4,
+		3, 3, 3, 4, 4, 5, 5, 4, 5,
+		3, 3, 3, 5, 5, 5, 5, 5, 5,
+		6, 6, 6, 6, 7, 7, 8, 8, 8,
+		6, 6, 6, 6, 7, 7, 8, 8, 8,
+		6, 7, 7, 7, 7, 7, 8, 8, 8
+	};
+
+	/**
+	 * Tests {@link SudokuVariants#jigsawVariantOf(int, int[])}.
+	 */
+	@Test
+	public void testJigsawVariantOf() {
+		JigsawSudokuVariant variant = SudokuVariants.jigsawVariantOf(9, JIGSAW_LAYOUT);
+		Sudoku<Integer> sudoku = LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(9));
+
+		// assert that the blocks follow the layout
+		assertEquals(9, variant.size());
+		assertEquals(3, variant.regionOf(2, 2));
+		assertArrayEquals(JIGSAW_LAYOUT, variant.regionIds());
+		assertEquals(9, sudoku.blocks().size());
+		for (Block<Integer> block : sudoku.blocks().values()) {
+			assertEquals(9, block.cells().size());
+			for (Cell<Integer> cell : block.cells().values())
+				assertEquals(block.id(), Integer.toString(variant.regionOf(cell.x(), cell.y())));
+		}
+		Block<Integer> region3 = sudoku.blocks().get("3");
+		assertEquals(sudoku.getCell(2, 2).get(), region3.startCell());
+		assertEquals(sudoku.getCell(2, 5).get(), region3.endCell());
+
+		// assert that the layout is shared and that the layout array is copied
+		assertSame(GridTopology.of(sudoku), GridTopology.of(LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(9))));
+		assertEquals(variant, SudokuVariants.jigsawVariantOf(9, JIGSAW_LAYOUT));
+		variant.regionIds()[0] = 8;
+		assertEquals(0, variant.regionOf(0, 0));
+
+		// assert that invalid layouts are rejected
+		int[] unbalanced = JIGSAW_LAYOUT.clone();
+		unbalanced[0] = 1;
+		int[] outOfRange = JIGSAW_LAYOUT.clone();
+		outOfRange[0] = 9;
+		assertThrows(NullPointerException.class, () -> SudokuVariants.jigsawVariantOf(9, null));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.jigsawVariantOf(0, new int[0]));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.jigsawVariantOf(9, new int[80]));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.jigsawVariantOf(9, unbalanced));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.jigsawVariantOf(9, outOfRange));
+		assertThrows(IndexOutOfBoundsException.class, () -> variant.regionOf(9, 0));
+	}
+
+	/**
+	 * Tests solving and validating jigsaw {@link Sudoku}s.
+	 */
+	@Test
+	public void testSolveJigsaw() {
+		JigsawSudokuVariant variant = SudokuVariants.jigsawVariantOf(9, JIGSAW_LAYOUT);
+		Sudoku<Integer> sudoku = LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(9));
+		sudoku.loadFrom(PUZZLE.chars().map(digit -> digit - '0').toArray());
+
+		// assert that the solution satisfies the irregular regions
+		assertTrue(Solvers.solve(sudoku));
+		assertFalse(digitsOf(sudoku).contains("0"));
+		assertTrue(Solvers.isConsistent(sudoku));
+		for (Block<Integer> block : sudoku.blocks().values()) {
+			Set<Integer> values = block.cells().values().stream().map(cell -> cell.symbol().get().value()).collect(Collectors.toSet());
+			assertEquals(9, values.size());
+		}
+
+		// assert that the same symbol twice in a region is only a conflict in the jigsaw sudoku
+		Sudoku<Integer> jigsaw = LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(9));
+		Sudoku<Integer> boxes = LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9));
+		for (Sudoku<Integer> target : Set.of(jigsaw, boxes)) {
+			target.changeSymbol(target.getCell(6, 3).get(), target.symbols().get(1));
+			target.changeSymbol(target.getCell(3, 4).get(), target.symbols().get(1));
+		}
+		assertFalse(Solvers.isConsistent(jigsaw));
+		assertTrue(Solvers.isConsistent(boxes));
+	}
+
+	/**
+	 * Tests {@link SudokuVariants#boxBlocksVariantOf(int, int)}.
+	 */
+	@Test
+	public void testBoxBlocksVariantOf() {
+		// assert that the constants are reused
+		assertSame(BoxBlocksSudokuVariants.VARIANT_9x9, SudokuVariants.boxBlocksVariantOf(3, 3));
+		assertSame(BoxBlocksSudokuVariants.VARIANT_6x6_TALL, SudokuVariants.boxBlocksVariantOf(2, 3));
+
+		// assert that larger and irregular block dimensions are supported
+		for (BoxBlocksSudokuVariant variant : Set.of(SudokuVariants.boxBlocksVariantOf(5, 5), SudokuVariants.boxBlocksVariantOf(2, 5))) {
+			int size = variant.size();
+			Sudoku<Integer> sudoku = LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(size));
+			assertEquals(variant.blockRows() * variant.blockColumns(), size);
+			assertEquals(size, sudoku.blocks().size());
+			for (Block<Integer> block : sudoku.blocks().values())
+				assertEquals(size, block.cells().size());
+			assertSame(GridTopology.of(sudoku), GridTopology.of(LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(size))));
+
+			sudoku.loadFrom(completeGridOf(variant));
+			assertTrue(Solvers.isConsistent(sudoku));
+			sudoku.changeSymbol(sudoku.getCell(0, 1).get(), sudoku.getCell(1, 0).get().symbol().get());
+			assertFalse(Solvers.isConsistent(sudoku));
+		}
+		assertEquals(SudokuVariants.boxBlocksVariantOf(2, 5), SudokuVariants.boxBlocksVariantOf(2, 5));
+		assertFalse(SudokuVariants.boxBlocksVariantOf(2, 5).equals(SudokuVariants.boxBlocksVariantOf(5, 2)));
+
+		// assert that a 25x25 puzzle is solved
+		BoxBlocksSudokuVariant variant = SudokuVariants.boxBlocksVariantOf(5, 5);
+		int[] values = completeGridOf(variant);
+		Random random = new Random(47);
+		for (int index = 0; index < values.length; index++)
+			if (random.nextInt(100) < 30)
+				values[index] = 0;
+		Sudoku<Integer> puzzle = LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(25));
+		puzzle.loadFrom(values);
+		assertTrue(Solvers.solve(puzzle));
+		assertTrue(Solvers.isConsistent(puzzle));
+		assertTrue(puzzle.cells().values().stream().allMatch(cell -> cell.symbol().isPresent()));
+
+		// assert that invalid block dimensions are rejected
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.boxBlocksVariantOf(0, 3));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.boxBlocksVariantOf(3, 0));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.boxBlocksVariantOf(65, 64));
+	}
+
+	/**
+	 * Tests {@link SudokuVariants#regionsVariantOf(SudokuVariant, int[][])} and the X-Sudoku, Windoku and disjoint
+	 * groups variants built on it.
+	 */
+	@Test
+	public void testRegionsVariantOf() {
+		SudokuVariant diagonal = SudokuVariants.diagonalVariantOf(BoxBlocksSudokuVariants.VARIANT_9x9);
+		SudokuVariant windoku = SudokuVariants.windokuVariantOf(BoxBlocksSudokuVariants.VARIANT_9x9);
+		SudokuVariant disjoint = SudokuVariants.disjointGroupsVariantOf(BoxBlocksSudokuVariants.VARIANT_9x9);
+		SudokuVariant combined = SudokuVariants.diagonalVariantOf(windoku);
+
+		// assert that the regions are created and compiled into the shared topology
+		Sudoku<Integer> xSudoku = LatinSquares.sudokuOf(diagonal, Symbols.numberAlphabet(9));
+		assertEquals(9, xSudoku.blocks().size());
+		assertEquals(2, xSudoku.regions().size());
+		assertEquals(Set.of(xSudoku.getCell(0, 0).get(), xSudoku.getCell(4, 4).get(), xSudoku.getCell(8, 8).get()),
+				Set.of(xSudoku.regions().get("0").cellAt(0), xSudoku.regions().get("0").cellAt(4), xSudoku.regions().get("0").cellAt(8)));
+		assertSame(GridTopology.of(xSudoku), GridTopology.of(LatinSquares.sudokuOf(diagonal, Symbols.numberAlphabet(9))));
+		assertEquals(29, GridTopology.of(xSudoku).unitCount());
+		assertEquals(4, LatinSquares.sudokuOf(windoku, Symbols.numberAlphabet(9)).regions().size());
+		assertEquals(9, LatinSquares.sudokuOf(disjoint, Symbols.numberAlphabet(9)).regions().size());
+		assertEquals(6, LatinSquares.sudokuOf(combined, Symbols.numberAlphabet(9)).regions().size());
+		assertTrue(LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9)).regions().isEmpty());
+		assertEquals(diagonal, SudokuVariants.diagonalVariantOf(BoxBlocksSudokuVariants.VARIANT_9x9));
+
+		// assert that solutions hold every symbol once in each region
+		for (SudokuVariant variant : Set.of(diagonal, windoku, disjoint, combined)) {
+			Sudoku<Integer> sudoku = LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(9));
+			assertTrue(Solvers.solve(sudoku));
+			assertTrue(Solvers.isConsistent(sudoku));
+			for (UniqueCellGroup<Integer> region : sudoku.regions().values()) {
+				Set<Integer> values = region.cells().values().stream().map(cell -> cell.symbol().get().value()).collect(Collectors.toSet());
+				assertEquals(9, values.size());
+			}
+		}
+
+		// assert that the same symbol twice on a diagonal is only a conflict in the X-Sudoku
+		Sudoku<Integer> boxes = LatinSquares.sudokuOf(BoxBlocksSudokuVariants.VARIANT_9x9, Symbols.numberAlphabet(9));
+		for (Sudoku<Integer> target : Set.of(xSudoku, boxes)) {
+			target.changeSymbol(target.getCell(0, 0).get(), target.symbols().get(1));
+			target.changeSymbol(target.getCell(8, 8).get(), target.symbols().get(1));
+		}
+		assertFalse(Solvers.isConsistent(xSudoku));
+		assertTrue(Solvers.isConsistent(boxes));
+
+		// assert that invalid regions are rejected
+		int[] duplicate = new int[9];
+		int[] outOfRange = { 0, 1, 2, 3, 4, 5, 6, 7, 81 };
+		assertThrows(NullPointerException.class, () -> SudokuVariants.regionsVariantOf(null, new int[0][]));
+		assertThrows(NullPointerException.class, () -> SudokuVariants.regionsVariantOf(BoxBlocksSudokuVariants.VARIANT_9x9, new int[1][]));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.regionsVariantOf(BoxBlocksSudokuVariants.VARIANT_9x9, new int[][] { new int[8] }));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.regionsVariantOf(BoxBlocksSudokuVariants.VARIANT_9x9, new int[][] { duplicate }));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.regionsVariantOf(BoxBlocksSudokuVariants.VARIANT_9x9, new int[][] { outOfRange }));
+		assertThrows(IllegalArgumentException.class, () -> SudokuVariants.windokuVariantOf(BoxBlocksSudokuVariants.VARIANT_6x6_TALL));
+	}
+
+	/**
+	 * Returns the symbol ids of a complete grid of the given variant, each row is the row above it shifted by the
+	 * width of a block or by one more at the start of a new band of blocks.
+	 */
+	private static int[] completeGridOf(BoxBlocksSudokuVariant variant) {
+		int size = variant.size(), blockRows = variant.blockRows(), blockColumns = variant.blockColumns();
+		int[] values = new int[size * size];
+		for (int y = 0; y < size; y++)
+			for (int x = 0; x < size; x++)
+				values[y * size + x] = ((y % blockRows) * blockColumns + y / blockRows + x) % size + 1;
+		return values;
+	}
+}
@@ -29,6 +29,16 @@ public interface SymbolTest extends TestHashCode<Symbol<Object>>, ComparableTest
 		assertNotNull(symbol.value());
 	}
 
+	/**
+	 * Test that {@link Symbol#idAsInt()} agrees with {@link Symbol#id()}.
+	 */
+	@Test
+	default void testIdAsInt() {
+		Symbol<?> symbol = createValue();
+		
+		assertEquals(symbol.id().intValue(), symbol.idAsInt());
+	}
+
 	/**
 	 * Test that equal {@link Symbol}s have equal hash code values.
 	 */
@@ -6,10 +6,12 @@ package com.kori_47.sudoku;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -114,6 +116,76 @@ public class SymbolsTest {
 		assertThrows(IllegalArgumentException.class, () -> Symbols.letterSymbolsUpTo(200));
 	}
 	
+	/**
+	 * Tests the {@link Symbols#numberAlphabet(int)} and {@link Symbols#letterAlphabet(int)} static factory methods.
+	 */
+	@Test
+	public void testAlphabets() {
+		SymbolAlphabet<Integer> numbers = Symbols.numberAlphabet(9);
+		SymbolAlphabet<Character> letters = Symbols.letterAlphabet(26);
+		
+		// assert that the alphabets have exactly the requested number of Symbols, in id order
+		assertEquals(9, numbers.size());
+		assertEquals(26, letters.size());
+		assertEquals(9, numbers.maxId());
+		int expectedId = 1;
+		for (Symbol<Integer> symbol : numbers)
+			assertEquals(expectedId++, symbol.idAsInt());
+		
+		// assert that Symbols can be looked up by their primitive ids
+		assertEquals(Symbols.of(Integer.valueOf(9), Integer.valueOf(9)), numbers.symbol(9));
+		assertEquals(Symbols.of(Integer.valueOf(26), Character.valueOf('Z')), letters.symbol(26));
+		assertTrue(numbers.containsId(1));
+		assertFalse(numbers.containsId(0));
+		assertFalse(numbers.containsId(10));
+		assertThrows(IllegalArgumentException.class, () -> numbers.symbol(10));
+		assertTrue(numbers.contains(Symbols.of(Integer.valueOf(5), Integer.valueOf(5))));
+		assertFalse(numbers.contains(Symbols.of(Integer.valueOf(5), Integer.valueOf(6))));
+		
+		// assert that the alphabets and their Symbols are interned and shared with the existing factories
+		assertSame(numbers, Symbols.numberAlphabet(9));
+		assertSame(letters, Symbols.letterAlphabet(26));
+		assertSame(numbers.symbol(3), Symbols.numberAlphabet(4).symbol(3));
+		assertTrue(Symbols.numberSymbolsUpTo(10).stream().allMatch(symbol -> symbol == numbers.symbol(symbol.idAsInt())));
+		assertEquals(Symbols.numberSymbolsUpTo(10), numbers);
+		assertEquals(numbers, Symbols.numberSymbolsUpTo(10));
+		assertEquals(Symbols.numberSymbolsUpTo(10).hashCode(), numbers.hashCode());
+		
+		// assert that the alphabets are immutable
+		Iterator<Symbol<Integer>> iterator = numbers.iterator();
+		iterator.next();
+		assertThrows(UnsupportedOperationException.class, () -> iterator.remove());
+		assertThrows(UnsupportedOperationException.class, () -> numbers.add(Symbols.of(Integer.valueOf(10), Integer.valueOf(10))));
+		assertThrows(UnsupportedOperationException.class, () -> numbers.clear());
+		
+		// assert that invalid sizes are rejected
+		assertThrows(IllegalArgumentException.class, () -> Symbols.numberAlphabet(0));
+		assertThrows(IllegalArgumentException.class, () -> Symbols.numberAlphabet(4097));
+		assertThrows(IllegalArgumentException.class, () -> Symbols.letterAlphabet(27));
+	}
+	
+	/**
+	 * Tests the {@link Symbols#alphabetOf(Set)} static factory method.
+	 */
+	@Test
+	public void testAlphabetOf() {
+		SymbolAlphabet<String> alphabet = Symbols.alphabetOf(Set.of(Symbols.of(Integer.valueOf(7), "seven"), Symbols.of(Integer.valueOf(2), "two")));
+		
+		// assert that the Symbols are sorted by id and can be looked up by id
+		assertEquals(2, alphabet.size());
+		assertEquals("two", alphabet.iterator().next().value());
+		assertEquals("seven", alphabet.symbol(7).value());
+		assertFalse(alphabet.containsId(3));
+		assertEquals(7, alphabet.maxId());
+		
+		// assert that invalid Symbols are rejected
+		assertThrows(NullPointerException.class, () -> Symbols.alphabetOf(null));
+		assertThrows(IllegalArgumentException.class, () -> Symbols.alphabetOf(Set.of()));
+		assertThrows(IllegalArgumentException.class, () -> Symbols.alphabetOf(Set.of(Symbols.of(Integer.valueOf(0), "zero"))));
+		assertThrows(IllegalArgumentException.class,
+				() -> Symbols.alphabetOf(Set.of(Symbols.of(Integer.valueOf(1), "one"), Symbols.of(Integer.valueOf(1), "uno"))));
+	}
+	
 	/**
 	 * Test {@link Symbols#defaultComparator()} static utility method.
 	 */
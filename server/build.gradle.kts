@@ -0,0 +1,48 @@
+/*
+ * The optional HTTP front end of the library. It exposes the solve, validate, canonicalize and
+ * generate operations over the JDK's built-in HTTP server.
+ */
+
+group = "com.kori_47"
+version = "0.1.0"
+
+plugins {
+    // Apply the application plugin to allow running the server with ./gradlew :server:run
+    application
+}
+
+repositories {
+    // Use jcenter for resolving dependencies.
+    jcenter()
+    mavenLocal()
+}
+
+dependencies {
+    // Use the library itself
+    implementation(project(":lib"))
+
+    // Use JUnit Jupiter for testing.
+    testImplementation(libs.junit.jupiter)
+
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+// Apply a specific Java toolchain to ease working on different environments.
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+application {
+    mainClass = "com.kori_47.sudoku.server.SudokuServer"
+}
+
+tasks.test {
+    // Use JUnit Platform for unit tests.
+    useJUnitPlatform()
+    testLogging {
+        events("passed", "skipped", "failed")
+        showStandardStreams = true
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * The wire formats understood by the {@link SudokuServer}. A grid is exchanged as the ids of the symbols of it's
+ * cells in row-major order, {@code 0} standing for an empty cell, and it's size is implied by the number of cells.
+ * 
+ * <ul>
+ * <li>{@link #LINE} is a single line of text with one character per cell. The ids {@code 1} to {@code 9} are
+ * written as the digits {@code 1} to {@code 9}, the ids {@code 10} to {@code 35} as the letters {@code A} to
+ * {@code Z} and empty cells as {@code 0} or {@code .}. Whitespace is ignored when decoding.</li>
+ * <li>{@link #BINARY} is one byte holding the size of the grid followed by one byte per cell holding the id of the
+ * cell's symbol.</li>
+ * </ul>
+ * 
+ * <p>
+ * Both formats are decoded straight from the request stream into an {@code int[]}, no intermediate {@code String}s
+ * are built.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 15:04:33
+ */
+public enum GridFormat {
+
+	/**
+	 * The compact line format, one character per cell.
+	 */
+	LINE("text/plain") {
+
+		@Override
+		public int[] decode(InputStream in) throws IOException {
+			int[] ids = new int[81];
+			int count = 0;
+			for (int read = in.read(); read != -1; read = in.read()) {
+				if (read == ' ' || read == '\n' || read == '\r' || read == '\t') continue;
+				if (count == MAX_CELLS)
+					throw new IllegalArgumentException("A grid cannot have more than " + MAX_CELLS + " cells.");
+				if (count == ids.length)
+					ids = Arrays.copyOf(ids, Math.min(ids.length * 2, MAX_CELLS));
+				ids[count++] = idOf(read);
+			}
+			sizeOf(count);
+			return (count == ids.length)? ids : Arrays.copyOf(ids, count);
+		}
+
+		@Override
+		public void encode(int[] ids, OutputStream out) throws IOException {
+			int size = sizeOf(ids.length);
+			if (size > MAX_LINE_ID)
+				throw new IllegalArgumentException("The line format supports grids of up to " + MAX_LINE_ID + " symbols.");
+			byte[] line = new byte[ids.length + 1];
+			for (int index = 0; index < ids.length; index++)
+				line[index] = (byte) charOf(ids[index]);
+			line[ids.length] = '\n';
+			out.write(line);
+		}
+	},
+
+	/**
+	 * The binary format, a size byte followed by one byte per cell.
+	 */
+	BINARY("application/octet-stream") {
+
+		@Override
+		public int[] decode(InputStream in) throws IOException {
+			int size = in.read();
+			if (size < 1 || size > MAX_SIZE)
+				throw new IllegalArgumentException("Invalid grid size: " + size + ".");
+			byte[] bytes = in.readNBytes(size * size);
+			if (bytes.length != size * size)
+				throw new IllegalArgumentException("Expected " + (size * size) + " cells but got " + bytes.length + ".");
+			int[] ids = new int[bytes.length];
+			for (int index = 0; index < bytes.length; index++)
+				ids[index] = bytes[index] & 0xFF;
+			return ids;
+		}
+
+		@Override
+		public void encode(int[] ids, OutputStream out) throws IOException {
+			int size = sizeOf(ids.length);
+			byte[] bytes = new byte[ids.length + 1];
+			bytes[0] = (byte) size;
+			for (int index = 0; index < ids.length; index++)
+				bytes[index + 1] = (byte) ids[index];
+			out.write(bytes);
+		}
+	};
+
+	/**
+	 * the largest grid size supported by the server.
+	 */
+	public static final int MAX_SIZE = 64;
+
+	private static final int MAX_CELLS = MAX_SIZE * MAX_SIZE;
+	private static final int MAX_LINE_ID = 35;
+
+	private final String contentType;
+
+	private GridFormat(String contentType) {
+		this.contentType = contentType;
+	}
+
+	/**
+	 * Decodes a grid from the given stream.
+	 * 
+	 * @param in the stream to read the grid from.
+	 * 
+	 * @return the symbol ids of the decoded grid in row-major order, {@code 0} for empty cells.
+	 * 
+	 * @throws IOException if reading from the stream fails.
+	 * @throws IllegalArgumentException if the stream doesn't hold a well formed grid.
+	 */
+	public abstract int[] decode(InputStream in) throws IOException;
+
+	/**
+	 * Encodes the given grid to the given stream.
+	 * 
+	 * @param ids the symbol ids of the grid in row-major order, {@code 0} for empty cells.
+	 * @param out the stream to write the grid to.
+	 * 
+	 * @throws IOException if writing to the stream fails.
+	 * @throws IllegalArgumentException if the given grid can't be represented in this format.
+	 */
+	public abstract void encode(int[] ids, OutputStream out) throws IOException;
+
+	/**
+	 * Returns the media type of this format.
+	 * 
+	 * @return the media type of this format.
+	 */
+	public String contentType() {
+		return contentType;
+	}
+
+	/**
+	 * Returns the format for the given media type. {@link #BINARY} is returned for
+	 * {@code application/octet-stream}, {@link #LINE} for anything else including {@code null}.
+	 * 
+	 * @param mediaType the media type of a request or the value of it's {@code Accept} header. Maybe {@code null}.
+	 * 
+	 * @return the format for the given media type.
+	 */
+	public static GridFormat forMediaType(String mediaType) {
+		return (mediaType != null && mediaType.startsWith(BINARY.contentType))? BINARY : LINE;
+	}
+
+	/**
+	 * Returns the size of a grid with the given number of cells.
+	 * 
+	 * @param cells the number of cells of the grid.
+	 * 
+	 * @return the size of the grid.
+	 * 
+	 * @throws IllegalArgumentException if {@code cells} isn't the square of a size between {@code 1} and
+	 * {@link #MAX_SIZE}.
+	 */
+	public static int sizeOf(int cells) {
+		int size = (int) Math.round(Math.sqrt(cells));
+		if (size < 1 || size > MAX_SIZE || size * size != cells)
+			throw new IllegalArgumentException("A grid of " + cells + " cells isn't square.");
+		return size;
+	}
+
+	private static int idOf(int character) {
+		if (character == '0' || character == '.') return 0;
+		if (character >= '1' && character <= '9') return character - '0';
+		if (character >= 'A' && character <= 'Z') return character - 'A' + 10;
+		if (character >= 'a' && character <= 'z') return character - 'a' + 10;
+		throw new IllegalArgumentException("Unexpected character in grid: " + (char) character + ".");
+	}
+
+	private static int charOf(int id) {
+		if (id == 0) return '0';
+		return (id < 10)? '0' + id : 'A' + id - 10;
+	}
+}
@@ -0,0 +1,320 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import com.kori_47.sudoku.LatinSquare;
+import com.kori_47.sudoku.LatinSquares;
+import com.kori_47.sudoku.Sudoku.BoxBlocksSudokuVariants;
+import com.kori_47.sudoku.SudokuException;
+import com.kori_47.sudoku.SudokuService;
+import com.kori_47.sudoku.SudokuServices;
+import com.kori_47.sudoku.Symbols;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A small HTTP front end for the library built on the JDK's {@link HttpServer}. Every exchange is handled on it's
+ * own virtual thread and the solve, validate and generate operations are delegated to a {@link SudokuService}. The
+ * following endpoints are exposed:
+ * 
+ * <ul>
+ * <li>{@code POST /solve} - solves the grid in the request body and responds with the solved grid, or with
+ * {@code 422} if the grid has no solution.</li>
+ * <li>{@code POST /validate} - responds with {@code true} if the grid in the request body has exactly one solution,
+ * {@code false} otherwise.</li>
+ * <li>{@code POST /canonicalize} - responds with the grid in the request body with it's symbols relabelled in order
+ * of first appearance, so that grids that only differ by a relabelling of their symbols map to the same grid. Only
+ * the symbols are relabelled, grids that differ by any other symmetry of the grid, such as a transposition or a
+ * permutation of it's rows and columns, map to different grids.</li>
+ * <li>{@code GET /generate?size=<size>} - responds with a new puzzle with exactly one solution.</li>
+ * </ul>
+ * 
+ * <p>
+ * Grids are exchanged in one of the {@link GridFormat}s, selected by the {@code Content-Type} header of the request
+ * and the {@code Accept} header for the response, defaulting to {@link GridFormat#LINE}. By default grids of size
+ * {@code 4}, {@code 9} and {@code 16} are treated as box Sudokus and every other size as a plain Latin square, the
+ * optional {@code variant} query parameter takes the name of a {@link BoxBlocksSudokuVariants} constant or
+ * {@code LATIN} to override that. The optional {@code timeoutMillis} query parameter sets the deadline of the
+ * request. Requests that can't be admitted get a {@code 503} and requests whose deadline passes a {@code 504}.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 15:22:10
+ */
+public final class SudokuServer implements AutoCloseable {
+
+	/**
+	 * the default port of the server when started from the command line.
+	 */
+	public static final int DEFAULT_PORT = 8047;
+
+	private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(1);
+	private static final String LATIN = "LATIN";
+
+	// ================================================
+	// PRIMARY FIELDS
+	// ================================================
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final SudokuService service;
+
+	private SudokuServer(HttpServer server, int maxInFlight) {
+		this.server = server;
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		this.service = SudokuServices.newVirtualThreadSudokuService(maxInFlight, Duration.ofMillis(100));
+
+		server.setExecutor(executor);
+		server.createContext("/solve", exchange(this::solve, "POST"));
+		server.createContext("/validate", exchange(this::validate, "POST"));
+		server.createContext("/canonicalize", exchange(this::canonicalize, "POST"));
+		server.createContext("/generate", exchange(this::generate, "GET", "POST"));
+	}
+
+	/**
+	 * Starts a new {@code SudokuServer} bound to the given address.
+	 * 
+	 * @param address the address to bind to. Use port {@code 0} to bind to an ephemeral port.
+	 * @param maxInFlight the maximum number of solve, validate and generate requests served at the same time.
+	 * 
+	 * @return the started {@code SudokuServer}.
+	 * 
+	 * @throws NullPointerException if {@code address} is {@code null}.
+	 * @throws IllegalArgumentException if {@code maxInFlight} is less than {@code 1}.
+	 * @throws IOException if the server can't be bound to the given address.
+	 */
+	public static SudokuServer start(InetSocketAddress address, int maxInFlight) throws IOException {
+		SudokuServer sudokuServer = new SudokuServer(HttpServer.create(requireNonNull(address, "address cannot be null."), 0), maxInFlight);
+		sudokuServer.server.start();
+		return sudokuServer;
+	}
+
+	/**
+	 * Starts a {@code SudokuServer} on the loopback address. The first argument, if present, is the port to listen
+	 * on and the second the maximum number of requests served at the same time.
+	 * 
+	 * @param args the command line arguments.
+	 * 
+	 * @throws IOException if the server can't be started.
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = (args.length > 0)? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		int maxInFlight = (args.length > 1)? Integer.parseInt(args[1]) : 4 * Runtime.getRuntime().availableProcessors();
+		SudokuServer server = start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), maxInFlight);
+		Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+		System.out.println("SudokuServer listening on " + server.address());
+	}
+
+	/**
+	 * Returns the address this server is bound to.
+	 * 
+	 * @return the address this server is bound to.
+	 */
+	public InetSocketAddress address() {
+		return server.getAddress();
+	}
+
+	/**
+	 * Stops this server, cancelling the requests in flight.
+	 */
+	@Override
+	public void close() {
+		server.stop(0);
+		service.close();
+		executor.shutdownNow();
+	}
+
+	// ================================================
+	// ENDPOINTS
+	// ================================================
+
+	private void solve(HttpExchange exchange, Map<String, String> query) throws Exception {
+		int[] ids = GridFormat.forMediaType(exchange.getRequestHeaders().getFirst("Content-Type")).decode(requestBody(exchange));
+		LatinSquare<Integer> latinSquare = latinSquareOf(GridFormat.sizeOf(ids.length), query);
+		place(latinSquare, ids);
+		if (!service.solve(latinSquare, timeoutOf(query)).get()) {
+			respond(exchange, 422, "The grid has no solution.");
+			return;
+		}
+		respond(exchange, idsOf(latinSquare));
+	}
+
+	private void validate(HttpExchange exchange, Map<String, String> query) throws Exception {
+		int[] ids = GridFormat.forMediaType(exchange.getRequestHeaders().getFirst("Content-Type")).decode(requestBody(exchange));
+		LatinSquare<Integer> latinSquare = latinSquareOf(GridFormat.sizeOf(ids.length), query);
+		place(latinSquare, ids);
+		respond(exchange, 200, String.valueOf(service.validate(latinSquare, timeoutOf(query)).get()));
+	}
+
+	private void canonicalize(HttpExchange exchange, Map<String, String> query) throws Exception {
+		int[] ids = GridFormat.forMediaType(exchange.getRequestHeaders().getFirst("Content-Type")).decode(requestBody(exchange));
+		int size = GridFormat.sizeOf(ids.length);
+		// relabel the symbols in order of first appearance, the positions of the cells are left as they are
+		int[] labels = new int[size + 1];
+		int next = 1;
+		for (int index = 0; index < ids.length; index++) {
+			int id = ids[index];
+			if (id == 0) continue;
+			if (id > size)
+				throw new IllegalArgumentException("The symbol id " + id + " is out of range for a grid of size " + size + ".");
+			if (labels[id] == 0) labels[id] = next++;
+			ids[index] = labels[id];
+		}
+		respond(exchange, ids);
+	}
+
+	private void generate(HttpExchange exchange, Map<String, String> query) throws Exception {
+		BoxBlocksSudokuVariants variant = variantOf(query, -1);
+		int size = (variant != null)? variant.size() : Integer.parseInt(query.getOrDefault("size", "9"));
+		if (size < 1 || size > GridFormat.MAX_SIZE)
+			throw new IllegalArgumentException("Invalid grid size: " + size + ".");
+		LatinSquare<Integer> latinSquare = latinSquareOf(size, query);
+		service.generate(latinSquare, timeoutOf(query)).get();
+		respond(exchange, idsOf(latinSquare));
+	}
+
+	// ================================================
+	// HELPERS
+	// ================================================
+
+	@FunctionalInterface
+	private static interface Endpoint {
+
+		void handle(HttpExchange exchange, Map<String, String> query) throws Exception;
+	}
+
+	private static HttpHandler exchange(Endpoint endpoint, String... methods) {
+		return exchange -> {
+			try {
+				if (!Arrays.asList(methods).contains(exchange.getRequestMethod())) {
+					exchange.getResponseHeaders().set("Allow", String.join(", ", methods));
+					respond(exchange, 405, "Method not allowed.");
+					return;
+				}
+				endpoint.handle(exchange, queryOf(exchange));
+			} catch (IllegalArgumentException | SudokuException e) {
+				respond(exchange, 400, e.getMessage());
+			} catch (RejectedExecutionException e) {
+				respond(exchange, 503, e.getMessage());
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof TimeoutException)
+					respond(exchange, 504, e.getCause().getMessage());
+				else if (e.getCause() instanceof IllegalArgumentException || e.getCause() instanceof SudokuException)
+					respond(exchange, 400, e.getCause().getMessage());
+				else
+					respond(exchange, 500, String.valueOf(e.getCause()));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				respond(exchange, 503, "The server is shutting down.");
+			} catch (Exception e) {
+				respond(exchange, 500, String.valueOf(e));
+			} finally {
+				exchange.close();
+			}
+		};
+	}
+
+	private static InputStream requestBody(HttpExchange exchange) {
+		return new BufferedInputStream(exchange.getRequestBody(), 8192);
+	}
+
+	private static void respond(HttpExchange exchange, int[] ids) throws IOException {
+		GridFormat format = GridFormat.forMediaType(exchange.getRequestHeaders().getFirst("Accept"));
+		// encode the grid before sending the headers so that a grid the format can't represent gets a 400
+		ByteArrayOutputStream body = new ByteArrayOutputStream(ids.length + 1);
+		format.encode(ids, body);
+		exchange.getResponseHeaders().set("Content-Type", format.contentType());
+		exchange.sendResponseHeaders(200, body.size());
+		try (OutputStream out = exchange.getResponseBody()) {
+			body.writeTo(out);
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String message) {
+		try {
+			byte[] body = (message + "\n").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+			exchange.sendResponseHeaders(status, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		} catch (IOException e) {
+			// the client went away or the headers were already sent, nothing left to tell it
+		}
+	}
+
+	private static Map<String, String> queryOf(HttpExchange exchange) {
+		Map<String, String> query = new HashMap<>();
+		String rawQuery = exchange.getRequestURI().getRawQuery();
+		if (rawQuery == null) return query;
+		for (String parameter : rawQuery.split("&")) {
+			int separator = parameter.indexOf('=');
+			if (separator > 0)
+				query.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+						URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+		}
+		return query;
+	}
+
+	private static Duration timeoutOf(Map<String, String> query) {
+		String timeout = query.get("timeoutMillis");
+		return (timeout == null)? DEFAULT_TIMEOUT : Duration.ofMillis(Long.parseLong(timeout));
+	}
+
+	/*
+	 * Returns the box variant to use for a grid of the given size, or null if the grid is a plain Latin square. A
+	 * negative size means that the size isn't known yet.
+	 */
+	private static BoxBlocksSudokuVariants variantOf(Map<String, String> query, int size) {
+		String name = query.get("variant");
+		if (name != null) {
+			if (name.equalsIgnoreCase(LATIN)) return null;
+			BoxBlocksSudokuVariants variant = BoxBlocksSudokuVariants.valueOf(name);
+			if (size >= 0 && variant.size() != size)
+				throw new IllegalArgumentException("The variant " + name + " doesn't match a grid of size " + size + ".");
+			return variant;
+		}
+		for (BoxBlocksSudokuVariants variant : BoxBlocksSudokuVariants.values())
+			if (variant.size() == size && variant.blockRows() == variant.blockColumns())
+				return variant;
+		return null;
+	}
+
+	private static LatinSquare<Integer> latinSquareOf(int size, Map<String, String> query) {
+		BoxBlocksSudokuVariants variant = variantOf(query, size);
+		return (variant != null)? LatinSquares.sudokuOf(variant, Symbols.numberAlphabet(size))
+				: LatinSquares.latinSquareOf(size, Symbols.numberAlphabet(size));
+	}
+
+	private static void place(LatinSquare<Integer> latinSquare, int[] ids) {
+		latinSquare.loadFrom(ids);
+	}
+
+	private static int[] idsOf(LatinSquare<Integer> latinSquare) {
+		int[] ids = new int[latinSquare.size() * latinSquare.size()];
+		latinSquare.exportTo(ids);
+		return ids;
+	}
+}
@@ -0,0 +1,133 @@
+/**
+ * 
+ */
+package com.kori_47.sudoku.server;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class defines the tests for the {@link SudokuServer}, including a small local load generation run.
+ * 
+ * @author <a href="https://github.com/kennedykori">Kennedy Kori</a>
+ * 
+ * @since Sun, 18 Oct 2026 15:48:27
+ */
+public class SudokuServerTest {
+
+	private static final String PUZZLE = "530070000600195000098000060800060003400803001700020006060000280000419005000080079";
+	private static final String SOLUTION = "534678912672195348198342567859761423426853791713924856961537284287419635345286179";
+
+	/**
+	 * Tests the {@link GridFormat}s.
+	 */
+	@Test
+	public void testGridFormats() throws Exception {
+		int[] ids = GridFormat.LINE.decode(new ByteArrayInputStream((PUZZLE + "\n").getBytes()));
+
+		// assert that the line format round trips through both formats
+		assertEquals(81, ids.length);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		GridFormat.BINARY.encode(ids, out);
+		assertEquals(82, out.size());
+		assertArrayEquals(ids, GridFormat.BINARY.decode(new ByteArrayInputStream(out.toByteArray())));
+		out.reset();
+		GridFormat.LINE.encode(ids, out);
+		assertEquals(PUZZLE + "\n", out.toString());
+
+		// assert that letters encode ids above 9 and that dots are empty cells
+		assertArrayEquals(new int[16], GridFormat.LINE.decode(new ByteArrayInputStream("................".getBytes())));
+		assertEquals(16, GridFormat.LINE.decode(new ByteArrayInputStream(("G" + "0".repeat(255)).getBytes()))[0]);
+	}
+
+	/**
+	 * Tests the endpoints of the {@link SudokuServer} and drives it with concurrent solve requests, reporting the
+	 * p50 and p99 latencies.
+	 */
+	@Test
+	public void testEndpoints() throws Exception {
+		try (SudokuServer server = SudokuServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 64)) {
+			HttpClient client = HttpClient.newHttpClient();
+			String base = "http://" + server.address().getHostString() + ":" + server.address().getPort();
+
+			// assert that a puzzle is solved and validated
+			HttpResponse<String> solved = client.send(post(base + "/solve", PUZZLE), BodyHandlers.ofString());
+			assertEquals(200, solved.statusCode());
+			assertEquals(SOLUTION, solved.body().trim());
+			assertEquals("true", client.send(post(base + "/validate", PUZZLE), BodyHandlers.ofString()).body().trim());
+			assertEquals("false", client.send(post(base + "/validate", "0".repeat(81)), BodyHandlers.ofString()).body().trim());
+
+			// assert that canonicalization relabels symbols in order of first appearance
+			assertEquals("120200000", client.send(post(base + "/canonicalize", "230300000"), BodyHandlers.ofString()).body().trim());
+
+			// assert that generated puzzles are returned in the requested binary format
+			HttpResponse<byte[]> generated = client.send(HttpRequest.newBuilder(URI.create(base + "/generate?size=9"))
+					.header("Accept", GridFormat.BINARY.contentType()).GET().build(), BodyHandlers.ofByteArray());
+			assertEquals(200, generated.statusCode());
+			assertEquals(82, generated.body().length);
+			assertEquals(9, generated.body()[0]);
+
+			// assert that malformed requests are rejected
+			assertEquals(400, client.send(post(base + "/solve", "12345"), BodyHandlers.ofString()).statusCode());
+			// assert that a grid the line format can't represent gets a 400 instead of a truncated 200
+			byte[] large = new byte[36 * 36 + 1];
+			large[0] = 36;
+			HttpResponse<String> unencodable = client.send(HttpRequest.newBuilder(URI.create(base + "/canonicalize"))
+					.header("Content-Type", GridFormat.BINARY.contentType()).POST(BodyPublishers.ofByteArray(large)).build(), BodyHandlers.ofString());
+			assertEquals(400, unencodable.statusCode());
+			assertEquals(405, client.send(HttpRequest.newBuilder(URI.create(base + "/solve")).GET().build(), BodyHandlers.ofString()).statusCode());
+
+			// drive the server with concurrent clients
+			int requests = 400;
+			long[] latencies = new long[requests];
+			List<Future<Integer>> statuses = new ArrayList<>();
+			try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+				for (int request = 0; request < requests; request++) {
+					final int _request = request;
+					statuses.add(clients.submit(() -> {
+						long start = System.nanoTime();
+						int status = client.send(post(base + "/solve?timeoutMillis=10000", PUZZLE), BodyHandlers.ofString()).statusCode();
+						latencies[_request] = System.nanoTime() - start;
+						return status;
+					}));
+				}
+			}
+			int ok = 0;
+			for (Future<Integer> status : statuses)
+				if (status.get() == 200) ok++;
+			Arrays.sort(latencies);
+			System.out.printf("SudokuServer load: %d/%d ok, p50=%.2fms p99=%.2fms%n", ok, requests,
+					latencies[requests / 2] / 1e6, latencies[(int) (requests * 0.99)] / 1e6);
+
+			// assert that every request was either served or shed with a 503
+			assertTrue(ok > 0);
+			for (Future<Integer> status : statuses)
+				assertTrue(status.get() == 200 || status.get() == 503);
+		}
+	}
+
+	private static HttpRequest post(String uri, String body) {
+		return HttpRequest.newBuilder(URI.create(uri)).header("Content-Type", GridFormat.LINE.contentType())
+				.POST(BodyPublishers.ofString(body)).build();
+	}
+}
@@ -12,3 +12,4 @@ plugins {
 
 rootProject.name = "sudoku-lib"
 include("lib")
+include("server")